@@ -0,0 +1,125 @@
+package com.quasar.fireoperation.api.benchmark;
+
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.PositionUncertainty;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.provider.LocationProvider;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+
+/**
+ * Shared inputs of the benchmarks.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+final class BenchmarkFixtures {
+
+    static final String[] NAMES = {"kenobi", "skywalker", "sato"};
+    static final float[] DISTANCES = {100.0f, 115.5f, 142.7f};
+
+    private BenchmarkFixtures() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Builds the message tokens received by one satellite: every word of a message of
+     * {@code length} words, with the words of the other satellites left blank, so the
+     * three satellites together hold the full message.
+     *
+     * @param satellite index of the satellite (0 to 2)
+     * @param length    number of words of the message
+     * @return token array of {@code length} entries
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    static String[] words(int satellite, int length) {
+        String[] words = new String[length];
+        for (int i = 0; i < length; i++) {
+            words[i] = i % NAMES.length == satellite ? "palabra" + i : "";
+        }
+        return words;
+    }
+
+    /**
+     * Builds the three satellite reports of a message of {@code length} words.
+     *
+     * @param length number of words of the message
+     * @return reports of kenobi, skywalker and sato
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    static List<SatelliteReport> reports(int length) {
+        return List.of(
+                new SatelliteReport(NAMES[0], DISTANCES[0], words(0, length)),
+                new SatelliteReport(NAMES[1], DISTANCES[1], words(1, length)),
+                new SatelliteReport(NAMES[2], DISTANCES[2], words(2, length)));
+    }
+
+    /**
+     * Returns pipeline meters backed by an in-memory registry, so the benchmarks include
+     * the cost of recording stage timings as in the application.
+     *
+     * @return pipeline meters
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    static PipelineMetrics metrics() {
+        return new PipelineMetrics(new SimpleMeterRegistry());
+    }
+
+    /**
+     * Returns a location provider answering a constant position, so business benchmarks
+     * measure the message merge and the split store rather than the trilateration.
+     *
+     * @return constant location provider
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    static LocationProvider fixedLocation() {
+        Position position = new Position(-58.31f, -69.55f);
+        PositionUncertainty uncertainty = new PositionUncertainty(1, 1, 0, 2.45, 2.45, 0, 0.95, 2);
+        return new LocationProvider() {
+            @Override
+            public float[] getLocation(List<Float> distances) {
+                return new float[]{position.x(), position.y()};
+            }
+
+            @Override
+            public Position locate(SolverStrategy strategy, float kenobiDistance, float skywalkerDistance,
+                                   float satoDistance) {
+                return position;
+            }
+
+            @Override
+            public Position locate(SolverStrategy strategy, List<SatelliteReport> reports) {
+                return position;
+            }
+
+            @Override
+            public List<Position> candidates(List<SatelliteReport> reports) {
+                return List.of(position);
+            }
+
+            @Override
+            public Position choose(SolverStrategy strategy, List<Position> candidates, SatelliteReport report) {
+                return null;
+            }
+
+            @Override
+            public PositionUncertainty uncertainty(float kenobiDistance, float skywalkerDistance,
+                                                   float satoDistance) {
+                return uncertainty;
+            }
+
+            @Override
+            public PositionUncertainty uncertainty(List<SatelliteReport> reports) {
+                return uncertainty;
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.quasar.fireoperation.api.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.quasar.fireoperation.api.config.json.QuasarJsonModule;
+import com.quasar.fireoperation.api.domain.general.PositionDTO;
+import com.quasar.fireoperation.api.domain.general.ResponseDTO;
+import com.quasar.fireoperation.api.domain.general.TopSecretRequestDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares default Jackson databinding with the {@link QuasarJsonModule} codecs on the
+ * payloads of {@code /top-secret}: reading the request body and writing the response.
+ * <p>
+ * Both variants go through a fully configured {@link ObjectMapper} and stream to/from
+ * bytes, as the HTTP message converters do. Payloads carry messages of
+ * {@code messageLength} words.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonCodecBenchmark {
+
+    @Param({"databind", "codec"})
+    public String mode;
+
+    @Param({"5", "50"})
+    public int messageLength;
+
+    private byte[] request;
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private ResponseDTO response;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if ("codec".equals(mode)) {
+            mapper.registerModule(new QuasarJsonModule(BenchmarkFixtures.metrics()));
+        }
+        requestReader = mapper.readerFor(TopSecretRequestDTO.class);
+        responseWriter = mapper.writerFor(ResponseDTO.class);
+        request = requestBody();
+        response = new ResponseDTO(new PositionDTO(-58.31f, -69.55f), message());
+        out = new ByteArrayOutputStream(256);
+    }
+
+    @Benchmark
+    public TopSecretRequestDTO readRequest() throws IOException {
+        return requestReader.readValue(request);
+    }
+
+    @Benchmark
+    public int writeResponse() throws IOException {
+        out.reset();
+        responseWriter.writeValue(out, response);
+        return out.size();
+    }
+
+    private byte[] requestBody() {
+        StringBuilder body = new StringBuilder("{\"satellites\":[");
+        for (int satellite = 0; satellite < BenchmarkFixtures.NAMES.length; satellite++) {
+            if (satellite > 0) {
+                body.append(',');
+            }
+            body.append("{\"name\":\"").append(BenchmarkFixtures.NAMES[satellite])
+                    .append("\",\"distance\":").append(BenchmarkFixtures.DISTANCES[satellite])
+                    .append(",\"message\":[");
+            String[] words = BenchmarkFixtures.words(satellite, messageLength);
+            for (int i = 0; i < words.length; i++) {
+                body.append(i > 0 ? ",\"" : "\"").append(words[i]).append('"');
+            }
+            body.append("]}");
+        }
+        return body.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String message() {
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < messageLength; i++) {
+            message.append(i > 0 ? " palabra" : "palabra").append(i);
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package com.quasar.fireoperation.api.benchmark;
+
+import com.quasar.fireoperation.api.config.metrics.SolverMetrics;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.provider.LocationProviderImpl;
+import com.quasar.fireoperation.api.provider.constellation.Ephemeris;
+import com.quasar.fireoperation.api.provider.constellation.SatelliteRegistry;
+import com.quasar.fireoperation.api.provider.solver.ClosedFormSolver;
+import com.quasar.fireoperation.api.provider.solver.DoublePrecisionSolver;
+import com.quasar.fireoperation.api.provider.solver.LeastSquaresSolver;
+import com.quasar.fireoperation.api.provider.solver.RobustSolver;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the trilateration of {@link LocationProviderImpl}: the {@code List<Float>}
+ * entry point used by the split flow, the primitive one used by the business layer and the
+ * best-triple selection when the eleven satellites of a larger constellation report, and the
+ * placement of moving satellites from their ephemerides when the three reports carry an instant.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LocationBenchmark {
+
+    private static final String STATIONS =
+            "yoda:0:400,endor:-480:-210,hoth:300:-600,bespin:900:300,dagobah:-900:500,naboo:-200:-900,jakku:700:-300,scarif:-700:0";
+
+    private final LocationProviderImpl locationProvider = new LocationProviderImpl();
+    private final SatelliteRegistry constellation = SatelliteRegistry.withStations(STATIONS);
+    private final LocationProviderImpl constellationProvider = new LocationProviderImpl(
+            List.of(new ClosedFormSolver(), new LeastSquaresSolver(), new RobustSolver(), new DoublePrecisionSolver()),
+            SolverStrategy.CLOSED_FORM, new SolverMetrics(new SimpleMeterRegistry(), 16), constellation);
+    private final LocationProviderImpl movingProvider = new LocationProviderImpl(
+            List.of(new ClosedFormSolver(), new LeastSquaresSolver(), new RobustSolver(), new DoublePrecisionSolver()),
+            SolverStrategy.CLOSED_FORM, new SolverMetrics(new SimpleMeterRegistry(), 16),
+            SatelliteRegistry.withStations(null, Map.of(
+                    "kenobi", orbit(-500, -200), "skywalker", orbit(100, -100), "sato", orbit(500, 100))));
+
+    private List<Float> distances;
+    private float kenobi;
+    private float skywalker;
+    private float sato;
+    private List<SatelliteReport> reports;
+    private List<SatelliteReport> timedReports;
+
+    @Setup
+    public void setUp() {
+        kenobi = 100.0f;
+        skywalker = 115.5f;
+        sato = 142.7f;
+        distances = List.of(kenobi, skywalker, sato);
+        reports = new ArrayList<>();
+        for (int i = 0; i < constellation.size(); i++) {
+            float[] position = constellation.position(i);
+            reports.add(new SatelliteReport(constellation.name(i),
+                    (float) Math.hypot(-100 - position[0], 75.5 - position[1]), new String[0]));
+        }
+        reports = List.copyOf(reports);
+        long instant = 43_210_987L;
+        timedReports = List.of(new SatelliteReport("kenobi", kenobi, new String[0], instant),
+                new SatelliteReport("skywalker", skywalker, new String[0], instant),
+                new SatelliteReport("sato", sato, new String[0], instant));
+    }
+
+    /**
+     * One day of samples, one per minute, on a slow circle around a nominal position.
+     */
+    private static Ephemeris orbit(float x, float y) {
+        float[] xs = new float[1441];
+        float[] ys = new float[1441];
+        for (int i = 0; i < xs.length; i++) {
+            double angle = 2 * Math.PI * i / (xs.length - 1);
+            xs[i] = x + (float) (20 * Math.cos(angle));
+            ys[i] = y + (float) (20 * Math.sin(angle));
+        }
+        return new Ephemeris(0, 60_000, xs, ys);
+    }
+
+    @Benchmark
+    public float[] getLocation() {
+        return locationProvider.getLocation(distances);
+    }
+
+    @Benchmark
+    public Position locate() {
+        return locationProvider.locate(kenobi, skywalker, sato);
+    }
+
+    @Benchmark
+    public Position locateBestTriple() {
+        return constellationProvider.locate(null, reports);
+    }
+
+    @Benchmark
+    public Position locateAtInstant() {
+        return movingProvider.locate(null, timedReports);
+    }
+}
@@ -0,0 +1,50 @@
+package com.quasar.fireoperation.api.benchmark;
+
+import com.quasar.fireoperation.api.business.MessageBusinessImpl;
+import com.quasar.fireoperation.api.business.SplitWindowStore;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the message reconstruction of {@link MessageBusinessImpl} for growing message
+ * lengths.
+ * <p>
+ * {@code getMessage} is private, so it is driven through {@code resolveTopSecret} with a
+ * constant-position provider: the remaining cost is the merge plus a size check and the
+ * result allocation.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageMergeBenchmark {
+
+    @Param({"5", "50", "500"})
+    public int messageLength;
+
+    private MessageBusinessImpl messageBusiness;
+    private List<SatelliteReport> satellites;
+
+    @Setup
+    public void setUp() {
+        messageBusiness = new MessageBusinessImpl(BenchmarkFixtures.fixedLocation(), BenchmarkFixtures.metrics(),
+                SplitWindowStore.withDefaults());
+        satellites = BenchmarkFixtures.reports(messageLength);
+    }
+
+    @Benchmark
+    public TopSecretResult mergeMessage() {
+        return messageBusiness.resolveTopSecret(satellites);
+    }
+}
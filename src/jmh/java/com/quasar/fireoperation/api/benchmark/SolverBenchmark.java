@@ -0,0 +1,47 @@
+package com.quasar.fireoperation.api.benchmark;
+
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.provider.LocationProviderImpl;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the trilateration strategies of {@link LocationProviderImpl} on the same
+ * distances. The sample distances do not meet in one point, so the iterative strategies
+ * run more than one Gauss-Newton step.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SolverBenchmark {
+
+    private final LocationProviderImpl locationProvider = new LocationProviderImpl();
+
+    @Param({"CLOSED_FORM", "LEAST_SQUARES", "ROBUST", "DOUBLE_PRECISION"})
+    private SolverStrategy strategy;
+
+    private float kenobi;
+    private float skywalker;
+    private float sato;
+
+    @Setup
+    public void setUp() {
+        kenobi = 100.0f;
+        skywalker = 115.5f;
+        sato = 142.7f;
+    }
+
+    @Benchmark
+    public Position locate() {
+        return locationProvider.locate(strategy, kenobi, skywalker, sato);
+    }
+}
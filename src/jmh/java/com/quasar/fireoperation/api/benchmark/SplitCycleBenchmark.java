@@ -0,0 +1,70 @@
+package com.quasar.fireoperation.api.benchmark;
+
+import com.quasar.fireoperation.api.business.MessageBusinessImpl;
+import com.quasar.fireoperation.api.business.SplitWindowStore;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the split cycle (three saves followed by a consuming resolve) on one shared
+ * {@link MessageBusinessImpl}, with 1, 4 and 8 threads competing for the same store.
+ * <p>
+ * Under contention a resolve may find the state of another thread or fewer than three
+ * satellites; both outcomes are part of the measured cost. The location provider answers
+ * a constant position.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SplitCycleBenchmark {
+
+    @Param({"5", "50"})
+    public int messageLength;
+
+    private MessageBusinessImpl messageBusiness;
+    private List<SatelliteReport> satellites;
+
+    @Setup
+    public void setUp() {
+        messageBusiness = new MessageBusinessImpl(BenchmarkFixtures.fixedLocation(), BenchmarkFixtures.metrics(),
+                SplitWindowStore.withDefaults());
+        satellites = BenchmarkFixtures.reports(messageLength);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public TopSecretResult splitCycle1Thread() {
+        return cycle();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public TopSecretResult splitCycle4Threads() {
+        return cycle();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public TopSecretResult splitCycle8Threads() {
+        return cycle();
+    }
+
+    private TopSecretResult cycle() {
+        for (SatelliteReport satellite : satellites) {
+            messageBusiness.saveSatelliteSplit(satellite);
+        }
+        return messageBusiness.resolveTopSecretSplit(false);
+    }
+}
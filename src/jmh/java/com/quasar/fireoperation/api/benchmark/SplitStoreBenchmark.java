@@ -0,0 +1,80 @@
+package com.quasar.fireoperation.api.benchmark;
+
+import com.quasar.fireoperation.api.business.SplitWindowStore;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the heap and off-heap storage of untimed split reports with {@code pending} reports
+ * waiting: a save and removal of one more report, and a full collection of the heap, whose
+ * marking has to trace every report kept on it.
+ * <p>
+ * Each pending report has its own name and tokens built per report, as if decoded from its own
+ * request body; the tokens come from a vocabulary of 50 words.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class SplitStoreBenchmark {
+
+    private static final int ROTATION = 1024;
+
+    @Param({"HEAP", "OFF_HEAP"})
+    public SplitWindowStore.Storage storage;
+
+    @Param({"10000", "1000000"})
+    public int pending;
+
+    private SplitWindowStore store;
+    private final List<SatelliteReport>[] rotation = new List[ROTATION];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        store = new SplitWindowStore(60_000, 5_000, 0, SplitWindowStore.LatePolicy.DROP, storage);
+        for (int i = 0; i < pending; i++) {
+            store.save(report("satelite-" + i, i));
+        }
+        for (int i = 0; i < ROTATION; i++) {
+            rotation[i] = List.of(report("rotacion-" + i, i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        store.close();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int saveAndRemove() {
+        List<SatelliteReport> reports = rotation[next++ & (ROTATION - 1)];
+        store.save(reports.get(0));
+        store.remove(reports);
+        return store.size();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void fullGc() {
+        System.gc();
+    }
+
+    private static SatelliteReport report(String name, int seed) {
+        String[] words = new String[5];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = "palabra-" + ((seed + i) % 50);
+        }
+        return new SatelliteReport(name, 100.0f + seed % 100, words);
+    }
+}
@@ -0,0 +1,72 @@
+package com.quasar.fireoperation.api.benchmark;
+
+import com.quasar.fireoperation.api.domain.model.PositionUncertainty;
+import com.quasar.fireoperation.api.provider.solver.BatchLinearSolver;
+import com.quasar.fireoperation.api.provider.uncertainty.MonteCarloUncertainty;
+import com.quasar.fireoperation.api.utils.Constants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Monte-Carlo uncertainty estimate: a full estimate of {@code samples} solves on
+ * the estimator pool, with a budget large enough never to cut it, and the batch solve of one
+ * block of distance triples it is built on.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UncertaintyBenchmark {
+
+    private static final int BLOCK = 1024;
+    private static final float[] KENOBI = Constants.SATELLITE_POSITIONS.get("kenobi");
+    private static final float[] SKYWALKER = Constants.SATELLITE_POSITIONS.get("skywalker");
+    private static final float[] SATO = Constants.SATELLITE_POSITIONS.get("sato");
+
+    @Param({"20000"})
+    private int samples;
+
+    private MonteCarloUncertainty estimator;
+    private final BatchLinearSolver batch = new BatchLinearSolver(KENOBI, SKYWALKER, SATO);
+    private final double[] d1 = new double[BLOCK];
+    private final double[] d2 = new double[BLOCK];
+    private final double[] d3 = new double[BLOCK];
+    private final double[] x = new double[BLOCK];
+    private final double[] y = new double[BLOCK];
+
+    @Setup
+    public void setUp() {
+        estimator = new MonteCarloUncertainty(1.0, samples, 60_000, Runtime.getRuntime().availableProcessors(), 0.95);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < BLOCK; i++) {
+            d1[i] = 100.0 + random.nextGaussian();
+            d2[i] = 115.5 + random.nextGaussian();
+            d3[i] = 142.7 + random.nextGaussian();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        estimator.close();
+    }
+
+    @Benchmark
+    public PositionUncertainty estimate() {
+        return estimator.estimate(KENOBI, SKYWALKER, SATO, 100.0f, 115.5f, 142.7f);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double[] batchSolve() {
+        batch.solve(d1, d2, d3, x, y, BLOCK);
+        return x;
+    }
+}
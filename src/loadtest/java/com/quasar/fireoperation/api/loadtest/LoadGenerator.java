@@ -0,0 +1,50 @@
+package com.quasar.fireoperation.api.loadtest;
+
+import java.util.List;
+
+/**
+ * Command-line entry point of the load generator.
+ * <p>
+ * Drives open-model traffic against an already running instance of the API and prints
+ * throughput and coordinated-omission-corrected latency percentiles. See
+ * {@link LoadOptions#USAGE} for the options.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public final class LoadGenerator {
+
+    private LoadGenerator() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Runs one load test.
+     *
+     * @param args options in {@code --name=value} form
+     * @throws Exception if the scenario cannot be prepared or the run is interrupted
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static void main(String[] args) throws Exception {
+        if (List.of(args).contains("--help")) {
+            System.out.println(LoadOptions.USAGE);
+            return;
+        }
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println(LoadOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        try (QuasarClient client = new QuasarClient(options.baseUri(), options.timeout(), options.bodies())) {
+            options.scenario().prepare(client);
+            new OpenModelRunner(options, client).run().print(System.out);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.quasar.fireoperation.api.loadtest;
+
+import com.quasar.fireoperation.api.loadtest.workload.SyntheticWorkload;
+import com.quasar.fireoperation.api.loadtest.workload.WorkloadSettings;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Options of a load-generation run, parsed from {@code --name=value} arguments.
+ *
+ * @param baseUri     base URI of the running API, including the context path
+ * @param scenario    traffic to generate
+ * @param rate        target arrival rate, in operations per second
+ * @param duration    measured phase
+ * @param warmup      unmeasured phase run before the measured one at the same rate
+ * @param timeout     timeout of each HTTP request
+ * @param maxInFlight operations allowed in flight before new arrivals are rejected
+ * @param workload    synthetic workload feeding the request bodies, or {@code null} for the
+ *                    fixed sample request
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+record LoadOptions(URI baseUri, Scenario scenario, int rate, Duration duration, Duration warmup,
+                   Duration timeout, int maxInFlight, SyntheticWorkload workload) {
+
+    static final String USAGE = """
+            Uso: ./gradlew loadTest --args='[opciones]'
+              --base-uri=URI        API a probar (por defecto http://localhost:8080/quasar-fire-operation)
+              --scenario=NOMBRE     full | split | polling (por defecto full)
+              --rate=N              operaciones por segundo (por defecto 200)
+              --duration=S          segundos medidos (por defecto 30)
+              --warmup=S            segundos de calentamiento sin medir (por defecto 10)
+              --timeout-ms=MS       timeout de cada petición HTTP (por defecto 5000)
+              --max-in-flight=N     operaciones simultáneas antes de rechazar llegadas (por defecto 10000)
+              --workload-seed=N     envía datos sintéticos con esta semilla en lugar de la petición de ejemplo
+              --help                muestra esta ayuda""";
+
+    /**
+     * Parses the command-line arguments.
+     *
+     * @param args arguments in {@code --name=value} form
+     * @return the parsed options, with defaults for the missing ones
+     * @throws IllegalArgumentException if an argument is unknown or malformed
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    static LoadOptions parse(String[] args) {
+        URI baseUri = URI.create("http://localhost:8080/quasar-fire-operation");
+        Scenario scenario = Scenario.FULL;
+        int rate = 200;
+        long duration = 30;
+        long warmup = 10;
+        long timeoutMillis = 5000;
+        int maxInFlight = 10_000;
+        SyntheticWorkload workload = null;
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg);
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(2, separator)) {
+                case "base-uri" -> baseUri = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+                case "scenario" -> scenario = Scenario.of(value);
+                case "rate" -> rate = positive(arg, Integer.parseInt(value));
+                case "duration" -> duration = positive(arg, Long.parseLong(value));
+                case "warmup" -> warmup = Math.max(0, Long.parseLong(value));
+                case "timeout-ms" -> timeoutMillis = positive(arg, Long.parseLong(value));
+                case "max-in-flight" -> maxInFlight = positive(arg, Integer.parseInt(value));
+                case "workload-seed" -> workload = new SyntheticWorkload(WorkloadSettings.defaults(Long.parseLong(value)));
+                default -> throw new IllegalArgumentException("Opción desconocida: " + arg);
+            }
+        }
+        return new LoadOptions(baseUri, scenario, rate, Duration.ofSeconds(duration), Duration.ofSeconds(warmup),
+                Duration.ofMillis(timeoutMillis), maxInFlight, workload);
+    }
+
+    /**
+     * Returns the request bodies selected by these options.
+     *
+     * @return synthetic bodies if a workload seed was given, otherwise the fixed sample
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    RequestBodies bodies() {
+        return workload != null ? RequestBodies.synthetic(workload) : RequestBodies.fixed();
+    }
+
+    private static <T extends Number> T positive(String arg, T value) {
+        if (value.longValue() <= 0) {
+            throw new IllegalArgumentException("El valor debe ser positivo: " + arg);
+        }
+        return value;
+    }
+}
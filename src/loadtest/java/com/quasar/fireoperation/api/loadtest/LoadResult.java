@@ -0,0 +1,73 @@
+package com.quasar.fireoperation.api.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Results of the measured phase of a load run.
+ *
+ * @param options      options of the run
+ * @param elapsed      time from the start of the measured phase until its last operation completed
+ * @param latency      latency from the intended start time, in nanoseconds
+ * @param serviceTime  latency from the actual send, in nanoseconds
+ * @param succeeded    operations whose responses all had an expected status
+ * @param failed       operations with an unexpected status, a timeout or an I/O error
+ * @param rejected     arrivals rejected because too many operations were in flight
+ * @param statusCounts responses per HTTP status code, warm-up included
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+record LoadResult(LoadOptions options, Duration elapsed, Histogram latency, Histogram serviceTime, long succeeded, long failed,
+                  long rejected, Map<Integer, LongAdder> statusCounts) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Returns the successful operations per second of the measured phase, over the time
+     * it took to complete them.
+     *
+     * @return throughput in operations per second
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    double throughput() {
+        return succeeded / (elapsed.toNanos() / 1e9);
+    }
+
+    /**
+     * Prints the report: counts, throughput, status codes and latency percentiles.
+     *
+     * @param out destination of the report
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    void print(PrintStream out) {
+        out.printf(Locale.ROOT, "Escenario: %s | tasa objetivo: %d op/s | medición: %d s (+%d s de calentamiento)%n",
+                options.scenario().name().toLowerCase(Locale.ROOT), options.rate(),
+                options.duration().toSeconds(), options.warmup().toSeconds());
+        out.printf(Locale.ROOT, "Operaciones: %d correctas, %d con error, %d rechazadas%n", succeeded, failed, rejected);
+        out.printf(Locale.ROOT, "Throughput: %.1f op/s correctas en %.1f s%n", throughput(), elapsed.toNanos() / 1e9);
+        StringBuilder statuses = new StringBuilder("Códigos HTTP:");
+        new TreeMap<>(statusCounts).forEach((code, count) -> statuses.append(' ').append(code).append('=').append(count.sum()));
+        out.println(statuses);
+        out.printf(Locale.ROOT, "%-22s %9s %9s %9s %9s %9s%n", "Latencia (ms)", "p50", "p90", "p99", "p99.9", "max");
+        printRow(out, "corregida (CO)", latency);
+        printRow(out, "tiempo de servicio", serviceTime);
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram histogram) {
+        out.printf(Locale.ROOT, "%-22s %9.3f %9.3f %9.3f %9.3f %9.3f%n", label,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+}
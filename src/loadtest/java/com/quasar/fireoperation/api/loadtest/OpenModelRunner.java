@@ -0,0 +1,118 @@
+package com.quasar.fireoperation.api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load runner: operations arrive at a constant rate, independently of how fast
+ * the server answers.
+ * <p>
+ * Operation {@code i} has the intended start time {@code start + i / rate}. A single
+ * dispatcher thread waits for that instant and starts the operation on a new virtual
+ * thread, so a slow response never delays the following arrivals. Latency is recorded
+ * from the intended start time, which corrects coordinated omission: if the dispatcher or
+ * the client falls behind, the waiting time is part of the measured latency. The service
+ * time (from the actual send) is recorded separately for comparison.
+ * </p>
+ * <p>
+ * Operations started during the warm-up are executed but not recorded. Arrivals beyond
+ * {@code maxInFlight} outstanding operations are rejected and counted, never delayed.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+final class OpenModelRunner {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final LoadOptions options;
+    private final QuasarClient client;
+    private final Histogram latency = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final Histogram serviceTime = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    OpenModelRunner(LoadOptions options, QuasarClient client) {
+        this.options = options;
+        this.client = client;
+    }
+
+    /**
+     * Runs the warm-up and the measured phase and waits for the outstanding operations.
+     *
+     * @return results of the measured phase
+     * @throws InterruptedException if the calling thread is interrupted
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    LoadResult run() throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long measureStart = start + options.warmup().toNanos();
+        long end = measureStart + options.duration().toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + i * intervalNanos;
+                if (intended >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                boolean measured = intended >= measureStart;
+                if (inFlight.incrementAndGet() > options.maxInFlight()) {
+                    inFlight.decrementAndGet();
+                    if (measured) {
+                        rejected.increment();
+                    }
+                    continue;
+                }
+                long operation = i;
+                executor.execute(() -> execute(operation, intended, measured));
+            }
+        }
+        // Incluye el tiempo hasta completar las operaciones pendientes al cerrar la ventana
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - measureStart);
+        return new LoadResult(options, elapsed, latency, serviceTime, succeeded.sum(), failed.sum(), rejected.sum(),
+                client.statusCounts());
+    }
+
+    private void execute(long operation, long intended, boolean measured) {
+        long sent = System.nanoTime();
+        boolean ok;
+        try {
+            ok = options.scenario().execute(client, operation);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            ok = false;
+        } catch (Exception ex) {
+            ok = false;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        if (!measured) {
+            return;
+        }
+        long done = System.nanoTime();
+        latency.recordValue(done - intended);
+        serviceTime.recordValue(done - sent);
+        if (ok) {
+            succeeded.increment();
+        } else {
+            failed.increment();
+        }
+    }
+}
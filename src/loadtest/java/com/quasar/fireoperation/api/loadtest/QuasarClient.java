@@ -0,0 +1,132 @@
+package com.quasar.fireoperation.api.loadtest;
+
+import com.quasar.fireoperation.api.loadtest.workload.SyntheticWorkload;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thin {@link HttpClient} wrapper issuing the API requests of the load scenarios.
+ * <p>
+ * Request bodies come from a {@link RequestBodies}. Response bodies are discarded; only
+ * status codes are kept, counted per code for the final report. The client runs on virtual
+ * threads.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+final class QuasarClient implements AutoCloseable {
+
+    private final URI baseUri;
+    private final Duration timeout;
+    private final RequestBodies bodies;
+    private final HttpClient httpClient;
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+    QuasarClient(URI baseUri, Duration timeout, RequestBodies bodies) {
+        this.baseUri = baseUri;
+        this.timeout = timeout;
+        this.bodies = bodies;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Sends the {@code POST /top-secret} request of an operation.
+     *
+     * @param operation operation index, selects the request body
+     * @return HTTP status code
+     * @throws IOException          if the request fails
+     * @throws InterruptedException if the calling thread is interrupted
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    int postTopSecret(long operation) throws IOException, InterruptedException {
+        return send(post("/top-secret", bodies.topSecret(operation))).statusCode();
+    }
+
+    /**
+     * Sends the {@code POST /top-secret-split/{satelliteName}} request of one satellite of an
+     * operation.
+     *
+     * @param operation operation index, selects the request body
+     * @param satellite satellite index in {@link SyntheticWorkload#SATELLITES} order
+     * @return HTTP status code
+     * @throws IOException          if the request fails
+     * @throws InterruptedException if the calling thread is interrupted
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    int postSatellite(long operation, int satellite) throws IOException, InterruptedException {
+        String path = "/top-secret-split/" + SyntheticWorkload.SATELLITES.get(satellite);
+        return send(post(path, bodies.satellite(operation, satellite))).statusCode();
+    }
+
+    /**
+     * Sends a {@code GET /top-secret-split} request.
+     *
+     * @param peek        whether the stored state is kept
+     * @param ifNoneMatch ETag of the last seen state, or {@code null}
+     * @return the response, without body
+     * @throws IOException          if the request fails
+     * @throws InterruptedException if the calling thread is interrupted
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    HttpResponse<Void> getSplit(boolean peek, String ifNoneMatch) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri("/top-secret-split" + (peek ? "?peek=true" : "")))
+                .timeout(timeout)
+                .GET();
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return send(request.build());
+    }
+
+    /**
+     * Returns the number of responses received per status code.
+     *
+     * @return status code counts
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    Map<Integer, LongAdder> statusCounts() {
+        return statusCounts;
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+
+    private HttpRequest post(String path, byte[] body) {
+        return HttpRequest.newBuilder(uri(path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        statusCounts.computeIfAbsent(response.statusCode(), code -> new LongAdder()).increment();
+        return response;
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUri + path);
+    }
+}
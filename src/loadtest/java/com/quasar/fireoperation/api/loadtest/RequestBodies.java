@@ -0,0 +1,92 @@
+package com.quasar.fireoperation.api.loadtest;
+
+import com.quasar.fireoperation.api.loadtest.workload.JsonRecordWriter;
+import com.quasar.fireoperation.api.loadtest.workload.SyntheticWorkload;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Source of the request bodies sent by each operation of a load run.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+interface RequestBodies {
+
+    /**
+     * Returns the {@code POST /top-secret} body of an operation.
+     *
+     * @param operation operation index
+     * @return UTF-8 JSON body
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    byte[] topSecret(long operation);
+
+    /**
+     * Returns the {@code POST /top-secret-split/{satelliteName}} body of one satellite of an
+     * operation.
+     *
+     * @param operation operation index
+     * @param satellite satellite index in {@link SyntheticWorkload#SATELLITES} order
+     * @return UTF-8 JSON body
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    byte[] satellite(long operation, int satellite);
+
+    /**
+     * Returns the sample request of the documentation for every operation.
+     *
+     * @return fixed bodies
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    static RequestBodies fixed() {
+        byte[] topSecret = """
+                {"satellites":[\
+                {"name":"kenobi","distance":100.0,"message":["este","","","mensaje",""]},\
+                {"name":"skywalker","distance":115.5,"message":["","es","","","secreto"]},\
+                {"name":"sato","distance":142.7,"message":["este","","un","",""]}]}"""
+                .getBytes(StandardCharsets.UTF_8);
+        byte[][] satellites = {
+                "{\"distance\":100.0,\"message\":[\"este\",\"\",\"\",\"mensaje\",\"\"]}".getBytes(StandardCharsets.UTF_8),
+                "{\"distance\":115.5,\"message\":[\"\",\"es\",\"\",\"\",\"secreto\"]}".getBytes(StandardCharsets.UTF_8),
+                "{\"distance\":142.7,\"message\":[\"este\",\"\",\"un\",\"\",\"\"]}".getBytes(StandardCharsets.UTF_8)};
+        return new RequestBodies() {
+            @Override
+            public byte[] topSecret(long operation) {
+                return topSecret;
+            }
+
+            @Override
+            public byte[] satellite(long operation, int satellite) {
+                return satellites[satellite];
+            }
+        };
+    }
+
+    /**
+     * Returns bodies built from record {@code operation} of a synthetic workload, so every
+     * operation sends a different, reproducible observation.
+     *
+     * @param workload workload to draw the records from
+     * @return synthetic bodies
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    static RequestBodies synthetic(SyntheticWorkload workload) {
+        return new RequestBodies() {
+            @Override
+            public byte[] topSecret(long operation) {
+                return JsonRecordWriter.topSecretBody(workload.record(operation));
+            }
+
+            @Override
+            public byte[] satellite(long operation, int satellite) {
+                return JsonRecordWriter.satelliteBody(workload.record(operation), satellite);
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.quasar.fireoperation.api.loadtest;
+
+import com.quasar.fireoperation.api.loadtest.workload.SyntheticWorkload;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Traffic generated by one operation of a load run.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+enum Scenario {
+
+    /** One {@code POST /top-secret} with the three satellites. */
+    FULL {
+        @Override
+        boolean execute(QuasarClient client, long operation) throws IOException, InterruptedException {
+            return client.postTopSecret(operation) == 200;
+        }
+    },
+
+    /**
+     * A split sequence: the three {@code POST /top-secret-split/{name}} followed by a consuming
+     * {@code GET}. Concurrent sequences share the server state, so the {@code GET} may find it
+     * already consumed by another sequence; a 404 there is counted as a valid outcome.
+     */
+    SPLIT {
+        @Override
+        boolean execute(QuasarClient client, long operation) throws IOException, InterruptedException {
+            for (int satellite = 0; satellite < SyntheticWorkload.SATELLITES.size(); satellite++) {
+                if (client.postSatellite(operation, satellite) != 200) {
+                    return false;
+                }
+            }
+            int status = client.getSplit(false, null).statusCode();
+            return status == 200 || status == 404;
+        }
+    },
+
+    /**
+     * A conditional {@code GET /top-secret-split?peek=true} carrying the last seen ETag, as a
+     * polling client does. The split state is seeded once before the run.
+     */
+    POLLING {
+        private final AtomicReference<String> lastETag = new AtomicReference<>();
+
+        @Override
+        void prepare(QuasarClient client) throws IOException, InterruptedException {
+            for (int satellite = 0; satellite < SyntheticWorkload.SATELLITES.size(); satellite++) {
+                if (client.postSatellite(0, satellite) != 200) {
+                    throw new IllegalStateException("No se pudo inicializar el estado split para el sondeo");
+                }
+            }
+        }
+
+        @Override
+        boolean execute(QuasarClient client, long operation) throws IOException, InterruptedException {
+            HttpResponse<Void> response = client.getSplit(true, lastETag.get());
+            if (response.statusCode() == 200) {
+                response.headers().firstValue("ETag").ifPresent(lastETag::set);
+                return true;
+            }
+            return response.statusCode() == 304;
+        }
+    };
+
+    /**
+     * Prepares the server state before the run. Does nothing by default.
+     *
+     * @param client client of the run
+     * @throws IOException          if a request fails
+     * @throws InterruptedException if the calling thread is interrupted
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    void prepare(QuasarClient client) throws IOException, InterruptedException {
+        // Sin estado previo
+    }
+
+    /**
+     * Executes one operation.
+     *
+     * @param client    client of the run
+     * @param operation operation index, selects the request bodies
+     * @return {@code true} if every response had an expected status
+     * @throws IOException          if a request fails
+     * @throws InterruptedException if the calling thread is interrupted
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    abstract boolean execute(QuasarClient client, long operation) throws IOException, InterruptedException;
+
+    static Scenario of(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,84 @@
+package com.quasar.fireoperation.api.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Options of a startup measurement, parsed from {@code --name=value} arguments followed by
+ * {@code --} and the command that starts the server.
+ *
+ * @param baseUri            base URI the started server answers on, including the context path
+ * @param runs               number of measured starts
+ * @param trainingOperations operations of every scenario sent after the first response, to
+ *                           exercise the hot paths of a training run; {@code 0} only measures
+ * @param workloadSeed       seed of the synthetic bodies of the training operations
+ * @param startTimeout       maximum wait for the first response
+ * @param serverLog          file receiving the server output, or {@code null} to discard it
+ * @param command            command that starts the server
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+record StartupOptions(URI baseUri, int runs, int trainingOperations, long workloadSeed, Duration startTimeout,
+                      Path serverLog, List<String> command) {
+
+    static final String USAGE = """
+            Uso: StartupProbe [opciones] -- COMANDO...
+              --base-uri=URI              API arrancada (por defecto http://localhost:8080/quasar-fire-operation)
+              --runs=N                    arranques medidos (por defecto 1)
+              --training-operations=N     operaciones por escenario tras la primera respuesta (por defecto 0)
+              --workload-seed=N           semilla de los datos sintéticos del entrenamiento (por defecto 7)
+              --start-timeout=S           espera máxima a la primera respuesta (por defecto 120)
+              --server-log=FICHERO        salida del servidor (por defecto se descarta)
+              --help                      muestra esta ayuda""";
+
+    /**
+     * Parses the command-line arguments.
+     *
+     * @param args options, {@code --} and the server command
+     * @return the parsed options, with defaults for the missing ones
+     * @throws IllegalArgumentException if an argument is unknown or malformed or the command is missing
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    static StartupOptions parse(String[] args) {
+        URI baseUri = URI.create("http://localhost:8080/quasar-fire-operation");
+        int runs = 1;
+        int trainingOperations = 0;
+        long workloadSeed = 7;
+        long startTimeout = 120;
+        Path serverLog = null;
+        int commandStart = Arrays.asList(args).indexOf("--");
+        if (commandStart < 0 || commandStart == args.length - 1) {
+            throw new IllegalArgumentException("Falta el comando que arranca el servidor tras --");
+        }
+        for (String arg : Arrays.copyOfRange(args, 0, commandStart)) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg);
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(2, separator)) {
+                case "base-uri" -> baseUri = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+                case "runs" -> runs = positive(arg, Integer.parseInt(value));
+                case "training-operations" -> trainingOperations = Math.max(0, Integer.parseInt(value));
+                case "workload-seed" -> workloadSeed = Long.parseLong(value);
+                case "start-timeout" -> startTimeout = positive(arg, Long.parseLong(value));
+                case "server-log" -> serverLog = Path.of(value);
+                default -> throw new IllegalArgumentException("Opción desconocida: " + arg);
+            }
+        }
+        return new StartupOptions(baseUri, runs, trainingOperations, workloadSeed, Duration.ofSeconds(startTimeout),
+                serverLog, List.of(Arrays.copyOfRange(args, commandStart + 1, args.length)));
+    }
+
+    private static <T extends Number> T positive(String arg, T value) {
+        if (value.longValue() <= 0) {
+            throw new IllegalArgumentException("El valor debe ser positivo: " + arg);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,145 @@
+package com.quasar.fireoperation.api.loadtest;
+
+import com.quasar.fireoperation.api.loadtest.workload.SyntheticWorkload;
+import com.quasar.fireoperation.api.loadtest.workload.WorkloadSettings;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command-line entry point that measures time to first request.
+ * <p>
+ * Starts the server command, polls {@code POST /top-secret} with the sample request and
+ * reports the time from process start to the first {@code 200}. With
+ * {@code --training-operations} it then drives every {@link Scenario} sequentially, which is
+ * the workload of the AOT cache / CDS training run, before stopping the server with SIGTERM
+ * so the JVM writes the archive on exit. See {@link StartupOptions#USAGE} for the options.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public final class StartupProbe {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(60);
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    private StartupProbe() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Runs the measured starts.
+     *
+     * @param args options, {@code --} and the server command
+     * @throws Exception if the server cannot be started, does not answer in time or the run is interrupted
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static void main(String[] args) throws Exception {
+        if (List.of(args).contains("--help")) {
+            System.out.println(StartupOptions.USAGE);
+            return;
+        }
+        StartupOptions options;
+        try {
+            options = StartupOptions.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println(StartupOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        List<Long> firstResponseMillis = new ArrayList<>();
+        for (int run = 1; run <= options.runs(); run++) {
+            long millis = measure(options, System.out);
+            firstResponseMillis.add(millis);
+            System.out.printf("Arranque %d: primera respuesta en %d ms%n", run, millis);
+        }
+        printSummary(firstResponseMillis, System.out);
+    }
+
+    private static long measure(StartupOptions options, PrintStream out) throws IOException, InterruptedException {
+        ProcessBuilder builder = new ProcessBuilder(options.command()).redirectErrorStream(true);
+        builder.redirectOutput(options.serverLog() != null
+                ? ProcessBuilder.Redirect.appendTo(options.serverLog().toFile())
+                : ProcessBuilder.Redirect.DISCARD);
+        long start = System.nanoTime();
+        Process server = builder.start();
+        try {
+            long millis = awaitFirstResponse(options, server, start);
+            if (options.trainingOperations() > 0) {
+                train(options, out);
+            }
+            stop(server, out);
+            return millis;
+        } finally {
+            server.destroyForcibly();
+        }
+    }
+
+    private static long awaitFirstResponse(StartupOptions options, Process server, long start)
+            throws InterruptedException {
+        long deadline = start + options.startTimeout().toNanos();
+        try (QuasarClient probe = new QuasarClient(options.baseUri(), REQUEST_TIMEOUT, RequestBodies.fixed())) {
+            while (true) {
+                if (!server.isAlive()) {
+                    throw new IllegalStateException("El servidor terminó con código " + server.exitValue()
+                            + " antes de responder");
+                }
+                try {
+                    if (probe.postTopSecret(0) == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException ignored) {
+                    // Aún no escucha: se reintenta
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Sin respuesta tras " + options.startTimeout().toSeconds() + " s");
+                }
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+        }
+    }
+
+    private static void train(StartupOptions options, PrintStream out) throws IOException, InterruptedException {
+        RequestBodies bodies = RequestBodies.synthetic(
+                new SyntheticWorkload(WorkloadSettings.defaults(options.workloadSeed())));
+        try (QuasarClient client = new QuasarClient(options.baseUri(), REQUEST_TIMEOUT, bodies)) {
+            for (Scenario scenario : Scenario.values()) {
+                scenario.prepare(client);
+                int failed = 0;
+                for (long operation = 0; operation < options.trainingOperations(); operation++) {
+                    if (!scenario.execute(client, operation)) {
+                        failed++;
+                    }
+                }
+                out.printf("Entrenamiento %s: %d operaciones, %d con respuesta inesperada%n",
+                        scenario.name().toLowerCase(Locale.ROOT), options.trainingOperations(), failed);
+            }
+        }
+    }
+
+    private static void stop(Process server, PrintStream out) throws InterruptedException {
+        // SIGTERM: apagado ordenado, la JVM escribe la caché AOT / el archivo CDS al salir
+        server.destroy();
+        if (server.waitFor(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            out.printf("Servidor detenido (código %d)%n", server.exitValue());
+        } else {
+            out.println("El servidor no se detuvo a tiempo; se fuerza su terminación");
+        }
+    }
+
+    private static void printSummary(List<Long> firstResponseMillis, PrintStream out) {
+        List<Long> sorted = firstResponseMillis.stream().sorted().toList();
+        out.printf("Primera respuesta (ms): mín %d, mediana %d, máx %d%n",
+                sorted.getFirst(), sorted.get(sorted.size() / 2), sorted.getLast());
+    }
+}
@@ -0,0 +1,62 @@
+package com.quasar.fireoperation.api.loadtest.workload;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes records in a compact big-endian binary layout, readable with
+ * {@link java.io.DataInputStream}.
+ * <p>
+ * The stream starts with the magic number {@code 0x51535731} ({@code "QSW1"}), written by
+ * {@link WorkloadFormat#writeHeader(java.io.OutputStream)}. Each record
+ * then contains: {@code long id}, {@code float x}, {@code float y}, {@code byte satellites}
+ * and, per satellite in {@link SyntheticWorkload#SATELLITES} order, {@code float exactDistance},
+ * {@code float distance}, {@code short tokens} and every token as {@code writeUTF}. The
+ * expected message is not stored: it is the non-blank tokens merged by position.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public final class BinaryRecordWriter implements RecordWriter {
+
+    /** Magic number at the start of the stream, {@code "QSW1"} in ASCII. */
+    public static final int MAGIC = 0x51535731;
+
+    private final DataOutputStream out;
+
+    /**
+     * Creates a writer. The header is not written.
+     *
+     * @param out destination stream, closed with the writer
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public BinaryRecordWriter(OutputStream out) {
+        this.out = new DataOutputStream(out);
+    }
+
+    @Override
+    public void write(SyntheticRecord record) throws IOException {
+        out.writeLong(record.id());
+        out.writeFloat(record.x());
+        out.writeFloat(record.y());
+        out.writeByte(record.fragments().length);
+        for (int s = 0; s < record.fragments().length; s++) {
+            out.writeFloat(record.exactDistances()[s]);
+            out.writeFloat(record.distances()[s]);
+            String[] fragment = record.fragments()[s];
+            out.writeShort(fragment.length);
+            for (String word : fragment) {
+                out.writeUTF(word);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
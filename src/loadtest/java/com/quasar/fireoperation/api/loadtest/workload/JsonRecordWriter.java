@@ -0,0 +1,149 @@
+package com.quasar.fireoperation.api.loadtest.workload;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes records as JSON with the Jackson streaming generator, either one object per line
+ * (NDJSON) or as the elements of an array, one per line. The enclosing brackets of the array
+ * are written by {@link WorkloadFormat}, so consecutive writers can each encode a slice of
+ * the same stream.
+ * <p>
+ * Each object is a superset of a {@code /top-secret} request body: besides
+ * {@code satellites} (with the noisy {@code distance}) it carries {@code id}, {@code ship},
+ * {@code expectedMessage} and each satellite's {@code exactDistance}, which the API ignores.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public final class JsonRecordWriter implements RecordWriter {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+    private final boolean array;
+    private boolean first;
+
+    /**
+     * Creates a writer.
+     *
+     * @param out   destination stream, closed with the writer
+     * @param array {@code true} for array elements, {@code false} for NDJSON
+     * @param first whether the first record written is the first element of the array
+     * @throws IOException if the output cannot be written
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public JsonRecordWriter(OutputStream out, boolean array, boolean first) throws IOException {
+        this.generator = FACTORY.createGenerator(out, JsonEncoding.UTF8);
+        this.array = array;
+        this.first = first;
+        // Sin separador entre valores raíz: los saltos de línea y comas se escriben a mano
+        generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+    }
+
+    @Override
+    public void write(SyntheticRecord record) throws IOException {
+        if (array && !first) {
+            generator.writeRaw(",\n");
+        }
+        first = false;
+        generator.writeStartObject();
+        generator.writeNumberField("id", record.id());
+        generator.writeObjectFieldStart("ship");
+        generator.writeNumberField("x", record.x());
+        generator.writeNumberField("y", record.y());
+        generator.writeEndObject();
+        generator.writeStringField("expectedMessage", record.message());
+        generator.writeArrayFieldStart("satellites");
+        for (int s = 0; s < record.fragments().length; s++) {
+            writeSatellite(generator, record, s, true);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        if (!array) {
+            generator.writeRaw('\n');
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    /**
+     * Serializes the {@code /top-secret} request body of a record.
+     *
+     * @param record record to serialize
+     * @return UTF-8 JSON body
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static byte[] topSecretBody(SyntheticRecord record) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        try (JsonGenerator body = FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            body.writeStartObject();
+            body.writeArrayFieldStart("satellites");
+            for (int s = 0; s < record.fragments().length; s++) {
+                writeSatellite(body, record, s, false);
+            }
+            body.writeEndArray();
+            body.writeEndObject();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Serializes the {@code /top-secret-split/{satelliteName}} request body of one satellite
+     * of a record.
+     *
+     * @param record    record to serialize
+     * @param satellite satellite index in {@link SyntheticWorkload#SATELLITES} order
+     * @return UTF-8 JSON body
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static byte[] satelliteBody(SyntheticRecord record, int satellite) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try (JsonGenerator body = FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            body.writeStartObject();
+            body.writeNumberField("distance", record.distances()[satellite]);
+            writeFragment(body, record.fragments()[satellite]);
+            body.writeEndObject();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeSatellite(JsonGenerator generator, SyntheticRecord record, int satellite,
+                                       boolean withExactDistance) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", SyntheticWorkload.SATELLITES.get(satellite));
+        generator.writeNumberField("distance", record.distances()[satellite]);
+        if (withExactDistance) {
+            generator.writeNumberField("exactDistance", record.exactDistances()[satellite]);
+        }
+        writeFragment(generator, record.fragments()[satellite]);
+        generator.writeEndObject();
+    }
+
+    private static void writeFragment(JsonGenerator generator, String[] fragment) throws IOException {
+        generator.writeArrayFieldStart("message");
+        for (String word : fragment) {
+            generator.writeString(word);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,25 @@
+package com.quasar.fireoperation.api.loadtest.workload;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Streaming sink of synthetic records. Records are written as they are received; closing
+ * the writer completes the output and closes the underlying stream.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public interface RecordWriter extends Closeable {
+
+    /**
+     * Writes one record.
+     *
+     * @param record record to write
+     * @throws IOException if the output cannot be written
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    void write(SyntheticRecord record) throws IOException;
+}
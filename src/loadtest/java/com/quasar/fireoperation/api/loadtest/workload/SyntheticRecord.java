@@ -0,0 +1,24 @@
+package com.quasar.fireoperation.api.loadtest.workload;
+
+/**
+ * One generated observation: a ship, its ranges to the three satellites and the message
+ * fragments each satellite received.
+ * <p>
+ * Arrays are indexed by satellite in {@link SyntheticWorkload#SATELLITES} order and must not
+ * be modified.
+ * </p>
+ *
+ * @param id             index of the record in its workload
+ * @param x              ship x coordinate
+ * @param y              ship y coordinate
+ * @param message        full message; the API should reconstruct it from the fragments
+ * @param exactDistances exact range from each satellite
+ * @param distances      range from each satellite with the configured noise
+ * @param fragments      message tokens received by each satellite, {@code ""} for a miss
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public record SyntheticRecord(long id, float x, float y, String message, float[] exactDistances,
+                              float[] distances, String[][] fragments) {
+}
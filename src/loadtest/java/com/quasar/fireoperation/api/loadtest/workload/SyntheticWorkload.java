@@ -0,0 +1,114 @@
+package com.quasar.fireoperation.api.loadtest.workload;
+
+import com.quasar.fireoperation.api.utils.Constants;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of {@link SyntheticRecord}s.
+ * <p>
+ * Record {@code i} is derived only from the seed and {@code i}: every record has its own
+ * {@link SplittableRandom}, so records can be produced in any order, from any thread and
+ * without keeping earlier ones, and a given seed always yields the same sequence. Ships are
+ * placed uniformly in the configured square; ranges are measured to the satellite positions
+ * of {@link Constants#SATELLITE_POSITIONS}. Every word of the message is received by at
+ * least one satellite, so the fragments can always be merged back into the message.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public final class SyntheticWorkload {
+
+    /** Satellites in the order expected by {@code /top-secret}. */
+    public static final List<String> SATELLITES = List.of("kenobi", "skywalker", "sato");
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final WorkloadSettings settings;
+    private final float[][] positions;
+    private final String[] messages;
+    private final String[][] words;
+
+    /**
+     * Creates a generator.
+     *
+     * @param settings workload parameters
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public SyntheticWorkload(WorkloadSettings settings) {
+        this.settings = settings;
+        this.positions = new float[SATELLITES.size()][];
+        for (int s = 0; s < positions.length; s++) {
+            positions[s] = Constants.SATELLITE_POSITIONS.get(SATELLITES.get(s));
+        }
+        this.messages = settings.corpus().toArray(String[]::new);
+        this.words = new String[messages.length][];
+        for (int m = 0; m < messages.length; m++) {
+            words[m] = messages[m].split(" ");
+        }
+    }
+
+    /**
+     * Generates the record at a given index.
+     *
+     * @param index record index, from 0
+     * @return the record, always the same for the same settings and index
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public SyntheticRecord record(long index) {
+        SplittableRandom random = new SplittableRandom(mix64(settings.seed() + index * GOLDEN_GAMMA));
+        float x = (float) random.nextDouble(-settings.extent(), settings.extent());
+        float y = (float) random.nextDouble(-settings.extent(), settings.extent());
+
+        int satellites = positions.length;
+        float[] exact = new float[satellites];
+        float[] noisy = new float[satellites];
+        for (int s = 0; s < satellites; s++) {
+            double dx = x - positions[s][0];
+            double dy = y - positions[s][1];
+            double range = Math.sqrt(dx * dx + dy * dy);
+            exact[s] = (float) range;
+            noisy[s] = settings.noise() == 0 ? exact[s]
+                    : (float) Math.max(0, range + random.nextGaussian() * settings.noise());
+        }
+
+        int message = random.nextInt(messages.length);
+        String[] tokens = words[message];
+        String[][] fragments = new String[satellites][];
+        for (int s = 0; s < satellites; s++) {
+            fragments[s] = new String[tokens.length + random.nextInt(settings.maxPadding() + 1)];
+            Arrays.fill(fragments[s], "");
+        }
+        for (int i = 0; i < tokens.length; i++) {
+            int owner = random.nextInt(satellites);
+            for (int s = 0; s < satellites; s++) {
+                if (s == owner || random.nextDouble() >= settings.blankRate()) {
+                    fragments[s][i] = tokens[i];
+                }
+            }
+        }
+        return new SyntheticRecord(index, x, y, messages[message], exact, noisy, fragments);
+    }
+
+    /**
+     * Scrambles a seed so that consecutive record seeds do not yield overlapping streams:
+     * {@link SplittableRandom} advances its state by the same golden gamma, so unmixed
+     * seeds {@code s} and {@code s + gamma} would produce the same values shifted by one.
+     *
+     * @param z value to mix
+     * @return mixed value (Stafford variant 13 of the MurmurHash3 finalizer)
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
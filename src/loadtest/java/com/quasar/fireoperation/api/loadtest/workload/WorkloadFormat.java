@@ -0,0 +1,95 @@
+package com.quasar.fireoperation.api.loadtest.workload;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Output formats of the workload generator.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public enum WorkloadFormat {
+
+    /** A single JSON array, one record per line. */
+    JSON("json"),
+    /** One JSON record per line. */
+    NDJSON("ndjson"),
+    /** The layout described in {@link BinaryRecordWriter}. */
+    BINARY("bin");
+
+    private final String extension;
+
+    WorkloadFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the usual file extension of the format.
+     *
+     * @return extension without the dot
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Writes what precedes the first record.
+     *
+     * @param out destination stream
+     * @throws IOException if the output cannot be written
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void writeHeader(OutputStream out) throws IOException {
+        switch (this) {
+            case JSON -> out.write(new byte[]{'[', '\n'});
+            case NDJSON -> {
+                // Sin cabecera
+            }
+            case BINARY -> new DataOutputStream(out).writeInt(BinaryRecordWriter.MAGIC);
+        }
+    }
+
+    /**
+     * Writes what follows the last record.
+     *
+     * @param out destination stream
+     * @throws IOException if the output cannot be written
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void writeFooter(OutputStream out) throws IOException {
+        if (this == JSON) {
+            out.write(new byte[]{'\n', ']', '\n'});
+        }
+    }
+
+    /**
+     * Opens a writer of records of this format, without header or footer, so a stream can
+     * be encoded in consecutive slices.
+     *
+     * @param out   destination stream, closed with the writer
+     * @param first whether the first record written is the first one of the stream
+     * @return the writer
+     * @throws IOException if the output cannot be written
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public RecordWriter open(OutputStream out, boolean first) throws IOException {
+        return switch (this) {
+            case JSON -> new JsonRecordWriter(out, true, first);
+            case NDJSON -> new JsonRecordWriter(out, false, first);
+            case BINARY -> new BinaryRecordWriter(out);
+        };
+    }
+
+    static WorkloadFormat of(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,211 @@
+package com.quasar.fireoperation.api.loadtest.workload;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Command-line entry point that streams a synthetic workload to a file or to stdout.
+ * <p>
+ * Records are generated in bounded chunks and written through a buffered stream, so memory
+ * use does not depend on {@code --count}.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public final class WorkloadGenerator {
+
+    static final String USAGE = """
+            Uso: ./gradlew generateWorkload --args='[opciones]'
+              --count=N             registros a generar (por defecto 1000000)
+              --seed=N              semilla (por defecto 42)
+              --format=NOMBRE       ndjson | json | binary (por defecto ndjson)
+              --output=RUTA         fichero de salida, '-' para stdout (por defecto build/workload/workload.<ext>)
+              --extent=F            naves en [-F, F] en ambos ejes (por defecto 1000)
+              --noise=F             desviación típica del ruido de las distancias (por defecto 0.5)
+              --blank-rate=F        probabilidad de que un satélite pierda una palabra (por defecto 0.6)
+              --max-padding=N       huecos finales máximos por fragmento (por defecto 2)
+              --corpus=RUTA         fichero con un mensaje por línea (por defecto el corpus incluido)
+              --threads=N           hilos de codificación (por defecto el número de procesadores)
+              --help                muestra esta ayuda""";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int CHUNK_RECORDS = 8192;
+    private static final int CHUNK_BYTES = 4 << 20;
+    private static final long PROGRESS_EVERY = 10_000_000L;
+
+    private WorkloadGenerator() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Generates a workload.
+     *
+     * @param args options in {@code --name=value} form
+     * @throws IOException if the corpus cannot be read or the output cannot be written
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static void main(String[] args) throws IOException {
+        if (List.of(args).contains("--help")) {
+            System.out.println(USAGE);
+            return;
+        }
+        long count = 1_000_000;
+        long seed = 42;
+        WorkloadFormat format = WorkloadFormat.NDJSON;
+        String output = null;
+        float extent = 1000f;
+        float noise = 0.5f;
+        double blankRate = 0.6;
+        int maxPadding = 2;
+        Path corpus = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        try {
+            for (String arg : args) {
+                int separator = arg.indexOf('=');
+                if (!arg.startsWith("--") || separator < 0) {
+                    throw new IllegalArgumentException("Argumento inválido: " + arg);
+                }
+                String value = arg.substring(separator + 1);
+                switch (arg.substring(2, separator)) {
+                    case "count" -> count = Long.parseLong(value);
+                    case "seed" -> seed = Long.parseLong(value);
+                    case "format" -> format = WorkloadFormat.of(value);
+                    case "output" -> output = value;
+                    case "extent" -> extent = Float.parseFloat(value);
+                    case "noise" -> noise = Float.parseFloat(value);
+                    case "blank-rate" -> blankRate = Double.parseDouble(value);
+                    case "max-padding" -> maxPadding = Integer.parseInt(value);
+                    case "corpus" -> corpus = Path.of(value);
+                    case "threads" -> threads = Math.max(1, Integer.parseInt(value));
+                    default -> throw new IllegalArgumentException("Opción desconocida: " + arg);
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        WorkloadSettings settings = new WorkloadSettings(seed, extent, noise, blankRate, maxPadding,
+                WorkloadSettings.defaults(seed).corpus());
+        if (corpus != null) {
+            settings = settings.withCorpus(corpus);
+        }
+        boolean toStdout = "-".equals(output);
+        Path path = toStdout ? null
+                : Path.of(output != null ? output : "build/workload/workload." + format.extension());
+        long written = generate(new SyntheticWorkload(settings), count, format, open(path), threads, !toStdout);
+        if (!toStdout) {
+            System.err.printf(Locale.ROOT, "Fichero: %s (%d bytes)%n", path.toAbsolutePath(), Files.size(path));
+        }
+        System.err.printf(Locale.ROOT, "Registros generados: %d%n", written);
+    }
+
+    /**
+     * Streams {@code count} records of a workload to an output stream.
+     * <p>
+     * Records are encoded in chunks of {@value #CHUNK_RECORDS}. With more than one thread,
+     * up to {@code 2 * threads} chunks are encoded in parallel while finished chunks are
+     * written in index order, so the output is identical for any thread count.
+     * </p>
+     *
+     * @param workload       generator of the records
+     * @param count          number of records, starting at index 0
+     * @param format         output format
+     * @param out            destination, closed on return
+     * @param threads        encoding threads
+     * @param reportProgress whether progress and rate are printed to stderr
+     * @return number of records written
+     * @throws IOException if the output cannot be written
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    static long generate(SyntheticWorkload workload, long count, WorkloadFormat format, OutputStream out,
+                         int threads, boolean reportProgress) throws IOException {
+        long start = System.nanoTime();
+        long chunks = (count + CHUNK_RECORDS - 1) / CHUNK_RECORDS;
+        try (out; ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            format.writeHeader(out);
+            Deque<Future<byte[]>> pending = new ArrayDeque<>();
+            long next = 0;
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                while (next < chunks && pending.size() < 2 * threads) {
+                    long from = next * CHUNK_RECORDS;
+                    long to = Math.min(count, from + CHUNK_RECORDS);
+                    pending.add(executor.submit(() -> encode(workload, format, from, to)));
+                    next++;
+                }
+                out.write(await(pending.poll()));
+                long written = Math.min(count, (chunk + 1) * CHUNK_RECORDS);
+                if (reportProgress && written < count && written / PROGRESS_EVERY != (written - CHUNK_RECORDS) / PROGRESS_EVERY) {
+                    printRate(written, start);
+                }
+            }
+            format.writeFooter(out);
+        }
+        if (reportProgress) {
+            printRate(count, start);
+        }
+        return count;
+    }
+
+    private static byte[] encode(SyntheticWorkload workload, WorkloadFormat format, long from, long to)
+            throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(CHUNK_BYTES);
+        try (RecordWriter writer = format.open(buffer, from == 0)) {
+            for (long i = from; i < to; i++) {
+                writer.write(workload.record(i));
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    private static byte[] await(Future<byte[]> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Generación interrumpida");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException("Error al generar la carga sintética", ex.getCause());
+        }
+    }
+
+    private static void printRate(long records, long start) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.err.printf(Locale.ROOT, "%d registros en %.1f s (%.0f registros/s)%n", records, seconds, records / seconds);
+    }
+
+    private static OutputStream open(Path path) throws IOException {
+        if (path == null) {
+            return new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), BUFFER_SIZE);
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE);
+    }
+}
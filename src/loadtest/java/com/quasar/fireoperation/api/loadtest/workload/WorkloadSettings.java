@@ -0,0 +1,101 @@
+package com.quasar.fireoperation.api.loadtest.workload;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parameters of a synthetic workload. Two workloads built from equal settings produce the
+ * same records.
+ *
+ * @param seed       seed of every random choice
+ * @param extent     ships are placed uniformly in {@code [-extent, extent]} on both axes
+ * @param noise      standard deviation of the Gaussian noise added to each range
+ * @param blankRate  probability that a satellite misses a word another satellite received
+ * @param maxPadding maximum number of trailing blanks appended to each fragment
+ * @param corpus     messages to split, one per entry, words separated by single spaces
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public record WorkloadSettings(long seed, float extent, float noise, double blankRate, int maxPadding,
+                               List<String> corpus) {
+
+    private static final String DEFAULT_CORPUS = "/workload/corpus.txt";
+
+    /**
+     * Validates the settings.
+     *
+     * @throws IllegalArgumentException if a value is out of range or the corpus is empty
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public WorkloadSettings {
+        if (extent <= 0 || noise < 0 || blankRate < 0 || blankRate > 1 || maxPadding < 0) {
+            throw new IllegalArgumentException("Parámetros de carga sintética fuera de rango");
+        }
+        if (corpus.isEmpty()) {
+            throw new IllegalArgumentException("El corpus de mensajes está vacío");
+        }
+        corpus = List.copyOf(corpus);
+    }
+
+    /**
+     * Returns the default settings for a seed: ships within ±1000, range noise of 0.5,
+     * 60 % blanks, up to two trailing blanks and the bundled corpus.
+     *
+     * @param seed seed of the workload
+     * @return default settings
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static WorkloadSettings defaults(long seed) {
+        return new WorkloadSettings(seed, 1000f, 0.5f, 0.6, 2, bundledCorpus());
+    }
+
+    /**
+     * Returns a copy of these settings with another corpus.
+     *
+     * @param corpusFile text file with one message per line; blank lines are skipped
+     * @return settings reading the corpus from the file
+     * @throws IOException if the file cannot be read
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public WorkloadSettings withCorpus(Path corpusFile) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(corpusFile, StandardCharsets.UTF_8)) {
+            return new WorkloadSettings(seed, extent, noise, blankRate, maxPadding, readLines(reader));
+        }
+    }
+
+    private static List<String> bundledCorpus() {
+        InputStream in = WorkloadSettings.class.getResourceAsStream(DEFAULT_CORPUS);
+        if (in == null) {
+            throw new IllegalStateException("No se encontró el corpus " + DEFAULT_CORPUS);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return readLines(reader);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static List<String> readLines(BufferedReader reader) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String message = line.strip().replaceAll("\\s+", " ");
+            if (!message.isEmpty()) {
+                lines.add(message);
+            }
+        }
+        return lines;
+    }
+}
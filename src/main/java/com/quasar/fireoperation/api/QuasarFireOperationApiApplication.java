@@ -31,6 +31,9 @@ public class QuasarFireOperationApiApplication {
             SpringApplication.run(QuasarFireOperationApiApplication.class, args);
             log.info("Quasar Fire Operation API iniciada exitosamente");
             log.info("Sistema listo para operaciones de rescate espacial");
+        } catch (SpringApplication.AbandonedRunException ex) {
+            // El procesado AOT (processAot) detiene el arranque a propósito tras preparar el contexto
+            throw ex;
         } catch (Exception ex) {
             log.error("Error crítico al iniciar la aplicación: {}", ex.getMessage(), ex);
             System.exit(1);
@@ -0,0 +1,51 @@
+package com.quasar.fireoperation.api.business;
+
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link SplitReportStore} on a {@link ConcurrentHashMap}: the original store, lock-free, with
+ * one map entry, report and message fragment per satellite on the Java heap.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+final class HeapSplitReportStore implements SplitReportStore {
+
+    private final Map<String, SatelliteReport> reports = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(String key, SatelliteReport report) {
+        reports.put(key, report);
+    }
+
+    @Override
+    public boolean remove(String key, SatelliteReport report) {
+        return reports.remove(key, report);
+    }
+
+    @Override
+    public List<SatelliteReport> values() {
+        return new ArrayList<>(reports.values());
+    }
+
+    @Override
+    public int size() {
+        return reports.size();
+    }
+
+    @Override
+    public long reservedBytes() {
+        return 0;
+    }
+
+    @Override
+    public void close() {
+        reports.clear();
+    }
+}
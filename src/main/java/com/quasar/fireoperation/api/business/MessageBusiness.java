@@ -1,17 +1,54 @@
 package com.quasar.fireoperation.api.business;
 
-import com.quasar.fireoperation.api.domain.general.TopSecretRequestDTO;
-import com.quasar.fireoperation.api.domain.general.ResponseDTO;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+
+import java.util.List;
 
 /**
  * Port interface for business logic to resolve position and message.
+ * <p>
+ * The {@code resolve*} methods report expected failures as a {@link TopSecretResult.Failure};
+ * the {@code process*} methods keep the exception-based contract on top of them. A
+ * {@code null} {@link SolverStrategy} resolves with the configured default solver. The
+ * uncertainty of the position is only estimated when asked for: it samples thousands of
+ * solves.
+ * </p>
  *
  * @version 1.0
  * @since 2025
  * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
  */
 public interface MessageBusiness {
-    ResponseDTO processTopSecret(TopSecretRequestDTO request);
-    ResponseDTO processTopSecretSplit();
-    void saveSatelliteSplit(String name, float distance, java.util.List<String> message);
+    TopSecretResult resolveTopSecret(List<SatelliteReport> satellites, SolverStrategy solver, boolean uncertainty);
+    TopSecretResult resolveTopSecretSplit(boolean peek, SolverStrategy solver);
+    void saveSatelliteSplit(SatelliteReport report);
+    long getSplitVersion();
+    boolean hasSplitRepresentation(boolean partial);
+
+    default TopSecretResult resolveTopSecret(List<SatelliteReport> satellites, SolverStrategy solver) {
+        return resolveTopSecret(satellites, solver, false);
+    }
+
+    default TopSecretResult resolveTopSecret(List<SatelliteReport> satellites) {
+        return resolveTopSecret(satellites, null);
+    }
+
+    default TopSecretResult resolveTopSecretSplit(boolean peek) {
+        return resolveTopSecretSplit(peek, null);
+    }
+
+    default Resolution processTopSecret(List<SatelliteReport> satellites) {
+        return resolveTopSecret(satellites).orElseThrow();
+    }
+
+    default Resolution processTopSecretSplit() {
+        return resolveTopSecretSplit(false).orElseThrow();
+    }
+
+    default Resolution peekTopSecretSplit() {
+        return resolveTopSecretSplit(true).orElseThrow();
+    }
 }
@@ -1,18 +1,52 @@
 package com.quasar.fireoperation.api.business;
 
-import com.quasar.fireoperation.api.domain.general.*;
+import com.quasar.fireoperation.api.config.jfr.MessageMergeEvent;
+import com.quasar.fireoperation.api.config.jfr.SplitStateEvent;
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
+import com.quasar.fireoperation.api.domain.model.MessageFragment;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.domain.result.FailureReason;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
 import com.quasar.fireoperation.api.exception.*;
 import com.quasar.fireoperation.api.provider.LocationProvider;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Implementation of MessageService.
+ * <p>
+ * Works on the internal {@link SatelliteReport} / {@link Resolution} records; the REST
+ * adapters convert from and to the DTOs.
+ * </p>
+ * <p>
+ * Stage timings and resolution outcomes are recorded in {@link PipelineMetrics}; the size of
+ * the split store ({@code quasar.split.store.size}) and the number of split saves
+ * ({@code quasar.split.saves}) are published as meters of this bean.
+ * </p>
+ * <p>
+ * Split reports are kept in a {@link SplitWindowStore}: timestamped reports are only joined
+ * with reports of the same event-time window, once the watermark has closed it. When a save
+ * leaves two reports pending, their candidate positions are computed right away; they answer
+ * partial fixes, and the third report only has to choose between them.
+ * </p>
+ * <p>
+ * While a JFR recording is running, merges are reported as {@link MessageMergeEvent} and
+ * split state changes as {@link SplitStateEvent}.
+ * </p>
  *
  * @version 1.0
  * @since 2025
@@ -22,160 +56,423 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 @Slf4j
 @FieldDefaults(level = lombok.AccessLevel.PRIVATE, makeFinal = true)
-public class MessageBusinessImpl implements MessageBusiness {
+public class MessageBusinessImpl implements MessageBusiness, MeterBinder {
+
+    private static final String LOCATION_UNDETERMINED_MESSAGE = "No se pudo determinar la posición.";
+    private static final String INSUFFICIENT_MESSAGE = "Información insuficiente de satélites.";
+    private static final int SATELLITES = 3;
 
     LocationProvider locationProvider;
+    PipelineMetrics metrics;
     // For split requests (Nivel 3)
-    private final Map<String, SatelliteDTO> splitSatellites = new ConcurrentHashMap<>();
+    SplitWindowStore splitStore;
+    // Saves counted for quasar.split.saves; the ETag version is the one of the store
+    private final LongAdder splitSaves = new LongAdder();
+    // Candidates of the last two pending reports, checked by measurement before every use
+    private final AtomicReference<CandidateFix> candidateFix = new AtomicReference<>();
 
     /**
-     * Processes the TopSecret request to determine position and message.
-     * @param request The TopSecretRequestDTO containing satellite data.
-     * @return The ResponseDTO with calculated position and message.
-     * @throws LocationException if position cannot be determined.
-     * @throws MessageException if message cannot be reconstructed.
+     * Resolves the TopSecret request to determine position and message.
+     * @param satellites The reports of three or more registered satellites, in any order.
+     * @param solver The solver strategy, or {@code null} for the configured default.
+     * @param uncertainty Whether to estimate the uncertainty of the position on success.
+     * @return Success with the calculated position and message, or a typed failure.
      * @since 2025
      * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
      */
     @Override
-    public ResponseDTO processTopSecret(TopSecretRequestDTO request) {
-        log.info("Procesando solicitud TopSecret con {} satélites", request.getSatellites().size());
-        log.debug("Datos de satélites recibidos: {}", request.getSatellites());
+    public TopSecretResult resolveTopSecret(List<SatelliteReport> satellites, SolverStrategy solver,
+                                            boolean uncertainty) {
+        log.debug("Datos de satélites recibidos: {}", satellites);
 
-        List<Float> distances = new ArrayList<>();
-        List<List<String>> messages = new ArrayList<>();
-        for (SatelliteDTO sat : request.getSatellites()) {
-            distances.add(sat.getDistance());
-            messages.add(sat.getMessage());
+        TopSecretResult result = metrics.recordOutcome(resolve(satellites, solver, null));
+        if (uncertainty && result instanceof TopSecretResult.Success(Resolution resolution)) {
+            result = TopSecretResult.success(withUncertainty(satellites, resolution));
+        }
+        if (log.isDebugEnabled() && result instanceof TopSecretResult.Success(Resolution resolution)) {
+            log.debug("TopSecret procesado exitosamente. Posición: ({}, {}), Mensaje: '{}'",
+                    resolution.position().x(), resolution.position().y(), resolution.message());
         }
 
-        ResponseDTO response = getResponseDTO(distances, messages);
-        log.info("TopSecret procesado exitosamente. Posición: ({}, {}), Mensaje: '{}'",
-                response.getPosition().getX(), response.getPosition().getY(), response.getMessage());
-
-        return response;
+        return result;
     }
 
     /**
      * Helper method to calculate position and reconstruct message.
-     * @param distances List of distances from satellites.
-     * @param messages List of message arrays from satellites.
-     * @return The ResponseDTO with calculated position and reconstructed message.
-     * @throws LocationException if position cannot be determined.
-     * @throws MessageException if message cannot be reconstructed.
+     * <p>
+     * Expected failures are returned as values and logged at DEBUG: they are counted in
+     * {@code quasar.pipeline.outcome}. Only unexpected provider errors are logged with their
+     * stack trace.
+     * </p>
+     * @param satellites The reports of three or more registered satellites, in any order, located
+     *                   by name with the triple of best geometry. Timestamped reports are placed
+     *                   at their instants.
+     * @param solver The solver strategy, or {@code null} for the configured default.
+     * @param fix The candidates of two of the reports, for the third to choose from, or {@code null}.
+     * @return Success with the calculated position and message, or a typed failure.
      * @since 2025
      * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
      */
-    private ResponseDTO getResponseDTO(List<Float> distances, List<List<String>> messages) {
-        log.debug("Calculando posición con distancias: {}", distances);
+    private TopSecretResult resolve(List<SatelliteReport> satellites, SolverStrategy solver, CandidateFix fix) {
+        if (satellites.size() < SATELLITES) {
+            log.debug("Número inválido de satélites. Esperados: al menos 3, Recibidos: {}", satellites.size());
+            return TopSecretResult.failure(FailureReason.INVALID_INPUT, "Se requieren distancias de 3 satélites.");
+        }
 
-        float[] positionArr;
+        Position position;
+        long start = System.nanoTime();
         try {
-            positionArr = locationProvider.getLocation(distances);
-            log.debug("Posición calculada exitosamente: ({}, {})", positionArr[0], positionArr[1]);
+            position = choose(satellites, solver, fix);
+            if (position == null) {
+                position = locationProvider.locate(solver, satellites);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Posición calculada exitosamente: ({}, {})", position.x(), position.y());
+            }
         } catch (IllegalArgumentException ex) {
-            log.error("Error al calcular la posición: {}", ex.getMessage(), ex);
-            throw ex;
+            log.debug("Datos inválidos para calcular la posición: {}", ex.getMessage());
+            return TopSecretResult.failure(FailureReason.INVALID_INPUT, ex.getMessage());
+        } catch (LocationException ex) {
+            log.debug("No se pudo calcular la posición: {}", ex.getMessage());
+            return TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, LOCATION_UNDETERMINED_MESSAGE);
         } catch (Exception ex) {
             log.error("Error al calcular la posición: {}", ex.getMessage(), ex);
-            throw new LocationException("No se pudo determinar la posición.");
+            return TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, LOCATION_UNDETERMINED_MESSAGE);
+        } finally {
+            metrics.recordLocation(System.nanoTime() - start);
         }
 
-        log.debug("Reconstruyendo mensaje desde {} arrays de mensajes", messages.size());
-        String message = getMessage(messages);
+        start = System.nanoTime();
+        String message = getMessage(satellites);
+        metrics.recordMessage(System.nanoTime() - start);
         if (message.isBlank()) {
-            log.warn("No se pudo reconstruir el mensaje. Arrays recibidos: {}", messages);
-            throw new MessageException("No se pudo determinar el mensaje.");
+            log.debug("No se pudo reconstruir el mensaje. Reportes recibidos: {}", satellites);
+            return TopSecretResult.failure(FailureReason.MESSAGE_UNDETERMINED, "No se pudo determinar el mensaje.");
         }
 
         log.debug("Mensaje reconstruido exitosamente: '{}'", message);
-        return new ResponseDTO(new PositionDTO(positionArr[0], positionArr[1]), message);
+        return TopSecretResult.success(new Resolution(position, message));
+    }
+
+    /**
+     * Adds the uncertainty estimate to a resolution, sampling the satellites the position was
+     * solved with.
+     * <p>
+     * The position is already resolved: if the estimate fails, the resolution is returned
+     * without it.
+     * </p>
+     * @param satellites The reports the position was solved from.
+     * @param resolution The resolved position and message.
+     * @return The resolution with its uncertainty, or unchanged if it cannot be estimated.
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private Resolution withUncertainty(List<SatelliteReport> satellites, Resolution resolution) {
+        try {
+            return resolution.withUncertainty(locationProvider.uncertainty(satellites));
+        } catch (IllegalArgumentException | LocationException ex) {
+            log.debug("No se pudo estimar la incertidumbre de la posición: {}", ex.getMessage());
+            return resolution;
+        }
+    }
+
+    /**
+     * Lets the third report choose between the candidates of the other two, when exactly two of
+     * the reports are those the candidates were computed from.
+     * @param satellites The reports to resolve.
+     * @param solver The solver strategy, or {@code null} for the configured default.
+     * @param fix The precomputed candidates, or {@code null}.
+     * @return The chosen candidate, or {@code null} if the reports need a full solve.
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private Position choose(List<SatelliteReport> satellites, SolverStrategy solver, CandidateFix fix) {
+        if (fix == null || satellites.size() != SATELLITES) {
+            return null;
+        }
+        SatelliteReport third = null;
+        int covered = 0;
+        for (SatelliteReport report : satellites) {
+            if (fix.covers(report)) {
+                covered++;
+            } else {
+                third = report;
+            }
+        }
+        return covered == SATELLITES - 1 ? locationProvider.choose(solver, fix.candidates(), third) : null;
+    }
+
+    /**
+     * Computes the candidate positions of two pending reports.
+     * @param satellites The pending reports.
+     * @return The candidates with the reports they come from, or {@code null} if there are none.
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private CandidateFix precompute(List<SatelliteReport> satellites) {
+        if (satellites.size() != SATELLITES - 1) {
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            List<Position> candidates = locationProvider.candidates(satellites);
+            return candidates.isEmpty() ? null : new CandidateFix(satellites.get(0), satellites.get(1), candidates);
+        } catch (IllegalArgumentException | LocationException ex) {
+            log.debug("Sin candidatos para los satélites pendientes: {}", ex.getMessage());
+            return null;
+        } finally {
+            metrics.recordLocation(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Narrows the position down with the reports of two satellites.
+     * <p>
+     * The candidates computed when the second report was saved are reused. Satellites that
+     * cannot be located by name or placed on their circles give the plain insufficient-information
+     * failure, as before partial fixes existed.
+     * </p>
+     * @param satellites The reports of two satellites.
+     * @return The partial fix, or the insufficient-information failure.
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private TopSecretResult partialFix(List<SatelliteReport> satellites) {
+        long start = System.nanoTime();
+        try {
+            CandidateFix fix = candidateFix.get();
+            List<Position> candidates = fix != null && fix.covers(satellites.get(0)) && fix.covers(satellites.get(1))
+                    ? fix.candidates()
+                    : locationProvider.candidates(satellites);
+            if (!candidates.isEmpty()) {
+                log.debug("Posición acotada a {} candidatos con los satélites {}", candidates.size(), satellites);
+                return TopSecretResult.partial(candidates, INSUFFICIENT_MESSAGE);
+            }
+        } catch (IllegalArgumentException | LocationException ex) {
+            log.debug("Sin candidatos para los satélites recibidos: {}", ex.getMessage());
+        } finally {
+            metrics.recordLocation(System.nanoTime() - start);
+        }
+        return TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, INSUFFICIENT_MESSAGE);
     }
 
     /**
      * Saves satellite data for split requests (Nivel 3).
-     * @param name The name of the satellite.
-     * @param distance The distance from the satellite.
-     * @param message The message array from the satellite.
+     * @param report The report of one satellite.
+     * @throws IllegalArgumentException if the report is late and the store rejects late reports.
      * @since 2025
      * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
      */
     @Override
-    public void saveSatelliteSplit(String name, float distance, List<String> message) {
-        log.info("Guardando información del satélite: {} con distancia: {}", name, distance);
-        log.debug("Mensaje del satélite {}: {}", name, message);
+    public void saveSatelliteSplit(SatelliteReport report) {
+        log.debug("Reporte del satélite recibido: {}", report);
 
-        splitSatellites.put(name.toLowerCase(), new SatelliteDTO(name, distance, message));
+        SplitStateEvent event = new SplitStateEvent();
+        event.begin();
+        long start = System.nanoTime();
+        if (!splitStore.save(report)) {
+            // Dropped as late: the state did not change, so neither does its version
+            return;
+        }
+        splitSaves.increment();
+        long version = splitStore.version();
+        metrics.recordSplitSave(System.nanoTime() - start);
+        if (splitStore.pendingSize() == SATELLITES - 1) {
+            candidateFix.set(precompute(splitStore.pending()));
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.transition(SplitStateEvent.SAVED, report.name().toLowerCase(), splitStore.size(), version);
+            event.commit();
+        }
 
-        log.info("Información guardada. Total de satélites almacenados: {}", splitSatellites.size());
-        log.debug("Satélites actuales en memoria: {}", splitSatellites.keySet());
+        if (log.isDebugEnabled()) {
+            log.debug("Información guardada. Reportes actuales en memoria: {}", splitStore.size());
+        }
     }
 
     /**
-     * Processes the TopSecretSplit request to determine position and message
-     * after receiving data from all satellites.
-     * @return The ResponseDTO with calculated position and message.
-     * @throws LocationException if position cannot be determined.
-     * @throws MessageException if message cannot be reconstructed.
+     * Resolves the TopSecretSplit state to determine position and message.
+     * <p>
+     * Unless {@code peek} is set, the processed entries are cleared on success so the
+     * next round starts empty; a peek leaves the state untouched so clients can poll it.
+     * The reports resolved are those of the latest closed event-time window, or the untimed
+     * ones when no window is ready. With two reports the result is a {@link TopSecretResult.Partial}
+     * fix carrying the candidate positions; with three, on the closed-form path, the third report
+     * chooses between the candidates of the other two when its distance singles one out.
+     * </p>
+     * @param peek Whether the stored state is kept after solving.
+     * @param solver The solver strategy, or {@code null} for the configured default.
+     * @return Success with the calculated position and message, or a typed failure.
      * @since 2025
      * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
      */
     @Override
-    public ResponseDTO processTopSecretSplit() {
-        log.info("Procesando TopSecretSplit con {} satélites almacenados", splitSatellites.size());
-        log.debug("Satélites disponibles: {}", splitSatellites.keySet());
+    public TopSecretResult resolveTopSecretSplit(boolean peek, SolverStrategy solver) {
+        List<SatelliteReport> list = splitStore.pending();
+        if (log.isDebugEnabled()) {
+            log.debug("Procesando TopSecretSplit (consulta: {}). Reportes a resolver: {}", peek, list);
+        }
 
-        if (splitSatellites.size() < 3) {
-            log.warn("Información insuficiente de satélites. Requeridos: 3, Disponibles: {}", splitSatellites.size());
-            throw new LocationException("Información insuficiente de satélites.");
+        if (list.size() < SATELLITES) {
+            if (log.isDebugEnabled()) {
+                log.debug("Información insuficiente de satélites. Requeridos: 3, Disponibles: {}", list.size());
+            }
+            return metrics.recordOutcome(list.size() == SATELLITES - 1
+                    ? partialFix(list)
+                    : TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, INSUFFICIENT_MESSAGE));
         }
 
-        List<SatelliteDTO> list = new ArrayList<>(splitSatellites.values());
-        List<Float> distances = new ArrayList<>();
-        List<List<String>> messages = new ArrayList<>();
-        for (SatelliteDTO sat : list) {
-            distances.add(sat.getDistance());
-            messages.add(sat.getMessage());
+        TopSecretResult result = metrics.recordOutcome(resolve(list, solver, candidateFix.get()));
+        if (peek || !(result instanceof TopSecretResult.Success)) {
+            log.debug("TopSecretSplit resuelto sin limpiar el estado almacenado.");
+            return result;
         }
+        log.debug("TopSecretSplit procesado exitosamente. Limpiando caché de satélites.");
 
-        ResponseDTO response = getResponseDTO(distances, messages);
-        log.info("TopSecretSplit procesado exitosamente. Limpiando caché de satélites.");
+        // Clear only the processed entries: a report saved while solving is kept for the next round.
+        SplitStateEvent event = new SplitStateEvent();
+        event.begin();
+        long start = System.nanoTime();
+        splitStore.remove(list);
+        metrics.recordSplitClear(System.nanoTime() - start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.transition(SplitStateEvent.CLEARED, null, splitStore.size(), splitStore.version());
+            event.commit();
+        }
 
-        // Clear stored satellite data after processing
-        splitSatellites.clear();
+        return result;
+    }
 
-        return response;
+    /**
+     * Returns the current version of the split state. The version changes whenever the
+     * stored reports do: on every save, on the removal of resolved reports and when an
+     * event-time window fires.
+     * @return The monotonically increasing split state version.
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public long getSplitVersion() {
+        return splitStore.version();
+    }
+
+    /**
+     * Tells whether the split state holds enough reports to be answered with a representation:
+     * three, or two when partial fixes are accepted. Solving may still fail.
+     * @param partial Whether two reports answer with their candidate positions.
+     * @return {@code true} if a {@code GET} may answer {@code 200}.
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public boolean hasSplitRepresentation(boolean partial) {
+        return splitStore.pendingSize() >= (partial ? SATELLITES - 1 : SATELLITES);
     }
 
     /**
-     * Reconstructs the message from arrays received by satellites.
+     * Publishes the split store meters.
      *
-     * @param messages Arrays of words from satellites.
-     * @return The reconstructed message.
+     * @param registry meter registry provided by actuator
      * @since 2025
      * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
      */
-    private String getMessage(List<List<String>> messages) {
-        log.debug("Iniciando reconstrucción de mensaje con {} arrays", messages.size());
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("quasar.split.store.size", splitStore, SplitWindowStore::size)
+                .description("Reportes de satélites pendientes en el estado split")
+                .register(registry);
+        FunctionCounter.builder("quasar.split.saves", splitSaves, LongAdder::sum)
+                .description("Reportes de satélites guardados en el estado split")
+                .register(registry);
+    }
 
-        int maxLen = messages.stream().mapToInt(List::size).max().orElse(0);
-        log.debug("Longitud máxima de mensaje detectada: {}", maxLen);
+    /**
+     * Reconstructs the message from the tokens received by satellites.
+     * <p>
+     * Each position takes the token of the first satellite that received it. Tokens are copied
+     * as UTF-8 byte ranges into a single buffer, and the message is decoded from it once.
+     * </p>
+     *
+     * @param satellites Reports carrying the tokens of each satellite.
+     * @return The reconstructed message.
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private String getMessage(List<SatelliteReport> satellites) {
+        MessageMergeEvent event = new MessageMergeEvent();
+        event.begin();
+        int maxLen = 0;
+        int bytes = 0;
+        for (SatelliteReport satellite : satellites) {
+            maxLen = Math.max(maxLen, satellite.message().size());
+            bytes += satellite.message().byteLength();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Reconstruyendo mensaje con {} fragmentos, longitud máxima: {}", satellites.size(), maxLen);
+        }
 
-        String[] result = new String[maxLen];
+        boolean trace = log.isTraceEnabled();
+        // Cada posición copia a lo sumo un token, más su separador: el buffer no necesita crecer
+        byte[] buffer = new byte[bytes + maxLen];
+        int length = 0;
+        int tokens = 0;
         for (int i = 0; i < maxLen; i++) {
-            for (List<String> msgArr : messages) {
-                if (i < msgArr.size() && msgArr.get(i) != null && !msgArr.get(i).isBlank()) {
-                    result[i] = msgArr.get(i);
-                    log.trace("Posición {} completada con palabra: '{}'", i, result[i]);
+            for (SatelliteReport satellite : satellites) {
+                MessageFragment fragment = satellite.message();
+                if (fragment.has(i)) {
+                    if (tokens > 0) {
+                        buffer[length++] = ' ';
+                    }
+                    length = fragment.copyWord(i, buffer, length);
+                    tokens++;
+                    if (trace) {
+                        log.trace("Posición {} completada con palabra: '{}'", i, fragment.word(i));
+                    }
                     break;
                 }
             }
-            if (result[i] == null) result[i] = "";
         }
 
-        String finalMessage = String.join(" ", Arrays.stream(result).filter(s -> !s.isBlank()).toArray(String[]::new));
-        log.debug("Mensaje reconstruido: '{}'", finalMessage);
+        String message = new String(buffer, 0, length, StandardCharsets.UTF_8);
+        event.end();
+        if (event.shouldCommit()) {
+            event.merged(satellites.size(), maxLen, tokens, message.length());
+            event.commit();
+        }
+        log.debug("Mensaje reconstruido: '{}'", message);
 
-        return finalMessage;
+        return message;
+    }
+
+    /**
+     * Candidate positions of two split reports, computed when the second one was saved.
+     *
+     * @param first      first report
+     * @param second     second report
+     * @param candidates intersections of their circles
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private record CandidateFix(SatelliteReport first, SatelliteReport second, List<Position> candidates) {
+
+        /**
+         * Tells whether a report is one of the two the candidates come from: same satellite,
+         * distance and instant.
+         *
+         * @param report report to check
+         * @return {@code true} if the candidates hold for it
+         * @since 2025
+         * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+         */
+        boolean covers(SatelliteReport report) {
+            return sameMeasurement(first, report) || sameMeasurement(second, report);
+        }
+
+        private static boolean sameMeasurement(SatelliteReport a, SatelliteReport b) {
+            return a.name().equalsIgnoreCase(b.name()) && Float.compare(a.distance(), b.distance()) == 0
+                    && a.timestamp() == b.timestamp();
+        }
     }
-}
\ No newline at end of file
+}
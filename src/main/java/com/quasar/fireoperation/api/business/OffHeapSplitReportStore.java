@@ -0,0 +1,425 @@
+package com.quasar.fireoperation.api.business;
+
+import com.quasar.fireoperation.api.domain.model.MessageFragment;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.exception.InvalidInputException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_CHAR;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * {@link SplitReportStore} outside the Java heap, so the garbage collector has nothing to trace
+ * per stored report.
+ * <p>
+ * Each report is a record in a {@link MemorySegment} slab of a shared {@link Arena}: timestamp,
+ * distance, the characters of its key and name and its {@link MessageFragment}, the token ends
+ * and the UTF-8 bytes copied as one range. Records take a slot of a
+ * power-of-two size class, from {@value #MIN_SLOT} bytes up; slabs are {@value #SLAB_BYTES}
+ * bytes, or one slot when a record is larger. A freed slot goes to the free list of its class
+ * and is the next one that class hands out, so a steady flow of saves and removals reuses the
+ * same slabs instead of reserving new ones. Slabs are only released when the store is closed:
+ * native memory follows the peak of stored reports.
+ * </p>
+ * <p>
+ * The index is an open-addressing table, off-heap as well, of 64-bit key hashes and record
+ * handles. It probes linearly, deletes by shifting the following entries back, so there are no
+ * tombstones, and doubles at half load into a table of a new arena, closing the old one. A hash
+ * match is confirmed with the key characters of the record.
+ * </p>
+ * <p>
+ * Nothing of a stored report stays on the heap: {@link #values()} copies each record back into
+ * a new name and fragment, and {@link #remove} compares the stored bytes in place. Every
+ * operation takes one {@link ReentrantLock}, which virtual threads do not pin on.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+final class OffHeapSplitReportStore implements SplitReportStore {
+
+    /** Bytes of a slab shared by the slots of a size class. */
+    static final long SLAB_BYTES = 1 << 20;
+    /** Bytes of the smallest slot. */
+    static final int MIN_SLOT = 64;
+    private static final int MIN_SLOT_SHIFT = 6;
+    private static final int SIZE_CLASSES = 25;
+    /** Bytes of the largest record, the slot of the last size class. */
+    private static final long MAX_RECORD = 1L << 30;
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Registro: instante, distancia, número de tokens, bytes del fragmento y longitudes de clave y
+    // nombre; después los fines de los tokens, los caracteres UTF-16 de la clave y del nombre y
+    // los bytes UTF-8 de los tokens
+    private static final long TIMESTAMP = 0;
+    private static final long DISTANCE = 8;
+    private static final long COUNT = 12;
+    private static final long BYTES = 16;
+    private static final long KEY_LENGTH = 20;
+    private static final long NAME_LENGTH = 24;
+    private static final long HEADER = 28;
+
+    // Entrada del índice: hash de la clave y handle del registro; handle 0 = libre
+    private static final long ENTRY = 16;
+    private static final long ENTRY_HANDLE = 8;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Arena arena = Arena.ofShared();
+    private final List<MemorySegment> slabs = new ArrayList<>();
+    private final long[][] free = new long[SIZE_CLASSES][];
+    private final int[] freeCount = new int[SIZE_CLASSES];
+    private final int[] bumpSlab = new int[SIZE_CLASSES];
+    private final long[] bumpOffset = new long[SIZE_CLASSES];
+
+    private Arena indexArena;
+    private MemorySegment index;
+    private int mask;
+    // Written under the lock; read without it by the meters
+    private volatile int size;
+    private volatile long reserved;
+
+    /**
+     * Creates an empty store with an index of {@value #INITIAL_CAPACITY} entries.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    OffHeapSplitReportStore() {
+        Arrays.fill(bumpSlab, -1);
+        allocateIndex(INITIAL_CAPACITY);
+    }
+
+    @Override
+    public void put(String key, SatelliteReport report) {
+        MessageFragment message = report.message();
+        if (recordBytes(message.size(), message.byteLength(), key.length(), report.name().length()) > MAX_RECORD) {
+            throw new InvalidInputException("Mensaje demasiado largo para el estado split: "
+                    + message.size() + " palabras");
+        }
+        long hash = hash(key);
+        lock.lock();
+        try {
+            long handle = write(key, report);
+            int slot = find(hash, key);
+            if (slot >= 0) {
+                release(handleAt(slot));
+                index.set(JAVA_LONG, slot * ENTRY + ENTRY_HANDLE, handle);
+                return;
+            }
+            if (size + 1 > (mask + 1) / 2) {
+                allocateIndex(2 * (mask + 1));
+            }
+            insert(hash, handle);
+            size++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(String key, SatelliteReport report) {
+        long hash = hash(key);
+        lock.lock();
+        try {
+            int slot = find(hash, key);
+            if (slot < 0 || !matches(handleAt(slot), report)) {
+                return false;
+            }
+            release(handleAt(slot));
+            delete(slot);
+            size--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<SatelliteReport> values() {
+        lock.lock();
+        try {
+            List<SatelliteReport> reports = new ArrayList<>(size);
+            for (int slot = 0; slot <= mask; slot++) {
+                long handle = handleAt(slot);
+                if (handle != 0) {
+                    reports.add(read(handle));
+                }
+            }
+            return reports;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long reservedBytes() {
+        return reserved;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (arena.scope().isAlive()) {
+                indexArena.close();
+                arena.close();
+                slabs.clear();
+                size = 0;
+                reserved = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes a report into a free slot of its size class.
+     */
+    private long write(String key, SatelliteReport report) {
+        MessageFragment message = report.message();
+        String name = report.name();
+        int count = message.size();
+        long handle = allocate(sizeClass(recordBytes(count, message.byteLength(), key.length(), name.length())));
+        MemorySegment slab = record(handle);
+        long base = offset(handle);
+        slab.set(JAVA_LONG, base + TIMESTAMP, report.timestamp());
+        slab.set(JAVA_FLOAT, base + DISTANCE, report.distance());
+        slab.set(JAVA_INT, base + COUNT, count);
+        slab.set(JAVA_INT, base + BYTES, message.byteLength());
+        slab.set(JAVA_INT, base + KEY_LENGTH, key.length());
+        slab.set(JAVA_INT, base + NAME_LENGTH, name.length());
+        long position = base + HEADER;
+        for (int i = 0; i < count; i++, position += Integer.BYTES) {
+            slab.set(JAVA_INT, position, message.end(i));
+        }
+        for (int i = 0; i < key.length(); i++, position += Character.BYTES) {
+            slab.set(JAVA_CHAR, position, key.charAt(i));
+        }
+        for (int i = 0; i < name.length(); i++, position += Character.BYTES) {
+            slab.set(JAVA_CHAR, position, name.charAt(i));
+        }
+        MemorySegment.copy(message.bytes(), 0, slab, position, message.byteLength());
+        return handle;
+    }
+
+    private SatelliteReport read(long handle) {
+        MemorySegment slab = record(handle);
+        long base = offset(handle);
+        int[] ends = new int[slab.get(JAVA_INT, base + COUNT)];
+        MemorySegment.copy(slab, JAVA_INT, base + HEADER, ends, 0, ends.length);
+        char[] name = new char[slab.get(JAVA_INT, base + NAME_LENGTH)];
+        MemorySegment.copy(slab, JAVA_CHAR, nameOffset(slab, base), name, 0, name.length);
+        byte[] utf8 = new byte[slab.get(JAVA_INT, base + BYTES)];
+        MemorySegment.copy(slab, JAVA_BYTE, bytesOffset(slab, base), utf8, 0, utf8.length);
+        return new SatelliteReport(new String(name), slab.get(JAVA_FLOAT, base + DISTANCE),
+                MessageFragment.wrap(utf8, ends), slab.get(JAVA_LONG, base + TIMESTAMP));
+    }
+
+    /**
+     * Compares a record with a report as {@link SatelliteReport#equals} does, without rebuilding it.
+     */
+    private boolean matches(long handle, SatelliteReport report) {
+        MemorySegment slab = record(handle);
+        long base = offset(handle);
+        MessageFragment message = report.message();
+        int count = message.size();
+        if (slab.get(JAVA_LONG, base + TIMESTAMP) != report.timestamp()
+                || Float.compare(slab.get(JAVA_FLOAT, base + DISTANCE), report.distance()) != 0
+                || slab.get(JAVA_INT, base + COUNT) != count
+                || slab.get(JAVA_INT, base + BYTES) != message.byteLength()
+                || !equalChars(slab, nameOffset(slab, base), slab.get(JAVA_INT, base + NAME_LENGTH), report.name())) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if (slab.get(JAVA_INT, base + HEADER + (long) i * Integer.BYTES) != message.end(i)) {
+                return false;
+            }
+        }
+        long bytes = bytesOffset(slab, base);
+        return MemorySegment.mismatch(slab, bytes, bytes + message.byteLength(),
+                message.bytes(), 0, message.byteLength()) == -1;
+    }
+
+    /**
+     * Puts the slot of a record on the free list of its size class.
+     */
+    private void release(long handle) {
+        MemorySegment slab = record(handle);
+        long base = offset(handle);
+        int sizeClass = sizeClass(recordBytes(slab.get(JAVA_INT, base + COUNT), slab.get(JAVA_INT, base + BYTES),
+                slab.get(JAVA_INT, base + KEY_LENGTH), slab.get(JAVA_INT, base + NAME_LENGTH)));
+        long[] slots = free[sizeClass];
+        if (slots == null) {
+            slots = free[sizeClass] = new long[16];
+        } else if (freeCount[sizeClass] == slots.length) {
+            slots = free[sizeClass] = Arrays.copyOf(slots, 2 * slots.length);
+        }
+        slots[freeCount[sizeClass]++] = handle;
+    }
+
+    /**
+     * Takes the last freed slot of a size class, or the next one of its slab.
+     */
+    private long allocate(int sizeClass) {
+        if (freeCount[sizeClass] > 0) {
+            return free[sizeClass][--freeCount[sizeClass]];
+        }
+        long slot = (long) MIN_SLOT << sizeClass;
+        int slab = bumpSlab[sizeClass];
+        if (slab < 0 || bumpOffset[sizeClass] + slot > slabs.get(slab).byteSize()) {
+            long bytes = Math.max(SLAB_BYTES, slot);
+            slabs.add(arena.allocate(bytes, Long.BYTES));
+            reserved += bytes;
+            slab = bumpSlab[sizeClass] = slabs.size() - 1;
+            bumpOffset[sizeClass] = 0;
+        }
+        long offset = bumpOffset[sizeClass];
+        bumpOffset[sizeClass] += slot;
+        return ((long) (slab + 1) << 32) | offset;
+    }
+
+    private MemorySegment record(long handle) {
+        return slabs.get((int) (handle >>> 32) - 1);
+    }
+
+    private static long offset(long handle) {
+        return handle & 0xFFFF_FFFFL;
+    }
+
+    private static long keyOffset(MemorySegment slab, long base) {
+        return base + HEADER + (long) slab.get(JAVA_INT, base + COUNT) * Integer.BYTES;
+    }
+
+    private static long nameOffset(MemorySegment slab, long base) {
+        return keyOffset(slab, base) + (long) slab.get(JAVA_INT, base + KEY_LENGTH) * Character.BYTES;
+    }
+
+    private static boolean equalChars(MemorySegment slab, long position, int length, String text) {
+        if (length != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++, position += Character.BYTES) {
+            if (slab.get(JAVA_CHAR, position) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long bytesOffset(MemorySegment slab, long base) {
+        return nameOffset(slab, base) + (long) slab.get(JAVA_INT, base + NAME_LENGTH) * Character.BYTES;
+    }
+
+    private static long recordBytes(int count, int bytes, int keyLength, int nameLength) {
+        return HEADER + (long) count * Integer.BYTES + ((long) keyLength + nameLength) * Character.BYTES + bytes;
+    }
+
+    private static int sizeClass(long bytes) {
+        return Math.max(0, 64 - Long.numberOfLeadingZeros(bytes - 1) - MIN_SLOT_SHIFT);
+    }
+
+    /**
+     * Returns the index slot of a key, or {@code -1}.
+     */
+    private int find(long hash, String key) {
+        for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+            long handle = handleAt(slot);
+            if (handle == 0) {
+                return -1;
+            }
+            if (hashAt(slot) == hash) {
+                MemorySegment slab = record(handle);
+                long base = offset(handle);
+                if (equalChars(slab, keyOffset(slab, base), slab.get(JAVA_INT, base + KEY_LENGTH), key)) {
+                    return slot;
+                }
+            }
+        }
+    }
+
+    private void insert(long hash, long handle) {
+        int slot = (int) hash & mask;
+        while (handleAt(slot) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index.set(JAVA_LONG, slot * ENTRY, hash);
+        index.set(JAVA_LONG, slot * ENTRY + ENTRY_HANDLE, handle);
+    }
+
+    /**
+     * Empties an index slot, moving back the entries of the same probe run that would no longer
+     * be reachable.
+     */
+    private void delete(int slot) {
+        int hole = slot;
+        for (int next = (slot + 1) & mask; handleAt(next) != 0; next = (next + 1) & mask) {
+            int home = (int) hashAt(next) & mask;
+            // La entrada puede ocupar el hueco si éste queda entre su posición ideal y la actual
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                index.set(JAVA_LONG, hole * ENTRY, hashAt(next));
+                index.set(JAVA_LONG, hole * ENTRY + ENTRY_HANDLE, handleAt(next));
+                hole = next;
+            }
+        }
+        index.set(JAVA_LONG, hole * ENTRY, 0L);
+        index.set(JAVA_LONG, hole * ENTRY + ENTRY_HANDLE, 0L);
+    }
+
+    /**
+     * Replaces the index by an empty one of the given capacity, moving the current entries.
+     * Segments of a new arena are zero-initialized: every handle starts free.
+     */
+    private void allocateIndex(int capacity) {
+        Arena previousArena = indexArena;
+        MemorySegment previous = index;
+        int previousMask = mask;
+        indexArena = Arena.ofShared();
+        index = indexArena.allocate(capacity * ENTRY, Long.BYTES);
+        mask = capacity - 1;
+        if (previous != null) {
+            for (long slot = 0; slot <= previousMask; slot++) {
+                long handle = previous.get(JAVA_LONG, slot * ENTRY + ENTRY_HANDLE);
+                if (handle != 0) {
+                    insert(previous.get(JAVA_LONG, slot * ENTRY), handle);
+                }
+            }
+            previousArena.close();
+        }
+    }
+
+    private long hashAt(int slot) {
+        return index.get(JAVA_LONG, slot * ENTRY);
+    }
+
+    private long handleAt(int slot) {
+        return index.get(JAVA_LONG, slot * ENTRY + ENTRY_HANDLE);
+    }
+
+    /**
+     * FNV-1a over the characters of the key, mixed so that the low bits pick the slot.
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb93e185a3fe5L;
+        return hash ^ (hash >>> 33);
+    }
+}
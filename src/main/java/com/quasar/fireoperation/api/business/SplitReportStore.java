@@ -0,0 +1,78 @@
+package com.quasar.fireoperation.api.business;
+
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+
+import java.util.List;
+
+/**
+ * Untimed reports of the split state, by lower-case satellite name.
+ * <p>
+ * {@link SplitWindowStore} keeps them in the implementation chosen by
+ * {@link SplitWindowStore.Storage}: {@link HeapSplitReportStore} or
+ * {@link OffHeapSplitReportStore}. Both replace the report of a name on save and only remove a
+ * report while it is still the stored one.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+interface SplitReportStore extends AutoCloseable {
+
+    /**
+     * Stores a report, replacing the previous one of the same name.
+     *
+     * @param key    lower-case satellite name
+     * @param report the report
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    void put(String key, SatelliteReport report);
+
+    /**
+     * Removes the report of a name if it is equal to the given one.
+     *
+     * @param key    lower-case satellite name
+     * @param report the report expected to be stored
+     * @return {@code true} if removed
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    boolean remove(String key, SatelliteReport report);
+
+    /**
+     * Returns the stored reports.
+     *
+     * @return a copy of the reports, in no particular order
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    List<SatelliteReport> values();
+
+    /**
+     * Returns the number of stored reports.
+     *
+     * @return stored reports
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    int size();
+
+    /**
+     * Returns the native memory reserved by the store.
+     *
+     * @return bytes outside the Java heap; {@code 0} for a heap store
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    long reservedBytes();
+
+    /**
+     * Releases the memory of the store. It must not be used afterwards.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,488 @@
+package com.quasar.fireoperation.api.business;
+
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.exception.InvalidInputException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * State of {@code /top-secret-split}: the reports waiting to be joined.
+ * <p>
+ * Reports without a timestamp are joined as before, whatever their arrival. Timestamped reports
+ * are joined by event time: each one falls in the tumbling window of {@code window-ms} that
+ * contains its instant, and only reports of the same window are resolved together. The
+ * watermark is the latest instant seen minus {@code max-delay-ms}, the out-of-orderness the
+ * satellites are allowed; when it passes the end of a window the window fires, and if it holds
+ * at least three reports it becomes the one {@link #pending()} returns. A later firing window
+ * replaces it. Watermarks only advance with new reports: the last window of a burst fires when
+ * the next report arrives.
+ * </p>
+ * <p>
+ * A fired window is kept for {@code allowed-lateness-ms} more: a late report within that time
+ * is added and the window fires again. After it the window is evicted, and reports for it are
+ * handled by the {@link LatePolicy}. Windows are kept in instant order, so firing and eviction
+ * walk only the head of the map as the watermark advances. At most
+ * {@code (max-delay-ms + allowed-lateness-ms) / window-ms + 2} windows are held, plus the
+ * ready one, whatever the instants clients send: a report far ahead moves the watermark and
+ * evicts the older ones.
+ * </p>
+ * <p>
+ * By default untimed reports keep the lock-free map of the original store. Windows are guarded
+ * by a {@link ReentrantLock} rather than a monitor, so virtual threads never pin on it; the
+ * untimed path does not take the lock.
+ * </p>
+ * <p>
+ * Every change of the stored reports, a save, a removal or a window firing, moves the
+ * {@link #version()} forward, so a tag derived from it never outlives the reports it was
+ * computed from.
+ * </p>
+ * <p>
+ * With {@link Storage#OFF_HEAP} the untimed reports are kept outside the Java heap instead, in
+ * an {@link OffHeapSplitReportStore} with a lock of its own: the garbage collector no longer
+ * traces one map entry, report and token array per satellite, which keeps its pauses flat when
+ * clients leave many satellites pending. The store is released when the bean is destroyed.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Component
+@Slf4j
+public class SplitWindowStore implements MeterBinder, AutoCloseable {
+
+    /**
+     * What happens to a report whose window has already been evicted.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public enum LatePolicy {
+        /** The report is discarded and counted; the client gets the usual confirmation. */
+        DROP,
+        /** The report is rejected with an {@link IllegalArgumentException}, a {@code 400} for the client. */
+        REJECT
+    }
+
+    /**
+     * Where the untimed reports are kept.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public enum Storage {
+        /** A concurrent map on the Java heap, as the original store. */
+        HEAP,
+        /** Slabs of native memory, see {@link OffHeapSplitReportStore}. */
+        OFF_HEAP
+    }
+
+    /** Reports needed to resolve a window. */
+    static final int JOIN_SIZE = 3;
+    private static final Comparator<SatelliteReport> BY_NAME =
+            Comparator.comparing(SatelliteReport::name, String.CASE_INSENSITIVE_ORDER);
+
+    private final long windowMillis;
+    private final long maxDelayMillis;
+    private final long allowedLatenessMillis;
+    private final LatePolicy latePolicy;
+    private final Storage storage;
+
+    private final SplitReportStore untimed;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TreeMap<Long, Window> windows = new TreeMap<>();
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder late = new LongAdder();
+    private final AtomicLong version = new AtomicLong();
+    private long watermark = Long.MIN_VALUE;
+    // Written under the lock; read without it by pending() and the meters
+    private volatile Window ready;
+    private volatile int openWindows;
+
+    /**
+     * Creates the store.
+     *
+     * @param windowMillis          length of the event-time windows
+     * @param maxDelayMillis        how far behind the latest instant a report may arrive and
+     *                              still be in time
+     * @param allowedLatenessMillis how long a fired window accepts late reports
+     * @param latePolicy            what to do with reports for an evicted window
+     * @param storage               where the untimed reports are kept
+     * @throws IllegalArgumentException if the window is not positive or a delay is negative
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public SplitWindowStore(@Value("${quasar.split.window.size-ms:60000}") long windowMillis,
+                            @Value("${quasar.split.window.max-delay-ms:5000}") long maxDelayMillis,
+                            @Value("${quasar.split.window.allowed-lateness-ms:0}") long allowedLatenessMillis,
+                            @Value("${quasar.split.window.late-policy:DROP}") LatePolicy latePolicy,
+                            @Value("${quasar.split.store.storage:HEAP}") Storage storage) {
+        if (windowMillis <= 0 || maxDelayMillis < 0 || allowedLatenessMillis < 0) {
+            throw new IllegalArgumentException("Ventanas split mal configuradas: tamaño " + windowMillis
+                    + " ms, retraso " + maxDelayMillis + " ms, tolerancia " + allowedLatenessMillis + " ms");
+        }
+        this.windowMillis = windowMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.allowedLatenessMillis = allowedLatenessMillis;
+        this.latePolicy = latePolicy;
+        this.storage = storage;
+        this.untimed = storage == Storage.OFF_HEAP ? new OffHeapSplitReportStore() : new HeapSplitReportStore();
+    }
+
+    /**
+     * Creates a store with the default windows: one minute, five seconds of delay, no
+     * lateness, late reports dropped, untimed reports on the heap.
+     *
+     * @return a new store
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static SplitWindowStore withDefaults() {
+        return withDefaults(Storage.HEAP);
+    }
+
+    /**
+     * Creates a store with the default windows and the given storage for untimed reports.
+     *
+     * @param storage where the untimed reports are kept
+     * @return a new store; close it to release native memory when {@code storage} is
+     *         {@link Storage#OFF_HEAP}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static SplitWindowStore withDefaults(Storage storage) {
+        return new SplitWindowStore(60_000, 5_000, 0, LatePolicy.DROP, storage);
+    }
+
+    /**
+     * Returns where the untimed reports are kept.
+     *
+     * @return the storage of untimed reports
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public Storage storage() {
+        return storage;
+    }
+
+    /**
+     * Stores a report, replacing the previous one of the same satellite in its window.
+     *
+     * @param report the report; timestamped reports go to their event-time window
+     * @return {@code true} if stored, {@code false} if dropped as late
+     * @throws IllegalArgumentException if the timestamp is negative or too close to
+     *                                  {@link Long#MAX_VALUE} for its window and allowed lateness to
+     *                                  end, or the report is late and the policy is
+     *                                  {@link LatePolicy#REJECT}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public boolean save(SatelliteReport report) {
+        String key = report.name().toLowerCase();
+        if (!report.hasTimestamp()) {
+            untimed.put(key, report);
+            version.incrementAndGet();
+            return true;
+        }
+        long timestamp = report.timestamp();
+        if (timestamp < 0) {
+            throw new InvalidInputException("El instante del reporte no puede ser negativo: " + timestamp);
+        }
+
+        long start = Math.floorDiv(timestamp, windowMillis) * windowMillis;
+        long end = windowEnd(start, timestamp);
+        long mark;
+        lock.lock();
+        try {
+            mark = watermark;
+            if (end + allowedLatenessMillis > mark) {
+                Window window = windows.computeIfAbsent(start, Window::new);
+                window.reports.put(key, report);
+                version.incrementAndGet();
+                advance(timestamp - maxDelayMillis);
+                if (end <= watermark) {
+                    // Late but within the allowed lateness: the window fires again with the report
+                    fire(window);
+                }
+                openWindows = windows.size();
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        late.increment();
+        String message = "Reporte tardío de " + report.name() + ": la ventana [" + start + ", " + end
+                + ") ya se cerró (marca de agua " + mark + ")";
+        if (latePolicy == LatePolicy.REJECT) {
+            throw new InvalidInputException(message);
+        }
+        log.debug("{}; descartado", message);
+        return false;
+    }
+
+    /**
+     * Returns the reports to resolve: those of the latest fired window with at least three
+     * reports, or else the untimed reports.
+     * <p>
+     * Neither the windows nor the {@link SplitReportStore} implementations iterate in a useful
+     * order, so the reports are sorted by satellite name: the message merge, where the first
+     * report with a token wins, gives the same result whatever the storage.
+     * </p>
+     *
+     * @return a copy of the reports, by case-insensitive satellite name; may hold fewer than three
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public List<SatelliteReport> pending() {
+        if (ready != null) {
+            lock.lock();
+            try {
+                Window window = ready;
+                if (window != null) {
+                    List<SatelliteReport> reports = new ArrayList<>(window.reports.values());
+                    reports.sort(BY_NAME);
+                    return reports;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        List<SatelliteReport> reports = untimed.values();
+        reports.sort(BY_NAME);
+        return reports;
+    }
+
+    /**
+     * Removes resolved reports. A report saved again in the meantime is kept, so it takes
+     * part in the next resolution.
+     *
+     * @param processed reports returned by {@link #pending()}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void remove(List<SatelliteReport> processed) {
+        for (SatelliteReport report : processed) {
+            if (!report.hasTimestamp()) {
+                if (untimed.remove(report.name().toLowerCase(), report)) {
+                    version.incrementAndGet();
+                }
+                continue;
+            }
+            long start = Math.floorDiv(report.timestamp(), windowMillis) * windowMillis;
+            lock.lock();
+            try {
+                Window window = ready != null && ready.start == start ? ready : windows.get(start);
+                if (window != null && window.reports.remove(report.name().toLowerCase(), report)) {
+                    version.incrementAndGet();
+                }
+                if (ready != null && ready.reports.size() < JOIN_SIZE) {
+                    ready = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of stored reports, untimed and in open or ready windows.
+     *
+     * @return stored reports
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public int size() {
+        int size = untimed.size();
+        lock.lock();
+        try {
+            for (Window window : windows.values()) {
+                size += window.reports.size();
+            }
+            if (ready != null && windows.get(ready.start) != ready) {
+                size += ready.reports.size();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of reports {@link #pending()} would return, without copying them.
+     *
+     * @return reports of the ready window, or else untimed reports
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public int pendingSize() {
+        Window window = ready;
+        if (window != null) {
+            lock.lock();
+            try {
+                window = ready;
+                if (window != null) {
+                    return window.reports.size();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return untimed.size();
+    }
+
+    /**
+     * Returns the version of the stored reports. It moves forward on every save, removal and
+     * window firing, never backwards.
+     *
+     * @return the current version, {@code 0} for a store that never changed
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Returns the current watermark.
+     *
+     * @return epoch milliseconds, or {@link Long#MIN_VALUE} before the first timestamped report
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public long watermark() {
+        lock.lock();
+        try {
+            return watermark;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Publishes the window meters: open windows ({@code quasar.split.windows}), windows fired
+     * with enough reports ({@code quasar.split.windows.fired}) and late reports
+     * ({@code quasar.split.late}, tagged with the policy). With {@link Storage#OFF_HEAP}, also
+     * the native memory reserved for untimed reports ({@code quasar.split.store.reserved}).
+     *
+     * @param registry meter registry provided by actuator
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("quasar.split.windows", this, store -> store.openWindows)
+                .description("Ventanas de tiempo de evento abiertas en el estado split")
+                .register(registry);
+        FunctionCounter.builder("quasar.split.windows.fired", fired, LongAdder::sum)
+                .description("Ventanas cerradas por la marca de agua con reportes suficientes")
+                .register(registry);
+        FunctionCounter.builder("quasar.split.late", late, LongAdder::sum)
+                .description("Reportes llegados después de cerrar su ventana")
+                .tag("policy", latePolicy.name().toLowerCase())
+                .register(registry);
+        if (storage == Storage.OFF_HEAP) {
+            Gauge.builder("quasar.split.store.reserved", untimed, SplitReportStore::reservedBytes)
+                    .description("Memoria nativa reservada para los reportes split sin instante")
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Releases the untimed reports store; native memory is freed with it.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public void close() {
+        untimed.close();
+    }
+
+    /**
+     * Returns the end of the window starting at {@code start}, checking that the window and its
+     * allowed lateness end before {@link Long#MAX_VALUE}, so the end never wraps around and makes
+     * the window look closed.
+     */
+    private long windowEnd(long start, long timestamp) {
+        try {
+            long end = Math.addExact(start, windowMillis);
+            Math.addExact(end, allowedLatenessMillis);
+            return end;
+        } catch (ArithmeticException ex) {
+            throw new InvalidInputException("El instante del reporte no admite una ventana completa: " + timestamp);
+        }
+    }
+
+    /**
+     * Moves the watermark forward, fires the windows it closes and evicts those past the
+     * allowed lateness. Called with the lock held.
+     */
+    private void advance(long candidate) {
+        if (candidate <= watermark) {
+            return;
+        }
+        watermark = candidate;
+        Iterator<Window> iterator = windows.values().iterator();
+        while (iterator.hasNext()) {
+            Window window = iterator.next();
+            long end = window.start + windowMillis;
+            if (end > watermark) {
+                break;
+            }
+            if (!window.fired) {
+                fire(window);
+            }
+            if (end + allowedLatenessMillis <= watermark) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Marks a window as fired and makes it the ready one if it can be resolved and is not
+     * older than the current one. Called with the lock held.
+     */
+    private void fire(Window window) {
+        window.fired = true;
+        if (window.reports.size() >= JOIN_SIZE && (ready == null || ready.start <= window.start)) {
+            ready = window;
+            fired.increment();
+            version.incrementAndGet();
+            if (log.isDebugEnabled()) {
+                log.debug("Ventana [{}, {}) cerrada con {} reportes (marca de agua {})",
+                        window.start, window.start + windowMillis, window.reports.size(), watermark);
+            }
+        }
+    }
+
+    /**
+     * Reports of one event-time window, by lower-case satellite name.
+     */
+    private static final class Window {
+        final long start;
+        final Map<String, SatelliteReport> reports = new HashMap<>();
+        boolean fired;
+
+        Window(long start) {
+            this.start = start;
+        }
+    }
+}
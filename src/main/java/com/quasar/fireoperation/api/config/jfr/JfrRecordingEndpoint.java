@@ -0,0 +1,204 @@
+package com.quasar.fireoperation.api.config.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Actuator endpoint ({@code /actuator/jfr}) controlling a Java Flight Recorder recording.
+ * <p>
+ * {@code POST} starts a recording with a JDK settings file ({@code default} or
+ * {@code profile}), {@code DELETE} stops it and {@code GET} downloads it as a {@code .jfr}
+ * file: the data recorded so far while it runs, or the whole recording once stopped. Only
+ * one recording is managed at a time; starting a new one discards the previous. The
+ * recording includes the {@code com.quasar.*} events of this package.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@Slf4j
+public class JfrRecordingEndpoint {
+
+    private static final String RECORDING_NAME = "quasar-actuator";
+    private static final String DEFAULT_SETTINGS = "default";
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(15);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+    private String recordingSettings;
+
+    /**
+     * State of the managed recording.
+     *
+     * @param name      recording name
+     * @param state     JFR recording state
+     * @param settings  settings file the recording was started with
+     * @param startTime start instant, {@code null} if it never started
+     * @param stopTime  stop instant, {@code null} while running
+     * @param size      bytes written to the disk repository so far
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public record RecordingStatus(String name, RecordingState state, String settings,
+                                  Instant startTime, Instant stopTime, long size) {
+    }
+
+    /**
+     * Starts a new recording, closing any previous one.
+     *
+     * @param settings      JDK settings name ({@code default}, {@code profile}); defaults to {@code default}
+     * @param maxAgeSeconds how long recorded data is kept; defaults to 15 minutes
+     * @return status of the started recording, or 400 if the settings are unknown
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @WriteOperation
+    public WebEndpointResponse<RecordingStatus> start(@Nullable String settings, @Nullable Long maxAgeSeconds) {
+        String settingsName = settings != null ? settings : DEFAULT_SETTINGS;
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settingsName);
+        } catch (IOException | ParseException ex) {
+            log.warn("Configuración JFR desconocida: {}", settingsName);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        lock.lock();
+        try {
+            if (recording != null) {
+                recording.close();
+            }
+            Recording started = new Recording(configuration);
+            started.setName(RECORDING_NAME);
+            started.setToDisk(true);
+            started.setMaxAge(maxAgeSeconds != null ? Duration.ofSeconds(maxAgeSeconds) : DEFAULT_MAX_AGE);
+            started.start();
+            recording = started;
+            recordingSettings = settingsName;
+            log.info("Grabación JFR iniciada con la configuración '{}'", settingsName);
+            return new WebEndpointResponse<>(status());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the running recording; its data stays available for download.
+     *
+     * @return status of the stopped recording, or 404 if no recording is running
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @DeleteOperation
+    public WebEndpointResponse<RecordingStatus> stop() {
+        lock.lock();
+        try {
+            if (recording == null || recording.getState() != RecordingState.RUNNING) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            recording.stop();
+            log.info("Grabación JFR detenida ({} bytes)", recording.getSize());
+            return new WebEndpointResponse<>(status());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Dumps the managed recording to a temporary {@code .jfr} file, deleted once downloaded.
+     *
+     * @return the recording file, or 404 if there is none
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download() {
+        lock.lock();
+        try {
+            if (recording == null || recording.getState() == RecordingState.NEW) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            Path file = Files.createTempFile("quasar-", ".jfr");
+            recording.dump(file);
+            return new WebEndpointResponse<>(new TemporaryFileResource(file));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo volcar la grabación JFR", ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private RecordingStatus status() {
+        return new RecordingStatus(recording.getName(), recording.getState(), recordingSettings,
+                recording.getStartTime(), recording.getStopTime(), recording.getSize());
+    }
+
+    /**
+     * File resource deleted when its content has been read, so dumps do not pile up in the
+     * temporary directory.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        private final Path path;
+
+        TemporaryFileResource(Path path) {
+            super(path);
+            this.path = path;
+        }
+
+        @Override
+        public boolean isFile() {
+            // Fuerza la lectura por stream para poder borrar el fichero al cerrarlo
+            return false;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(path);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return Channels.newChannel(getInputStream());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.quasar.fireoperation.api.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted for every message merge.
+ * <p>
+ * Used like {@link TrilaterationEvent}: fields are only filled when {@code shouldCommit()}
+ * is {@code true}.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Name(MessageMergeEvent.NAME)
+@Label("Message Merge")
+@Category({"Quasar", "Pipeline"})
+@Description("Reconstrucción del mensaje a partir de los fragmentos de los satélites")
+@StackTrace(false)
+public final class MessageMergeEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.quasar.MessageMerge";
+
+    @Label("Fragments")
+    @Description("Número de fragmentos (uno por satélite)")
+    int fragments;
+
+    @Label("Positions")
+    @Description("Longitud del fragmento más largo")
+    int positions;
+
+    @Label("Tokens")
+    @Description("Palabras del mensaje reconstruido")
+    int tokens;
+
+    @Label("Message Length")
+    int messageLength;
+
+    /**
+     * Fills the merge figures.
+     *
+     * @param fragments     number of fragments merged
+     * @param positions     length of the longest fragment
+     * @param tokens        words in the merged message
+     * @param messageLength characters in the merged message
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void merged(int fragments, int positions, int tokens, int messageLength) {
+        this.fragments = fragments;
+        this.positions = positions;
+        this.tokens = tokens;
+        this.messageLength = messageLength;
+    }
+}
@@ -0,0 +1,62 @@
+package com.quasar.fireoperation.api.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted when the split state changes: a satellite report is saved, or the
+ * processed reports are cleared after a successful resolution.
+ * <p>
+ * Used like {@link TrilaterationEvent}: fields are only filled when {@code shouldCommit()}
+ * is {@code true}.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Name(SplitStateEvent.NAME)
+@Label("Split State Transition")
+@Category({"Quasar", "Split"})
+@Description("Cambio del estado de /top-secret-split")
+@StackTrace(false)
+public final class SplitStateEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.quasar.SplitState";
+    public static final String SAVED = "SAVED";
+    public static final String CLEARED = "CLEARED";
+
+    @Label("Transition")
+    String transition;
+
+    @Label("Satellite")
+    @Description("Satélite guardado; vacío al limpiar")
+    String satellite;
+
+    @Label("Stored Reports")
+    @Description("Reportes en el estado tras la transición")
+    int stored;
+
+    @Label("Version")
+    long version;
+
+    /**
+     * Fills the transition.
+     *
+     * @param transition {@link #SAVED} or {@link #CLEARED}
+     * @param satellite  saved satellite, or {@code null} when clearing
+     * @param stored     reports stored after the transition
+     * @param version    split state version after the transition
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void transition(String transition, String satellite, int stored, long version) {
+        this.transition = transition;
+        this.satellite = satellite;
+        this.stored = stored;
+        this.version = version;
+    }
+}
@@ -0,0 +1,120 @@
+package com.quasar.fireoperation.api.config.jfr;
+
+import com.quasar.fireoperation.api.provider.solver.SolverProgress;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted for every trilateration solve.
+ * <p>
+ * Callers create the event, call {@code begin()} before solving and {@code end()} after, and
+ * only fill the fields and {@code commit()} when {@code shouldCommit()} is {@code true}. With
+ * no recording running that check is a constant the JIT folds away, together with the event
+ * allocation. Stack traces are disabled to keep the commit cheap while recording.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Name(TrilaterationEvent.NAME)
+@Label("Trilateration Solve")
+@Category({"Quasar", "Pipeline"})
+@Description("Resolución de la posición a partir de las tres distancias")
+@StackTrace(false)
+public final class TrilaterationEvent extends jdk.jfr.Event implements SolverProgress {
+
+    public static final String NAME = "com.quasar.Trilateration";
+
+    @Label("Strategy")
+    @Description("Estrategia de trilateración que resolvió la posición")
+    String strategy;
+
+    @Label("Kenobi Distance")
+    float kenobiDistance;
+
+    @Label("Skywalker Distance")
+    float skywalkerDistance;
+
+    @Label("Sato Distance")
+    float satoDistance;
+
+    @Label("Iterations")
+    @Description("Iteraciones del solver (1 para las resoluciones cerradas)")
+    int iterations;
+
+    @Label("Determinant")
+    float determinant;
+
+    @Label("Solved")
+    boolean solved;
+
+    @Label("X")
+    float x;
+
+    @Label("Y")
+    float y;
+
+    @Label("Failure")
+    String failure;
+
+    /**
+     * Fills the inputs of the solve.
+     *
+     * @param strategy identifier of the solver strategy
+     * @param d1 distance to kenobi
+     * @param d2 distance to skywalker
+     * @param d3 distance to sato
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void inputs(String strategy, float d1, float d2, float d3) {
+        this.strategy = strategy;
+        this.kenobiDistance = d1;
+        this.skywalkerDistance = d2;
+        this.satoDistance = d3;
+    }
+
+    /**
+     * Fills the solver progress, known even when the solve fails.
+     *
+     * @param iterations  solver iterations performed
+     * @param determinant determinant of the linear system
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public void progress(int iterations, float determinant) {
+        this.iterations = iterations;
+        this.determinant = determinant;
+    }
+
+    /**
+     * Marks the solve as successful.
+     *
+     * @param x resolved x coordinate
+     * @param y resolved y coordinate
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void solved(float x, float y) {
+        this.solved = true;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Marks the solve as failed.
+     *
+     * @param failure failure message
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void failed(String failure) {
+        this.solved = false;
+        this.failure = failure;
+    }
+}
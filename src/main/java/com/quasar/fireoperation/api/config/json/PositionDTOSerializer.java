@@ -0,0 +1,33 @@
+package com.quasar.fireoperation.api.config.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.quasar.fireoperation.api.domain.general.PositionDTO;
+
+import java.io.IOException;
+
+/**
+ * Streaming serializer for {@link PositionDTO}: {@code {"x":..,"y":..}}.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+final class PositionDTOSerializer extends StdSerializer<PositionDTO> {
+
+    static final String X = "x";
+    static final String Y = "y";
+
+    PositionDTOSerializer() {
+        super(PositionDTO.class);
+    }
+
+    @Override
+    public void serialize(PositionDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeNumberField(X, value.getX());
+        gen.writeNumberField(Y, value.getY());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,47 @@
+package com.quasar.fireoperation.api.config.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
+import com.quasar.fireoperation.api.domain.general.PositionDTO;
+import com.quasar.fireoperation.api.domain.general.ResponseDTO;
+import com.quasar.fireoperation.api.domain.general.SatelliteDTO;
+import com.quasar.fireoperation.api.domain.general.TopSecretRequestDTO;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jackson module with hand-written codecs for the hot-path DTOs.
+ * <p>
+ * Default databinding resolves bean properties through reflection and per-property
+ * serializers; these codecs stream the known fields straight to the {@code JsonGenerator}
+ * and read them straight from the {@code JsonParser}. Spring Boot registers every
+ * {@code Module} bean in the shared {@code ObjectMapper}, so both the MVC and WebFlux
+ * adapters use them.
+ * </p>
+ * <p>
+ * The JSON shape is the one of default databinding and of the OpenAPI schemas springdoc
+ * derives from the DTO classes: same property names, {@code null} values written, unknown
+ * properties handled according to {@code FAIL_ON_UNKNOWN_PROPERTIES}.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Component
+public class QuasarJsonModule extends SimpleModule {
+
+    /**
+     * Creates the module and registers the DTO codecs.
+     *
+     * @param metrics pipeline meters the request deserializer records its timing in
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public QuasarJsonModule(PipelineMetrics metrics) {
+        super("QuasarJsonModule");
+        addSerializer(PositionDTO.class, new PositionDTOSerializer());
+        addSerializer(ResponseDTO.class, new ResponseDTOSerializer());
+        addDeserializer(SatelliteDTO.class, new SatelliteDTODeserializer());
+        addDeserializer(TopSecretRequestDTO.class, new TopSecretRequestDTODeserializer(metrics));
+    }
+}
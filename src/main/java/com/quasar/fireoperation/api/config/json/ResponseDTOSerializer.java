@@ -0,0 +1,64 @@
+package com.quasar.fireoperation.api.config.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.quasar.fireoperation.api.domain.general.PositionDTO;
+import com.quasar.fireoperation.api.domain.general.ResponseDTO;
+import com.quasar.fireoperation.api.domain.general.UncertaintyDTO;
+
+import java.io.IOException;
+
+/**
+ * Streaming serializer for {@link ResponseDTO}: {@code {"position":{..},"message":".."}}.
+ * The position is written inline, without a serializer lookup. The uncertainty, only present
+ * when requested, is written after the message and omitted when {@code null}, as its
+ * {@code @JsonInclude} asks.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+final class ResponseDTOSerializer extends StdSerializer<ResponseDTO> {
+
+    static final String POSITION = "position";
+    static final String MESSAGE = "message";
+    static final String UNCERTAINTY = "uncertainty";
+
+    private final PositionDTOSerializer positionSerializer = new PositionDTOSerializer();
+
+    ResponseDTOSerializer() {
+        super(ResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(ResponseDTO value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(POSITION);
+        PositionDTO position = value.getPosition();
+        if (position == null) {
+            gen.writeNull();
+        } else {
+            positionSerializer.serialize(position, gen, provider);
+        }
+        gen.writeStringField(MESSAGE, value.getMessage());
+        UncertaintyDTO uncertainty = value.getUncertainty();
+        if (uncertainty != null) {
+            writeUncertainty(uncertainty, gen);
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeUncertainty(UncertaintyDTO uncertainty, JsonGenerator gen) throws IOException {
+        gen.writeObjectFieldStart(UNCERTAINTY);
+        gen.writeNumberField("sigmaX", uncertainty.getSigmaX());
+        gen.writeNumberField("sigmaY", uncertainty.getSigmaY());
+        gen.writeNumberField("covarianceXY", uncertainty.getCovarianceXY());
+        gen.writeNumberField("semiMajor", uncertainty.getSemiMajor());
+        gen.writeNumberField("semiMinor", uncertainty.getSemiMinor());
+        gen.writeNumberField("orientation", uncertainty.getOrientation());
+        gen.writeNumberField("confidence", uncertainty.getConfidence());
+        gen.writeNumberField("samples", uncertainty.getSamples());
+        gen.writeEndObject();
+    }
+}
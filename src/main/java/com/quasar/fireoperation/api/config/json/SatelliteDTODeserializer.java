@@ -0,0 +1,100 @@
+package com.quasar.fireoperation.api.config.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.quasar.fireoperation.api.domain.general.SatelliteDTO;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming deserializer for {@link SatelliteDTO}.
+ * <p>
+ * The common tokens (strings, numbers, arrays of strings) are read directly; anything
+ * else is delegated to the context so coercion rules and error messages stay those of
+ * default databinding.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+final class SatelliteDTODeserializer extends StdDeserializer<SatelliteDTO> {
+
+    static final String NAME = "name";
+    static final String DISTANCE = "distance";
+    static final String MESSAGE = "message";
+    static final String TIMESTAMP = "timestamp";
+
+    SatelliteDTODeserializer() {
+        super(SatelliteDTO.class);
+    }
+
+    @Override
+    public SatelliteDTO deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (SatelliteDTO) ctxt.handleUnexpectedToken(SatelliteDTO.class, p);
+        }
+
+        SatelliteDTO satellite = new SatelliteDTO();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case NAME -> satellite.setName(readString(p, ctxt));
+                case DISTANCE -> satellite.setDistance(readFloat(p, ctxt));
+                case MESSAGE -> satellite.setMessage(readStrings(p, ctxt));
+                case TIMESTAMP -> satellite.setTimestamp(readLong(p, ctxt));
+                default -> ctxt.handleUnknownProperty(p, this, SatelliteDTO.class, field);
+            }
+        }
+        return satellite;
+    }
+
+    static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return switch (p.currentToken()) {
+            case VALUE_STRING -> p.getText();
+            case VALUE_NULL -> null;
+            default -> ctxt.readValue(p, String.class);
+        };
+    }
+
+    static float readFloat(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return switch (p.currentToken()) {
+            case VALUE_NUMBER_FLOAT, VALUE_NUMBER_INT -> p.getFloatValue();
+            case VALUE_NULL -> 0f;
+            default -> ctxt.readValue(p, Float.TYPE);
+        };
+    }
+
+    static Long readLong(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return switch (p.currentToken()) {
+            case VALUE_NUMBER_INT -> p.getLongValue();
+            case VALUE_NULL -> null;
+            default -> ctxt.readValue(p, Long.class);
+        };
+    }
+
+    static List<String> readStrings(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            JavaType listType = ctxt.getTypeFactory().constructCollectionType(List.class, String.class);
+            return ctxt.readValue(p, listType);
+        }
+        List<String> words = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            words.add(readString(p, ctxt));
+        }
+        return words;
+    }
+}
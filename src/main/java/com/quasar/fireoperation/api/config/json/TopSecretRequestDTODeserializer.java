@@ -0,0 +1,84 @@
+package com.quasar.fireoperation.api.config.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
+import com.quasar.fireoperation.api.domain.general.SatelliteDTO;
+import com.quasar.fireoperation.api.domain.general.TopSecretRequestDTO;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming deserializer for {@link TopSecretRequestDTO}. Satellites are read with
+ * {@link SatelliteDTODeserializer} directly, without a deserializer lookup per element.
+ * The time spent reading each body is recorded as the {@code json.binding} stage of
+ * {@link PipelineMetrics}.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+final class TopSecretRequestDTODeserializer extends StdDeserializer<TopSecretRequestDTO> {
+
+    static final String SATELLITES = "satellites";
+
+    private final SatelliteDTODeserializer satelliteDeserializer = new SatelliteDTODeserializer();
+    private final transient PipelineMetrics metrics;
+
+    TopSecretRequestDTODeserializer(PipelineMetrics metrics) {
+        super(TopSecretRequestDTO.class);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public TopSecretRequestDTO deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return read(p, ctxt);
+        } finally {
+            metrics.recordJsonBinding(System.nanoTime() - start);
+        }
+    }
+
+    private TopSecretRequestDTO read(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (TopSecretRequestDTO) ctxt.handleUnexpectedToken(TopSecretRequestDTO.class, p);
+        }
+
+        TopSecretRequestDTO request = new TopSecretRequestDTO();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            p.nextToken();
+            if (SATELLITES.equals(field)) {
+                request.setSatellites(readSatellites(p, ctxt));
+            } else {
+                ctxt.handleUnknownProperty(p, this, TopSecretRequestDTO.class, field);
+            }
+        }
+        return request;
+    }
+
+    private List<SatelliteDTO> readSatellites(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            JavaType listType = ctxt.getTypeFactory().constructCollectionType(List.class, SatelliteDTO.class);
+            return ctxt.readValue(p, listType);
+        }
+        List<SatelliteDTO> satellites = new ArrayList<>(3);
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            satellites.add(token == JsonToken.VALUE_NULL ? null : satelliteDeserializer.deserialize(p, ctxt));
+        }
+        return satellites;
+    }
+}
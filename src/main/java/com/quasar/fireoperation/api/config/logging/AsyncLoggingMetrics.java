@@ -0,0 +1,77 @@
+package com.quasar.fireoperation.api.config.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * Publishes the state of every {@link BatchingAsyncAppender} attached to the root logger
+ * through Micrometer, so it is visible under {@code /actuator/metrics}.
+ * <p>
+ * Meters: {@code quasar.logging.async.queue.depth}, {@code quasar.logging.async.queue.capacity}
+ * and {@code quasar.logging.async.dropped} (tagged {@code level=debug|other}), all tagged with
+ * the appender name.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Component
+@Slf4j
+public class AsyncLoggingMetrics implements MeterBinder {
+
+    /**
+     * Registers the async appender meters in the given registry.
+     *
+     * @param registry meter registry provided by actuator
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        if (!(factory instanceof LoggerContext context)) {
+            log.debug("Logback no es el backend de logging activo; métricas de log asíncrono omitidas");
+            return;
+        }
+        Iterator<Appender<ILoggingEvent>> iterator = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof BatchingAsyncAppender appender) {
+                bindAppender(registry, appender);
+            }
+        }
+    }
+
+    private void bindAppender(MeterRegistry registry, BatchingAsyncAppender appender) {
+        String name = appender.getName() != null ? appender.getName() : "async";
+        Gauge.builder("quasar.logging.async.queue.depth", appender, BatchingAsyncAppender::getQueueDepth)
+                .description("Eventos de log pendientes de escribir")
+                .tag("appender", name)
+                .register(registry);
+        Gauge.builder("quasar.logging.async.queue.capacity", appender, BatchingAsyncAppender::getQueueCapacity)
+                .description("Capacidad de la cola de log asíncrona")
+                .tag("appender", name)
+                .register(registry);
+        FunctionCounter.builder("quasar.logging.async.dropped", appender, BatchingAsyncAppender::getDroppedDebug)
+                .description("Eventos de log descartados por cola llena")
+                .tags("appender", name, "level", "debug")
+                .register(registry);
+        FunctionCounter.builder("quasar.logging.async.dropped", appender, BatchingAsyncAppender::getDroppedOther)
+                .description("Eventos de log descartados por cola llena")
+                .tags("appender", name, "level", "other")
+                .register(registry);
+        log.debug("Métricas registradas para el appender asíncrono {}", name);
+    }
+}
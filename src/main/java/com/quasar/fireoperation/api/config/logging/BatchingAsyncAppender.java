@@ -0,0 +1,291 @@
+package com.quasar.fireoperation.api.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous Logback appender that decouples request threads from file I/O.
+ * <p>
+ * Logging threads only enqueue events into a {@link BoundedMpscQueue}; a single writer
+ * thread drains it in batches, forwards them to the attached appenders and flushes
+ * output streams once per batch (attached file appenders are expected to run with
+ * {@code immediateFlush=false}). File rotation therefore happens on the writer thread.
+ * </p>
+ * <p>
+ * When the queue is full the {@link OverflowPolicy} decides what happens: wait for room,
+ * drop DEBUG/TRACE events only, or drop every event. Dropped events are counted and,
+ * together with the queue depth, published as metrics by {@link AsyncLoggingMetrics}.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public class BatchingAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    /**
+     * Behaviour of the appender when the queue is full.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public enum OverflowPolicy {
+        /** Caller waits until the writer frees a slot. */
+        BLOCK,
+        /** DEBUG and TRACE events are dropped; INFO and above wait for room. */
+        DROP_DEBUG,
+        /** Every event that does not fit is dropped; callers never wait. */
+        DROP_ALL
+    }
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder droppedDebug = new LongAdder();
+    private final LongAdder droppedOther = new LongAdder();
+
+    private int queueSize = 8192;
+    private int batchSize = 256;
+    private int maxFlushTime = 1000;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_DEBUG;
+
+    private BoundedMpscQueue<ILoggingEvent> queue;
+    private volatile Thread writer;
+    private volatile boolean running;
+    private volatile boolean writerIdle;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No hay appenders asociados a [" + name + "]");
+            return;
+        }
+        queue = new BoundedMpscQueue<>(queueSize);
+        running = true;
+        Thread thread = new Thread(this::drainLoop, "quasar-log-writer-" + name);
+        thread.setDaemon(true);
+        writer = thread;
+        super.start();
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        Thread thread = writer;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(maxFlushTime);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            addWarn("El escritor de logs no vació la cola en " + maxFlushTime + " ms; "
+                    + queue.size() + " eventos descartados");
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // Congela MDC, mensaje y nombre del hilo antes de cruzar al hilo escritor
+        event.prepareForDeferredProcessing();
+        if (queue.offer(event)) {
+            wakeWriter();
+            return;
+        }
+        boolean debug = event.getLevel().toInt() <= Level.DEBUG_INT;
+        if (overflowPolicy == OverflowPolicy.DROP_ALL || (overflowPolicy == OverflowPolicy.DROP_DEBUG && debug)) {
+            countDrop(debug);
+            return;
+        }
+        while (!queue.offer(event)) {
+            if (!running) {
+                countDrop(debug);
+                return;
+            }
+            wakeWriter();
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        wakeWriter();
+    }
+
+    /**
+     * Writer thread body: drains batches until the appender is stopped and the queue is empty.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private void drainLoop() {
+        while (true) {
+            int written = 0;
+            ILoggingEvent event;
+            while (written < batchSize && (event = queue.poll()) != null) {
+                appenders.appendLoopOnAppenders(event);
+                written++;
+            }
+            if (written > 0) {
+                flushAppenders();
+                continue;
+            }
+            if (!running) {
+                break;
+            }
+            writerIdle = true;
+            if (queue.size() == 0) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            writerIdle = false;
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    private void flushAppenders() {
+        Iterator<Appender<ILoggingEvent>> iterator = appenders.iteratorForAppenders();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof OutputStreamAppender<ILoggingEvent> streamAppender) {
+                OutputStream stream = streamAppender.getOutputStream();
+                if (stream != null) {
+                    try {
+                        stream.flush();
+                    } catch (IOException ex) {
+                        addError("Error al volcar el lote de logs en [" + streamAppender.getName() + "]", ex);
+                    }
+                }
+            }
+        }
+    }
+
+    private void wakeWriter() {
+        if (writerIdle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void countDrop(boolean debug) {
+        if (debug) {
+            droppedDebug.increment();
+        } else {
+            droppedOther.increment();
+        }
+    }
+
+    /**
+     * Returns the number of events waiting to be written.
+     *
+     * @return current queue depth
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public int getQueueDepth() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    /**
+     * Returns the effective queue capacity.
+     *
+     * @return capacity once started, otherwise the configured size
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public int getQueueCapacity() {
+        return queue != null ? queue.capacity() : queueSize;
+    }
+
+    /**
+     * Returns the number of dropped DEBUG and TRACE events.
+     *
+     * @return dropped debug event count
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public long getDroppedDebug() {
+        return droppedDebug.sum();
+    }
+
+    /**
+     * Returns the number of dropped INFO, WARN and ERROR events.
+     *
+     * @return dropped non-debug event count
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public long getDroppedOther() {
+        return droppedOther.sum();
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String appenderName) {
+        return appenders.getAppender(appenderName);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String appenderName) {
+        return appenders.detachAppender(appenderName);
+    }
+}
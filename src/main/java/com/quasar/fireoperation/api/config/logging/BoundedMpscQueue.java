@@ -0,0 +1,121 @@
+package com.quasar.fireoperation.api.config.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer / single-consumer queue.
+ * <p>
+ * Array-based ring with a sequence number per slot: producers claim a slot with a CAS
+ * on the tail and publish it by advancing the slot sequence, so {@link #offer(Object)}
+ * never takes a lock and fails fast when the ring is full. Only one thread may call
+ * {@link #poll()}.
+ * </p>
+ *
+ * @param <E> element type
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+final class BoundedMpscQueue<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Creates a queue able to hold at least {@code capacity} elements.
+     *
+     * @param capacity requested capacity, rounded up to the next power of two (minimum 2)
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    BoundedMpscQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("La capacidad de la cola debe ser positiva");
+        }
+        // Con una sola ranura el número de secuencia "publicado" coincide con "libre"
+        int size = 2;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Inserts an element if there is room.
+     *
+     * @param element element to insert, never {@code null}
+     * @return {@code false} if the queue is full
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            // Otro productor reclamó la posición: reintentar con la nueva cola
+        }
+    }
+
+    /**
+     * Removes the oldest published element. Must only be called from the consumer thread.
+     *
+     * @return the element, or {@code null} if none is available
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    E poll() {
+        long position = head.get();
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = buffer.get(index);
+        buffer.set(index, null);
+        sequences.set(index, position + mask + 1);
+        head.set(position + 1);
+        return element;
+    }
+
+    /**
+     * Returns an estimate of the number of queued elements.
+     *
+     * @return queued elements, between 0 and {@link #capacity()}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.clamp(size, 0, capacity());
+    }
+
+    /**
+     * Returns the effective capacity of the ring.
+     *
+     * @return capacity (a power of two)
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
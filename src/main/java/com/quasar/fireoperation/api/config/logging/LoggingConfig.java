@@ -28,7 +28,7 @@ public class LoggingConfig {
     /**
      * Event listener that executes when the application is fully started and ready.
      * Logs important application information including active profiles, server port,
-     * and available endpoints.
+     * request threading model and available endpoints.
      *
      * @since 2025
      * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
@@ -38,10 +38,12 @@ public class LoggingConfig {
         String contextPath = environment.getProperty("server.servlet.context-path", "");
         String port = environment.getProperty("server.port", "8080");
         String[] activeProfiles = environment.getActiveProfiles();
+        boolean virtualThreads = Boolean.parseBoolean(environment.getProperty("spring.threads.virtual.enabled", "false"));
 
         log.info("========== QUASAR FIRE OPERATION API - SISTEMA LISTO ==========");
         log.info("Servidor ejecutándose en: http://localhost:{}{}", port, contextPath);
         log.info("Perfiles activos: {}", activeProfiles.length > 0 ? String.join(", ", activeProfiles) : "default");
+        log.info("Modelo de hilos para peticiones: {}", virtualThreads ? "hilos virtuales" : "pool de hilos de plataforma");
         log.info("Endpoints disponibles:");
         log.info("POST {}/top-secret - Procesamiento simultáneo de 3 satélites", contextPath);
         log.info("POST {}/top-secret-split/{{satellite}} - Procesamiento individual", contextPath);
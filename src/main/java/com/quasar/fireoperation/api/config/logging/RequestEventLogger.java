@@ -0,0 +1,151 @@
+package com.quasar.fireoperation.api.config.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sampled, rate-limited structured events for the request hot path.
+ * <p>
+ * Replaces the per-request INFO logs of the REST adapters. Each event is a single
+ * {@code key=value} line, emitted for one out of every {@code sample-every} requests and
+ * for at most {@code max-per-second} events per second; suppressed events are counted
+ * and reported on the next emitted line.
+ * </p>
+ * <p>
+ * Logging budget per request: when INFO is off, or the event is not sampled, the call
+ * allocates nothing (primitive parameters, no varargs) and costs one level check plus at
+ * most two atomic operations. A sampled event costs one log line (a few hundred bytes of
+ * garbage and a few microseconds with the synchronous appender). Detailed per-stage data
+ * lives at DEBUG/TRACE behind explicit level guards.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Component
+@Slf4j
+public class RequestEventLogger {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private final int sampleEvery;
+    private final int maxPerSecond;
+    private final AtomicLong sequence = new AtomicLong();
+    /** Current second (low 32 bits of it) in the high half, events emitted in it in the low half. */
+    private final AtomicLong window = new AtomicLong((System.nanoTime() / NANOS_PER_SECOND - 1) << 32);
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * Creates the event logger.
+     *
+     * @param sampleEvery  emit one event out of this many requests (1 = every request)
+     * @param maxPerSecond upper bound of emitted events per second
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public RequestEventLogger(@Value("${quasar.logging.events.sample-every:1}") int sampleEvery,
+                              @Value("${quasar.logging.events.max-per-second:100}") int maxPerSecond) {
+        this.sampleEvery = Math.max(1, sampleEvery);
+        this.maxPerSecond = Math.max(0, maxPerSecond);
+    }
+
+    /**
+     * Records that a request resolved a position.
+     *
+     * @param endpoint endpoint that served the request
+     * @param x        resolved x coordinate
+     * @param y        resolved y coordinate
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void positionResolved(String endpoint, float x, float y) {
+        if (tryAcquire()) {
+            log.info("evento=posicion_resuelta endpoint={} x={} y={} suprimidos={}",
+                    endpoint, x, y, suppressed.sumThenReset());
+        }
+    }
+
+    /**
+     * Records that a satellite report was stored for the split flow.
+     *
+     * @param satelliteName name of the reporting satellite
+     * @param distance      reported distance
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void satelliteSaved(String satelliteName, float distance) {
+        if (tryAcquire()) {
+            log.info("evento=satelite_guardado satelite={} distancia={} suprimidos={}",
+                    satelliteName, distance, suppressed.sumThenReset());
+        }
+    }
+
+    /**
+     * Decides whether the current event is emitted, applying level check, sampling
+     * and the per-second rate limit in that order.
+     *
+     * @return {@code true} if the caller should emit the event
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    boolean tryAcquire() {
+        if (!log.isInfoEnabled()) {
+            return false;
+        }
+        if (sampleEvery > 1 && sequence.getAndIncrement() % sampleEvery != 0) {
+            suppressed.increment();
+            return false;
+        }
+        if (!tryAcquirePermit(System.nanoTime() / NANOS_PER_SECOND)) {
+            suppressed.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Takes one of the {@code max-per-second} permits of the given second.
+     * <p>
+     * Second and count share one atomic value, so moving to a new second and taking its
+     * first permit is a single CAS: no thread can reset a count another thread already
+     * incremented. An event of a second older than the current one, from a thread delayed
+     * between reading the clock and this call, takes a permit of the current second.
+     * </p>
+     *
+     * @param second second the event belongs to
+     * @return {@code true} if a permit was left in that second
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    boolean tryAcquirePermit(long second) {
+        while (true) {
+            long current = window.get();
+            boolean newSecond = (int) second - (int) (current >>> 32) > 0;
+            long count = newSecond ? 0 : current & COUNT_MASK;
+            if (count >= maxPerSecond) {
+                return false;
+            }
+            long next = newSecond ? second << 32 | 1 : current + 1;
+            if (window.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of events suppressed since the last emitted one.
+     *
+     * @return suppressed event count
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    long getSuppressed() {
+        return suppressed.sum();
+    }
+}
@@ -0,0 +1,183 @@
+package com.quasar.fireoperation.api.config.metrics;
+
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters of the request pipeline.
+ * <p>
+ * Every stage has its own {@code quasar.pipeline.stage} timer (tag {@code stage}) and every
+ * resolution outcome its own {@code quasar.pipeline.outcome} counter (tag {@code outcome}).
+ * Timers publish a percentile histogram for registries that aggregate it (e.g. Prometheus).
+ * Client-side percentiles are not enabled here: they roughly double the recording cost of
+ * a timer, so they are opt-in through
+ * {@code management.metrics.distribution.percentiles.quasar.pipeline.stage}.
+ * </p>
+ * <p>
+ * Meters are registered once in the constructor and kept in fields, so recording is a plain
+ * call on the meter: no registry lookup and no tag array per request. Callers measure with
+ * {@link System#nanoTime()} and pass the elapsed nanoseconds.
+ * </p>
+ * <p>
+ * Histogram buckets span 1 µs to 1 s: the solver and the merge run in microseconds, far
+ * below the default timer range.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class PipelineMetrics {
+
+    public static final String STAGE_TIMER = "quasar.pipeline.stage";
+    public static final String OUTCOME_COUNTER = "quasar.pipeline.outcome";
+
+    private static final Duration MIN_EXPECTED = Duration.ofNanos(1_000);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(1);
+
+    Timer jsonBinding;
+    Timer location;
+    Timer message;
+    Timer splitSave;
+    Timer splitClear;
+    Counter success;
+    Counter locationFailure;
+    Counter partial;
+    Counter messageFailure;
+    Counter badRequest;
+
+    /**
+     * Registers the pipeline meters.
+     *
+     * @param registry meter registry provided by actuator
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public PipelineMetrics(MeterRegistry registry) {
+        this.jsonBinding = stage(registry, "json.binding", "Lectura del cuerpo JSON de /top-secret");
+        this.location = stage(registry, "location", "Cálculo de la posición por trilateración");
+        this.message = stage(registry, "message", "Reconstrucción del mensaje");
+        this.splitSave = stage(registry, "split.save", "Registro de un satélite en el estado split");
+        this.splitClear = stage(registry, "split.clear", "Limpieza del estado split tras resolverlo");
+        this.success = outcome(registry, "success");
+        this.locationFailure = outcome(registry, "location_failure");
+        this.partial = outcome(registry, "partial");
+        this.messageFailure = outcome(registry, "message_failure");
+        this.badRequest = outcome(registry, "bad_request");
+    }
+
+    private static Timer stage(MeterRegistry registry, String stage, String description) {
+        return Timer.builder(STAGE_TIMER)
+                .description(description)
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(registry);
+    }
+
+    private static Counter outcome(MeterRegistry registry, String outcome) {
+        return Counter.builder(OUTCOME_COUNTER)
+                .description("Resultado de las resoluciones del pipeline")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Records the time spent reading a {@code /top-secret} request body.
+     *
+     * @param nanos elapsed nanoseconds
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void recordJsonBinding(long nanos) {
+        jsonBinding.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the time spent locating the emitter.
+     *
+     * @param nanos elapsed nanoseconds
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void recordLocation(long nanos) {
+        location.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the time spent merging the message fragments.
+     *
+     * @param nanos elapsed nanoseconds
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void recordMessage(long nanos) {
+        message.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the time spent storing a split satellite report.
+     *
+     * @param nanos elapsed nanoseconds
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void recordSplitSave(long nanos) {
+        splitSave.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the time spent removing the processed split reports.
+     *
+     * @param nanos elapsed nanoseconds
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void recordSplitClear(long nanos) {
+        splitClear.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts the outcome of a resolution and returns it unchanged.
+     *
+     * @param result result of the business layer
+     * @return the same result
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public TopSecretResult recordOutcome(TopSecretResult result) {
+        Counter counter = switch (result) {
+            case TopSecretResult.Success ignored -> success;
+            case TopSecretResult.Partial ignored -> partial;
+            case TopSecretResult.Failure failure -> switch (failure.reason()) {
+                case INVALID_INPUT -> badRequest;
+                case LOCATION_UNDETERMINED -> locationFailure;
+                case MESSAGE_UNDETERMINED -> messageFailure;
+            };
+        };
+        counter.increment();
+        return result;
+    }
+
+    /**
+     * Counts a request rejected before reaching the business layer (malformed body,
+     * invalid argument).
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void recordBadRequest() {
+        badRequest.increment();
+    }
+}
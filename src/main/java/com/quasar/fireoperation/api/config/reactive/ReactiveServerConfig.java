@@ -0,0 +1,35 @@
+package com.quasar.fireoperation.api.config.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the reactive (WebFlux) edition of the API.
+ * <p>
+ * Tomcat stays on the classpath for the servlet edition, and Spring Boot would pick it as the
+ * reactive server too. This configuration pins the reactive edition to Netty so that I/O is
+ * non-blocking end to end.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfig {
+
+    /**
+     * Provides the Netty-based reactive web server factory.
+     *
+     * @return a {@link NettyReactiveWebServerFactory} used instead of the reactive Tomcat adapter
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
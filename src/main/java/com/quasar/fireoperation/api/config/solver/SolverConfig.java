@@ -0,0 +1,121 @@
+package com.quasar.fireoperation.api.config.solver;
+
+import com.quasar.fireoperation.api.config.metrics.SolverMetrics;
+import com.quasar.fireoperation.api.provider.LocationProvider;
+import com.quasar.fireoperation.api.provider.LocationProviderImpl;
+import com.quasar.fireoperation.api.provider.constellation.Ephemeris;
+import com.quasar.fireoperation.api.provider.constellation.EphemerisLoader;
+import com.quasar.fireoperation.api.provider.constellation.SatelliteRegistry;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import com.quasar.fireoperation.api.provider.solver.TrilaterationSolver;
+import com.quasar.fireoperation.api.provider.uncertainty.MonteCarloUncertainty;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration class of the trilateration strategies.
+ * <p>
+ * Every {@link TrilaterationSolver} bean is registered in the {@link LocationProvider};
+ * {@code quasar.solver.default} selects the strategy used when a request does not pass
+ * {@code solver} ({@code closed-form} unless configured). The {@link SatelliteRegistry} adds
+ * the stations of {@code quasar.constellation.stations} to kenobi, skywalker and sato, and
+ * the trajectories of {@code quasar.constellation.ephemeris} (a {@code file:} or
+ * {@code classpath:} location) to the satellites that move.
+ * </p>
+ * <p>
+ * The {@link MonteCarloUncertainty} estimator samples {@code quasar.uncertainty.samples}
+ * solves with distance noise of {@code quasar.uncertainty.sigma}, stopping at
+ * {@code quasar.uncertainty.budget-ms}, on {@code quasar.uncertainty.parallelism} workers
+ * (one per processor if 0). Its pool is shut down with the context.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Configuration
+public class SolverConfig {
+
+    /**
+     * Provides the constellation, its ephemerides and its precomputed geometry tables.
+     *
+     * @param stations       extra stations as comma-separated {@code name:x:y} entries
+     * @param ephemeris      location of the ephemeris file; blank for fixed satellites
+     * @param resourceLoader loader resolving the ephemeris location
+     * @return the satellite registry
+     * @throws IllegalArgumentException if a station or an ephemeris is malformed or repeated
+     * @throws UncheckedIOException     if the ephemeris file cannot be read
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Bean
+    public SatelliteRegistry satelliteRegistry(@Value("${quasar.constellation.stations:}") String stations,
+                                               @Value("${quasar.constellation.ephemeris:}") String ephemeris,
+                                               ResourceLoader resourceLoader) {
+        if (ephemeris.isBlank()) {
+            return SatelliteRegistry.withStations(stations);
+        }
+        try (Reader reader = new InputStreamReader(resourceLoader.getResource(ephemeris).getInputStream(),
+                StandardCharsets.UTF_8)) {
+            Map<String, Ephemeris> ephemerides = EphemerisLoader.load(reader);
+            return SatelliteRegistry.withStations(stations, ephemerides);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudieron leer las efemérides de " + ephemeris, ex);
+        }
+    }
+
+    /**
+     * Provides the Monte-Carlo estimator of the position uncertainty.
+     *
+     * @param sigma        standard deviation of the distance noise
+     * @param samples      maximum number of samples per estimate
+     * @param budgetMillis latency target of an estimate
+     * @param parallelism  worker threads; 0 for one per processor
+     * @param confidence   probability covered by the confidence ellipse
+     * @return the estimator
+     * @throws IllegalArgumentException if a parameter is out of range
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Bean
+    public MonteCarloUncertainty monteCarloUncertainty(@Value("${quasar.uncertainty.sigma:1.0}") double sigma,
+                                                       @Value("${quasar.uncertainty.samples:20000}") int samples,
+                                                       @Value("${quasar.uncertainty.budget-ms:10}") long budgetMillis,
+                                                       @Value("${quasar.uncertainty.parallelism:0}") int parallelism,
+                                                       @Value("${quasar.uncertainty.confidence:0.95}") double confidence) {
+        return new MonteCarloUncertainty(sigma, samples, budgetMillis,
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(), confidence);
+    }
+
+    /**
+     * Provides the location provider with every solver strategy.
+     *
+     * @param solvers         solver beans, one per strategy
+     * @param metrics         per-strategy solver meters
+     * @param satellites      constellation used when more than three satellites report
+     * @param uncertainty     estimator of the position uncertainty
+     * @param defaultStrategy identifier of the default strategy
+     * @return the strategy registry
+     * @throws IllegalArgumentException if the default strategy is unknown
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Bean
+    public LocationProvider locationProvider(List<TrilaterationSolver> solvers, SolverMetrics metrics,
+                                             SatelliteRegistry satellites, MonteCarloUncertainty uncertainty,
+                                             @Value("${quasar.solver.default:closed-form}") String defaultStrategy) {
+        SolverStrategy strategy = SolverStrategy.of(defaultStrategy);
+        return new LocationProviderImpl(solvers, strategy == null ? SolverStrategy.CLOSED_FORM : strategy, metrics,
+                satellites, uncertainty);
+    }
+}
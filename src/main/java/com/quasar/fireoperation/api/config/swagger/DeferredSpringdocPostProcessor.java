@@ -0,0 +1,95 @@
+package com.quasar.fireoperation.api.config.swagger;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Defers the creation of the springdoc/Swagger beans to their first use.
+ * <p>
+ * When {@code quasar.springdoc.deferred} is {@code true} (prod profile), every bean declared
+ * by springdoc or returning a Swagger model is marked lazy, so startup does not pay for the
+ * OpenAPI scanning infrastructure; it is built by the first request to {@code /v3/api-docs} or
+ * {@code /swagger-ui}. Beans that another eager bean depends on are still created at startup.
+ * </p>
+ * <p>
+ * The lazy flag is part of the bean definitions, so it is also kept in the context generated
+ * by Spring AOT processing.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Component
+@Slf4j
+public class DeferredSpringdocPostProcessor implements BeanFactoryPostProcessor, EnvironmentAware {
+
+    public static final String DEFERRED_PROPERTY = "quasar.springdoc.deferred";
+
+    private static final List<String> DEFERRED_PACKAGES = List.of("org.springdoc.", "io.swagger.");
+
+    private Environment environment;
+
+    /**
+     * Receives the environment; post-processors are created before constructor injection is available.
+     *
+     * @param environment application environment
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Marks the springdoc bean definitions as lazy when deferral is enabled.
+     *
+     * @param beanFactory bean factory of the application context
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        if (!environment.getProperty(DEFERRED_PROPERTY, Boolean.class, false)) {
+            return;
+        }
+        int deferred = 0;
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            if (!definition.isLazyInit() && isSpringdoc(definition)) {
+                definition.setLazyInit(true);
+                deferred++;
+            }
+        }
+        // Con el contexto AOT las definiciones ya llegan marcadas y no queda nada que diferir
+        if (deferred > 0) {
+            log.info("Inicialización de springdoc diferida: {} beans se crearán con su primer uso", deferred);
+        }
+    }
+
+    private static boolean isSpringdoc(BeanDefinition definition) {
+        if (isDeferred(definition.getBeanClassName())) {
+            return true;
+        }
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            return factoryMethod != null
+                    && (isDeferred(factoryMethod.getDeclaringClassName()) || isDeferred(factoryMethod.getReturnTypeName()));
+        }
+        return false;
+    }
+
+    private static boolean isDeferred(String className) {
+        return className != null && DEFERRED_PACKAGES.stream().anyMatch(className::startsWith);
+    }
+}
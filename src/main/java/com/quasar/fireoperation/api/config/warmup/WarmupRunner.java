@@ -0,0 +1,150 @@
+package com.quasar.fireoperation.api.config.warmup;
+
+import com.quasar.fireoperation.api.business.SplitWindowStore;
+import com.quasar.fireoperation.api.provider.LocationProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * JIT warm-up run before the instance reports itself ready.
+ * <p>
+ * On {@link ApplicationReadyEvent}, after {@code LoggingConfig.onApplicationReady}, the runner
+ * publishes {@link ReadinessState#REFUSING_TRAFFIC}, drives {@link WarmupWorkload} in batches
+ * and then publishes {@link ReadinessState#ACCEPTING_TRAFFIC}, so the readiness probe
+ * ({@code /actuator/health/readiness}) answers 503 while the solver, the merge and the JSON
+ * codecs are still interpreted or C1-compiled. Warm-up runs on the startup thread: Spring Boot
+ * marks the application ready only once every ready listener has returned.
+ * </p>
+ * <p>
+ * Compilation is considered settled when the JIT spends at most {@code settle-compile-millis}
+ * compiling during {@code settle-batches} consecutive batches. The timeout bounds the phase:
+ * once it expires the instance takes traffic anyway. Disabled unless
+ * {@code quasar.warmup.enabled} is {@code true}.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Component
+@Slf4j
+public class WarmupRunner {
+
+    private final LocationProvider locationProvider;
+    private final SplitWindowStore.Storage storage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration timeout;
+    private final int batchSize;
+    private final int settleBatches;
+    private final long settleCompileMillis;
+    private final LongSupplier compilationMillis;
+
+    /**
+     * Creates the runner.
+     *
+     * @param locationProvider    solver used by the application
+     * @param storage             storage of untimed split reports used by the application
+     * @param eventPublisher      publisher of the readiness changes
+     * @param enabled             whether warm-up runs at all
+     * @param timeout             maximum duration of the warm-up phase
+     * @param batchSize           operations between two compilation checks
+     * @param settleBatches       consecutive quiet batches that end the warm-up
+     * @param settleCompileMillis JIT compilation time a batch may add and still count as quiet
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public WarmupRunner(LocationProvider locationProvider,
+                        @Value("${quasar.split.store.storage:HEAP}") SplitWindowStore.Storage storage,
+                        ApplicationEventPublisher eventPublisher,
+                        @Value("${quasar.warmup.enabled:false}") boolean enabled,
+                        @Value("${quasar.warmup.timeout:30s}") Duration timeout,
+                        @Value("${quasar.warmup.batch-size:500}") int batchSize,
+                        @Value("${quasar.warmup.settle-batches:3}") int settleBatches,
+                        @Value("${quasar.warmup.settle-compile-millis:5}") long settleCompileMillis) {
+        this.locationProvider = locationProvider;
+        this.storage = storage;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.timeout = timeout;
+        this.batchSize = Math.max(1, batchSize);
+        this.settleBatches = Math.max(1, settleBatches);
+        this.settleCompileMillis = Math.max(0, settleCompileMillis);
+        this.compilationMillis = compilationTime(ManagementFactory.getCompilationMXBean());
+    }
+
+    /**
+     * Runs the warm-up phase, holding readiness until it finishes or times out.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        log.info("Calentamiento JIT iniciado: la instancia no acepta tráfico hasta completarlo (máximo {} s)",
+                timeout.toSeconds());
+        try {
+            warmUp();
+        } catch (RuntimeException ex) {
+            log.warn("Calentamiento JIT interrumpido por un error; la instancia acepta tráfico igualmente", ex);
+        } finally {
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+
+    private void warmUp() {
+        try (WarmupWorkload workload = new WarmupWorkload(locationProvider, storage)) {
+            warmUp(workload);
+        }
+    }
+
+    private void warmUp(WarmupWorkload workload) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long startCompilation = compilationMillis.getAsLong();
+        long lastCompilation = startCompilation;
+        int quietBatches = 0;
+        int operations = 0;
+        while (quietBatches < settleBatches) {
+            if (System.nanoTime() - deadline > 0) {
+                log.warn("Calentamiento JIT agotó el tiempo máximo tras {} operaciones sin estabilizarse la compilación",
+                        operations);
+                return;
+            }
+            for (int i = 0; i < batchSize; i++) {
+                workload.run(operations++);
+            }
+            long compilation = compilationMillis.getAsLong();
+            quietBatches = compilation - lastCompilation <= settleCompileMillis ? quietBatches + 1 : 0;
+            lastCompilation = compilation;
+        }
+        log.info("Calentamiento JIT completado: {} operaciones en {} ms, {} ms de compilación JIT",
+                operations, Duration.ofNanos(System.nanoTime() - start).toMillis(), lastCompilation - startCompilation);
+    }
+
+    private static LongSupplier compilationTime(CompilationMXBean compiler) {
+        if (compiler == null || !compiler.isCompilationTimeMonitoringSupported()) {
+            // Sin medida de compilación cada lote cuenta como estable: se ejecutan settle-batches lotes
+            return () -> 0L;
+        }
+        return compiler::getTotalCompilationTime;
+    }
+}
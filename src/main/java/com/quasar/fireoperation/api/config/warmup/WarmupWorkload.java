@@ -0,0 +1,155 @@
+package com.quasar.fireoperation.api.config.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.quasar.fireoperation.api.business.MessageBusiness;
+import com.quasar.fireoperation.api.business.MessageBusinessImpl;
+import com.quasar.fireoperation.api.business.SplitWindowStore;
+import com.quasar.fireoperation.api.config.json.QuasarJsonModule;
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
+import com.quasar.fireoperation.api.domain.general.TopSecretRequestDTO;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import com.quasar.fireoperation.api.provider.LocationProvider;
+import com.quasar.fireoperation.api.utils.Constants;
+import com.quasar.fireoperation.api.utils.DomainMapperUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic traffic that exercises the request hot paths before the instance takes traffic.
+ * <p>
+ * Every operation reads a JSON request with the {@link QuasarJsonModule} codecs, resolves it
+ * (trilateration and message merge), serializes the response and runs a split save/resolve
+ * cycle. The code is the same as for real requests, but the business layer, the JSON mapper
+ * and the pipeline meters are private instances: warm-up leaves no trace in the split state,
+ * the response cache or the published metrics. The private split store keeps untimed reports
+ * in the configured storage, so the store the application uses is the one compiled; closing
+ * the workload releases it.
+ * </p>
+ * <p>
+ * Requests are generated once from a fixed seed: random ship positions with their exact
+ * distances and messages spread across the satellites. One in eight carries no words at all,
+ * so the failure path is compiled as well.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+class WarmupWorkload implements AutoCloseable {
+
+    private static final int REQUESTS = 64;
+    private static final long SEED = 42;
+    private static final float EXTENT = 1_000.0f;
+    private static final List<String> SATELLITES = List.of("kenobi", "skywalker", "sato");
+    private static final List<String> WORDS = List.of(
+            "este", "es", "un", "mensaje", "secreto", "de", "auxilio", "nave", "imperial", "rebelde");
+
+    private final ObjectMapper objectMapper;
+    private final SplitWindowStore splitStore;
+    private final MessageBusiness messageBusiness;
+    private final byte[][] requests;
+
+    /**
+     * Creates the workload on top of the application's location provider.
+     *
+     * @param locationProvider solver used by the application
+     * @param storage          storage of untimed split reports used by the application
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    WarmupWorkload(LocationProvider locationProvider, SplitWindowStore.Storage storage) {
+        PipelineMetrics metrics = new PipelineMetrics(new SimpleMeterRegistry());
+        this.objectMapper = JsonMapper.builder().addModule(new QuasarJsonModule(metrics)).build();
+        this.splitStore = SplitWindowStore.withDefaults(storage);
+        this.messageBusiness = new MessageBusinessImpl(locationProvider, metrics, splitStore);
+        this.requests = generate(new SplittableRandom(SEED));
+    }
+
+    /**
+     * Returns where the private split store keeps untimed reports.
+     *
+     * @return the storage of the warm-up split store
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    SplitWindowStore.Storage storage() {
+        return splitStore.storage();
+    }
+
+    /**
+     * Releases the private split store.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public void close() {
+        splitStore.close();
+    }
+
+    /**
+     * Runs one operation of the workload.
+     *
+     * @param operation operation index, selects the request
+     * @return bytes of the serialized responses
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    int run(int operation) {
+        try {
+            TopSecretRequestDTO request = objectMapper.readValue(requests[operation % REQUESTS], TopSecretRequestDTO.class);
+            List<SatelliteReport> reports = DomainMapperUtils.toReports(request);
+            int written = serialize(messageBusiness.resolveTopSecret(reports));
+            for (SatelliteReport report : reports) {
+                messageBusiness.saveSatelliteSplit(report);
+            }
+            return written + serialize(messageBusiness.resolveTopSecretSplit(false));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private int serialize(TopSecretResult result) throws IOException {
+        if (result instanceof TopSecretResult.Success(var resolution)) {
+            return objectMapper.writeValueAsBytes(DomainMapperUtils.toResponse(resolution)).length;
+        }
+        return 0;
+    }
+
+    private static byte[][] generate(SplittableRandom random) {
+        byte[][] generated = new byte[REQUESTS][];
+        for (int i = 0; i < REQUESTS; i++) {
+            float x = (float) random.nextDouble(-EXTENT, EXTENT);
+            float y = (float) random.nextDouble(-EXTENT, EXTENT);
+            String[] message = new String[random.nextInt(3, 12)];
+            for (int word = 0; word < message.length; word++) {
+                message[word] = WORDS.get(random.nextInt(WORDS.size()));
+            }
+            boolean empty = i % 8 == 7;
+            StringBuilder json = new StringBuilder("{\"satellites\":[");
+            for (int satellite = 0; satellite < SATELLITES.size(); satellite++) {
+                float[] position = Constants.SATELLITE_POSITIONS.get(SATELLITES.get(satellite));
+                float distance = (float) Math.hypot(x - position[0], y - position[1]);
+                json.append(satellite == 0 ? "" : ",")
+                        .append("{\"name\":\"").append(SATELLITES.get(satellite))
+                        .append("\",\"distance\":").append(distance).append(",\"message\":[");
+                for (int word = 0; word < message.length; word++) {
+                    // Cada palabra la recibe al menos su satélite asignado, salvo en las peticiones vacías
+                    boolean owner = word % SATELLITES.size() == satellite;
+                    boolean received = !empty && (owner || random.nextInt(3) == 0);
+                    json.append(word == 0 ? "\"" : ",\"").append(received ? message[word] : "").append('"');
+                }
+                json.append("]}");
+            }
+            generated[i] = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+        }
+        return generated;
+    }
+}
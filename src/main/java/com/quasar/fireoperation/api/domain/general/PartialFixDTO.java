@@ -0,0 +1,22 @@
+package com.quasar.fireoperation.api.domain.general;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO of a partial fix: the candidate positions left by two satellites.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartialFixDTO {
+    private List<PositionDTO> candidates;
+    private String message;
+}
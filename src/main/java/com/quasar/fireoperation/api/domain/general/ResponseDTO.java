@@ -1,11 +1,15 @@
 package com.quasar.fireoperation.api.domain.general;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
  * Standard response DTO for location and message.
+ * <p>
+ * The uncertainty is only present when the request asked for it.
+ * </p>
  *
  * @version 1.0
  * @since 2025
@@ -17,4 +21,18 @@ import lombok.NoArgsConstructor;
 public class ResponseDTO {
     private PositionDTO position;
     private String message;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private UncertaintyDTO uncertainty;
+
+    /**
+     * Creates a response without uncertainty.
+     *
+     * @param position position of the emitter
+     * @param message  reconstructed message
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public ResponseDTO(PositionDTO position, String message) {
+        this(position, message, null);
+    }
 }
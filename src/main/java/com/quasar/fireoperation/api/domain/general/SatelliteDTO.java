@@ -7,6 +7,10 @@ import java.util.List;
 
 /**
  * DTO representing a satellite input.
+ * <p>
+ * {@code timestamp} is optional: epoch milliseconds of the distance measurement, used to
+ * place moving satellites with their ephemeris.
+ * </p>
  *
  * @version 1.0
  * @since 2025
@@ -19,4 +23,18 @@ public class SatelliteDTO {
     private String name;
     private float distance;
     private List<String> message;
+    private Long timestamp;
+
+    /**
+     * Creates a satellite input without timestamp.
+     *
+     * @param name     satellite name
+     * @param distance distance to the emitter
+     * @param message  message tokens
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public SatelliteDTO(String name, float distance, List<String> message) {
+        this(name, distance, message, null);
+    }
 }
\ No newline at end of file
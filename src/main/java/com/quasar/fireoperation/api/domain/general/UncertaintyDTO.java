@@ -0,0 +1,27 @@
+package com.quasar.fireoperation.api.domain.general;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO representing the uncertainty of the position: standard deviations, covariance and the
+ * confidence ellipse (semi-axes and orientation of the major axis in degrees).
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UncertaintyDTO {
+    private double sigmaX;
+    private double sigmaY;
+    private double covarianceXY;
+    private double semiMajor;
+    private double semiMinor;
+    private double orientation;
+    private double confidence;
+    private int samples;
+}
@@ -0,0 +1,281 @@
+package com.quasar.fireoperation.api.domain.model;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Internal immutable message fragment received by one satellite: its tokens encoded in a single
+ * UTF-8 {@code byte[]}, plus an {@code int[]} with the end of each token.
+ * <p>
+ * Token {@code i} spans the bytes from the end of token {@code i - 1} (or {@code 0}) up to
+ * {@code ends[i]}. A token the satellite did not receive, {@code null} or blank, is an empty
+ * range: the message merge treats them alike, so they are stored alike and compare equal. Two
+ * arrays replace a {@code String} header and backing array per token; tokens are only decoded
+ * by {@link #word(int)}, for logs, and the merged message is decoded once, when it is built.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public final class MessageFragment {
+
+    /** Fragment without tokens. */
+    public static final MessageFragment EMPTY = new MessageFragment(new byte[0], new int[0]);
+
+    private final byte[] utf8;
+    private final int[] ends;
+
+    private MessageFragment(byte[] utf8, int[] ends) {
+        this.utf8 = utf8;
+        this.ends = ends;
+    }
+
+    /**
+     * Encodes the tokens of a satellite.
+     *
+     * @param words message tokens; {@code null} and blank tokens become empty
+     * @return the fragment, {@link #EMPTY} for a {@code null} or empty array
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static MessageFragment of(String[] words) {
+        return words == null ? EMPTY : of(Arrays.asList(words));
+    }
+
+    /**
+     * Encodes the tokens of a satellite.
+     *
+     * @param words message tokens; {@code null} and blank tokens become empty
+     * @return the fragment, {@link #EMPTY} for a {@code null} or empty list
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static MessageFragment of(List<String> words) {
+        if (words == null || words.isEmpty()) {
+            return EMPTY;
+        }
+        int length = 0;
+        for (String word : words) {
+            if (present(word)) {
+                length += encodedLength(word);
+            }
+        }
+        byte[] utf8 = new byte[length];
+        int[] ends = new int[words.size()];
+        int position = 0;
+        for (int i = 0; i < ends.length; i++) {
+            String word = words.get(i);
+            if (present(word)) {
+                position = encode(word, utf8, position);
+            }
+            ends[i] = position;
+        }
+        return new MessageFragment(utf8, ends);
+    }
+
+    /**
+     * Wraps already encoded tokens, taking ownership of the arrays.
+     *
+     * @param utf8 the encoded tokens
+     * @param ends end of each token in {@code utf8}, in non-decreasing order
+     * @return the fragment
+     * @throws IllegalArgumentException if the ends do not fit the bytes
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static MessageFragment wrap(byte[] utf8, int[] ends) {
+        int previous = 0;
+        for (int end : ends) {
+            if (end < previous) {
+                throw new IllegalArgumentException("Fragmento de mensaje inválido: fin " + end + " tras " + previous);
+            }
+            previous = end;
+        }
+        if (previous != utf8.length) {
+            throw new IllegalArgumentException("Fragmento de mensaje inválido: " + utf8.length
+                    + " bytes para tokens que terminan en " + previous);
+        }
+        return new MessageFragment(utf8, ends);
+    }
+
+    /**
+     * Returns the number of tokens, received or not.
+     *
+     * @return tokens of the fragment
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public int size() {
+        return ends.length;
+    }
+
+    /**
+     * Returns the length of the encoded tokens.
+     *
+     * @return UTF-8 bytes of all the tokens
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public int byteLength() {
+        return utf8.length;
+    }
+
+    /**
+     * Returns where a token ends in the encoded bytes.
+     *
+     * @param index token index
+     * @return end offset of the token
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public int end(int index) {
+        return ends[index];
+    }
+
+    /**
+     * Tells whether a token was received.
+     *
+     * @param index token index; past the end the token is missing
+     * @return {@code true} if the token is not empty
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public boolean has(int index) {
+        return index < ends.length && ends[index] > start(index);
+    }
+
+    /**
+     * Copies the bytes of a token.
+     *
+     * @param index    token index
+     * @param target   destination buffer
+     * @param position offset in {@code target}
+     * @return the offset after the copied bytes
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public int copyWord(int index, byte[] target, int position) {
+        int start = start(index);
+        int length = ends[index] - start;
+        System.arraycopy(utf8, start, target, position, length);
+        return position + length;
+    }
+
+    /**
+     * Decodes a token.
+     *
+     * @param index token index
+     * @return the token, {@code ""} if it was not received
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public String word(int index) {
+        int start = start(index);
+        return new String(utf8, start, ends[index] - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes every token.
+     *
+     * @return the tokens, {@code ""} for those not received
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public String[] words() {
+        String[] words = new String[ends.length];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = word(i);
+        }
+        return words;
+    }
+
+    /**
+     * Returns a read-only view of the encoded tokens, to copy them without exposing the array.
+     *
+     * @return heap segment over the UTF-8 bytes
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public MemorySegment bytes() {
+        return MemorySegment.ofArray(utf8).asReadOnly();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof MessageFragment fragment
+                && Arrays.equals(ends, fragment.ends)
+                && Arrays.equals(utf8, fragment.utf8);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(ends) + Arrays.hashCode(utf8);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(words());
+    }
+
+    private int start(int index) {
+        return index == 0 ? 0 : ends[index - 1];
+    }
+
+    private static boolean present(String word) {
+        return word != null && !word.isBlank();
+    }
+
+    /**
+     * UTF-8 length of a string, as {@link String#getBytes} encodes it: a lone surrogate becomes
+     * {@code '?'}.
+     */
+    private static int encodedLength(String word) {
+        int length = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < word.length()
+                    && Character.isLowSurrogate(word.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static int encode(String word, byte[] target, int position) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 0x80) {
+                target[position++] = (byte) c;
+            } else if (c < 0x800) {
+                target[position++] = (byte) (0xC0 | (c >> 6));
+                target[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < word.length()
+                    && Character.isLowSurrogate(word.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, word.charAt(++i));
+                target[position++] = (byte) (0xF0 | (codePoint >> 18));
+                target[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                target[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                target[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                target[position++] = '?';
+            } else {
+                target[position++] = (byte) (0xE0 | (c >> 12));
+                target[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                target[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position;
+    }
+}
@@ -0,0 +1,13 @@
+package com.quasar.fireoperation.api.domain.model;
+
+/**
+ * Internal immutable position (x, y) of the emitter.
+ *
+ * @param x x coordinate
+ * @param y y coordinate
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public record Position(float x, float y) {
+}
@@ -0,0 +1,21 @@
+package com.quasar.fireoperation.api.domain.model;
+
+/**
+ * Internal immutable uncertainty of a resolved position: the covariance of the position under
+ * distance noise and its confidence ellipse.
+ *
+ * @param sigmaX       standard deviation of x
+ * @param sigmaY       standard deviation of y
+ * @param covarianceXY covariance of x and y
+ * @param semiMajor    semi-major axis of the confidence ellipse
+ * @param semiMinor    semi-minor axis of the confidence ellipse
+ * @param orientation  angle of the major axis from the x axis, in degrees within (-90, 90]
+ * @param confidence   probability the ellipse contains the position, e.g. {@code 0.95}
+ * @param samples      number of samples the estimate is based on
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public record PositionUncertainty(double sigmaX, double sigmaY, double covarianceXY, double semiMajor,
+                                  double semiMinor, double orientation, double confidence, int samples) {
+}
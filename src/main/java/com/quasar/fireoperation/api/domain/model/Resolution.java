@@ -0,0 +1,38 @@
+package com.quasar.fireoperation.api.domain.model;
+
+/**
+ * Internal immutable outcome of a successful solve: position and reconstructed message.
+ *
+ * @param position    resolved position
+ * @param message     reconstructed message
+ * @param uncertainty uncertainty of the position; {@code null} unless the request asked for it
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public record Resolution(Position position, String message, PositionUncertainty uncertainty) {
+
+    /**
+     * Creates a resolution without uncertainty estimate.
+     *
+     * @param position resolved position
+     * @param message  reconstructed message
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public Resolution(Position position, String message) {
+        this(position, message, null);
+    }
+
+    /**
+     * Returns this resolution with an uncertainty estimate.
+     *
+     * @param estimate uncertainty of the position
+     * @return a new resolution
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public Resolution withUncertainty(PositionUncertainty estimate) {
+        return new Resolution(position, message, estimate);
+    }
+}
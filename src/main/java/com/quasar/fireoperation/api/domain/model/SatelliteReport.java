@@ -0,0 +1,114 @@
+package com.quasar.fireoperation.api.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Internal immutable report of one satellite: name, distance to the emitter, the message
+ * tokens it received (empty for a token it did not receive) and, optionally, the instant
+ * the distance was measured at.
+ * <p>
+ * Compact counterpart of {@code SatelliteDTO} used from the adapters inwards and in the
+ * split store: a primitive distance and a {@link MessageFragment}, one UTF-8 array for all the
+ * tokens, instead of a boxed {@code Float} path and an {@code ArrayList} of strings. Equality
+ * compares the token contents.
+ * </p>
+ *
+ * @param name      satellite name as reported
+ * @param distance  distance to the emitter
+ * @param message   message tokens, never {@code null}
+ * @param timestamp epoch milliseconds of the measurement, or {@link #NO_TIMESTAMP}
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public record SatelliteReport(String name, float distance, MessageFragment message, long timestamp) {
+
+    /** Timestamp of a report that did not carry one: the satellite is at its nominal position. */
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    /**
+     * Creates a report, replacing a {@code null} fragment by an empty one.
+     *
+     * @param name      satellite name as reported
+     * @param distance  distance to the emitter
+     * @param message   message tokens
+     * @param timestamp epoch milliseconds of the measurement, or {@link #NO_TIMESTAMP}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public SatelliteReport {
+        if (message == null) {
+            message = MessageFragment.EMPTY;
+        }
+    }
+
+    /**
+     * Creates a report, encoding its tokens.
+     *
+     * @param name      satellite name as reported
+     * @param distance  distance to the emitter
+     * @param words     message tokens, may be {@code null}
+     * @param timestamp epoch milliseconds of the measurement, or {@link #NO_TIMESTAMP}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public SatelliteReport(String name, float distance, String[] words, long timestamp) {
+        this(name, distance, MessageFragment.of(words), timestamp);
+    }
+
+    /**
+     * Creates a report without timestamp.
+     *
+     * @param name     satellite name as reported
+     * @param distance distance to the emitter
+     * @param words    message tokens, may be {@code null}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public SatelliteReport(String name, float distance, String[] words) {
+        this(name, distance, words, NO_TIMESTAMP);
+    }
+
+    /**
+     * Decodes the message tokens. Meant for logs and tests: the merge works on the fragment.
+     *
+     * @return the tokens, {@code ""} for those not received
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public String[] words() {
+        return message.words();
+    }
+
+    /**
+     * Tells whether the report carries the instant of its measurement.
+     *
+     * @return {@code true} unless the timestamp is {@link #NO_TIMESTAMP}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public boolean hasTimestamp() {
+        return timestamp != NO_TIMESTAMP;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SatelliteReport report
+                && Float.compare(distance, report.distance) == 0
+                && timestamp == report.timestamp
+                && Objects.equals(name, report.name)
+                && message.equals(report.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * Objects.hashCode(name) + Float.hashCode(distance)) + message.hashCode())
+                + Long.hashCode(timestamp);
+    }
+
+    @Override
+    public String toString() {
+        return "SatelliteReport[name=" + name + ", distance=" + distance + ", words=" + message
+                + (hasTimestamp() ? ", timestamp=" + timestamp : "") + "]";
+    }
+}
@@ -0,0 +1,39 @@
+package com.quasar.fireoperation.api.domain.result;
+
+import com.quasar.fireoperation.api.exception.InvalidInputException;
+import com.quasar.fireoperation.api.exception.LocationException;
+import com.quasar.fireoperation.api.exception.MessageException;
+
+/**
+ * Typed reasons for expected business failures.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public enum FailureReason {
+
+    /** The request does not carry the data required to solve (e.g. not three distances). */
+    INVALID_INPUT,
+    /** The position could not be determined from the reported distances. */
+    LOCATION_UNDETERMINED,
+    /** The message could not be reconstructed from the reported fragments. */
+    MESSAGE_UNDETERMINED;
+
+    /**
+     * Converts this reason into the exception historically thrown for it, for callers
+     * that still use the exception-based API.
+     *
+     * @param message failure message
+     * @return the matching exception
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public RuntimeException toException(String message) {
+        return switch (this) {
+            case INVALID_INPUT -> new InvalidInputException(message);
+            case LOCATION_UNDETERMINED -> new LocationException(message);
+            case MESSAGE_UNDETERMINED -> new MessageException(message);
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package com.quasar.fireoperation.api.domain.result;
+
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+
+import java.util.List;
+
+/**
+ * Outcome of resolving position and message: a {@link Success} carrying the resolution, a
+ * {@link Partial} fix carrying candidate positions, or a {@link Failure} carrying a typed reason.
+ * <p>
+ * Expected failures such as insufficient satellites travel as values instead of
+ * exceptions, so they cost no stack walk and are mapped to status codes directly by
+ * the REST adapters.
+ * </p>
+ * <p>
+ * With only two satellites the position is undetermined, but narrowed down to the candidate
+ * points where their circles meet: a {@link Partial} answer, which clients that did not ask for
+ * one receive as the insufficient-information failure.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public sealed interface TopSecretResult {
+
+    /**
+     * Successful resolution.
+     *
+     * @param resolution resolved position and message
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    record Success(Resolution resolution) implements TopSecretResult {
+    }
+
+    /**
+     * Expected business failure.
+     *
+     * @param reason  typed failure reason
+     * @param message human-readable message returned to the client
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    record Failure(FailureReason reason, String message) implements TopSecretResult {
+    }
+
+    /**
+     * Partial fix of two satellites: the position is undetermined, but it is one of the candidates.
+     *
+     * @param candidates one or two candidate positions
+     * @param message    human-readable message returned with the candidates
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    record Partial(List<Position> candidates, String message) implements TopSecretResult {
+    }
+
+    /**
+     * Creates a successful result.
+     *
+     * @param resolution resolved position and message
+     * @return success result
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    static TopSecretResult success(Resolution resolution) {
+        return new Success(resolution);
+    }
+
+    /**
+     * Creates a failed result.
+     *
+     * @param reason  typed failure reason
+     * @param message human-readable message
+     * @return failure result
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    static TopSecretResult failure(FailureReason reason, String message) {
+        return new Failure(reason, message);
+    }
+
+    /**
+     * Creates the partial fix of two satellites: the position is undetermined, but it is one of
+     * the candidates.
+     *
+     * @param candidates one or two candidate positions
+     * @param message    human-readable message
+     * @return partial result carrying the candidates
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    static TopSecretResult partial(List<Position> candidates, String message) {
+        return new Partial(List.copyOf(candidates), message);
+    }
+
+    /**
+     * Returns the resolution or throws the exception matching the failure reason; a partial fix
+     * is a {@link FailureReason#LOCATION_UNDETERMINED} failure.
+     *
+     * @return the resolution
+     * @throws RuntimeException the exception of {@link FailureReason#toException(String)}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    default Resolution orElseThrow() {
+        return switch (this) {
+            case Success success -> success.resolution();
+            case Partial partial -> throw FailureReason.LOCATION_UNDETERMINED.toException(partial.message());
+            case Failure failure -> throw failure.reason().toException(failure.message());
+        };
+    }
+}
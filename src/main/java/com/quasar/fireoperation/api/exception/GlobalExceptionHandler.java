@@ -1,24 +1,38 @@
 package com.quasar.fireoperation.api.exception;
 
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Global exception handler for API.
+ * <p>
+ * Requests rejected here as malformed or invalid are counted as the {@code bad_request}
+ * outcome of {@link PipelineMetrics}.
+ * </p>
  *
  * @version 1.0
  * @since 2025
  * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
  */
 @ControllerAdvice
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 @Slf4j
 public class GlobalExceptionHandler {
 
+    PipelineMetrics metrics;
+
     /**
      * Handle LocationException and MessageException.
      *
@@ -44,7 +58,8 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> handleBadRequest(IllegalArgumentException ex) {
-        log.warn("Argumento inválido recibido: {}", ex.getMessage());
+        log.debug("Argumento inválido recibido: {}", ex.getMessage());
+        metrics.recordBadRequest();
         log.debug("Stack trace del argumento inválido:", ex);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
@@ -60,6 +75,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<String> handleMalformedJson(HttpMessageNotReadableException ex) {
         log.warn("JSON malformado recibido: {}", ex.getMessage());
+        metrics.recordBadRequest();
         log.debug("Stack trace del JSON malformado:", ex);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("JSON malformado en la solicitud");
     }
@@ -80,6 +96,36 @@ public class GlobalExceptionHandler {
                 .body("Tipo de contenido no soportado. Se requiere application/json");
     }
 
+    /**
+     * Handle unreadable request bodies on the reactive stack.
+     *
+     * @param ex The exception thrown
+     * @return ResponseEntity with error message and BAD_REQUEST status
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<String> handleReactiveMalformedInput(ServerWebInputException ex) {
+        log.warn("Entrada reactiva inválida recibida: {}", ex.getReason());
+        metrics.recordBadRequest();
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("JSON malformado en la solicitud");
+    }
+
+    /**
+     * Handle unsupported media type requests on the reactive stack.
+     *
+     * @param ex The exception thrown
+     * @return ResponseEntity with error message and UNSUPPORTED_MEDIA_TYPE status
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @ExceptionHandler(UnsupportedMediaTypeStatusException.class)
+    public ResponseEntity<String> handleReactiveUnsupportedMediaType(UnsupportedMediaTypeStatusException ex) {
+        log.warn("Tipo de contenido reactivo no soportado: {}", ex.getReason());
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                .body("Tipo de contenido no soportado. Se requiere application/json");
+    }
+
     /**
      * Handle all other uncaught exceptions.
      *
@@ -0,0 +1,32 @@
+package com.quasar.fireoperation.api.exception;
+
+/**
+ * Exception thrown when a request carries data that cannot be solved: unknown or repeated
+ * satellites, incomplete entries, late or negative timestamps.
+ * <p>
+ * It is an {@link IllegalArgumentException}, so callers and {@code GlobalExceptionHandler} keep
+ * answering it with {@code 400}. Invalid input is an expected outcome counted in
+ * {@code quasar.pipeline.outcome}, so it skips the stack trace and is cheap to create.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public class InvalidInputException extends IllegalArgumentException {
+    public InvalidInputException(String message) {
+        super(message);
+    }
+
+    /**
+     * Skips the stack walk: the message alone identifies the invalid input.
+     *
+     * @return this exception, without stack trace
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -2,6 +2,15 @@ package com.quasar.fireoperation.api.exception;
 
 /**
  * Exception thrown when location cannot be determined.
+ * <p>
+ * Raised by the location provider and the solvers when the satellites cannot fix a position
+ * (collinear or degenerate geometry, distances out of range, a position outside the coverage
+ * area, an uncertainty that cannot be estimated), and by the exception-based API. The business
+ * layer catches it and returns a
+ * {@link com.quasar.fireoperation.api.domain.result.TopSecretResult.Failure} with
+ * {@code LOCATION_UNDETERMINED}. Since these failures are expected, it skips the stack trace and
+ * suppression bookkeeping and is cheap to create.
+ * </p>
  *
  * @version 1.0
  * @since 2025
@@ -9,6 +18,6 @@ package com.quasar.fireoperation.api.exception;
  */
 public class LocationException extends RuntimeException {
     public LocationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
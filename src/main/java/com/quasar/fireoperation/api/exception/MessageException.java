@@ -2,6 +2,12 @@ package com.quasar.fireoperation.api.exception;
 
 /**
  * Exception thrown when message cannot be reconstructed.
+ * <p>
+ * Expected failures normally travel as a
+ * {@link com.quasar.fireoperation.api.domain.result.TopSecretResult.Failure}; this exception
+ * is only raised by the exception-based API, so it skips the stack trace and suppression
+ * bookkeeping and is cheap to create.
+ * </p>
  *
  * @version 1.0
  * @since 2025
@@ -9,6 +15,6 @@ package com.quasar.fireoperation.api.exception;
  */
 public class MessageException extends RuntimeException {
     public MessageException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -1,11 +1,24 @@
 package com.quasar.fireoperation.api.provider;
 
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.PositionUncertainty;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
 import com.quasar.fireoperation.api.exception.LocationException;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
 
 import java.util.List;
 
 /**
  * Port interface for location calculation.
+ * <p>
+ * A {@code null} strategy selects the configured default solver. Reports of more than three
+ * satellites are solved with the triple of best geometry; reports of two satellites only narrow
+ * the position down to the {@linkplain #candidates(List) intersections} of their circles, and
+ * the report of a third satellite can {@linkplain #choose(SolverStrategy, List, SatelliteReport)
+ * choose} between them without a full solve.
+ * The {@code uncertainty} methods estimate how far the position of the same reports moves under
+ * distance noise, with the satellites the matching {@code locate} method uses.
+ * </p>
  *
  * @version 1.0
  * @since 2025
@@ -13,4 +26,14 @@ import java.util.List;
  */
 public interface LocationProvider {
     float[] getLocation(List<Float> distances) throws LocationException;
+    Position locate(SolverStrategy strategy, float kenobiDistance, float skywalkerDistance, float satoDistance) throws LocationException;
+    Position locate(SolverStrategy strategy, List<SatelliteReport> reports) throws LocationException;
+    List<Position> candidates(List<SatelliteReport> reports) throws LocationException;
+    Position choose(SolverStrategy strategy, List<Position> candidates, SatelliteReport report) throws LocationException;
+    PositionUncertainty uncertainty(float kenobiDistance, float skywalkerDistance, float satoDistance) throws LocationException;
+    PositionUncertainty uncertainty(List<SatelliteReport> reports) throws LocationException;
+
+    default Position locate(float kenobiDistance, float skywalkerDistance, float satoDistance) throws LocationException {
+        return locate(null, kenobiDistance, skywalkerDistance, satoDistance);
+    }
 }
@@ -1,23 +1,146 @@
 package com.quasar.fireoperation.api.provider;
 
+import com.quasar.fireoperation.api.config.jfr.TrilaterationEvent;
+import com.quasar.fireoperation.api.config.metrics.SolverMetrics;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.PositionUncertainty;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.exception.InvalidInputException;
 import com.quasar.fireoperation.api.exception.LocationException;
+import com.quasar.fireoperation.api.provider.constellation.SatelliteRegistry;
+import com.quasar.fireoperation.api.provider.solver.ClosedFormSolver;
+import com.quasar.fireoperation.api.provider.solver.DoublePrecisionSolver;
+import com.quasar.fireoperation.api.provider.solver.LeastSquaresSolver;
+import com.quasar.fireoperation.api.provider.solver.RobustSolver;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import com.quasar.fireoperation.api.provider.solver.TrilaterationSolver;
+import com.quasar.fireoperation.api.provider.uncertainty.MonteCarloUncertainty;
 import com.quasar.fireoperation.api.utils.Constants;
-import org.springframework.stereotype.Component;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import java.util.Arrays;
+
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of LocationProvider using trilateration.
+ * <p>
+ * Registry of the {@link TrilaterationSolver} strategies: exactly one solver per
+ * {@link SolverStrategy}, resolved once at construction into a field per strategy. Requests
+ * select a strategy or fall back to the configured default ({@code quasar.solver.default}).
+ * The Spring bean is declared in {@code SolverConfig}.
+ * </p>
+ * <p>
+ * Reports are located by satellite name: each one is looked up in the {@link SatelliteRegistry},
+ * placed at the instant of its report, and the three of best geometry are used. Three untimed
+ * reports of exactly kenobi, skywalker and sato, in any order, skip the selection and are solved
+ * with their fixed positions, the distances reordered to match. Two reports give the candidate
+ * positions where their circles meet, and a third report on the closed-form path picks one of them.
+ * </p>
+ * <p>
+ * Uncertainty estimates are delegated to a {@link MonteCarloUncertainty} on the same
+ * satellites the solve uses.
+ * </p>
  *
  * @version 1.0
  * @since 2025
  * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
  */
-@Component
 @Slf4j
 public class LocationProviderImpl implements LocationProvider {
 
+    private static final int NOT_FIXED = -1;
+    // Diferencia relativa máxima entre la distancia de un candidato al tercer satélite y la reportada
+    private static final double CHOICE_TOLERANCE = 1e-3;
+
+    private final TrilaterationSolver closedForm;
+    private final TrilaterationSolver leastSquares;
+    private final TrilaterationSolver robust;
+    private final TrilaterationSolver doublePrecision;
+    private final SolverStrategy defaultStrategy;
+    private final SolverMetrics metrics;
+    private final SatelliteRegistry satellites;
+    private final MonteCarloUncertainty uncertainty;
+    private final float[] kenobi = Constants.SATELLITE_POSITIONS.get("kenobi");
+    private final float[] skywalker = Constants.SATELLITE_POSITIONS.get("skywalker");
+    private final float[] sato = Constants.SATELLITE_POSITIONS.get("sato");
+    private final int kenobiIndex;
+    private final int skywalkerIndex;
+    private final int satoIndex;
+
+    /**
+     * Creates a provider with the built-in solvers, the closed-form default, meters that
+     * are not published, a constellation of kenobi, skywalker and sato and the default
+     * uncertainty estimator.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public LocationProviderImpl() {
+        this(List.of(new ClosedFormSolver(), new LeastSquaresSolver(), new RobustSolver(), new DoublePrecisionSolver()),
+                SolverStrategy.CLOSED_FORM, new SolverMetrics(new SimpleMeterRegistry(), 16),
+                SatelliteRegistry.withStations(null), MonteCarloUncertainty.withDefaults());
+    }
+
+    /**
+     * Creates the registry with the default uncertainty estimator.
+     *
+     * @param solvers         one solver per strategy
+     * @param defaultStrategy strategy used when a request does not select one
+     * @param metrics         per-strategy solver meters
+     * @param satellites      constellation used when more than three satellites report
+     * @throws IllegalStateException if a strategy has no solver or more than one
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public LocationProviderImpl(List<TrilaterationSolver> solvers, SolverStrategy defaultStrategy, SolverMetrics metrics,
+                                SatelliteRegistry satellites) {
+        this(solvers, defaultStrategy, metrics, satellites, MonteCarloUncertainty.withDefaults());
+    }
+
+    /**
+     * Creates the registry.
+     *
+     * @param solvers         one solver per strategy
+     * @param defaultStrategy strategy used when a request does not select one
+     * @param metrics         per-strategy solver meters
+     * @param satellites      constellation used when more than three satellites report
+     * @param uncertainty     estimator of the position uncertainty
+     * @throws IllegalStateException if a strategy has no solver or more than one
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public LocationProviderImpl(List<TrilaterationSolver> solvers, SolverStrategy defaultStrategy, SolverMetrics metrics,
+                                SatelliteRegistry satellites, MonteCarloUncertainty uncertainty) {
+        Map<SolverStrategy, TrilaterationSolver> registry = new EnumMap<>(SolverStrategy.class);
+        for (TrilaterationSolver solver : solvers) {
+            TrilaterationSolver previous = registry.put(solver.strategy(), solver);
+            if (previous != null) {
+                throw new IllegalStateException("Más de un solver para la estrategia " + solver.strategy().id() + ": "
+                        + previous.getClass().getSimpleName() + ", " + solver.getClass().getSimpleName());
+            }
+        }
+        for (SolverStrategy strategy : SolverStrategy.values()) {
+            if (!registry.containsKey(strategy)) {
+                throw new IllegalStateException("No hay solver para la estrategia " + strategy.id());
+            }
+        }
+        this.closedForm = registry.get(SolverStrategy.CLOSED_FORM);
+        this.leastSquares = registry.get(SolverStrategy.LEAST_SQUARES);
+        this.robust = registry.get(SolverStrategy.ROBUST);
+        this.doublePrecision = registry.get(SolverStrategy.DOUBLE_PRECISION);
+        this.defaultStrategy = defaultStrategy;
+        this.metrics = metrics;
+        this.satellites = satellites;
+        this.uncertainty = uncertainty;
+        this.kenobiIndex = satellites.indexOf("kenobi");
+        this.skywalkerIndex = satellites.indexOf("skywalker");
+        this.satoIndex = satellites.indexOf("sato");
+        log.info("Solvers de trilateración registrados: {}. Estrategia por defecto: {}",
+                registry.keySet(), defaultStrategy.id());
+    }
+
     /**
      * Calculates the (x, y) location based on distances from three satellites.
      *
@@ -33,108 +156,469 @@ public class LocationProviderImpl implements LocationProvider {
         log.debug("Iniciando cálculo de trilateración con distancias: {}", distances);
 
         if (distances == null || distances.size() != 3) {
-            log.error("Número inválido de distancias recibidas. Esperadas: 3, Recibidas: {}",
+            log.debug("Número inválido de distancias recibidas. Esperadas: 3, Recibidas: {}",
                      distances != null ? distances.size() : "null");
-            throw new IllegalArgumentException("Se requieren distancias de 3 satélites.");
+            throw new InvalidInputException("Se requieren distancias de 3 satélites.");
         }
-
-        // Validar que las distancias sean razonables
         for (Float distance : distances) {
-            if (distance == null || distance < 0 || distance > 100000.0f) {
-                log.error("Distancia inválida detectada: {}. Las distancias deben estar entre 0 y 100,000", distance);
+            if (distance == null) {
+                log.debug("Distancia inválida detectada: null. Las distancias deben estar entre 0 y 100,000");
                 throw new LocationException("Distancias fuera del rango válido para trilateración");
             }
         }
 
-        // Satellite positions
-        float[] p1 = Constants.SATELLITE_POSITIONS.get("kenobi");
-        float[] p2 = Constants.SATELLITE_POSITIONS.get("skywalker");
-        float[] p3 = Constants.SATELLITE_POSITIONS.get("sato");
+        Position position = locate(distances.get(0), distances.get(1), distances.get(2));
+        return new float[]{position.x(), position.y()};
+    }
 
-        log.debug("Posiciones de satélites - Kenobi: {}, Skywalker: {}, Sato: {}",
-                 Arrays.toString(p1), Arrays.toString(p2), Arrays.toString(p3));
+    /**
+     * Calculates the (x, y) location from the distances to kenobi, skywalker and sato.
+     * <p>
+     * Primitive solve path used by the business layer: no boxing, and the returned record
+     * can be scalar-replaced by the JIT when the caller is inlined.
+     * </p>
+     * <p>
+     * The strategy selects the solver through a {@code switch} with one call per solver
+     * field: each call site only ever sees one solver class, so the JIT inlines it, and no
+     * lookup happens per request. Solves and failures are counted in {@link SolverMetrics} under
+     * the strategy that ran, latency and residual on the sampled solves only, and the solve is reported as a
+     * {@link TrilaterationEvent} when a JFR recording is running.
+     * </p>
+     *
+     * @param strategy solver strategy; {@code null} for the configured default
+     * @param d1       distance to kenobi
+     * @param d2       distance to skywalker
+     * @param d3       distance to sato
+     * @return the calculated position
+     * @throws LocationException if the location cannot be determined
+     * @see <a href="https://en.wikipedia.org/wiki/Trilateration">Trilateration</a>
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public Position locate(SolverStrategy strategy, float d1, float d2, float d3) throws LocationException {
+        return locate(strategy, kenobi, skywalker, sato, d1, d2, d3);
+    }
+
+    /**
+     * Calculates the (x, y) location from the reports of registered satellites, each placed
+     * at the instant of its report.
+     * <p>
+     * The reporting satellites form a bit mask of registry indices; the best triple of that
+     * subset was computed when the registry was loaded, so the selection is one table read.
+     * Every reported distance is validated. The satellites of the triple are placed with
+     * their ephemeris when the report carries a timestamp, and the triple is solved like
+     * three reports.
+     * </p>
+     * <p>
+     * Three untimed reports of kenobi, skywalker and sato take the primitive path of
+     * {@link #locate(SolverStrategy, float, float, float)} with their distances reordered, which
+     * gives the same position without the selection.
+     * </p>
+     *
+     * @param strategy solver strategy; {@code null} for the configured default
+     * @param reports  reports of three or more distinct registered satellites
+     * @return the calculated position
+     * @throws IllegalArgumentException if a satellite is not registered or reports twice, or a
+     *                                  timestamp is outside its ephemeris
+     * @throws LocationException        if a distance is out of range or no triple has a usable
+     *                                  geometry
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public Position locate(SolverStrategy strategy, List<SatelliteReport> reports) throws LocationException {
+        int order = fixedOrder(reports);
+        if (order != NOT_FIXED) {
+            return locate(strategy, reports.get(order & 3).distance(), reports.get(order >> 2 & 3).distance(),
+                    reports.get(order >> 4).distance());
+        }
+        SatelliteReport[] reported = new SatelliteReport[satellites.size()];
+        int triple = bestTriple(reports, reported);
+        int i = triple & 0xFF;
+        int j = triple >> 8 & 0xFF;
+        int k = triple >> 16;
+        return locate(strategy, satellites.position(i, reported[i].timestamp()),
+                satellites.position(j, reported[j].timestamp()), satellites.position(k, reported[k].timestamp()),
+                reported[i].distance(), reported[j].distance(), reported[k].distance());
+    }
+
+    /**
+     * Calculates the candidate positions left by the reports of two registered satellites:
+     * the intersections of their circles.
+     * <p>
+     * Two circles meet in at most two points, symmetric about the line between the
+     * satellites; a third report only has to tell which one is the emitter. When measurement
+     * errors keep the circles from meeting, or make them tangent, the single candidate is the
+     * point of that line where the intersections would be, the closest to both circles. The
+     * cost is one square root, below a full solve, and nothing is counted in
+     * {@link SolverMetrics}: no solver runs.
+     * </p>
+     *
+     * @param reports reports of two distinct registered satellites
+     * @return two candidates, or one when the circles do not cross
+     * @throws IllegalArgumentException if there are not two reports, or a satellite is not
+     *                                  registered or reports twice
+     * @throws LocationException        if a distance is out of range, both satellites are at the
+     *                                  same position or a candidate is outside the coverage area
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public List<Position> candidates(List<SatelliteReport> reports) throws LocationException {
+        if (reports.size() != 2) {
+            throw new InvalidInputException("Se requieren distancias de 2 satélites.");
+        }
+        SatelliteReport first = reports.get(0);
+        SatelliteReport second = reports.get(1);
+        int i = satellites.indexOf(first.name());
+        int j = satellites.indexOf(second.name());
+        if (i < 0 || j < 0) {
+            throw new InvalidInputException("Satélite desconocido: " + (i < 0 ? first.name() : second.name()));
+        }
+        if (i == j) {
+            throw new InvalidInputException("Satélite repetido: " + second.name());
+        }
+        float d1 = first.distance();
+        float d2 = second.distance();
+        validateDistance(d1);
+        validateDistance(d2);
+        float[] p1 = satellites.position(i, first.timestamp());
+        float[] p2 = satellites.position(j, second.timestamp());
+
+        // Eje entre satélites: el punto medio de la cuerda está a 'a' de p1 y las intersecciones a ±h en perpendicular
+        double dx = (double) p2[0] - p1[0];
+        double dy = (double) p2[1] - p1[1];
+        double baseline = Math.hypot(dx, dy);
+        if (baseline < 1e-6) {
+            throw new LocationException("Configuración de satélites inválida para trilateración");
+        }
+        double ux = dx / baseline;
+        double uy = dy / baseline;
+        double a = ((double) d1 * d1 - (double) d2 * d2 + baseline * baseline) / (2 * baseline);
+        double mx = p1[0] + a * ux;
+        double my = p1[1] + a * uy;
+        double h2 = (double) d1 * d1 - a * a;
 
-        float d1 = distances.get(0);
-        float d2 = distances.get(1);
-        float d3 = distances.get(2);
+        List<Position> candidates;
+        if (h2 <= 0) {
+            candidates = List.of(new Position((float) mx, (float) my));
+        } else {
+            double h = Math.sqrt(h2);
+            candidates = List.of(new Position((float) (mx - h * uy), (float) (my + h * ux)),
+                    new Position((float) (mx + h * uy), (float) (my - h * ux)));
+        }
+        for (Position candidate : candidates) {
+            validatePosition(candidate);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Candidatos con {} y {}: {}", satellites.name(i), satellites.name(j), candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * Picks the candidate of a two-satellite fix the report of a third satellite passes through.
+     * <p>
+     * With consistent distances the closed-form solve of the three reports lands on the
+     * intersection of the first two circles the third one crosses, so checking the two
+     * candidates against the third distance gives the same position for two square roots.
+     * Only the closed-form path takes the shortcut, and only when exactly one candidate is within
+     * 0.1 % of the third distance: noisy distances, a single
+     * candidate or a third satellite on the axis of symmetry are left to the full solve.
+     * </p>
+     *
+     * @param strategy   solver strategy; {@code null} for the configured default
+     * @param candidates candidates of the other two reports, from {@link #candidates(List)}
+     * @param report     report of the third satellite
+     * @return the chosen candidate, or {@code null} if the report does not single one out
+     * @throws IllegalArgumentException if the timestamp is outside the ephemeris of the satellite
+     * @throws LocationException        if the distance is out of range
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public Position choose(SolverStrategy strategy, List<Position> candidates, SatelliteReport report)
+            throws LocationException {
+        SolverStrategy effective = strategy == null ? defaultStrategy : strategy;
+        int index = satellites.indexOf(report.name());
+        if (effective != SolverStrategy.CLOSED_FORM || candidates.size() != 2 || index < 0) {
+            return null;
+        }
+        float distance = report.distance();
+        validateDistance(distance);
+        float[] station = satellites.position(index, report.timestamp());
+        double tolerance = CHOICE_TOLERANCE * Math.max(1.0, distance);
+        boolean first = Math.abs(range(candidates.get(0), station) - distance) <= tolerance;
+        boolean second = Math.abs(range(candidates.get(1), station) - distance) <= tolerance;
+        if (first == second) {
+            return null;
+        }
+        Position chosen = candidates.get(first ? 0 : 1);
+        if (log.isDebugEnabled()) {
+            log.debug("Candidato elegido con {}: {}", satellites.name(index), chosen);
+        }
+        return chosen;
+    }
 
-        log.debug("Distancias asignadas - d1: {}, d2: {}, d3: {}", d1, d2, d3);
+    /**
+     * Estimates the uncertainty of the position of kenobi, skywalker and sato distances.
+     *
+     * @param d1 distance to kenobi
+     * @param d2 distance to skywalker
+     * @param d3 distance to sato
+     * @return the covariance and confidence ellipse of the position
+     * @throws LocationException if a distance is out of range
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public PositionUncertainty uncertainty(float d1, float d2, float d3) throws LocationException {
+        validateDistance(d1);
+        validateDistance(d2);
+        validateDistance(d3);
+        return uncertainty.estimate(kenobi, skywalker, sato, d1, d2, d3);
+    }
 
-        // Algorithm coefficients calculation based on trilateration formulas
-        float[] coefficients1 = calculateLinearCoefficients(p2, p1);
-        float coefficientA = coefficients1[0];
-        float coefficientB = coefficients1[1];
-        float constantC = calculateTriangulationConstant(d1, d2, p1, p2);
+    /**
+     * Estimates the uncertainty of the position of the reports of registered satellites,
+     * sampling the triple {@link #locate(SolverStrategy, List)} solves.
+     *
+     * @param reports reports of three or more distinct registered satellites
+     * @return the covariance and confidence ellipse of the position
+     * @throws IllegalArgumentException if a satellite is not registered or reports twice, or a
+     *                                  timestamp is outside its ephemeris
+     * @throws LocationException        if a distance is out of range or no triple has a usable
+     *                                  geometry
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public PositionUncertainty uncertainty(List<SatelliteReport> reports) throws LocationException {
+        int order = fixedOrder(reports);
+        if (order != NOT_FIXED) {
+            return uncertainty(reports.get(order & 3).distance(), reports.get(order >> 2 & 3).distance(),
+                    reports.get(order >> 4).distance());
+        }
+        SatelliteReport[] reported = new SatelliteReport[satellites.size()];
+        int triple = bestTriple(reports, reported);
+        int i = triple & 0xFF;
+        int j = triple >> 8 & 0xFF;
+        int k = triple >> 16;
+        return uncertainty.estimate(satellites.position(i, reported[i].timestamp()),
+                satellites.position(j, reported[j].timestamp()), satellites.position(k, reported[k].timestamp()),
+                reported[i].distance(), reported[j].distance(), reported[k].distance());
+    }
 
-        float[] coefficients2 = calculateLinearCoefficients(p3, p2);
-        float coefficientD = coefficients2[0];
-        float coefficientE = coefficients2[1];
-        float constantF = calculateTriangulationConstant(d2, d3, p2, p3);
+    /**
+     * Tells whether the reports are untimed reports of exactly kenobi, skywalker and sato, and
+     * where each one is.
+     *
+     * @param reports reports of a request
+     * @return the list index of the kenobi, skywalker and sato reports packed as
+     *         {@code k | s << 2 | t << 4}, or {@link #NOT_FIXED} if the reports are anything else
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private int fixedOrder(List<SatelliteReport> reports) {
+        if (reports.size() != 3) {
+            return NOT_FIXED;
+        }
+        int order = 0;
+        int found = 0;
+        for (int r = 0; r < 3; r++) {
+            SatelliteReport report = reports.get(r);
+            if (report.hasTimestamp()) {
+                return NOT_FIXED;
+            }
+            int index = satellites.indexOf(report.name());
+            int slot = index < 0 ? -1
+                    : index == kenobiIndex ? 0
+                    : index == skywalkerIndex ? 1
+                    : index == satoIndex ? 2
+                    : -1;
+            if (slot < 0 || (found & 1 << slot) != 0) {
+                return NOT_FIXED;
+            }
+            found |= 1 << slot;
+            order |= r << 2 * slot;
+        }
+        return order;
+    }
 
-        log.debug("Coeficientes calculados - A: {}, B: {}, C: {}, D: {}, E: {}, F: {}",
-                 coefficientA, coefficientB, constantC, coefficientD, coefficientE, constantF);
+    /**
+     * Validates the reports of registered satellites and selects the triple of best geometry.
+     *
+     * @param reports  reports of three or more distinct registered satellites
+     * @param reported receives each report at the registry index of its satellite
+     * @return the triple packed as {@code i | j << 8 | k << 16}
+     * @throws IllegalArgumentException if a satellite is not registered or reports twice
+     * @throws LocationException        if a distance is out of range or no triple has a usable
+     *                                  geometry
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private int bestTriple(List<SatelliteReport> reports, SatelliteReport[] reported) {
+        int mask = 0;
+        for (SatelliteReport report : reports) {
+            int index = satellites.indexOf(report.name());
+            if (index < 0) {
+                throw new InvalidInputException("Satélite desconocido: " + report.name());
+            }
+            if ((mask & 1 << index) != 0) {
+                throw new InvalidInputException("Satélite repetido: " + report.name());
+            }
+            validateDistance(report.distance());
+            reported[index] = report;
+            mask |= 1 << index;
+        }
 
-        float denominator = coefficientA * coefficientE - coefficientD * coefficientB;
-        if (Math.abs(denominator) < 1e-10) {
-            log.error("Determinante muy pequeño o cero: {}. No se puede resolver el sistema de ecuaciones", denominator);
+        int triple = satellites.bestTriple(mask);
+        if (triple == SatelliteRegistry.NO_TRIPLE) {
+            log.debug("Ningún trío de los satélites recibidos tiene una geometría válida: {}", reports);
             throw new LocationException("Configuración de satélites inválida para trilateración");
         }
+        if (log.isDebugEnabled()) {
+            int i = triple & 0xFF;
+            int j = triple >> 8 & 0xFF;
+            int k = triple >> 16;
+            log.debug("Trío seleccionado entre {} satélites: {}, {}, {} (GDOP {})", reports.size(),
+                    satellites.name(i), satellites.name(j), satellites.name(k), satellites.gdop(i, j, k));
+        }
+        return triple;
+    }
+
+    /**
+     * Solves the position from three satellites with the selected strategy.
+     *
+     * @param strategy solver strategy; {@code null} for the configured default
+     * @param p1       position of the first satellite
+     * @param p2       position of the second satellite
+     * @param p3       position of the third satellite
+     * @param d1       distance to the first satellite
+     * @param d2       distance to the second satellite
+     * @param d3       distance to the third satellite
+     * @return the calculated position
+     * @throws LocationException if the location cannot be determined
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private Position locate(SolverStrategy strategy, float[] p1, float[] p2, float[] p3,
+                            float d1, float d2, float d3) {
+        SolverStrategy effective = strategy == null ? defaultStrategy : strategy;
+        TrilaterationEvent event = new TrilaterationEvent();
+        event.begin();
+        try {
+            // Validar que las distancias sean razonables
+            validateDistance(d1);
+            validateDistance(d2);
+            validateDistance(d3);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Distancias asignadas - d1: {}, d2: {}, d3: {}. Solver: {}", d1, d2, d3, effective.id());
+            }
+
+            boolean sampled = metrics.sample(effective);
+            long start = sampled ? System.nanoTime() : 0L;
+            Position position;
+            try {
+                position = switch (effective) {
+                    case CLOSED_FORM -> closedForm.solve(p1, p2, p3, d1, d2, d3, event);
+                    case LEAST_SQUARES -> leastSquares.solve(p1, p2, p3, d1, d2, d3, event);
+                    case ROBUST -> robust.solve(p1, p2, p3, d1, d2, d3, event);
+                    case DOUBLE_PRECISION -> doublePrecision.solve(p1, p2, p3, d1, d2, d3, event);
+                };
+                validatePosition(position);
+            } catch (RuntimeException ex) {
+                metrics.recordFailure(effective);
+                throw ex;
+            }
+            if (sampled) {
+                metrics.recordSample(effective, System.nanoTime() - start, residual(position, p1, p2, p3, d1, d2, d3));
+            }
 
-        float x = (constantC * coefficientE - constantF * coefficientB) / denominator;
-        float y = (coefficientA * constantF - coefficientD * constantC) / denominator;
+            if (log.isDebugEnabled()) {
+                log.debug("Ubicación calculada exitosamente: x={}, y={}", position.x(), position.y());
+            }
+            event.solved(position.x(), position.y());
+            return position;
+        } catch (RuntimeException ex) {
+            event.failed(ex.getMessage());
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.inputs(effective.id(), d1, d2, d3);
+                event.commit();
+            }
+        }
+    }
 
+    /**
+     * Rejects positions no solver should return: not finite or outside the coverage area.
+     *
+     * @param position calculated position
+     * @throws LocationException if the position is not valid
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private void validatePosition(Position position) {
+        float x = position.x();
+        float y = position.y();
         // Validar que la posición calculada sea razonable
         if (Float.isNaN(x) || Float.isNaN(y) || Float.isInfinite(x) || Float.isInfinite(y)) {
-            log.error("Posición calculada inválida: x={}, y={}", x, y);
+            log.debug("Posición calculada inválida: x={}, y={}", x, y);
             throw new LocationException("No se pudo determinar una posición válida");
         }
 
         // Validar que la posición esté dentro de un rango razonable
         if (Math.abs(x) > 50000 || Math.abs(y) > 50000) {
-            log.error("Posición calculada fuera del rango válido: x={}, y={}", x, y);
+            log.debug("Posición calculada fuera del rango válido: x={}, y={}", x, y);
             throw new LocationException("Posición calculada fuera del área de cobertura");
         }
-
-        log.info("Ubicación calculada exitosamente: x={}, y={}", x, y);
-        return new float[]{x, y};
     }
 
     /**
-     * Calcula los coeficientes lineales para el algoritmo de trilateración.
+     * Root mean square of the differences between the distances from the position to the
+     * satellites and the reported distances.
      *
-     * @param point1 coordenadas del primer punto [x, y]
-     * @param point2 coordenadas del segundo punto [x, y]
-     * @return array con los coeficientes [A, B] donde A = 2*(x1-x2) y B = 2*(y1-y2)
+     * @param position calculated position
+     * @param p1       position of the first satellite
+     * @param p2       position of the second satellite
+     * @param p3       position of the third satellite
+     * @param d1       distance to the first satellite
+     * @param d2       distance to the second satellite
+     * @param d3       distance to the third satellite
+     * @return residual in distance units
      * @since 2025
      * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
      */
-    private float[] calculateLinearCoefficients(float[] point1, float[] point2) {
-        float coefficientA = 2 * (point1[0] - point2[0]);
-        float coefficientB = 2 * (point1[1] - point2[1]);
-
-        log.trace("Coeficientes lineales calculados para puntos {} y {}: A={}, B={}",
-                 Arrays.toString(point1), Arrays.toString(point2), coefficientA, coefficientB);
+    private static double residual(Position position, float[] p1, float[] p2, float[] p3,
+                                   float d1, float d2, float d3) {
+        double r1 = range(position, p1) - d1;
+        double r2 = range(position, p2) - d2;
+        double r3 = range(position, p3) - d3;
+        return Math.sqrt((r1 * r1 + r2 * r2 + r3 * r3) / 3.0);
+    }
 
-        return new float[]{coefficientA, coefficientB};
+    private static double range(Position position, float[] satellite) {
+        double dx = (double) position.x() - satellite[0];
+        double dy = (double) position.y() - satellite[1];
+        return Math.sqrt(dx * dx + dy * dy);
     }
 
     /**
-     * Calcula la constante de trilateración para dos puntos y sus distancias.
+     * Valida que una distancia esté dentro del rango admitido por la trilateración.
      *
-     * @param d1 distancia del primer punto
-     * @param d2 distancia del segundo punto
-     * @param p1 coordenadas del primer punto [x, y]
-     * @param p2 coordenadas del segundo punto [x, y]
-     * @return constante calculada para el algoritmo de trilateración
+     * @param distance distancia a validar
+     * @throws LocationException si la distancia es negativa o mayor que 100.000
      * @since 2025
      * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
      */
-    private float calculateTriangulationConstant(float d1, float d2, float[] p1, float[] p2) {
-        float constant = d1*d1 - d2*d2 - p1[0]*p1[0] + p2[0]*p2[0] - p1[1]*p1[1] + p2[1]*p2[1];
-
-        log.trace("Constante de trilateración calculada para d1={}, d2={}, p1={}, p2={}: {}",
-                 d1, d2, Arrays.toString(p1), Arrays.toString(p2), constant);
-
-        return constant;
+    private void validateDistance(float distance) {
+        if (distance < 0 || distance > 100000.0f) {
+            log.debug("Distancia inválida detectada: {}. Las distancias deben estar entre 0 y 100,000", distance);
+            throw new LocationException("Distancias fuera del rango válido para trilateración");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+package com.quasar.fireoperation.api.provider.constellation;
+
+import com.quasar.fireoperation.api.exception.InvalidInputException;
+
+/**
+ * Precomputed trajectory of one satellite: positions sampled at evenly spaced instants.
+ * <p>
+ * Samples are kept interleaved ({@code x0, y0, x1, y1, ...}) in a single {@code float[]}, so
+ * the two samples around an instant share a cache line. Because the spacing is constant, the
+ * sample index is one multiplication by the precomputed inverse of the step, with no search;
+ * the position between two samples is interpolated linearly. A lookup costs a handful of
+ * arithmetic operations, on the order of the closed-form solve itself.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public final class Ephemeris {
+
+    private final long start;
+    private final long step;
+    private final double inverseStep;
+    private final int last;
+    private final float[] samples;
+
+    /**
+     * Creates an ephemeris.
+     *
+     * @param start first sample instant, epoch milliseconds
+     * @param step  milliseconds between consecutive samples
+     * @param xs    x coordinate of each sample
+     * @param ys    y coordinate of each sample
+     * @throws IllegalArgumentException if the step is not positive, there are fewer than two
+     *                                  samples or the coordinate arrays differ in length
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public Ephemeris(long start, long step, float[] xs, float[] ys) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("El paso de las efemérides debe ser positivo: " + step);
+        }
+        if (xs.length < 2 || xs.length != ys.length) {
+            throw new IllegalArgumentException("Las efemérides necesitan al menos 2 muestras con x e y: "
+                    + xs.length + ", " + ys.length);
+        }
+        this.start = start;
+        this.step = step;
+        this.inverseStep = 1.0 / step;
+        this.last = xs.length - 1;
+        this.samples = new float[xs.length * 2];
+        for (int i = 0; i < xs.length; i++) {
+            samples[2 * i] = xs[i];
+            samples[2 * i + 1] = ys[i];
+        }
+    }
+
+    /**
+     * Returns the instant of the first sample.
+     *
+     * @return epoch milliseconds
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public long start() {
+        return start;
+    }
+
+    /**
+     * Returns the instant of the last sample.
+     *
+     * @return epoch milliseconds
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public long end() {
+        return start + last * step;
+    }
+
+    /**
+     * Returns the spacing of the samples.
+     *
+     * @return milliseconds between consecutive samples
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public long step() {
+        return step;
+    }
+
+    /**
+     * Returns the number of samples.
+     *
+     * @return sample count
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public int size() {
+        return last + 1;
+    }
+
+    /**
+     * Tells whether an instant lies within the sampled interval.
+     *
+     * @param timestamp epoch milliseconds
+     * @return {@code true} if the position at that instant can be interpolated
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public boolean covers(long timestamp) {
+        return timestamp >= start && timestamp - start <= (long) last * step;
+    }
+
+    /**
+     * Interpolates the position at an instant.
+     *
+     * @param timestamp epoch milliseconds within {@link #start()} and {@link #end()}
+     * @param out       array receiving {@code [x, y]}
+     * @throws IllegalArgumentException if the instant is outside the sampled interval
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void positionAt(long timestamp, float[] out) {
+        if (!covers(timestamp)) {
+            throw new InvalidInputException("Instante fuera de las efemérides [" + start + ", " + end() + "]: "
+                    + timestamp);
+        }
+        double offset = (timestamp - start) * inverseStep;
+        int index = Math.min((int) offset, last - 1);
+        float fraction = (float) (offset - index);
+        int k = index << 1;
+        out[0] = samples[k] + fraction * (samples[k + 2] - samples[k]);
+        out[1] = samples[k + 1] + fraction * (samples[k + 3] - samples[k + 1]);
+    }
+}
@@ -0,0 +1,102 @@
+package com.quasar.fireoperation.api.provider.constellation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads ephemeris tables from a text file.
+ * <p>
+ * One sample per line, {@code satellite,epochMillis,x,y}; blank lines and lines starting with
+ * {@code #} are ignored. The samples of each satellite must be in time order and evenly
+ * spaced, which is what makes the lookup in {@link Ephemeris} a multiplication instead of a
+ * search. The file is read once at startup; nothing is parsed per request.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public final class EphemerisLoader {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     *
+     * @throws UnsupportedOperationException if instantiation is attempted.
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private EphemerisLoader() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Reads the ephemerides of a file.
+     *
+     * @param reader file contents
+     * @return ephemeris by lower-case satellite name, in order of first appearance
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if a line is malformed, or the samples of a satellite
+     *                                  are fewer than two, out of order or unevenly spaced
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static Map<String, Ephemeris> load(Reader reader) throws IOException {
+        Map<String, List<float[]>> positions = new LinkedHashMap<>();
+        Map<String, List<Long>> instants = new LinkedHashMap<>();
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String line;
+        int number = 0;
+        while ((line = lines.readLine()) != null) {
+            number++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            if (fields.length != 4 || fields[0].isBlank()) {
+                throw new IllegalArgumentException("Línea " + number + " de efemérides mal definida "
+                        + "(satelite,instante_ms,x,y): " + line);
+            }
+            String name = fields[0].trim().toLowerCase(Locale.ROOT);
+            try {
+                instants.computeIfAbsent(name, key -> new ArrayList<>()).add(Long.parseLong(fields[1].trim()));
+                positions.computeIfAbsent(name, key -> new ArrayList<>())
+                        .add(new float[]{Float.parseFloat(fields[2].trim()), Float.parseFloat(fields[3].trim())});
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Línea " + number + " de efemérides mal definida "
+                        + "(satelite,instante_ms,x,y): " + line, ex);
+            }
+        }
+
+        Map<String, Ephemeris> ephemerides = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Long>> entry : instants.entrySet()) {
+            ephemerides.put(entry.getKey(), toEphemeris(entry.getKey(), entry.getValue(), positions.get(entry.getKey())));
+        }
+        return ephemerides;
+    }
+
+    private static Ephemeris toEphemeris(String name, List<Long> instants, List<float[]> positions) {
+        if (instants.size() < 2) {
+            throw new IllegalArgumentException("Las efemérides de " + name + " necesitan al menos 2 muestras");
+        }
+        long start = instants.get(0);
+        long step = instants.get(1) - start;
+        float[] xs = new float[instants.size()];
+        float[] ys = new float[instants.size()];
+        for (int i = 0; i < instants.size(); i++) {
+            if (instants.get(i) != start + i * step || step <= 0) {
+                throw new IllegalArgumentException("Las muestras de " + name
+                        + " deben estar ordenadas y equiespaciadas (paso " + step + " ms): " + instants.get(i));
+            }
+            xs[i] = positions.get(i)[0];
+            ys[i] = positions.get(i)[1];
+        }
+        return new Ephemeris(start, step, xs, ys);
+    }
+}
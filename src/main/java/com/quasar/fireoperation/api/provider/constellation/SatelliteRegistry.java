@@ -0,0 +1,432 @@
+package com.quasar.fireoperation.api.provider.constellation;
+
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.utils.Constants;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Registry of the ground stations and satellites that can report a distance.
+ * <p>
+ * Holds kenobi, skywalker and sato plus the stations configured in
+ * {@code quasar.constellation.stations}, each with a fixed index. When more than three of
+ * them report, the position is solved with the three of best geometry: the triple with the
+ * lowest geometric dilution of precision (GDOP), {@code sqrt(trace((HᵀH)⁻¹))} where the rows
+ * of {@code H} are the unit vectors from the emitter to the satellites. Triples seen from the
+ * emitter along nearly the same line have a large GDOP: a small range error moves the
+ * solution a long way. Triples of collinear satellites are never chosen: the solvers cannot
+ * tell the emitter from its mirror image across the line.
+ * </p>
+ * <p>
+ * Everything is computed once, at load: the GDOP of every triple and, for every subset of the
+ * constellation given as a bit mask of satellite indices, its best triple. Choosing the
+ * triple of a request is then {@link #bestTriple(int)}, one array read, instead of a search
+ * over {@code C(n, 3)} triples. The table has {@code 2ⁿ} entries, so the constellation is
+ * limited to {@value #MAX_SATELLITES} satellites (256 KiB). The emitter is unknown at load,
+ * so GDOP is evaluated at the centroid of the constellation, which stands for the coverage
+ * area.
+ * </p>
+ * <p>
+ * Satellites may move: an {@link Ephemeris} gives the position of a satellite at the instant
+ * of a timestamped report ({@link #position(int, long)}). Reports without timestamp, and
+ * satellites without ephemeris, use the nominal position, which is also the one the GDOP
+ * tables are computed on.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Slf4j
+public final class SatelliteRegistry {
+
+    /** Maximum number of satellites; the subset table has {@code 2^MAX_SATELLITES} entries. */
+    public static final int MAX_SATELLITES = 16;
+    /** Value of {@link #bestTriple(int)} when a subset has no usable triple. */
+    public static final int NO_TRIPLE = -1;
+
+    private static final double SINGULAR = 1e-9;
+
+    private final String[] names;
+    private final Map<String, Integer> indices;
+    private final float[][] positions;
+    private final Ephemeris[] ephemerides;
+    private final float[] reference;
+    private final double[] gdop;
+    private final int[] best;
+
+    /**
+     * Creates a registry of fixed satellites and precomputes the GDOP tables.
+     *
+     * @param positions satellite positions by name, in index order; names are case-insensitive
+     * @throws IllegalArgumentException if there are fewer than three or more than
+     *                                  {@value #MAX_SATELLITES} satellites, or a name is repeated
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public SatelliteRegistry(Map<String, float[]> positions) {
+        this(positions, Map.of());
+    }
+
+    /**
+     * Creates the registry and precomputes the GDOP tables.
+     *
+     * @param positions   nominal satellite positions by name, in index order; names are
+     *                    case-insensitive
+     * @param ephemerides trajectories of the satellites that move, by name
+     * @throws IllegalArgumentException if there are fewer than three or more than
+     *                                  {@value #MAX_SATELLITES} satellites, a name is repeated
+     *                                  or an ephemeris belongs to no satellite
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public SatelliteRegistry(Map<String, float[]> positions, Map<String, Ephemeris> ephemerides) {
+        int n = positions.size();
+        if (n < 3 || n > MAX_SATELLITES) {
+            throw new IllegalArgumentException("La constelación debe tener entre 3 y " + MAX_SATELLITES
+                    + " satélites: " + n);
+        }
+        this.names = new String[n];
+        this.positions = new float[n][];
+        int index = 0;
+        for (Map.Entry<String, float[]> entry : positions.entrySet()) {
+            String name = entry.getKey().toLowerCase(Locale.ROOT);
+            for (int previous = 0; previous < index; previous++) {
+                if (names[previous].equals(name)) {
+                    throw new IllegalArgumentException("Satélite repetido en la constelación: " + name);
+                }
+            }
+            names[index] = name;
+            this.positions[index] = entry.getValue().clone();
+            index++;
+        }
+        this.indices = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            indices.put(names[i], i);
+        }
+        this.ephemerides = new Ephemeris[n];
+        for (Map.Entry<String, Ephemeris> entry : ephemerides.entrySet()) {
+            Integer satellite = indices.get(entry.getKey().toLowerCase(Locale.ROOT));
+            if (satellite == null) {
+                throw new IllegalArgumentException("Efemérides de un satélite no registrado: " + entry.getKey());
+            }
+            this.ephemerides[satellite] = entry.getValue();
+        }
+        this.reference = centroid(this.positions);
+        this.gdop = scoreTriples(this.positions, reference);
+        this.best = bestTriples(n, gdop);
+        log.info("Constelación cargada: {} satélites ({} con efemérides), {} subconjuntos precalculados. "
+                + "Referencia GDOP: ({}, {})", n, ephemerides.size(), best.length, reference[0], reference[1]);
+    }
+
+    /**
+     * Creates the registry of kenobi, skywalker and sato followed by the configured stations.
+     *
+     * @param stations comma-separated {@code name:x:y} entries; {@code null} or blank for none
+     * @return the registry
+     * @throws IllegalArgumentException if an entry is malformed or repeats a name
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static SatelliteRegistry withStations(String stations) {
+        return withStations(stations, Map.of());
+    }
+
+    /**
+     * Creates the registry of kenobi, skywalker and sato followed by the configured stations,
+     * with the trajectories of those that move.
+     *
+     * @param stations    comma-separated {@code name:x:y} entries; {@code null} or blank for none
+     * @param ephemerides trajectories by satellite name
+     * @return the registry
+     * @throws IllegalArgumentException if an entry is malformed or repeats a name, or an
+     *                                  ephemeris belongs to no satellite
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static SatelliteRegistry withStations(String stations, Map<String, Ephemeris> ephemerides) {
+        Map<String, float[]> positions = new LinkedHashMap<>();
+        for (String name : new String[]{"kenobi", "skywalker", "sato"}) {
+            positions.put(name, Constants.SATELLITE_POSITIONS.get(name));
+        }
+        if (stations != null && !stations.isBlank()) {
+            for (String station : stations.split(",")) {
+                String[] fields = station.trim().split(":");
+                if (fields.length != 3 || fields[0].isBlank()) {
+                    throw new IllegalArgumentException("Estación mal definida (nombre:x:y): " + station.trim());
+                }
+                float[] position;
+                try {
+                    position = new float[]{Float.parseFloat(fields[1].trim()), Float.parseFloat(fields[2].trim())};
+                } catch (NumberFormatException ex) {
+                    throw new IllegalArgumentException("Estación mal definida (nombre:x:y): " + station.trim(), ex);
+                }
+                if (positions.putIfAbsent(fields[0].trim().toLowerCase(Locale.ROOT), position) != null) {
+                    throw new IllegalArgumentException("Satélite repetido en la constelación: " + fields[0].trim());
+                }
+            }
+        }
+        return new SatelliteRegistry(positions, ephemerides);
+    }
+
+    /**
+     * Returns the number of satellites.
+     *
+     * @return satellite count
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Returns the index of a satellite.
+     * <p>
+     * Lower-case names, the usual case, are found with one hash lookup; other spellings with
+     * a scan of at most {@value #MAX_SATELLITES} {@link String#equalsIgnoreCase} comparisons.
+     * Neither allocates.
+     * </p>
+     *
+     * @param name satellite name, case-insensitive
+     * @return its index, or {@code -1} if it is not registered
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public int indexOf(String name) {
+        if (name == null) {
+            return -1;
+        }
+        Integer index = indices.get(name);
+        if (index != null) {
+            return index;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the name of a satellite.
+     *
+     * @param index satellite index
+     * @return lower-case name
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public String name(int index) {
+        return names[index];
+    }
+
+    /**
+     * Returns the nominal position of a satellite.
+     *
+     * @param index satellite index
+     * @return {@code [x, y]}; shared, must not be modified
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public float[] position(int index) {
+        return positions[index];
+    }
+
+    /**
+     * Returns the position of a satellite at the instant of a report.
+     *
+     * @param index     satellite index
+     * @param timestamp epoch milliseconds, or {@code SatelliteReport.NO_TIMESTAMP}
+     * @return the nominal position, shared and not to be modified, when there is no timestamp
+     *         or the satellite has no ephemeris; otherwise a new array with the interpolated
+     *         position
+     * @throws IllegalArgumentException if the instant is outside the ephemeris of the satellite
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public float[] position(int index, long timestamp) {
+        Ephemeris ephemeris = ephemerides[index];
+        if (ephemeris == null || timestamp == SatelliteReport.NO_TIMESTAMP) {
+            return positions[index];
+        }
+        float[] position = new float[2];
+        ephemeris.positionAt(timestamp, position);
+        return position;
+    }
+
+    /**
+     * Returns the ephemeris of a satellite.
+     *
+     * @param index satellite index
+     * @return its ephemeris, or {@code null} if the satellite does not move
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public Ephemeris ephemeris(int index) {
+        return ephemerides[index];
+    }
+
+    /**
+     * Returns the best triple of a subset of satellites.
+     *
+     * @param mask subset of satellites, bit {@code i} set for satellite {@code i}
+     * @return the triple packed as {@code i | j << 8 | k << 16} with {@code i < j < k}, or
+     *         {@link #NO_TRIPLE} if the subset has fewer than three satellites or only
+     *         degenerate triples
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public int bestTriple(int mask) {
+        return best[mask];
+    }
+
+    /**
+     * Returns the precomputed GDOP of a triple.
+     *
+     * @param i first satellite index
+     * @param j second satellite index
+     * @param k third satellite index, in any order with the others
+     * @return GDOP at the reference point; {@link Double#POSITIVE_INFINITY} for a degenerate
+     *         triple
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public double gdop(int i, int j, int k) {
+        int n = names.length;
+        int low = Math.min(i, Math.min(j, k));
+        int high = Math.max(i, Math.max(j, k));
+        int middle = i + j + k - low - high;
+        return gdop[(low * n + middle) * n + high];
+    }
+
+    /**
+     * Returns the point where the GDOP of the triples is evaluated.
+     *
+     * @return {@code [x, y]} centroid of the constellation
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public float[] reference() {
+        return reference.clone();
+    }
+
+    private static float[] centroid(float[][] positions) {
+        double x = 0;
+        double y = 0;
+        for (float[] position : positions) {
+            x += position[0];
+            y += position[1];
+        }
+        return new float[]{(float) (x / positions.length), (float) (y / positions.length)};
+    }
+
+    /**
+     * Computes the GDOP of every triple.
+     *
+     * @param positions satellite positions
+     * @param reference emitter position the geometry is evaluated at
+     * @return {@code n³} scores indexed by {@code (i * n + j) * n + k} with {@code i < j < k};
+     *         other entries and degenerate triples are {@link Double#POSITIVE_INFINITY}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private static double[] scoreTriples(float[][] positions, float[] reference) {
+        int n = positions.length;
+        double[] ux = new double[n];
+        double[] uy = new double[n];
+        for (int i = 0; i < n; i++) {
+            double dx = (double) reference[0] - positions[i][0];
+            double dy = (double) reference[1] - positions[i][1];
+            double range = Math.hypot(dx, dy);
+            // Un satélite en el punto de referencia no aporta dirección: sus tríos quedan degenerados
+            ux[i] = range == 0 ? Double.NaN : dx / range;
+            uy[i] = range == 0 ? Double.NaN : dy / range;
+        }
+        double[] scores = new double[n * n * n];
+        Arrays.fill(scores, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                for (int k = j + 1; k < n; k++) {
+                    double g11 = ux[i] * ux[i] + ux[j] * ux[j] + ux[k] * ux[k];
+                    double g12 = ux[i] * uy[i] + ux[j] * uy[j] + ux[k] * uy[k];
+                    double g22 = uy[i] * uy[i] + uy[j] * uy[j] + uy[k] * uy[k];
+                    double det = g11 * g22 - g12 * g12;
+                    if (det > SINGULAR && !collinear(positions[i], positions[j], positions[k])) {
+                        scores[(i * n + j) * n + k] = Math.sqrt((g11 + g22) / det);
+                    }
+                }
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Tells whether three satellites lie on a line: the sine of the angle at the first one is
+     * below {@value #SINGULAR}.
+     *
+     * @param p1 first satellite
+     * @param p2 second satellite
+     * @param p3 third satellite
+     * @return {@code true} if the triple cannot be solved
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private static boolean collinear(float[] p1, float[] p2, float[] p3) {
+        double ax = (double) p2[0] - p1[0];
+        double ay = (double) p2[1] - p1[1];
+        double bx = (double) p3[0] - p1[0];
+        double by = (double) p3[1] - p1[1];
+        return Math.abs(ax * by - ay * bx) <= SINGULAR * Math.hypot(ax, ay) * Math.hypot(bx, by);
+    }
+
+    /**
+     * Computes the best triple of every subset.
+     * <p>
+     * A subset of three satellites is its own triple; the best triple of a larger subset is
+     * the best among those of the subsets with one satellite less, which are smaller masks
+     * and therefore already computed: {@code O(2ⁿ · n)} instead of {@code O(2ⁿ · n³)}.
+     * </p>
+     *
+     * @param n    number of satellites
+     * @param gdop triple scores
+     * @return packed best triple per mask, or {@link #NO_TRIPLE}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private static int[] bestTriples(int n, double[] gdop) {
+        int[] best = new int[1 << n];
+        for (int mask = 0; mask < best.length; mask++) {
+            int count = Integer.bitCount(mask);
+            if (count < 3) {
+                best[mask] = NO_TRIPLE;
+            } else if (count == 3) {
+                int i = Integer.numberOfTrailingZeros(mask);
+                int j = Integer.numberOfTrailingZeros(mask & ~(1 << i));
+                int k = 31 - Integer.numberOfLeadingZeros(mask);
+                best[mask] = Double.isFinite(gdop[(i * n + j) * n + k]) ? i | j << 8 | k << 16 : NO_TRIPLE;
+            } else {
+                int choice = NO_TRIPLE;
+                double score = Double.POSITIVE_INFINITY;
+                for (int rest = mask; rest != 0; rest &= rest - 1) {
+                    int candidate = best[mask & ~Integer.lowestOneBit(rest)];
+                    if (candidate != NO_TRIPLE) {
+                        double candidateScore = gdop[((candidate & 0xFF) * n + (candidate >> 8 & 0xFF)) * n
+                                + (candidate >> 16)];
+                        if (candidateScore < score) {
+                            choice = candidate;
+                            score = candidateScore;
+                        }
+                    }
+                }
+                best[mask] = choice;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,85 @@
+package com.quasar.fireoperation.api.provider.solver;
+
+import com.quasar.fireoperation.api.exception.LocationException;
+
+/**
+ * Closed-form trilateration of many distance triples against one satellite geometry.
+ * <p>
+ * The linear system of {@link DoublePrecisionSolver} only depends on the distances through its
+ * right-hand side: the matrix and its determinant are computed once, at construction, and each
+ * triple costs a handful of multiply-adds in {@code double}, with no allocation. The loop
+ * over the arrays has no branches, so the JIT can unroll and vectorize it. Meant for
+ * sampling, where thousands of noisy triples share the same satellites.
+ * </p>
+ * <p>
+ * Instances are immutable and thread-safe; the arrays passed to {@link #solve} belong to the
+ * caller.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public final class BatchLinearSolver {
+
+    private final double a;
+    private final double b;
+    private final double d;
+    private final double e;
+    private final double k1;
+    private final double k2;
+    private final double inverseDeterminant;
+
+    /**
+     * Prepares the system of a satellite geometry.
+     *
+     * @param p1 position of the first satellite
+     * @param p2 position of the second satellite
+     * @param p3 position of the third satellite
+     * @throws LocationException if the satellites are collinear
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public BatchLinearSolver(float[] p1, float[] p2, float[] p3) {
+        // Mismas ecuaciones que DoublePrecisionSolver: A x + B y = C y D x + E y = F
+        a = 2.0 * ((double) p2[0] - p1[0]);
+        b = 2.0 * ((double) p2[1] - p1[1]);
+        d = 2.0 * ((double) p3[0] - p2[0]);
+        e = 2.0 * ((double) p3[1] - p2[1]);
+        k1 = squaredNorm(p2) - squaredNorm(p1);
+        k2 = squaredNorm(p3) - squaredNorm(p2);
+        double determinant = a * e - d * b;
+        if (Math.abs(determinant) < 1e-10) {
+            throw new LocationException("Configuración de satélites inválida para trilateración");
+        }
+        inverseDeterminant = 1.0 / determinant;
+    }
+
+    /**
+     * Solves the first {@code count} distance triples.
+     *
+     * @param d1    distances to the first satellite
+     * @param d2    distances to the second satellite
+     * @param d3    distances to the third satellite
+     * @param x     receives the x coordinates
+     * @param y     receives the y coordinates
+     * @param count number of triples to solve
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void solve(double[] d1, double[] d2, double[] d3, double[] x, double[] y, int count) {
+        for (int i = 0; i < count; i++) {
+            double s1 = d1[i] * d1[i];
+            double s2 = d2[i] * d2[i];
+            double s3 = d3[i] * d3[i];
+            double c = s1 - s2 + k1;
+            double f = s2 - s3 + k2;
+            x[i] = (c * e - f * b) * inverseDeterminant;
+            y[i] = (a * f - d * c) * inverseDeterminant;
+        }
+    }
+
+    private static double squaredNorm(float[] point) {
+        return (double) point[0] * point[0] + (double) point[1] * point[1];
+    }
+}
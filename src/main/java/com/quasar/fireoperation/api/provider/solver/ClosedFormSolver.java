@@ -0,0 +1,125 @@
+package com.quasar.fireoperation.api.provider.solver;
+
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.exception.LocationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Single-precision closed-form trilateration.
+ * <p>
+ * Subtracting the circle equations of consecutive satellites leaves a 2x2 linear system,
+ * solved with Cramer's rule in {@code float}. This is the historical solver of the API and
+ * the default strategy.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Component
+@Slf4j
+public final class ClosedFormSolver implements TrilaterationSolver {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public SolverStrategy strategy() {
+        return SolverStrategy.CLOSED_FORM;
+    }
+
+    /**
+     * Solves the linear system derived from the three circle equations.
+     *
+     * @param p1       position of the first satellite
+     * @param p2       position of the second satellite
+     * @param p3       position of the third satellite
+     * @param d1       distance to the first satellite
+     * @param d2       distance to the second satellite
+     * @param d3       distance to the third satellite
+     * @param progress receiver of the solver progress
+     * @return the calculated position
+     * @throws LocationException if the determinant of the system is zero
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public Position solve(float[] p1, float[] p2, float[] p3, float d1, float d2, float d3, SolverProgress progress) {
+        // Algorithm coefficients calculation based on trilateration formulas
+        float[] coefficients1 = calculateLinearCoefficients(p2, p1);
+        float coefficientA = coefficients1[0];
+        float coefficientB = coefficients1[1];
+        float constantC = calculateTriangulationConstant(d1, d2, p1, p2);
+
+        float[] coefficients2 = calculateLinearCoefficients(p3, p2);
+        float coefficientD = coefficients2[0];
+        float coefficientE = coefficients2[1];
+        float constantF = calculateTriangulationConstant(d2, d3, p2, p3);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Coeficientes calculados - A: {}, B: {}, C: {}, D: {}, E: {}, F: {}",
+                     coefficientA, coefficientB, constantC, coefficientD, coefficientE, constantF);
+        }
+
+        float denominator = coefficientA * coefficientE - coefficientD * coefficientB;
+        // Resolución cerrada: una única iteración
+        progress.progress(1, denominator);
+        if (Math.abs(denominator) < 1e-10) {
+            log.error("Determinante muy pequeño o cero: {}. No se puede resolver el sistema de ecuaciones", denominator);
+            throw new LocationException("Configuración de satélites inválida para trilateración");
+        }
+
+        float x = (constantC * coefficientE - constantF * coefficientB) / denominator;
+        float y = (coefficientA * constantF - coefficientD * constantC) / denominator;
+        return new Position(x, y);
+    }
+
+    /**
+     * Calcula los coeficientes lineales para el algoritmo de trilateración.
+     *
+     * @param point1 coordenadas del primer punto [x, y]
+     * @param point2 coordenadas del segundo punto [x, y]
+     * @return array con los coeficientes [A, B] donde A = 2*(x1-x2) y B = 2*(y1-y2)
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private float[] calculateLinearCoefficients(float[] point1, float[] point2) {
+        float coefficientA = 2 * (point1[0] - point2[0]);
+        float coefficientB = 2 * (point1[1] - point2[1]);
+
+        if (log.isTraceEnabled()) {
+            log.trace("Coeficientes lineales calculados para puntos {} y {}: A={}, B={}",
+                     Arrays.toString(point1), Arrays.toString(point2), coefficientA, coefficientB);
+        }
+
+        return new float[]{coefficientA, coefficientB};
+    }
+
+    /**
+     * Calcula la constante de trilateración para dos puntos y sus distancias.
+     *
+     * @param d1 distancia del primer punto
+     * @param d2 distancia del segundo punto
+     * @param p1 coordenadas del primer punto [x, y]
+     * @param p2 coordenadas del segundo punto [x, y]
+     * @return constante calculada para el algoritmo de trilateración
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private float calculateTriangulationConstant(float d1, float d2, float[] p1, float[] p2) {
+        float constant = d1*d1 - d2*d2 - p1[0]*p1[0] + p2[0]*p2[0] - p1[1]*p1[1] + p2[1]*p2[1];
+
+        if (log.isTraceEnabled()) {
+            log.trace("Constante de trilateración calculada para d1={}, d2={}, p1={}, p2={}: {}",
+                     d1, d2, Arrays.toString(p1), Arrays.toString(p2), constant);
+        }
+
+        return constant;
+    }
+}
@@ -0,0 +1,77 @@
+package com.quasar.fireoperation.api.provider.solver;
+
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.exception.LocationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Double-precision closed-form trilateration.
+ * <p>
+ * Same linear system as {@link ClosedFormSolver}, but the squared distances and the Cramer
+ * products are computed in {@code double}. The constants subtract squares of the order of
+ * {@code d²}; in {@code float} they lose about {@code d² · 2⁻²⁴}, which becomes visible for
+ * distances in the tens of thousands. Only the result is narrowed to {@code float}.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Component
+@Slf4j
+public final class DoublePrecisionSolver implements TrilaterationSolver {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public SolverStrategy strategy() {
+        return SolverStrategy.DOUBLE_PRECISION;
+    }
+
+    /**
+     * Solves the linear system derived from the three circle equations in double precision.
+     *
+     * @param p1       position of the first satellite
+     * @param p2       position of the second satellite
+     * @param p3       position of the third satellite
+     * @param d1       distance to the first satellite
+     * @param d2       distance to the second satellite
+     * @param d3       distance to the third satellite
+     * @param progress receiver of the solver progress
+     * @return the calculated position
+     * @throws LocationException if the determinant of the system is zero
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public Position solve(float[] p1, float[] p2, float[] p3, float d1, float d2, float d3, SolverProgress progress) {
+        double a = 2.0 * ((double) p2[0] - p1[0]);
+        double b = 2.0 * ((double) p2[1] - p1[1]);
+        double c = constant(d1, d2, p1, p2);
+        double d = 2.0 * ((double) p3[0] - p2[0]);
+        double e = 2.0 * ((double) p3[1] - p2[1]);
+        double f = constant(d2, d3, p2, p3);
+
+        double denominator = a * e - d * b;
+        progress.progress(1, (float) denominator);
+        if (Math.abs(denominator) < 1e-10) {
+            log.error("Determinante muy pequeño o cero: {}. No se puede resolver el sistema de ecuaciones", denominator);
+            throw new LocationException("Configuración de satélites inválida para trilateración");
+        }
+
+        return new Position((float) ((c * e - f * b) / denominator), (float) ((a * f - d * c) / denominator));
+    }
+
+    private static double constant(double d1, double d2, float[] p1, float[] p2) {
+        double x1 = p1[0];
+        double y1 = p1[1];
+        double x2 = p2[0];
+        double y2 = p2[1];
+        return d1 * d1 - d2 * d2 - x1 * x1 + x2 * x2 - y1 * y1 + y2 * y2;
+    }
+}
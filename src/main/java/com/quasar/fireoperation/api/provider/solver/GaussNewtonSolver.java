@@ -0,0 +1,195 @@
+package com.quasar.fireoperation.api.provider.solver;
+
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.exception.LocationException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Iterative trilateration minimizing the geometric residuals {@code rᵢ = |p - sᵢ| - dᵢ}.
+ * <p>
+ * The iteration starts from the double-precision closed-form point. Each step solves the
+ * normal equations {@code (JᵀJ + λ·diag(JᵀJ)) Δ = Jᵀr}, where the rows of {@code J} are the
+ * unit vectors from the satellites to the current point. Undamped solvers use {@code λ = 0}
+ * (Gauss-Newton) and take every step; damped solvers adapt {@code λ} (Levenberg-Marquardt)
+ * and only accept steps that lower {@code Σ rᵢ²}. Iteration stops when a step is shorter than
+ * {@value #TOLERANCE} or after {@value #MAX_ITERATIONS} iterations. For consistent distances
+ * the first step is already below the tolerance and the result equals the closed form.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Slf4j
+abstract sealed class GaussNewtonSolver implements TrilaterationSolver permits LeastSquaresSolver, RobustSolver {
+
+    static final int MAX_ITERATIONS = 20;
+    static final double TOLERANCE = 1e-6;
+    private static final double MIN_DETERMINANT = 1e-10;
+    private static final double MIN_RANGE = 1e-9;
+    private static final double INITIAL_DAMPING = 1e-3;
+    private static final double MAX_DAMPING = 1e12;
+
+    private final boolean damped;
+
+    /**
+     * Creates the solver.
+     *
+     * @param damped whether steps are damped and only accepted when they lower the cost
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    GaussNewtonSolver(boolean damped) {
+        this.damped = damped;
+    }
+
+    /**
+     * Computes the position minimizing the sum of squared residuals.
+     *
+     * @param p1       position of the first satellite
+     * @param p2       position of the second satellite
+     * @param p3       position of the third satellite
+     * @param d1       distance to the first satellite
+     * @param d2       distance to the second satellite
+     * @param d3       distance to the third satellite
+     * @param progress receiver of the iterations and last determinant
+     * @return the calculated position
+     * @throws LocationException if the satellites are collinear
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public final Position solve(float[] p1, float[] p2, float[] p3, float d1, float d2, float d3,
+                                SolverProgress progress) {
+        Problem problem = new Problem(p1, p2, p3, d1, d2, d3);
+
+        // Punto inicial: solución cerrada en doble precisión
+        double a = 2.0 * (problem.x2 - problem.x1);
+        double b = 2.0 * (problem.y2 - problem.y1);
+        double c = problem.d1 * problem.d1 - problem.d2 * problem.d2 - problem.x1 * problem.x1
+                + problem.x2 * problem.x2 - problem.y1 * problem.y1 + problem.y2 * problem.y2;
+        double d = 2.0 * (problem.x3 - problem.x2);
+        double e = 2.0 * (problem.y3 - problem.y2);
+        double f = problem.d2 * problem.d2 - problem.d3 * problem.d3 - problem.x2 * problem.x2
+                + problem.x3 * problem.x3 - problem.y2 * problem.y2 + problem.y3 * problem.y3;
+        double determinant = a * e - d * b;
+        if (Math.abs(determinant) < MIN_DETERMINANT) {
+            progress.progress(0, (float) determinant);
+            log.error("Determinante muy pequeño o cero: {}. No se puede resolver el sistema de ecuaciones", determinant);
+            throw new LocationException("Configuración de satélites inválida para trilateración");
+        }
+        double x = (c * e - f * b) / determinant;
+        double y = (a * f - d * c) / determinant;
+
+        double lambda = damped ? INITIAL_DAMPING : 0.0;
+        double cost = problem.linearize(x, y);
+        int iterations = 0;
+        while (iterations < MAX_ITERATIONS) {
+            iterations++;
+            double h11 = problem.h11 * (1.0 + lambda);
+            double h22 = problem.h22 * (1.0 + lambda);
+            determinant = h11 * h22 - problem.h12 * problem.h12;
+            if (Math.abs(determinant) < MIN_DETERMINANT) {
+                break;
+            }
+            double stepX = (h22 * problem.g1 - problem.h12 * problem.g2) / determinant;
+            double stepY = (h11 * problem.g2 - problem.h12 * problem.g1) / determinant;
+            boolean converged = stepX * stepX + stepY * stepY < TOLERANCE * TOLERANCE;
+            if (damped) {
+                double trial = problem.cost(x - stepX, y - stepY);
+                if (trial > cost) {
+                    // Paso rechazado: más amortiguación, el siguiente paso se acerca al descenso de gradiente
+                    lambda *= 10.0;
+                    if (converged || lambda > MAX_DAMPING) {
+                        break;
+                    }
+                    continue;
+                }
+                lambda = Math.max(lambda / 10.0, 1e-12);
+            }
+            x -= stepX;
+            y -= stepY;
+            if (converged) {
+                break;
+            }
+            cost = problem.linearize(x, y);
+        }
+        progress.progress(iterations, (float) determinant);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Solver {} terminó en {} iteraciones: x={}, y={}", strategy().id(), iterations, x, y);
+        }
+        return new Position((float) x, (float) y);
+    }
+
+    /**
+     * Satellites, distances and the normal equations at the current point. One instance per
+     * solve; it does not escape, so the JIT can keep its fields in registers.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private static final class Problem {
+
+        final double x1, y1, x2, y2, x3, y3;
+        final double d1, d2, d3;
+        double h11, h12, h22, g1, g2;
+
+        Problem(float[] p1, float[] p2, float[] p3, float d1, float d2, float d3) {
+            this.x1 = p1[0];
+            this.y1 = p1[1];
+            this.x2 = p2[0];
+            this.y2 = p2[1];
+            this.x3 = p3[0];
+            this.y3 = p3[1];
+            this.d1 = d1;
+            this.d2 = d2;
+            this.d3 = d3;
+        }
+
+        /**
+         * Fills {@code JᵀJ} and {@code Jᵀr} at a point.
+         *
+         * @return sum of squared residuals at the point
+         */
+        double linearize(double x, double y) {
+            h11 = h12 = h22 = g1 = g2 = 0.0;
+            return add(x, y, x1, y1, d1) + add(x, y, x2, y2, d2) + add(x, y, x3, y3, d3);
+        }
+
+        /**
+         * Evaluates the cost at a point without touching the normal equations.
+         *
+         * @return sum of squared residuals at the point
+         */
+        double cost(double x, double y) {
+            double r1 = range(x - x1, y - y1) - d1;
+            double r2 = range(x - x2, y - y2) - d2;
+            double r3 = range(x - x3, y - y3) - d3;
+            return r1 * r1 + r2 * r2 + r3 * r3;
+        }
+
+        private double add(double x, double y, double sx, double sy, double distance) {
+            double dx = x - sx;
+            double dy = y - sy;
+            double range = range(dx, dy);
+            double residual = range - distance;
+            if (range < MIN_RANGE) {
+                // Sobre el propio satélite la dirección no está definida: no aporta al paso
+                return residual * residual;
+            }
+            double ux = dx / range;
+            double uy = dy / range;
+            h11 += ux * ux;
+            h12 += ux * uy;
+            h22 += uy * uy;
+            g1 += ux * residual;
+            g2 += uy * residual;
+            return residual * residual;
+        }
+
+        private static double range(double dx, double dy) {
+            return Math.sqrt(dx * dx + dy * dy);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.quasar.fireoperation.api.provider.solver;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Non-linear least-squares trilateration.
+ * <p>
+ * When the three circles do not meet in one point (noisy distances), the closed form
+ * returns the intersection of two radical lines, which ignores how far the point is from
+ * the circles. This solver returns the point minimizing {@code Σ rᵢ²} instead, with plain
+ * Gauss-Newton steps: fast when the closed-form start is close, which is the usual case.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Component
+public final class LeastSquaresSolver extends GaussNewtonSolver {
+
+    /**
+     * Creates the solver with undamped Gauss-Newton steps.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public LeastSquaresSolver() {
+        super(false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public SolverStrategy strategy() {
+        return SolverStrategy.LEAST_SQUARES;
+    }
+}
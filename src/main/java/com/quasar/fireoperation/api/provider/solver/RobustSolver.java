@@ -0,0 +1,43 @@
+package com.quasar.fireoperation.api.provider.solver;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Robust iterative trilateration (Levenberg-Marquardt).
+ * <p>
+ * Minimizes the same {@code Σ rᵢ²} as {@link LeastSquaresSolver}, but every step is damped
+ * and only accepted if it lowers the cost; rejected steps raise the damping, moving the next
+ * step towards gradient descent. Plain Gauss-Newton can overshoot or oscillate when the
+ * satellites are nearly collinear or the distances are far from consistent and the
+ * closed-form start is poor; this solver never returns a point worse than its start, at the
+ * price of one extra cost evaluation per iteration.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Component
+public final class RobustSolver extends GaussNewtonSolver {
+
+    /**
+     * Creates the solver with damped, cost-decreasing steps.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public RobustSolver() {
+        super(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public SolverStrategy strategy() {
+        return SolverStrategy.ROBUST;
+    }
+}
@@ -0,0 +1,22 @@
+package com.quasar.fireoperation.api.provider.solver;
+
+/**
+ * Receives the progress of a solve, e.g. the JFR event of the call.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@FunctionalInterface
+public interface SolverProgress {
+
+    /**
+     * Reports the work done by the solver.
+     *
+     * @param iterations  iterations run (1 for a closed-form solution)
+     * @param determinant determinant of the last system solved; near zero for a degenerate geometry
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    void progress(int iterations, float determinant);
+}
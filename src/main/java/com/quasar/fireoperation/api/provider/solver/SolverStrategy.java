@@ -0,0 +1,64 @@
+package com.quasar.fireoperation.api.provider.solver;
+
+import com.quasar.fireoperation.api.exception.InvalidInputException;
+
+/**
+ * Trilateration strategies the location provider can dispatch to.
+ * <p>
+ * The identifier is the value accepted by {@code quasar.solver.default} and by the
+ * {@code solver} request parameter, and the {@code strategy} tag of the solver meters.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public enum SolverStrategy {
+
+    /** Linear closed-form solution in single precision. Fastest; exact for consistent distances. */
+    CLOSED_FORM("closed-form"),
+    /** Gauss-Newton on the geometric residuals: the least-squares point for inconsistent distances. */
+    LEAST_SQUARES("least-squares"),
+    /** Levenberg-Marquardt on the geometric residuals: same point, but every step lowers the error. */
+    ROBUST("robust"),
+    /** Linear closed-form solution in double precision, for distances far from the satellites. */
+    DOUBLE_PRECISION("double-precision");
+
+    private final String id;
+
+    SolverStrategy(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the external identifier of the strategy.
+     *
+     * @return identifier, e.g. {@code closed-form}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Resolves a strategy from its identifier.
+     *
+     * @param id identifier, case-insensitive; {@code null} or blank for the configured default
+     * @return the strategy, or {@code null} when no identifier was given
+     * @throws IllegalArgumentException if the identifier is unknown
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static SolverStrategy of(String id) {
+        if (id == null || id.isBlank()) {
+            return null;
+        }
+        for (SolverStrategy strategy : values()) {
+            if (strategy.id.equalsIgnoreCase(id.trim())) {
+                return strategy;
+            }
+        }
+        throw new InvalidInputException("Solver desconocido: " + id);
+    }
+}
@@ -0,0 +1,46 @@
+package com.quasar.fireoperation.api.provider.solver;
+
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.exception.LocationException;
+
+/**
+ * SPI of the trilateration strategies.
+ * <p>
+ * Implementations are stateless and thread-safe. The location provider validates the
+ * distances before calling {@link #solve} and checks the returned position afterwards, so a
+ * solver only has to compute the point or report a degenerate geometry. Satellite positions
+ * are passed as {@code [x, y]} arrays that must not be modified.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public interface TrilaterationSolver {
+
+    /**
+     * Returns the strategy this solver implements.
+     *
+     * @return the strategy
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    SolverStrategy strategy();
+
+    /**
+     * Computes the position from the distances to three satellites.
+     *
+     * @param p1       position of the first satellite
+     * @param p2       position of the second satellite
+     * @param p3       position of the third satellite
+     * @param d1       distance to the first satellite
+     * @param d2       distance to the second satellite
+     * @param d3       distance to the third satellite
+     * @param progress receiver of the iterations and determinant
+     * @return the calculated position
+     * @throws LocationException if the satellite geometry does not determine a position
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    Position solve(float[] p1, float[] p2, float[] p3, float d1, float d2, float d3, SolverProgress progress);
+}
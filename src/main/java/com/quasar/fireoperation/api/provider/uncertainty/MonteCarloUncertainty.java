@@ -0,0 +1,284 @@
+package com.quasar.fireoperation.api.provider.uncertainty;
+
+import com.quasar.fireoperation.api.domain.model.PositionUncertainty;
+import com.quasar.fireoperation.api.exception.LocationException;
+import com.quasar.fireoperation.api.provider.solver.BatchLinearSolver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monte-Carlo estimate of the uncertainty of a position.
+ * <p>
+ * Every reported distance is perturbed with Gaussian noise of standard deviation
+ * {@code sigma}, the perturbed triples are solved with a {@link BatchLinearSolver} of the
+ * satellite geometry, and the covariance of the solutions gives the confidence ellipse. The
+ * spread is that of the closed-form solution; the iterative strategies converge to the same
+ * point for consistent distances.
+ * </p>
+ * <p>
+ * Samples are split in halves on a dedicated {@link ForkJoinPool} down to leaves of
+ * {@value #LEAF_SAMPLES}; each half gets its own {@link SplittableRandom}, split from the
+ * parent's, so no generator is shared between threads. Leaves work in blocks of
+ * {@value #BLOCK} samples on primitive buffers owned by the worker thread, allocated once per
+ * thread and reused by every request, and only keep running sums of the deviations from the
+ * nominal position. After each block a leaf checks the deadline of the request, and tasks
+ * still pending at the deadline take a single block: the sample budget is an upper bound, and
+ * when the latency target is reached the estimate is made with the samples taken so far,
+ * reported in {@link PositionUncertainty#samples()}.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Slf4j
+public final class MonteCarloUncertainty implements AutoCloseable {
+
+    /** Samples per block: the length of the worker buffers. */
+    static final int BLOCK = 1024;
+    /** Samples below which a task is not split further. */
+    static final int LEAF_SAMPLES = 4 * BLOCK;
+
+    private final double sigma;
+    private final int samples;
+    private final long budgetNanos;
+    private final double confidence;
+    private final double scale;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates the estimator and its pool; worker threads are started on demand.
+     *
+     * @param sigma        standard deviation of the distance noise
+     * @param samples      maximum number of samples per estimate
+     * @param budgetMillis latency target of an estimate
+     * @param parallelism  worker threads of the pool
+     * @param confidence   probability covered by the ellipse, in (0, 1)
+     * @throws IllegalArgumentException if a parameter is out of range
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public MonteCarloUncertainty(double sigma, int samples, long budgetMillis, int parallelism, double confidence) {
+        if (!(sigma > 0) || samples < 2 || budgetMillis <= 0 || parallelism <= 0
+                || !(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("Estimación de incertidumbre mal configurada: sigma " + sigma
+                    + ", muestras " + samples + ", presupuesto " + budgetMillis + " ms, paralelismo " + parallelism
+                    + ", confianza " + confidence);
+        }
+        this.sigma = sigma;
+        this.samples = samples;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.confidence = confidence;
+        // Radio de Mahalanobis de la elipse: cuantil de una chi-cuadrado con 2 grados de libertad
+        this.scale = Math.sqrt(-2.0 * Math.log(1.0 - confidence));
+        this.pool = new ForkJoinPool(parallelism, SamplerThread::new, null, false);
+    }
+
+    /**
+     * Creates an estimator with the default settings: unit noise, 20000 samples within 10 ms,
+     * one worker per processor and a 95% ellipse.
+     *
+     * @return a new estimator
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static MonteCarloUncertainty withDefaults() {
+        return new MonteCarloUncertainty(1.0, 20_000, 10, Runtime.getRuntime().availableProcessors(), 0.95);
+    }
+
+    /**
+     * Estimates the uncertainty of the position solved from three satellites.
+     *
+     * @param p1 position of the first satellite
+     * @param p2 position of the second satellite
+     * @param p3 position of the third satellite
+     * @param d1 distance to the first satellite
+     * @param d2 distance to the second satellite
+     * @param d3 distance to the third satellite
+     * @return the covariance and confidence ellipse of the position
+     * @throws LocationException if the satellites are collinear
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public PositionUncertainty estimate(float[] p1, float[] p2, float[] p3, float d1, float d2, float d3) {
+        return estimate(p1, p2, p3, d1, d2, d3, new SplittableRandom());
+    }
+
+    /**
+     * Estimates the uncertainty with the given root generator.
+     *
+     * @param random generator the sample streams are split from
+     * @return the covariance and confidence ellipse of the position
+     */
+    PositionUncertainty estimate(float[] p1, float[] p2, float[] p3, float d1, float d2, float d3,
+                                 SplittableRandom random) {
+        long start = System.nanoTime();
+        BatchLinearSolver solver = new BatchLinearSolver(p1, p2, p3);
+        double[] nominalX = new double[1];
+        double[] nominalY = new double[1];
+        solver.solve(new double[]{d1}, new double[]{d2}, new double[]{d3}, nominalX, nominalY, 1);
+
+        Sampling sampling = new Sampling(solver, d1, d2, d3, nominalX[0], nominalY[0], start + budgetNanos);
+        Moments moments = pool.invoke(new SampleTask(sampling, samples, random));
+        if (moments.count < 2) {
+            throw new LocationException("No se pudo estimar la incertidumbre de la posición");
+        }
+
+        double n = moments.count;
+        double meanX = moments.sumX / n;
+        double meanY = moments.sumY / n;
+        double varianceX = Math.max(0, (moments.sumXX - n * meanX * meanX) / (n - 1));
+        double varianceY = Math.max(0, (moments.sumYY - n * meanY * meanY) / (n - 1));
+        double covariance = (moments.sumXY - n * meanX * meanY) / (n - 1);
+
+        // Ejes de la elipse: autovalores de la matriz de covarianza 2x2
+        double center = (varianceX + varianceY) / 2;
+        double radius = Math.hypot((varianceX - varianceY) / 2, covariance);
+        double orientation = Math.toDegrees(0.5 * Math.atan2(2 * covariance, varianceX - varianceY));
+        PositionUncertainty uncertainty = new PositionUncertainty(Math.sqrt(varianceX), Math.sqrt(varianceY),
+                covariance, scale * Math.sqrt(center + radius), scale * Math.sqrt(Math.max(0, center - radius)),
+                orientation, confidence, moments.count);
+        if (log.isDebugEnabled()) {
+            log.debug("Incertidumbre estimada con {} de {} muestras en {} µs: {}", moments.count, samples,
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), uncertainty);
+        }
+        return uncertainty;
+    }
+
+    /**
+     * Stops the worker threads.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Inputs shared by every task of an estimate.
+     */
+    private record Sampling(BatchLinearSolver solver, double d1, double d2, double d3,
+                            double nominalX, double nominalY, long deadline) {
+    }
+
+    /**
+     * Running sums of the deviations from the nominal position.
+     */
+    private static final class Moments {
+        int count;
+        double sumX;
+        double sumY;
+        double sumXX;
+        double sumYY;
+        double sumXY;
+
+        Moments add(Moments other) {
+            count += other.count;
+            sumX += other.sumX;
+            sumY += other.sumY;
+            sumXX += other.sumXX;
+            sumYY += other.sumYY;
+            sumXY += other.sumXY;
+            return this;
+        }
+    }
+
+    /**
+     * Takes {@code count} samples, splitting them in halves down to {@value #LEAF_SAMPLES}.
+     */
+    private final class SampleTask extends RecursiveTask<Moments> {
+
+        private final Sampling sampling;
+        private final int count;
+        private final SplittableRandom random;
+
+        SampleTask(Sampling sampling, int count, SplittableRandom random) {
+            this.sampling = sampling;
+            this.count = count;
+            this.random = random;
+        }
+
+        @Override
+        protected Moments compute() {
+            // Con el plazo vencido no se divide más: la tarea toma un único bloque
+            if (count <= LEAF_SAMPLES || System.nanoTime() - sampling.deadline >= 0) {
+                return sample();
+            }
+            int half = count / 2;
+            SampleTask left = new SampleTask(sampling, half, random.split());
+            left.fork();
+            Moments right = new SampleTask(sampling, count - half, random).compute();
+            return right.add(left.join());
+        }
+
+        private Moments sample() {
+            Buffers buffers = Thread.currentThread() instanceof SamplerThread worker ? worker.buffers : new Buffers();
+            double[] d1 = buffers.d1;
+            double[] d2 = buffers.d2;
+            double[] d3 = buffers.d3;
+            double[] x = buffers.x;
+            double[] y = buffers.y;
+            Moments moments = new Moments();
+            int remaining = count;
+            do {
+                int block = Math.min(BLOCK, remaining);
+                for (int i = 0; i < block; i++) {
+                    d1[i] = sampling.d1 + sigma * random.nextGaussian();
+                    d2[i] = sampling.d2 + sigma * random.nextGaussian();
+                    d3[i] = sampling.d3 + sigma * random.nextGaussian();
+                }
+                sampling.solver.solve(d1, d2, d3, x, y, block);
+                for (int i = 0; i < block; i++) {
+                    double dx = x[i] - sampling.nominalX;
+                    double dy = y[i] - sampling.nominalY;
+                    moments.sumX += dx;
+                    moments.sumY += dy;
+                    moments.sumXX += dx * dx;
+                    moments.sumYY += dy * dy;
+                    moments.sumXY += dx * dy;
+                }
+                moments.count += block;
+                remaining -= block;
+                // Presupuesto de latencia: se deja de muestrear y se estima con lo tomado
+            } while (remaining > 0 && System.nanoTime() - sampling.deadline < 0);
+            return moments;
+        }
+    }
+
+    /**
+     * Sample buffers of one block.
+     */
+    private static final class Buffers {
+        final double[] d1 = new double[BLOCK];
+        final double[] d2 = new double[BLOCK];
+        final double[] d3 = new double[BLOCK];
+        final double[] x = new double[BLOCK];
+        final double[] y = new double[BLOCK];
+    }
+
+    /**
+     * Worker thread of the pool, owning the buffers its leaves reuse.
+     */
+    private static final class SamplerThread extends ForkJoinWorkerThread {
+
+        final Buffers buffers = new Buffers();
+
+        SamplerThread(ForkJoinPool pool) {
+            super(pool);
+        }
+
+        @Override
+        protected void onStart() {
+            super.onStart();
+            // El pool asigna el índice al registrar el hilo, después del constructor
+            setName("quasar-uncertainty-" + getPoolIndex());
+        }
+    }
+}
@@ -1,22 +1,35 @@
 package com.quasar.fireoperation.api.rest;
 
 import com.quasar.fireoperation.api.business.MessageBusiness;
+import com.quasar.fireoperation.api.config.logging.RequestEventLogger;
 import com.quasar.fireoperation.api.domain.general.TopSecretRequestDTO;
 import com.quasar.fireoperation.api.domain.general.ResponseDTO;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import com.quasar.fireoperation.api.rest.cache.TopSecretResponseCache;
+import com.quasar.fireoperation.api.utils.DomainMapperUtils;
+import com.quasar.fireoperation.api.utils.ResultResponseUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.List;
+
 /**
  * REST controller for /top-secret API.
  *
@@ -27,6 +40,7 @@ import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/top-secret")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Tag(
     name = "TopSecret Rest",
      description = "Endpoint for processing data from all satellites to determine position and message"
@@ -38,12 +52,25 @@ import org.springframework.web.bind.annotation.*;
 public class TopSecretRest {
 
     MessageBusiness messageBusiness;
+    RequestEventLogger requestEventLogger;
+    TopSecretResponseCache responseCache;
 
     /**
      * Endpoint to process data from all satellites and determine position and message.
+     * <p>
+     * Repeated requests are answered from {@link TopSecretResponseCache}: the cached JSON
+     * bytes are written directly to the servlet output stream. The optional {@code solver}
+     * parameter selects the trilateration strategy. With {@code uncertainty=true} the response
+     * adds the confidence ellipse of the position; it is estimated by sampling, so those
+     * responses are never cached.
+     * </p>
      *
-     * @param request Request body containing data from all satellites
-     * @return Response with determined position and message
+     * @param request         Request body containing data from all satellites
+     * @param solver          Solver strategy identifier, e.g. {@code robust}; the configured default if absent
+     * @param uncertainty     Whether to estimate the uncertainty of the position
+     * @param servletResponse Response the JSON body is written to
+     * @return Error response for expected failures; {@code null} once the body has been written
+     * @throws IOException if the body cannot be written
      * @since 2025
      * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
      */
@@ -63,7 +90,7 @@ public class TopSecretRest {
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "Bad request due to invalid input data",
+                    description = "Bad request due to invalid input data or an unknown solver",
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = ResponseDTO.class)
@@ -88,19 +115,50 @@ public class TopSecretRest {
     })
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ResponseDTO> getTopSecret(@RequestBody TopSecretRequestDTO request) {
-        log.info("Recibida solicitud POST /top-secret con {} satélites",
-                request.getSatellites() != null ? request.getSatellites().size() : 0);
+    public ResponseEntity<?> getTopSecret(@RequestBody TopSecretRequestDTO request,
+                                          @RequestParam(required = false) String solver,
+                                          @RequestParam(defaultValue = "false") boolean uncertainty,
+                                          HttpServletResponse servletResponse) throws IOException {
         log.debug("Request completo: {}", request);
 
-        try {
-            ResponseDTO response = messageBusiness.processTopSecret(request);
-            log.info("Respuesta enviada exitosamente para /top-secret - Posición: ({}, {})",
-                    response.getPosition().getX(), response.getPosition().getY());
-            return ResponseEntity.ok(response);
-        } catch (Exception ex) {
-            log.error("Error procesando solicitud /top-secret: {}", ex.getMessage(), ex);
-            throw ex; // Let global exception handler manage the error response
+        SolverStrategy strategy = SolverStrategy.of(solver);
+        List<SatelliteReport> satellites = DomainMapperUtils.toReports(request);
+        TopSecretResponseCache.Key key = uncertainty ? null : responseCache.keyOf(satellites, strategy);
+        TopSecretResponseCache.CachedResponse cached = responseCache.get(key);
+        if (cached == null) {
+            // Expected failures arrive as values; unexpected errors reach the global exception handler
+            switch (messageBusiness.resolveTopSecret(satellites, strategy, uncertainty)) {
+                case TopSecretResult.Success(Resolution resolution) -> cached = responseCache.put(key, resolution);
+                case TopSecretResult.Partial fix -> {
+                    return ResultResponseUtils.failureResponse(fix);
+                }
+                case TopSecretResult.Failure failure -> {
+                    log.debug("Solicitud /top-secret sin resolver: {} - {}", failure.reason(), failure.message());
+                    return ResultResponseUtils.failureResponse(failure);
+                }
+            }
         }
+
+        requestEventLogger.positionResolved("/top-secret", cached.x(), cached.y());
+        writeBody(servletResponse, cached.body());
+        // Null tells Spring the response has already been written
+        return null;
+    }
+
+    /**
+     * Writes a pre-serialized JSON body straight to the servlet output stream,
+     * bypassing the message converters.
+     *
+     * @param servletResponse current response
+     * @param body            JSON bytes
+     * @throws IOException if the body cannot be written
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private static void writeBody(HttpServletResponse servletResponse, byte[] body) throws IOException {
+        servletResponse.setStatus(HttpServletResponse.SC_OK);
+        servletResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        servletResponse.setContentLength(body.length);
+        servletResponse.getOutputStream().write(body);
     }
 }
\ No newline at end of file
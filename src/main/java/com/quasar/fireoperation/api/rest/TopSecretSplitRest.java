@@ -1,8 +1,16 @@
 package com.quasar.fireoperation.api.rest;
 
 import com.quasar.fireoperation.api.business.MessageBusiness;
+import com.quasar.fireoperation.api.config.logging.RequestEventLogger;
+import com.quasar.fireoperation.api.domain.general.PartialFixDTO;
 import com.quasar.fireoperation.api.domain.general.ResponseDTO;
 import com.quasar.fireoperation.api.domain.general.SatelliteConfirmationDTO;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import com.quasar.fireoperation.api.utils.DomainMapperUtils;
+import com.quasar.fireoperation.api.utils.ETagUtils;
+import com.quasar.fireoperation.api.utils.ResultResponseUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,6 +23,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -30,6 +41,7 @@ import java.util.List;
  */
 @RestController
 @RequestMapping("/top-secret-split")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Tag(
         name = "TopSecretSplit Rest",
         description = "Endpoints for receiving data from individual satellites and processing it"
@@ -41,6 +53,7 @@ import java.util.List;
 public class TopSecretSplitRest {
 
     MessageBusiness messageBusiness;
+    RequestEventLogger requestEventLogger;
 
     /**
      * Endpoint to submit data from a single satellite.
@@ -86,49 +99,60 @@ public class TopSecretSplitRest {
     public ResponseEntity<SatelliteConfirmationDTO> postSatelliteSplit(
             @PathVariable String satelliteName,
             @RequestBody SatelliteRequest request) {
-        log.info("Recibida solicitud POST /top-secret-split/{} con distancia: {}",
-                satelliteName, request.getDistance());
-        log.debug("Datos del satélite {}: distancia={}, mensaje={}",
-                satelliteName, request.getDistance(), request.getMessage());
+        if (log.isDebugEnabled()) {
+            log.debug("Datos del satélite {}: distancia={}, mensaje={}",
+                    satelliteName, request.getDistance(), request.getMessage());
+        }
 
-        try {
-            messageBusiness.saveSatelliteSplit(
-                    satelliteName,
-                    request.getDistance(),
-                    request.getMessage()
-            );
+        // Las entradas inválidas llegan a GlobalExceptionHandler, que responde 400 y las registra en DEBUG
+        messageBusiness.saveSatelliteSplit(
+                DomainMapperUtils.toReport(satelliteName, request.getDistance(), request.getMessage(),
+                        request.getTimestamp()));
 
-            SatelliteConfirmationDTO confirmation = SatelliteConfirmationDTO.success(satelliteName);
-            log.info("Información del satélite {} guardada exitosamente", satelliteName);
-            return ResponseEntity.ok(confirmation);
-        } catch (Exception ex) {
-            log.error("Error procesando datos del satélite {}: {}", satelliteName, ex.getMessage(), ex);
-            throw ex;
-        }
+        SatelliteConfirmationDTO confirmation = SatelliteConfirmationDTO.success(satelliteName);
+        requestEventLogger.satelliteSaved(satelliteName, request.getDistance());
+        return ResponseEntity.ok(confirmation);
     }
 
     /**
      * Endpoint to process and retrieve the final position and message
      * after receiving data from all satellites.
+     * <p>
+     * The response carries the split state version as ETag. A request whose
+     * {@code If-None-Match} matches the current version gets {@code 304 Not Modified}
+     * without running the solver. With {@code peek=true} the stored data is kept. With
+     * {@code partial=true} and only two satellites reported, the candidate positions where their
+     * circles meet are returned instead of {@code 404}.
+     * </p>
      *
-     * @return Final position and message
+     * @param peek        Whether to keep the stored satellite data after processing
+     * @param partial     Whether two satellites answer with their candidate positions
+     * @param solver      Solver strategy identifier; the configured default if absent. Part of the ETag
+     * @param ifNoneMatch ETag of the copy the client already holds, if any
+     * @return Final position and message, or 304 if nothing was saved since
      * @since 2025
      * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
      */
 
     @Operation(
             summary = "Process and retrieve final position and message",
-            description = "Processes stored satellite data to determine the position and message"
+            description = "Processes stored satellite data to determine the position and message. "
+                    + "Supports conditional requests through ETag / If-None-Match and a non-destructive peek mode"
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Position and message retrieved successfully",
+                    description = "Position and message retrieved successfully; with partial=true and only two "
+                            + "satellites reported, the candidate positions",
                     content = @Content(
                             mediaType = "application/json",
-                            schema = @Schema(implementation = ResponseDTO.class)
+                            schema = @Schema(oneOf = {ResponseDTO.class, PartialFixDTO.class})
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Split state unchanged since the version in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Insufficient data from satellites",
@@ -146,22 +170,41 @@ public class TopSecretSplitRest {
             )
     })
     @GetMapping
-    public ResponseEntity<ResponseDTO> getTopSecretSplit() {
-        log.info("Recibida solicitud GET /top-secret-split para procesar datos almacenados");
-
-        try {
-            ResponseDTO response = messageBusiness.processTopSecretSplit();
-            log.info("Respuesta enviada exitosamente para /top-secret-split - Posición: ({}, {})",
-                    response.getPosition().getX(), response.getPosition().getY());
-            return ResponseEntity.ok(response);
-        } catch (Exception ex) {
-            log.error("Error procesando solicitud /top-secret-split: {}", ex.getMessage(), ex);
-            throw ex;
+    public ResponseEntity<?> getTopSecretSplit(
+            @RequestParam(defaultValue = "false") boolean peek,
+            @RequestParam(defaultValue = "false") boolean partial,
+            @RequestParam(required = false) String solver,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Version read before solving: a concurrent save can only make the ETag older, never newer
+        SolverStrategy strategy = SolverStrategy.of(solver);
+        String etag = ETagUtils.splitETag(messageBusiness.getSplitVersion(), strategy, partial);
+        if (ETagUtils.matches(ifNoneMatch, etag, messageBusiness.hasSplitRepresentation(partial))) {
+            log.debug("Estado split sin cambios ({}), respondiendo 304", etag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
         }
+
+        return switch (messageBusiness.resolveTopSecretSplit(peek, strategy)) {
+            case TopSecretResult.Success(Resolution resolution) -> {
+                requestEventLogger.positionResolved("/top-secret-split",
+                        resolution.position().x(), resolution.position().y());
+                yield ResponseEntity.ok().eTag(etag).body(DomainMapperUtils.toResponse(resolution));
+            }
+            case TopSecretResult.Partial fix when partial -> ResultResponseUtils.partialResponse(fix, etag);
+            case TopSecretResult.Partial fix -> {
+                log.debug("Solicitud /top-secret-split sin resolver: {} candidatos - {}", fix.candidates().size(),
+                        fix.message());
+                yield ResultResponseUtils.failureResponse(fix);
+            }
+            case TopSecretResult.Failure failure -> {
+                log.debug("Solicitud /top-secret-split sin resolver: {} - {}", failure.reason(), failure.message());
+                yield ResultResponseUtils.failureResponse(failure);
+            }
+        };
     }
 
     /**
-     * Inner class for satellite split POST request.
+     * Inner class for satellite split POST request. {@code timestamp} is optional: epoch
+     * milliseconds of the distance measurement.
      *
      * @since 2025
      * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
@@ -171,5 +214,6 @@ public class TopSecretSplitRest {
     public static class SatelliteRequest {
         private float distance;
         private List<String> message;
+        private Long timestamp;
     }
 }
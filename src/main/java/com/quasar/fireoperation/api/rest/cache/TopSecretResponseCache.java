@@ -0,0 +1,259 @@
+package com.quasar.fireoperation.api.rest.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasar.fireoperation.api.domain.model.MessageFragment;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import com.quasar.fireoperation.api.utils.DomainMapperUtils;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of pre-serialized {@code /top-secret} response bodies.
+ * <p>
+ * Without timestamps, the position and message only depend on the ordered satellite names,
+ * distances and message fragments of the request and on the solver strategy, so equal requests
+ * produce byte-identical bodies.
+ * Entries are keyed by that canonical form (names in lower case) and hold
+ * the JSON bytes written by the shared {@link ObjectMapper}; a hit is written as-is, without
+ * calling the business layer or a message converter. Only successful resolutions of three
+ * reports without timestamp are cached: with moving satellites the same distances give a
+ * different position at every instant.
+ * </p>
+ * <p>
+ * The cache holds at most {@code quasar.cache.top-secret.max-entries} entries and evicts the
+ * oldest one first; {@code 0} disables it. Size, hits and misses are published as
+ * {@code quasar.cache.top-secret.*} metrics.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Component
+@Slf4j
+public class TopSecretResponseCache implements MeterBinder {
+
+    private static final int SATELLITES = 3;
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final Map<Key, CachedResponse> entries = new ConcurrentHashMap<>();
+    private final Queue<Key> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Canonical form of a request: ordered lower-case satellite names, distances and message
+     * fragments, whose blank and {@code null} words are already the same empty token, and the
+     * requested solver.
+     *
+     * @param names     ordered lower-case satellite names
+     * @param distances ordered distances
+     * @param messages  ordered message fragments
+     * @param solver    requested solver strategy; {@code null} for the configured default
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public record Key(List<String> names, List<Float> distances, List<MessageFragment> messages, SolverStrategy solver) {
+    }
+
+    /**
+     * Serialized response body together with the position, needed for request events.
+     *
+     * @param body JSON body, never modified after creation
+     * @param x    resolved x coordinate
+     * @param y    resolved y coordinate
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public record CachedResponse(byte[] body, float x, float y) {
+    }
+
+    /**
+     * Creates the cache.
+     *
+     * @param objectMapper shared mapper used to serialize the responses
+     * @param maxEntries   maximum number of cached bodies; {@code 0} disables the cache
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public TopSecretResponseCache(ObjectMapper objectMapper,
+                                  @Value("${quasar.cache.top-secret.max-entries:1024}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = Math.max(0, maxEntries);
+    }
+
+    /**
+     * Builds the cache key of a request resolved with the default solver.
+     *
+     * @param satellites reports of the request, in order
+     * @return the key, or {@code null} if the request cannot be cached
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public Key keyOf(List<SatelliteReport> satellites) {
+        return keyOf(satellites, null);
+    }
+
+    /**
+     * Builds the cache key of a request.
+     *
+     * @param satellites reports of the request, in order
+     * @param solver     requested solver strategy; {@code null} for the configured default
+     * @return the key, or {@code null} if the request cannot be cached (disabled cache, not
+     *         exactly three satellites, or timestamped reports, whose position depends on time)
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public Key keyOf(List<SatelliteReport> satellites, SolverStrategy solver) {
+        if (maxEntries == 0 || satellites.size() != SATELLITES) {
+            return null;
+        }
+        for (SatelliteReport satellite : satellites) {
+            if (satellite.hasTimestamp()) {
+                return null;
+            }
+        }
+        List<String> names = new ArrayList<>(SATELLITES);
+        List<Float> distances = new ArrayList<>(SATELLITES);
+        List<MessageFragment> messages = new ArrayList<>(SATELLITES);
+        for (SatelliteReport satellite : satellites) {
+            // Se resuelve por nombre: el nombre forma parte de la clave, sin distinguir mayúsculas
+            names.add(satellite.name() == null ? null : satellite.name().toLowerCase(Locale.ROOT));
+            distances.add(satellite.distance());
+            messages.add(satellite.message());
+        }
+        return new Key(names, distances, messages, solver);
+    }
+
+    /**
+     * Returns the cached body for a key.
+     *
+     * @param key request key, may be {@code null}
+     * @return the cached response, or {@code null} on a miss
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public CachedResponse get(Key key) {
+        if (key == null) {
+            return null;
+        }
+        CachedResponse cached = entries.get(key);
+        if (cached == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * Serializes a resolution and stores it under the given key, evicting the oldest
+     * entries beyond the configured size.
+     *
+     * @param key        request key; if {@code null} the body is serialized but not stored
+     * @param resolution resolved position and message
+     * @return the serialized response
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public CachedResponse put(Key key, Resolution resolution) {
+        CachedResponse serialized;
+        try {
+            serialized = new CachedResponse(objectMapper.writeValueAsBytes(DomainMapperUtils.toResponse(resolution)),
+                    resolution.position().x(), resolution.position().y());
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        if (key == null) {
+            return serialized;
+        }
+        CachedResponse previous = entries.putIfAbsent(key, serialized);
+        if (previous != null) {
+            return previous;
+        }
+        insertionOrder.add(key);
+        if (size.incrementAndGet() > maxEntries) {
+            evictOldest();
+        }
+        return serialized;
+    }
+
+    /**
+     * Removes every entry.
+     *
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public void clear() {
+        Key key;
+        while ((key = insertionOrder.poll()) != null) {
+            if (entries.remove(key) != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached bodies.
+     *
+     * @return current size
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Registers size, hit and miss meters.
+     *
+     * @param registry meter registry provided by actuator
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("quasar.cache.top-secret.size", this, TopSecretResponseCache::size)
+                .description("Respuestas serializadas en caché")
+                .register(registry);
+        FunctionCounter.builder("quasar.cache.top-secret.requests", hits, LongAdder::sum)
+                .description("Consultas a la caché de respuestas")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("quasar.cache.top-secret.requests", misses, LongAdder::sum)
+                .description("Consultas a la caché de respuestas")
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    private void evictOldest() {
+        Key oldest = insertionOrder.poll();
+        if (oldest != null && entries.remove(oldest) != null) {
+            size.decrementAndGet();
+            if (log.isTraceEnabled()) {
+                log.trace("Respuesta expulsada de la caché: {}", oldest);
+            }
+        }
+    }
+}
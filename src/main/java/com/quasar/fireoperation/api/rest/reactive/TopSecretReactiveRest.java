@@ -0,0 +1,107 @@
+package com.quasar.fireoperation.api.rest.reactive;
+
+import com.quasar.fireoperation.api.business.MessageBusiness;
+import com.quasar.fireoperation.api.config.logging.RequestEventLogger;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import com.quasar.fireoperation.api.rest.cache.TopSecretResponseCache;
+import com.quasar.fireoperation.api.utils.DomainMapperUtils;
+import com.quasar.fireoperation.api.utils.ResultResponseUtils;
+import com.quasar.fireoperation.api.domain.general.TopSecretRequestDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * Reactive (WebFlux) REST adapter for /top-secret API.
+ * <p>
+ * Exposes the same contract as {@link com.quasar.fireoperation.api.rest.TopSecretRest} on the
+ * non-blocking stack. Only active when the application runs as a reactive web application
+ * (profile {@code reactive}).
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@RestController
+@RequestMapping("/top-secret")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Tag(
+        name = "TopSecret Reactive Rest",
+        description = "Non-blocking endpoint for processing data from all satellites to determine position and message"
+)
+@RequiredArgsConstructor
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE, makeFinal = true)
+public class TopSecretReactiveRest {
+
+    MessageBusiness messageBusiness;
+    RequestEventLogger requestEventLogger;
+    TopSecretResponseCache responseCache;
+
+    /**
+     * Endpoint to process data from all satellites and determine position and message.
+     *
+     * @param request     Request body publisher containing data from all satellites
+     * @param solver      Solver strategy identifier; the configured default if absent
+     * @param uncertainty Whether to estimate the uncertainty of the position; such responses are not cached
+     * @return Response with determined position and message
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Operation(
+            summary = "Process data from all satellites",
+            description = "Determines the position and message based on data from all satellites"
+    )
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<?>> getTopSecret(@RequestBody Mono<TopSecretRequestDTO> request,
+                                                @RequestParam(required = false) String solver,
+                                                @RequestParam(defaultValue = "false") boolean uncertainty) {
+        SolverStrategy strategy = SolverStrategy.of(solver);
+        // El cálculo es CPU puro y en memoria: se ejecuta en el event loop sin bloquearlo, salvo el
+        // muestreo de la incertidumbre, que espera al pool de incertidumbre y se saca del event loop
+        Mono<TopSecretRequestDTO> body = uncertainty ? request.publishOn(Schedulers.boundedElastic()) : request;
+        return body
+                .<ResponseEntity<?>>map(dto -> resolve(dto, strategy, uncertainty));
+    }
+
+    /**
+     * Answers a request from the response cache, resolving and caching it on a miss.
+     *
+     * @param request     request body
+     * @param strategy    solver strategy; {@code null} for the configured default
+     * @param uncertainty whether to estimate the uncertainty, bypassing the cache
+     * @return the serialized JSON body, or the error response of an expected failure
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private ResponseEntity<?> resolve(TopSecretRequestDTO request, SolverStrategy strategy, boolean uncertainty) {
+        List<SatelliteReport> satellites = DomainMapperUtils.toReports(request);
+        TopSecretResponseCache.Key key = uncertainty ? null : responseCache.keyOf(satellites, strategy);
+        TopSecretResponseCache.CachedResponse cached = responseCache.get(key);
+        if (cached == null) {
+            switch (messageBusiness.resolveTopSecret(satellites, strategy, uncertainty)) {
+                case TopSecretResult.Success(Resolution resolution) -> cached = responseCache.put(key, resolution);
+                case TopSecretResult.Partial fix -> {
+                    return ResultResponseUtils.failureResponse(fix);
+                }
+                case TopSecretResult.Failure failure -> {
+                    return ResultResponseUtils.failureResponse(failure);
+                }
+            }
+        }
+        requestEventLogger.positionResolved("/top-secret", cached.x(), cached.y());
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(cached.body());
+    }
+}
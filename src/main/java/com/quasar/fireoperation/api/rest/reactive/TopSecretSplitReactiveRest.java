@@ -0,0 +1,118 @@
+package com.quasar.fireoperation.api.rest.reactive;
+
+import com.quasar.fireoperation.api.business.MessageBusiness;
+import com.quasar.fireoperation.api.config.logging.RequestEventLogger;
+import com.quasar.fireoperation.api.domain.general.SatelliteConfirmationDTO;
+import com.quasar.fireoperation.api.rest.TopSecretSplitRest;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import com.quasar.fireoperation.api.utils.DomainMapperUtils;
+import com.quasar.fireoperation.api.utils.ETagUtils;
+import com.quasar.fireoperation.api.utils.ResultResponseUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive (WebFlux) REST adapter for /top-secret-split API.
+ * <p>
+ * Mirrors {@link TopSecretSplitRest} on the non-blocking stack so that polling clients hold
+ * connections without holding threads. Only active when the application runs as a reactive
+ * web application (profile {@code reactive}).
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@RestController
+@RequestMapping("/top-secret-split")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Tag(
+        name = "TopSecretSplit Reactive Rest",
+        description = "Non-blocking endpoints for receiving data from individual satellites and processing it"
+)
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TopSecretSplitReactiveRest {
+
+    MessageBusiness messageBusiness;
+    RequestEventLogger requestEventLogger;
+
+    /**
+     * Endpoint to submit data from a single satellite.
+     *
+     * @param satelliteName Name of the satellite (path variable)
+     * @param request       Request body publisher containing distance and message
+     * @return Confirmation of data saved
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Operation(
+            summary = "Submit data from a single satellite",
+            description = "Saves the distance and message from a specific satellite"
+    )
+    @PostMapping("/{satelliteName}")
+    public Mono<ResponseEntity<SatelliteConfirmationDTO>> postSatelliteSplit(
+            @PathVariable String satelliteName,
+            @RequestBody Mono<TopSecretSplitRest.SatelliteRequest> request) {
+        return request
+                .map(body -> {
+                    messageBusiness.saveSatelliteSplit(
+                            DomainMapperUtils.toReport(satelliteName, body.getDistance(), body.getMessage(),
+                                    body.getTimestamp()));
+                    requestEventLogger.satelliteSaved(satelliteName, body.getDistance());
+                    return ResponseEntity.ok(SatelliteConfirmationDTO.success(satelliteName));
+                });
+    }
+
+    /**
+     * Endpoint to process and retrieve the final position and message
+     * after receiving data from all satellites. Supports ETag / If-None-Match
+     * and the non-destructive peek and partial modes like the MVC adapter.
+     *
+     * @param peek        Whether to keep the stored satellite data after processing
+     * @param partial     Whether two satellites answer with their candidate positions
+     * @param solver      Solver strategy identifier; the configured default if absent. Part of the ETag
+     * @param ifNoneMatch ETag of the copy the client already holds, if any
+     * @return Final position and message, or 304 if nothing was saved since
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    @Operation(
+            summary = "Process and retrieve final position and message",
+            description = "Processes stored satellite data to determine the position and message"
+    )
+    @GetMapping
+    public Mono<ResponseEntity<?>> getTopSecretSplit(
+            @RequestParam(defaultValue = "false") boolean peek,
+            @RequestParam(defaultValue = "false") boolean partial,
+            @RequestParam(required = false) String solver,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SolverStrategy strategy = SolverStrategy.of(solver);
+        String etag = ETagUtils.splitETag(messageBusiness.getSplitVersion(), strategy, partial);
+        if (ETagUtils.matches(ifNoneMatch, etag, messageBusiness.hasSplitRepresentation(partial))) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build());
+        }
+        return Mono.fromSupplier(() -> messageBusiness.resolveTopSecretSplit(peek, strategy))
+                .<ResponseEntity<?>>map(result -> switch (result) {
+                    case TopSecretResult.Success(Resolution resolution) -> {
+                        requestEventLogger.positionResolved("/top-secret-split",
+                                resolution.position().x(), resolution.position().y());
+                        yield ResponseEntity.ok().eTag(etag).body(DomainMapperUtils.toResponse(resolution));
+                    }
+                    case TopSecretResult.Partial fix when partial -> ResultResponseUtils.partialResponse(fix, etag);
+                    case TopSecretResult.Partial fix -> ResultResponseUtils.failureResponse(fix);
+                    case TopSecretResult.Failure failure -> ResultResponseUtils.failureResponse(failure);
+                });
+    }
+}
@@ -0,0 +1,133 @@
+package com.quasar.fireoperation.api.utils;
+
+import com.quasar.fireoperation.api.domain.general.PartialFixDTO;
+import com.quasar.fireoperation.api.domain.general.PositionDTO;
+import com.quasar.fireoperation.api.domain.general.ResponseDTO;
+import com.quasar.fireoperation.api.domain.general.SatelliteDTO;
+import com.quasar.fireoperation.api.domain.general.TopSecretRequestDTO;
+import com.quasar.fireoperation.api.domain.general.UncertaintyDTO;
+import com.quasar.fireoperation.api.domain.model.MessageFragment;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.PositionUncertainty;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import com.quasar.fireoperation.api.exception.InvalidInputException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class for converting between the REST DTOs and the internal domain model.
+ * <p>
+ * Used only by the adapters, once per request: the business layer and the split store
+ * work on {@link SatelliteReport} and {@link Resolution} records.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public final class DomainMapperUtils {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     *
+     * @throws UnsupportedOperationException if instantiation is attempted.
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private DomainMapperUtils() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Converts a /top-secret request into satellite reports, keeping their order.
+     *
+     * @param request request body
+     * @return immutable list of reports; empty if the request carries no satellites
+     * @throws IllegalArgumentException if a satellite entry is {@code null}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static List<SatelliteReport> toReports(TopSecretRequestDTO request) {
+        List<SatelliteDTO> satellites = request.getSatellites();
+        if (satellites == null) {
+            return List.of();
+        }
+        List<SatelliteReport> reports = new ArrayList<>(satellites.size());
+        for (SatelliteDTO satellite : satellites) {
+            if (satellite == null) {
+                throw new InvalidInputException("Datos de satélite incompletos.");
+            }
+            reports.add(toReport(satellite.getName(), satellite.getDistance(), satellite.getMessage(),
+                    satellite.getTimestamp()));
+        }
+        return List.copyOf(reports);
+    }
+
+    /**
+     * Converts the data reported by one satellite.
+     *
+     * @param name     satellite name
+     * @param distance distance to the emitter
+     * @param message  message tokens, may be {@code null}
+     * @return the report; a {@code null} message becomes an empty fragment
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static SatelliteReport toReport(String name, float distance, List<String> message) {
+        return toReport(name, distance, message, null);
+    }
+
+    /**
+     * Converts the data reported by one satellite at a given instant.
+     *
+     * @param name      satellite name
+     * @param distance  distance to the emitter
+     * @param message   message tokens, may be {@code null}
+     * @param timestamp epoch milliseconds of the measurement, may be {@code null}
+     * @return the report, with the tokens encoded once in a {@link MessageFragment}; a
+     *         {@code null} message becomes an empty fragment and a {@code null} timestamp
+     *         {@link SatelliteReport#NO_TIMESTAMP}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static SatelliteReport toReport(String name, float distance, List<String> message, Long timestamp) {
+        return new SatelliteReport(name, distance, MessageFragment.of(message),
+                timestamp == null ? SatelliteReport.NO_TIMESTAMP : timestamp);
+    }
+
+    /**
+     * Converts a resolution into the response DTO.
+     *
+     * @param resolution resolved position and message, and the uncertainty if estimated
+     * @return response DTO
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static ResponseDTO toResponse(Resolution resolution) {
+        PositionUncertainty uncertainty = resolution.uncertainty();
+        return new ResponseDTO(new PositionDTO(resolution.position().x(), resolution.position().y()),
+                resolution.message(), uncertainty == null ? null : new UncertaintyDTO(uncertainty.sigmaX(),
+                        uncertainty.sigmaY(), uncertainty.covarianceXY(), uncertainty.semiMajor(),
+                        uncertainty.semiMinor(), uncertainty.orientation(), uncertainty.confidence(),
+                        uncertainty.samples()));
+    }
+
+    /**
+     * Converts a partial fix to its response DTO.
+     *
+     * @param partial partial fix carrying the candidate positions
+     * @return partial fix DTO
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static PartialFixDTO toPartialFix(TopSecretResult.Partial partial) {
+        List<PositionDTO> candidates = new ArrayList<>(partial.candidates().size());
+        for (Position candidate : partial.candidates()) {
+            candidates.add(new PositionDTO(candidate.x(), candidate.y()));
+        }
+        return new PartialFixDTO(candidates, partial.message());
+    }
+}
@@ -0,0 +1,111 @@
+package com.quasar.fireoperation.api.utils;
+
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+
+/**
+ * Utility class for building and matching entity tags of the split state.
+ * <p>
+ * The split state is versioned on every change of its reports, so its ETag is derived
+ * from that version, the requested solver and whether partial fixes are accepted, and can be
+ * compared without solving anything.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public final class ETagUtils {
+
+    private static final String SPLIT_PREFIX = "\"split-";
+    private static final String PARTIAL_SUFFIX = "-partial\"";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     *
+     * @throws UnsupportedOperationException if instantiation is attempted.
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private ETagUtils() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Builds the strong ETag for a split state version.
+     *
+     * @param version split state version
+     * @return quoted entity tag, e.g. {@code "split-7"}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static String splitETag(long version) {
+        return SPLIT_PREFIX + version + '"';
+    }
+
+    /**
+     * Builds the strong ETag for a split state version solved with a given strategy. The
+     * default solver keeps the plain version tag.
+     *
+     * @param version split state version
+     * @param solver  requested solver strategy; {@code null} for the configured default
+     * @return quoted entity tag, e.g. {@code "split-7-robust"}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static String splitETag(long version, SolverStrategy solver) {
+        if (solver == null) {
+            return splitETag(version);
+        }
+        return SPLIT_PREFIX + version + '-' + solver.id() + '"';
+    }
+
+    /**
+     * Builds the strong ETag for a split state version solved with a given strategy, and
+     * marked when partial fixes were requested: with two reports the same version answers
+     * {@code 200} with candidates or {@code 404} depending on {@code partial}.
+     *
+     * @param version split state version
+     * @param solver  requested solver strategy; {@code null} for the configured default
+     * @param partial whether the request accepts a partial fix
+     * @return quoted entity tag, e.g. {@code "split-7-partial"}
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static String splitETag(long version, SolverStrategy solver, boolean partial) {
+        if (!partial) {
+            return splitETag(version, solver);
+        }
+        return solver == null
+                ? SPLIT_PREFIX + version + PARTIAL_SUFFIX
+                : SPLIT_PREFIX + version + '-' + solver.id() + PARTIAL_SUFFIX;
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against the current ETag.
+     * <p>
+     * {@code *} matches any current representation, so it only matches when there is one.
+     * </p>
+     *
+     * @param ifNoneMatch raw header value, may be {@code null} or list several tags
+     * @param etag        current entity tag
+     * @param current     whether a current representation exists
+     * @return {@code true} if the client copy is still current
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static boolean matches(String ifNoneMatch, String etag, boolean current) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") ? current : tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
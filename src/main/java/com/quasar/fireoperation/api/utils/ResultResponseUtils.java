@@ -0,0 +1,88 @@
+package com.quasar.fireoperation.api.utils;
+
+import com.quasar.fireoperation.api.domain.general.PartialFixDTO;
+import com.quasar.fireoperation.api.domain.result.FailureReason;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Utility class for mapping business failures to HTTP responses.
+ * <p>
+ * Mirrors the status codes of {@code GlobalExceptionHandler} for the equivalent
+ * exceptions, so the REST adapters answer the same whether a failure arrives as a
+ * value or as an exception.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+public final class ResultResponseUtils {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     *
+     * @throws UnsupportedOperationException if instantiation is attempted.
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    private ResultResponseUtils() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Returns the HTTP status for a failure reason.
+     *
+     * @param reason failure reason
+     * @return {@code 400} for invalid input, {@code 404} when position or message is undetermined
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static HttpStatus statusOf(FailureReason reason) {
+        return switch (reason) {
+            case INVALID_INPUT -> HttpStatus.BAD_REQUEST;
+            case LOCATION_UNDETERMINED, MESSAGE_UNDETERMINED -> HttpStatus.NOT_FOUND;
+        };
+    }
+
+    /**
+     * Builds the error response for a failure, with its message as body.
+     *
+     * @param failure business failure
+     * @return response with the mapped status
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static ResponseEntity<String> failureResponse(TopSecretResult.Failure failure) {
+        return ResponseEntity.status(statusOf(failure.reason())).body(failure.message());
+    }
+
+    /**
+     * Builds the error response of a partial fix for clients that did not ask for one: the
+     * position is undetermined, so it answers like {@link FailureReason#LOCATION_UNDETERMINED}.
+     *
+     * @param partial partial fix
+     * @return response with the mapped status and the message as body
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static ResponseEntity<String> failureResponse(TopSecretResult.Partial partial) {
+        return ResponseEntity.status(statusOf(FailureReason.LOCATION_UNDETERMINED)).body(partial.message());
+    }
+
+    /**
+     * Builds the response of a partial fix: {@code 200} with the candidate positions, tagged
+     * like a full resolution so clients can keep polling with {@code If-None-Match} until the
+     * third satellite reports. Not {@code 206}, which is reserved for range requests.
+     *
+     * @param partial partial fix carrying the candidate positions
+     * @param etag    entity tag of the split state
+     * @return response with the candidates
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    public static ResponseEntity<PartialFixDTO> partialResponse(TopSecretResult.Partial partial, String etag) {
+        return ResponseEntity.ok().eTag(etag).body(DomainMapperUtils.toPartialFix(partial));
+    }
+}
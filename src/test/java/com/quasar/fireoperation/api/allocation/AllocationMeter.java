@@ -0,0 +1,83 @@
+package com.quasar.fireoperation.api.allocation;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Measures the bytes allocated by the current thread per call of a warmed-up action.
+ * <p>
+ * Uses {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}, which counts
+ * the exact bytes handed out to the thread (TLAB included), so the figure does not depend on
+ * when the GC runs. The action is first run enough times for C2 to compile it with escape
+ * analysis; then several rounds are measured and the lowest average is kept, which filters
+ * out one-off allocations (class loading, lazy initialization, deoptimization). The value
+ * returned by the action is stored in a field so the JIT cannot drop the call.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+final class AllocationMeter {
+
+    private static final int WARMUP_CALLS = 50_000;
+    private static final int ROUNDS = 5;
+    private static final int CALLS_PER_ROUND = 10_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @SuppressWarnings("unused")
+    private static volatile Object sink;
+
+    private AllocationMeter() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Returns whether the JVM can report per-thread allocation.
+     *
+     * @return {@code true} if allocation measurement is supported and enabled
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    static boolean isSupported() {
+        return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Warms up the action and returns the bytes it allocates per call.
+     *
+     * @param action action to measure; its result is kept reachable until the next call
+     * @return lowest average of allocated bytes per call over the measured rounds
+     * @since 2025
+     * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+     */
+    static long bytesPerCall(Supplier<?> action) {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sink = action.get();
+        }
+        long threadId = Thread.currentThread().threadId();
+        long overhead = measurementOverhead(threadId);
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = THREADS.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < CALLS_PER_ROUND; i++) {
+                sink = action.get();
+            }
+            long allocated = THREADS.getThreadAllocatedBytes(threadId) - before - overhead;
+            best = Math.min(best, Math.max(0, allocated) / CALLS_PER_ROUND);
+        }
+        return best;
+    }
+
+    private static long measurementOverhead(long threadId) {
+        // Lo que asigna la propia lectura del contador, descontado de cada ronda
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long before = THREADS.getThreadAllocatedBytes(threadId);
+            overhead = Math.min(overhead, THREADS.getThreadAllocatedBytes(threadId) - before);
+        }
+        return overhead;
+    }
+}
@@ -0,0 +1,124 @@
+package com.quasar.fireoperation.api.allocation;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.quasar.fireoperation.api.business.MessageBusiness;
+import com.quasar.fireoperation.api.business.MessageBusinessImpl;
+import com.quasar.fireoperation.api.business.SplitWindowStore;
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.provider.LocationProvider;
+import com.quasar.fireoperation.api.provider.LocationProviderImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budgets of the hot paths, in bytes per warmed-up call.
+ * <p>
+ * Run by the {@code allocationTest} task (part of {@code check}), without the coverage agent
+ * so the JIT compiles the same code as in production. A change that makes a path allocate
+ * more than its budget fails the build: either remove the new allocation or raise the
+ * budget in the same change, stating why. Loggers run at INFO, as in every profile. The bytes
+ * measured are logged at INFO, so they stay in the test report output of the task.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@Slf4j
+@Tag("allocation")
+@DisplayName("Hot Path Allocation Budget Tests")
+class HotPathAllocationTest {
+
+    /** Measured 152 bytes per call, result array included. */
+    private static final long GET_LOCATION_BUDGET = 256;
+    /** Measured 289-304 bytes per call, merged message included. */
+    private static final long RESOLVE_TOP_SECRET_BUDGET = 384;
+    /** Measured 888-952 bytes per cycle of three saves, the candidates of two and one resolution. */
+    private static final long SPLIT_CYCLE_BUDGET = 1152;
+
+    private static final Logger APPLICATION_LOGGER = (Logger) LoggerFactory.getLogger("com.quasar.fireoperation.api");
+    private static Level previousLevel;
+
+    private final List<Float> distances = List.of(100.0f, 115.5f, 142.7f);
+    private final List<SatelliteReport> reports = List.of(
+            new SatelliteReport("kenobi", 100.0f, new String[]{"este", "", "", "mensaje", ""}),
+            new SatelliteReport("skywalker", 115.5f, new String[]{"", "es", "", "", "secreto"}),
+            new SatelliteReport("sato", 142.7f, new String[]{"este", "", "un", "", ""}));
+
+    private LocationProvider locationProvider;
+    private MessageBusiness messageBusiness;
+
+    @BeforeAll
+    static void setUpLogging() {
+        previousLevel = APPLICATION_LOGGER.getLevel();
+        APPLICATION_LOGGER.setLevel(Level.INFO);
+    }
+
+    @AfterAll
+    static void restoreLogging() {
+        APPLICATION_LOGGER.setLevel(previousLevel);
+    }
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(AllocationMeter.isSupported(), "La JVM no informa de la memoria asignada por hilo");
+        locationProvider = new LocationProviderImpl();
+        messageBusiness = new MessageBusinessImpl(locationProvider, new PipelineMetrics(new SimpleMeterRegistry()),
+                SplitWindowStore.withDefaults());
+    }
+
+    @Test
+    @DisplayName("LocationProvider.getLocation should stay within its allocation budget")
+    void getLocation_WarmedUp_StaysWithinBudget() {
+        // When
+        long bytes = AllocationMeter.bytesPerCall(() -> locationProvider.getLocation(distances));
+
+        // Then
+        assertWithinBudget("getLocation", bytes, GET_LOCATION_BUDGET);
+    }
+
+    @Test
+    @DisplayName("MessageBusiness.resolveTopSecret should stay within its allocation budget")
+    void resolveTopSecret_WarmedUp_StaysWithinBudget() {
+        // When
+        long bytes = AllocationMeter.bytesPerCall(() -> messageBusiness.resolveTopSecret(reports));
+
+        // Then
+        assertWithinBudget("resolveTopSecret", bytes, RESOLVE_TOP_SECRET_BUDGET);
+    }
+
+    @Test
+    @DisplayName("Split save/process cycle should stay within its allocation budget")
+    void splitCycle_WarmedUp_StaysWithinBudget() {
+        // When
+        long bytes = AllocationMeter.bytesPerCall(() -> {
+            for (SatelliteReport report : reports) {
+                messageBusiness.saveSatelliteSplit(report);
+            }
+            return messageBusiness.resolveTopSecretSplit(false);
+        });
+
+        // Then
+        assertWithinBudget("split save/process", bytes, SPLIT_CYCLE_BUDGET);
+    }
+
+    private static void assertWithinBudget(String path, long bytes, long budget) {
+        log.info("Asignación por llamada de {}: {} bytes (presupuesto {})", path, bytes, budget);
+        assertTrue(bytes <= budget, () -> String.format(
+                "%s asigna %d bytes por llamada, por encima del presupuesto de %d bytes", path, bytes, budget));
+    }
+}
@@ -1,22 +1,38 @@
 package com.quasar.fireoperation.api.business;
 
-import com.quasar.fireoperation.api.domain.general.*;
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.PositionUncertainty;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.domain.result.FailureReason;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
 import com.quasar.fireoperation.api.exception.LocationException;
 import com.quasar.fireoperation.api.exception.MessageException;
 import com.quasar.fireoperation.api.provider.LocationProvider;
+import com.quasar.fireoperation.api.provider.LocationProviderImpl;
+import com.quasar.fireoperation.api.utils.DomainMapperUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.Mockito.*;
 
 /**
@@ -34,46 +50,55 @@ class MessageServiceImplTest {
     @Mock
     private LocationProvider locationProvider;
 
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Spy
+    private PipelineMetrics metrics = new PipelineMetrics(registry);
+
+    @Spy
+    private SplitWindowStore splitStore = new SplitWindowStore(60_000, 5_000, 0, SplitWindowStore.LatePolicy.REJECT,
+            SplitWindowStore.Storage.HEAP);
+
     @InjectMocks
     private MessageBusinessImpl messageBusiness;
 
-    private TopSecretRequestDTO validRequest;
+    private List<SatelliteReport> validRequest;
 
     @BeforeEach
     void setUp() {
-        List<SatelliteDTO> validSatellites = Arrays.asList(
-                new SatelliteDTO("kenobi", 100.0f, Arrays.asList("este", "", "", "mensaje", "")),
-                new SatelliteDTO("skywalker", 115.5f, Arrays.asList("", "es", "", "", "secreto")),
-                new SatelliteDTO("sato", 142.7f, Arrays.asList("este", "", "un", "", ""))
+        List<SatelliteReport> validSatellites = Arrays.asList(
+                report("kenobi", 100.0f, "este", "", "", "mensaje", ""),
+                report("skywalker", 115.5f, "", "es", "", "", "secreto"),
+                report("sato", 142.7f, "este", "", "un", "", "")
         );
-        validRequest = new TopSecretRequestDTO(validSatellites);
+        validRequest = validSatellites;
     }
 
     @Test
     @DisplayName("Should process TopSecret request successfully")
     void processTopSecret_ValidRequest_ReturnsResponse() {
         // Given
-        float[] expectedPosition = {-58.31f, -69.55f};
-        when(locationProvider.getLocation(anyList())).thenReturn(expectedPosition);
+        Position expectedPosition = new Position(-58.31f, -69.55f);
+        when(locationProvider.locate(any(), anyList())).thenReturn(expectedPosition);
 
         // When
-        ResponseDTO result = messageBusiness.processTopSecret(validRequest);
+        Resolution result = messageBusiness.processTopSecret(validRequest);
 
         // Then
         assertNotNull(result);
-        assertNotNull(result.getPosition());
-        assertEquals(-58.31f, result.getPosition().getX());
-        assertEquals(-69.55f, result.getPosition().getY());
-        assertEquals("este es un mensaje secreto", result.getMessage());
+        assertNotNull(result.position());
+        assertEquals(-58.31f, result.position().x());
+        assertEquals(-69.55f, result.position().y());
+        assertEquals("este es un mensaje secreto", result.message());
 
-        verify(locationProvider).getLocation(Arrays.asList(100.0f, 115.5f, 142.7f));
+        verify(locationProvider).locate(null, validRequest);
     }
 
     @Test
     @DisplayName("Should throw LocationException when position calculation fails")
     void processTopSecret_LocationCalculationFails_ThrowsLocationException() {
         // Given
-        when(locationProvider.getLocation(anyList())).thenThrow(new RuntimeException("Position calculation error"));
+        when(locationProvider.locate(any(), anyList())).thenThrow(new RuntimeException("Position calculation error"));
 
         // When & Then
         LocationException exception = assertThrows(LocationException.class,
@@ -86,15 +111,15 @@ class MessageServiceImplTest {
     @DisplayName("Should throw MessageException when message reconstruction fails")
     void processTopSecret_EmptyMessage_ThrowsMessageException() {
         // Given
-        float[] validPosition = {-58.31f, -69.55f};
-        when(locationProvider.getLocation(anyList())).thenReturn(validPosition);
+        Position validPosition = new Position(-58.31f, -69.55f);
+        when(locationProvider.locate(any(), anyList())).thenReturn(validPosition);
 
-        List<SatelliteDTO> satellitesWithEmptyMessages = Arrays.asList(
-            new SatelliteDTO("kenobi", 100.0f, Arrays.asList("", "", "")),
-            new SatelliteDTO("skywalker", 115.5f, Arrays.asList("", "", "")),
-            new SatelliteDTO("sato", 142.7f, Arrays.asList("", "", ""))
+        List<SatelliteReport> satellitesWithEmptyMessages = Arrays.asList(
+            report("kenobi", 100.0f, "", "", ""),
+            report("skywalker", 115.5f, "", "", ""),
+            report("sato", 142.7f, "", "", "")
         );
-        TopSecretRequestDTO requestWithEmptyMessages = new TopSecretRequestDTO(satellitesWithEmptyMessages);
+        List<SatelliteReport> requestWithEmptyMessages = satellitesWithEmptyMessages;
 
         // When & Then
         MessageException exception = assertThrows(MessageException.class,
@@ -112,7 +137,7 @@ class MessageServiceImplTest {
         List<String> message = Arrays.asList("este", "", "", "mensaje", "");
 
         // When
-        assertDoesNotThrow(() -> messageBusiness.saveSatelliteSplit(satelliteName, distance, message));
+        assertDoesNotThrow(() -> messageBusiness.saveSatelliteSplit(DomainMapperUtils.toReport(satelliteName, distance, message)));
 
         // Then - should not throw any exception
     }
@@ -121,31 +146,31 @@ class MessageServiceImplTest {
     @DisplayName("Should process TopSecretSplit successfully with 3 satellites")
     void processTopSecretSplit_ThreeSatellites_ReturnsResponse() {
         // Given
-        float[] expectedPosition = {-58.31f, -69.55f};
-        when(locationProvider.getLocation(anyList())).thenReturn(expectedPosition);
+        Position expectedPosition = new Position(-58.31f, -69.55f);
+        when(locationProvider.locate(any(), anyList())).thenReturn(expectedPosition);
 
         // Save 3 satellites
-        messageBusiness.saveSatelliteSplit("kenobi", 100.0f, Arrays.asList("este", "", "", "mensaje", ""));
-        messageBusiness.saveSatelliteSplit("skywalker", 115.5f, Arrays.asList("", "es", "", "", "secreto"));
-        messageBusiness.saveSatelliteSplit("sato", 142.7f, Arrays.asList("este", "", "un", "", ""));
+        messageBusiness.saveSatelliteSplit(report("kenobi", 100.0f, "este", "", "", "mensaje", ""));
+        messageBusiness.saveSatelliteSplit(report("skywalker", 115.5f, "", "es", "", "", "secreto"));
+        messageBusiness.saveSatelliteSplit(report("sato", 142.7f, "este", "", "un", "", ""));
 
         // When
-        ResponseDTO result = messageBusiness.processTopSecretSplit();
+        Resolution result = messageBusiness.processTopSecretSplit();
 
         // Then
         assertNotNull(result);
-        assertNotNull(result.getPosition());
-        assertEquals(-58.31f, result.getPosition().getX());
-        assertEquals(-69.55f, result.getPosition().getY());
-        assertEquals("este es un mensaje secreto", result.getMessage());
+        assertNotNull(result.position());
+        assertEquals(-58.31f, result.position().x());
+        assertEquals(-69.55f, result.position().y());
+        assertEquals("este es un mensaje secreto", result.message());
     }
 
     @Test
     @DisplayName("Should throw LocationException when insufficient satellites for split processing")
     void processTopSecretSplit_InsufficientSatellites_ThrowsLocationException() {
         // Given - only 2 satellites
-        messageBusiness.saveSatelliteSplit("kenobi", 100.0f, Arrays.asList("este", "", "", "mensaje", ""));
-        messageBusiness.saveSatelliteSplit("skywalker", 115.5f, Arrays.asList("", "es", "", "", "secreto"));
+        messageBusiness.saveSatelliteSplit(report("kenobi", 100.0f, "este", "", "", "mensaje", ""));
+        messageBusiness.saveSatelliteSplit(report("skywalker", 115.5f, "", "es", "", "", "secreto"));
 
         // When & Then
         LocationException exception = assertThrows(LocationException.class,
@@ -158,13 +183,13 @@ class MessageServiceImplTest {
     @DisplayName("Should clear satellites cache after successful split processing")
     void processTopSecretSplit_SuccessfulProcessing_ClearsSatellitesCache() {
         // Given
-        float[] expectedPosition = {-58.31f, -69.55f};
-        when(locationProvider.getLocation(anyList())).thenReturn(expectedPosition);
+        Position expectedPosition = new Position(-58.31f, -69.55f);
+        when(locationProvider.locate(any(), anyList())).thenReturn(expectedPosition);
 
         // Save 3 satellites
-        messageBusiness.saveSatelliteSplit("kenobi", 100.0f, Arrays.asList("este", "", "", "mensaje", ""));
-        messageBusiness.saveSatelliteSplit("skywalker", 115.5f, Arrays.asList("", "es", "", "", "secreto"));
-        messageBusiness.saveSatelliteSplit("sato", 142.7f, Arrays.asList("este", "", "un", "", ""));
+        messageBusiness.saveSatelliteSplit(report("kenobi", 100.0f, "este", "", "", "mensaje", ""));
+        messageBusiness.saveSatelliteSplit(report("skywalker", 115.5f, "", "es", "", "", "secreto"));
+        messageBusiness.saveSatelliteSplit(report("sato", 142.7f, "este", "", "un", "", ""));
 
         // When
         messageBusiness.processTopSecretSplit();
@@ -180,12 +205,12 @@ class MessageServiceImplTest {
     @DisplayName("Should handle satellite names case insensitively")
     void saveSatelliteSplit_UppercaseName_SavesWithLowercase() {
         // Given
-        messageBusiness.saveSatelliteSplit("KENOBI", 100.0f, List.of("test"));
-        messageBusiness.saveSatelliteSplit("skywalker", 115.5f, List.of("test"));
-        messageBusiness.saveSatelliteSplit("Sato", 142.7f, List.of("test"));
+        messageBusiness.saveSatelliteSplit(report("KENOBI", 100.0f, "test"));
+        messageBusiness.saveSatelliteSplit(report("skywalker", 115.5f, "test"));
+        messageBusiness.saveSatelliteSplit(report("Sato", 142.7f, "test"));
 
         // When & Then - should have 3 satellites
-        when(locationProvider.getLocation(anyList())).thenReturn(new float[]{0f, 0f});
+        when(locationProvider.locate(any(), anyList())).thenReturn(new Position(0f, 0f));
         assertDoesNotThrow(() -> messageBusiness.processTopSecretSplit());
     }
 
@@ -193,41 +218,494 @@ class MessageServiceImplTest {
     @DisplayName("Should reconstruct partial messages correctly")
     void processTopSecret_PartialMessages_ReconstructsCorrectly() {
         // Given
-        float[] validPosition = {0f, 0f};
-        when(locationProvider.getLocation(anyList())).thenReturn(validPosition);
+        Position validPosition = new Position(0f, 0f);
+        when(locationProvider.locate(any(), anyList())).thenReturn(validPosition);
 
-        List<SatelliteDTO> satellitesWithPartialMessages = Arrays.asList(
-            new SatelliteDTO("kenobi", 100.0f, Arrays.asList("", "mensaje", "")),
-            new SatelliteDTO("skywalker", 115.5f, Arrays.asList("un", "", "secreto")),
-            new SatelliteDTO("sato", 142.7f, Arrays.asList("", "", ""))
+        List<SatelliteReport> satellitesWithPartialMessages = Arrays.asList(
+            report("kenobi", 100.0f, "", "mensaje", ""),
+            report("skywalker", 115.5f, "un", "", "secreto"),
+            report("sato", 142.7f, "", "", "")
         );
-        TopSecretRequestDTO request = new TopSecretRequestDTO(satellitesWithPartialMessages);
+        List<SatelliteReport> request = satellitesWithPartialMessages;
 
         // When
-        ResponseDTO result = messageBusiness.processTopSecret(request);
+        Resolution result = messageBusiness.processTopSecret(request);
 
         // Then
-        assertEquals("un mensaje secreto", result.getMessage());
+        assertEquals("un mensaje secreto", result.message());
     }
 
     @Test
     @DisplayName("Should handle different message array lengths")
     void processTopSecret_DifferentMessageLengths_ReconstructsCorrectly() {
         // Given
-        float[] validPosition = {0f, 0f};
-        when(locationProvider.getLocation(anyList())).thenReturn(validPosition);
+        Position validPosition = new Position(0f, 0f);
+        when(locationProvider.locate(any(), anyList())).thenReturn(validPosition);
+
+        List<SatelliteReport> satellitesWithDifferentLengths = Arrays.asList(
+            report("kenobi", 100.0f, "este", "es"),
+            report("skywalker", 115.5f, "", "", "mensaje"),
+            report("sato", 142.7f, "", "", "", "completo")
+        );
+        List<SatelliteReport> request = satellitesWithDifferentLengths;
+
+        // When
+        Resolution result = messageBusiness.processTopSecret(request);
+
+        // Then
+        assertEquals("este es mensaje completo", result.message());
+    }
+
+    @Test
+    @DisplayName("Should reconstruct messages with multibyte characters")
+    void processTopSecret_MultibyteTokens_ReconstructsCorrectly() {
+        // Given
+        Position validPosition = new Position(0f, 0f);
+        when(locationProvider.locate(any(), anyList())).thenReturn(validPosition);
 
-        List<SatelliteDTO> satellitesWithDifferentLengths = Arrays.asList(
-            new SatelliteDTO("kenobi", 100.0f, Arrays.asList("este", "es")),
-            new SatelliteDTO("skywalker", 115.5f, Arrays.asList("", "", "mensaje")),
-            new SatelliteDTO("sato", 142.7f, Arrays.asList("", "", "", "completo"))
+        List<SatelliteReport> request = Arrays.asList(
+            report("kenobi", 100.0f, "señal", "", "🚀"),
+            report("skywalker", 115.5f, "", "de", ""),
+            report("sato", 142.7f, "", "", "", "¿recibida?")
         );
-        TopSecretRequestDTO request = new TopSecretRequestDTO(satellitesWithDifferentLengths);
 
         // When
-        ResponseDTO result = messageBusiness.processTopSecret(request);
+        Resolution result = messageBusiness.processTopSecret(request);
+
+        // Then
+        assertEquals("señal de 🚀 ¿recibida?", result.message());
+    }
+
+    @Test
+    @DisplayName("Should keep a report saved while the split state is being processed")
+    void processTopSecretSplit_ReportSavedDuringSolve_KeepsNewReport() {
+        // Given
+        messageBusiness.saveSatelliteSplit(report("kenobi", 100.0f, "este", "", "", "mensaje", ""));
+        messageBusiness.saveSatelliteSplit(report("skywalker", 115.5f, "", "es", "", "", "secreto"));
+        messageBusiness.saveSatelliteSplit(report("sato", 142.7f, "este", "", "un", "", ""));
+        when(locationProvider.locate(any(), anyList())).thenAnswer(invocation -> {
+            messageBusiness.saveSatelliteSplit(report("kenobi", 200.0f, "nuevo"));
+            return new Position(0f, 0f);
+        });
+
+        // When
+        messageBusiness.processTopSecretSplit();
+
+        // Then - only the new kenobi report survives, so the next round lacks satellites
+        messageBusiness.saveSatelliteSplit(report("skywalker", 115.5f, "otro"));
+        LocationException exception = assertThrows(LocationException.class,
+            () -> messageBusiness.processTopSecretSplit());
+        assertEquals("Información insuficiente de satélites.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should save and process split data concurrently on virtual threads")
+    void splitCycle_ConcurrentVirtualThreads_CompletesWithoutErrors() throws Exception {
+        // Given
+        when(locationProvider.locate(any(), anyList())).thenReturn(new Position(0f, 0f));
+        List<String> names = List.of("kenobi", "skywalker", "sato");
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 300; i++) {
+                String name = names.get(i % names.size());
+                futures.add(executor.submit(() -> messageBusiness.saveSatelliteSplit(report(name, 100.0f, "hola"))));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        // Then
+        Resolution result = messageBusiness.processTopSecretSplit();
+        assertEquals("hola", result.message());
+    }
+
+    @Test
+    @DisplayName("Should increment split version on every save")
+    void saveSatelliteSplit_EverySave_IncrementsVersion() {
+        // Given
+        long initial = messageBusiness.getSplitVersion();
+
+        // When
+        messageBusiness.saveSatelliteSplit(report("kenobi", 100.0f, "hola"));
+        messageBusiness.saveSatelliteSplit(report("kenobi", 101.0f, "hola"));
+
+        // Then
+        assertEquals(initial + 2, messageBusiness.getSplitVersion());
+    }
+
+    @Test
+    @DisplayName("Should keep split state and version when peeking, and move the version when clearing")
+    void peekTopSecretSplit_ThreeSatellites_KeepsState() {
+        // Given
+        when(locationProvider.locate(any(), anyList())).thenReturn(new Position(-58.31f, -69.55f));
+        messageBusiness.saveSatelliteSplit(report("kenobi", 100.0f, "este", "", "", "mensaje", ""));
+        messageBusiness.saveSatelliteSplit(report("skywalker", 115.5f, "", "es", "", "", "secreto"));
+        messageBusiness.saveSatelliteSplit(report("sato", 142.7f, "este", "", "un", "", ""));
+        long version = messageBusiness.getSplitVersion();
+
+        // When
+        Resolution peeked = messageBusiness.peekTopSecretSplit();
+        long afterPeek = messageBusiness.getSplitVersion();
+        Resolution processed = messageBusiness.processTopSecretSplit();
 
         // Then
-        assertEquals("este es mensaje completo", result.getMessage());
+        assertEquals("este es un mensaje secreto", peeked.message());
+        assertEquals(peeked, processed);
+        assertEquals(version, afterPeek);
+        assertTrue(messageBusiness.getSplitVersion() > version);
+        assertFalse(messageBusiness.hasSplitRepresentation(true));
+    }
+
+    @Test
+    @DisplayName("Should return a failure instead of throwing when the message is undetermined")
+    void resolveTopSecret_EmptyMessage_ReturnsFailure() {
+        // Given
+        when(locationProvider.locate(any(), anyList())).thenReturn(new Position(0f, 0f));
+        List<SatelliteReport> request = Arrays.asList(
+            report("kenobi", 100.0f, ""),
+            report("skywalker", 115.5f, ""),
+            report("sato", 142.7f, "")
+        );
+
+        // When
+        TopSecretResult result = messageBusiness.resolveTopSecret(request);
+
+        // Then
+        assertEquals(TopSecretResult.failure(FailureReason.MESSAGE_UNDETERMINED, "No se pudo determinar el mensaje."), result);
+    }
+
+    @Test
+    @DisplayName("Should map invalid provider input to an INVALID_INPUT failure")
+    void resolveTopSecret_ProviderRejectsInput_ReturnsInvalidInput() {
+        // Given
+        when(locationProvider.locate(any(), anyList()))
+            .thenThrow(new IllegalArgumentException("Se requieren distancias de 3 satélites."));
+
+        // When
+        TopSecretResult result = messageBusiness.resolveTopSecret(validRequest);
+
+        // Then
+        assertEquals(TopSecretResult.failure(FailureReason.INVALID_INPUT, "Se requieren distancias de 3 satélites."), result);
+    }
+
+    @Test
+    @DisplayName("Should locate more than three satellites by name and merge every message")
+    void resolveTopSecret_MoreThanThreeSatellites_LocatesByName() {
+        // Given
+        List<SatelliteReport> satellites = new ArrayList<>(validRequest);
+        satellites.add(report("yoda", 80.0f, "", "", "", "", "", "ultimo"));
+        when(locationProvider.locate(isNull(), anyList())).thenReturn(new Position(-58.31f, -69.55f));
+
+        // When
+        TopSecretResult result = messageBusiness.resolveTopSecret(satellites);
+
+        // Then
+        Resolution resolution = result.orElseThrow();
+        assertEquals("este es un mensaje secreto ultimo", resolution.message());
+        verify(locationProvider).locate(null, satellites);
+        verify(locationProvider, never()).locate(any(), anyFloat(), anyFloat(), anyFloat());
+    }
+
+    @Test
+    @DisplayName("Should locate three timestamped reports by name so moving satellites are placed at their instant")
+    void resolveTopSecret_TimestampedReports_LocatesByName() {
+        // Given
+        List<SatelliteReport> satellites = List.of(
+                new SatelliteReport("kenobi", 100.0f, new String[]{"este", "", "", "mensaje", ""}, 1_767_225_600_000L),
+                validRequest.get(1),
+                validRequest.get(2));
+        when(locationProvider.locate(isNull(), anyList())).thenReturn(new Position(-58.31f, -69.55f));
+
+        // When
+        TopSecretResult result = messageBusiness.resolveTopSecret(satellites);
+
+        // Then
+        assertEquals("este es un mensaje secreto", result.orElseThrow().message());
+        verify(locationProvider).locate(null, satellites);
+        verify(locationProvider, never()).locate(any(), anyFloat(), anyFloat(), anyFloat());
+    }
+
+    @Test
+    @DisplayName("Should add the uncertainty only when asked, sampling the satellites the position was solved with")
+    void resolveTopSecret_UncertaintyRequested_AddsEstimate() {
+        // Given
+        PositionUncertainty estimate = new PositionUncertainty(1.2, 0.8, 0.1, 3.0, 1.9, 12.0, 0.95, 20_000);
+        List<SatelliteReport> satellites = new ArrayList<>(validRequest);
+        satellites.add(report("yoda", 80.0f, ""));
+        when(locationProvider.locate(isNull(), anyList())).thenReturn(new Position(-58.31f, -69.55f));
+        when(locationProvider.uncertainty(validRequest)).thenReturn(estimate);
+        when(locationProvider.uncertainty(satellites)).thenReturn(estimate);
+
+        // When
+        Resolution plain = messageBusiness.resolveTopSecret(validRequest).orElseThrow();
+        Resolution positional = messageBusiness.resolveTopSecret(validRequest, null, true).orElseThrow();
+        Resolution byName = messageBusiness.resolveTopSecret(satellites, null, true).orElseThrow();
+
+        // Then
+        assertNull(plain.uncertainty());
+        assertEquals(estimate, positional.uncertainty());
+        assertEquals(estimate, byName.uncertainty());
+        assertEquals("este es un mensaje secreto", positional.message());
+        verify(locationProvider, times(1)).uncertainty(validRequest);
+        verify(locationProvider, never()).uncertainty(anyFloat(), anyFloat(), anyFloat());
+    }
+
+    @Test
+    @DisplayName("Should keep the resolved position when the uncertainty cannot be estimated")
+    void resolveTopSecret_UncertaintyFails_ReturnsResolutionWithoutIt() {
+        // Given
+        when(locationProvider.locate(any(), anyList())).thenReturn(new Position(-58.31f, -69.55f));
+        when(locationProvider.uncertainty(anyList()))
+            .thenThrow(new LocationException("No se pudo estimar la incertidumbre de la posición"));
+
+        // When
+        TopSecretResult result = messageBusiness.resolveTopSecret(validRequest, null, true);
+
+        // Then
+        assertEquals(TopSecretResult.success(new Resolution(new Position(-58.31f, -69.55f),
+                "este es un mensaje secreto")), result);
+    }
+
+    @Test
+    @DisplayName("Should map an unknown satellite among more than three to an INVALID_INPUT failure")
+    void resolveTopSecret_UnknownSatellite_ReturnsInvalidInput() {
+        // Given
+        List<SatelliteReport> satellites = new ArrayList<>(validRequest);
+        satellites.add(report("tatooine", 80.0f, "x"));
+        when(locationProvider.locate(isNull(), anyList()))
+            .thenThrow(new IllegalArgumentException("Satélite desconocido: tatooine"));
+
+        // When
+        TopSecretResult result = messageBusiness.resolveTopSecret(satellites);
+
+        // Then
+        assertEquals(TopSecretResult.failure(FailureReason.INVALID_INPUT, "Satélite desconocido: tatooine"), result);
+    }
+
+    @Test
+    @DisplayName("Should map an unsolvable position to a LOCATION_UNDETERMINED failure")
+    void resolveTopSecret_ProviderCannotLocate_ReturnsLocationUndetermined() {
+        // Given
+        when(locationProvider.locate(any(), anyList())).thenThrow(new LocationException("Sin solución"));
+
+        // When
+        TopSecretResult result = messageBusiness.resolveTopSecret(validRequest);
+
+        // Then
+        assertEquals(TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, "No se pudo determinar la posición."), result);
+    }
+
+    @Test
+    @DisplayName("Should keep split state when resolution fails")
+    void resolveTopSecretSplit_FailedResolution_KeepsState() {
+        // Given
+        when(locationProvider.locate(any(), anyList()))
+            .thenThrow(new LocationException("Sin solución"))
+            .thenReturn(new Position(-58.31f, -69.55f));
+        messageBusiness.saveSatelliteSplit(report("kenobi", 100.0f, "este", "", "", "mensaje", ""));
+        messageBusiness.saveSatelliteSplit(report("skywalker", 115.5f, "", "es", "", "", "secreto"));
+        messageBusiness.saveSatelliteSplit(report("sato", 142.7f, "este", "", "un", "", ""));
+
+        // When
+        TopSecretResult failed = messageBusiness.resolveTopSecretSplit(false);
+        TopSecretResult retried = messageBusiness.resolveTopSecretSplit(false);
+
+        // Then
+        assertInstanceOf(TopSecretResult.Failure.class, failed);
+        assertInstanceOf(TopSecretResult.Success.class, retried);
+    }
+
+    @Test
+    @DisplayName("Should resolve timestamped split reports only once the watermark closes their window")
+    void resolveTopSecretSplit_TimestampedReports_ResolvesClosedWindow() {
+        // Given
+        when(locationProvider.locate(isNull(), anyList())).thenReturn(new Position(-58.31f, -69.55f));
+        messageBusiness.saveSatelliteSplit(timed("kenobi", 10_000, "este", "", "", "mensaje", ""));
+        messageBusiness.saveSatelliteSplit(timed("skywalker", 20_000, "", "es", "", "", "secreto"));
+        messageBusiness.saveSatelliteSplit(timed("sato", 30_000, "este", "", "un", "", ""));
+        TopSecretResult open = messageBusiness.resolveTopSecretSplit(true);
+        long beforeFiring = messageBusiness.getSplitVersion();
+
+        // When - a report of the next window moves the watermark past the first one
+        messageBusiness.saveSatelliteSplit(timed("kenobi", 70_000, "otro"));
+        long fired = messageBusiness.getSplitVersion();
+        TopSecretResult closed = messageBusiness.resolveTopSecretSplit(false);
+
+        // Then
+        assertEquals(TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, "Información insuficiente de satélites."), open);
+        assertEquals("este es un mensaje secreto", closed.orElseThrow().message());
+        assertEquals(beforeFiring + 2, fired);
+        assertTrue(messageBusiness.getSplitVersion() > fired);
+        assertEquals(1, splitStore.size());
+    }
+
+    @Test
+    @DisplayName("Should reject a split report whose window has already been closed")
+    void saveSatelliteSplit_LateReport_ThrowsWithoutNewVersion() {
+        // Given
+        messageBusiness.saveSatelliteSplit(timed("kenobi", 200_000, "este"));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> messageBusiness.saveSatelliteSplit(timed("sato", 10_000, "este")));
+        assertEquals(1, messageBusiness.getSplitVersion());
+    }
+
+    @Test
+    @DisplayName("Should answer two split reports with the candidate positions and keep them stored")
+    void resolveTopSecretSplit_TwoSatellites_ReturnsPartialFix() {
+        // Given
+        List<Position> candidates = List.of(new Position(-100f, 75.5f), new Position(-284.1f, 160.3f));
+        when(locationProvider.locate(any(), anyList())).thenReturn(new Position(-100f, 75.5f));
+        when(locationProvider.candidates(anyList())).thenReturn(candidates);
+        messageBusiness.saveSatelliteSplit(report("kenobi", 485.7f, "este", "", "", "mensaje", ""));
+        messageBusiness.saveSatelliteSplit(report("skywalker", 266.1f, "", "es", "", "", "secreto"));
+
+        // When
+        TopSecretResult partial = messageBusiness.resolveTopSecretSplit(false);
+        messageBusiness.saveSatelliteSplit(report("sato", 600.5f, "este", "", "un", "", ""));
+        TopSecretResult full = messageBusiness.resolveTopSecretSplit(false);
+
+        // Then
+        TopSecretResult.Partial fix = assertInstanceOf(TopSecretResult.Partial.class, partial);
+        assertEquals("Información insuficiente de satélites.", fix.message());
+        assertEquals(candidates, fix.candidates());
+        assertEquals(1.0, registry.get(PipelineMetrics.OUTCOME_COUNTER).tag("outcome", "partial").counter().count());
+        assertEquals("este es un mensaje secreto", full.orElseThrow().message());
+        // Computed once, when the second report was saved
+        verify(locationProvider, times(1)).candidates(anyList());
+    }
+
+    @Test
+    @DisplayName("Should let the third split report choose between the candidates of the first two")
+    void resolveTopSecretSplit_ThirdReport_ChoosesCandidate() {
+        // Given
+        List<Position> candidates = List.of(new Position(-100f, 75.5f), new Position(-284.1f, 160.3f));
+        when(locationProvider.candidates(anyList())).thenReturn(candidates);
+        when(locationProvider.choose(isNull(), eq(candidates), any())).thenReturn(candidates.get(0));
+        messageBusiness.saveSatelliteSplit(report("kenobi", 485.7f, "este", "", "", "mensaje", ""));
+        messageBusiness.saveSatelliteSplit(report("skywalker", 266.1f, "", "es", "", "", "secreto"));
+        messageBusiness.saveSatelliteSplit(report("sato", 600.5f, "este", "", "un", "", ""));
+
+        // When
+        TopSecretResult result = messageBusiness.resolveTopSecretSplit(false);
+
+        // Then
+        assertEquals(new Resolution(new Position(-100f, 75.5f), "este es un mensaje secreto"), result.orElseThrow());
+        verify(locationProvider).choose(isNull(), eq(candidates), eq(report("sato", 600.5f, "este", "", "un", "", "")));
+        verify(locationProvider, never()).locate(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the plain failure when two reports give no candidates")
+    void resolveTopSecretSplit_TwoUnknownSatellites_ReturnsInsufficient() {
+        // Given
+        when(locationProvider.candidates(anyList())).thenThrow(new IllegalArgumentException("Satélite desconocido: yoda"));
+        messageBusiness.saveSatelliteSplit(report("kenobi", 100.0f, "este"));
+        messageBusiness.saveSatelliteSplit(report("yoda", 100.0f, "este"));
+
+        // When
+        TopSecretResult result = messageBusiness.resolveTopSecretSplit(true);
+
+        // Then
+        assertEquals(TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, "Información insuficiente de satélites."), result);
+        assertEquals(1.0, registry.get(PipelineMetrics.OUTCOME_COUNTER).tag("outcome", "location_failure").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should return a failure when the split state lacks satellites")
+    void resolveTopSecretSplit_InsufficientSatellites_ReturnsFailure() {
+        // Given
+        messageBusiness.saveSatelliteSplit(report("kenobi", 100.0f, "este"));
+
+        // When
+        TopSecretResult result = messageBusiness.resolveTopSecretSplit(true);
+
+        // Then
+        assertEquals(TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, "Información insuficiente de satélites."), result);
+        verifyNoInteractions(locationProvider);
+    }
+
+    @Test
+    @DisplayName("Should time the location and message stages and count each outcome")
+    void resolveTopSecret_Outcomes_RecordsPipelineMetrics() {
+        // Given
+        when(locationProvider.locate(any(), anyList()))
+            .thenReturn(new Position(-58.31f, -69.55f))
+            .thenThrow(new LocationException("Sin solución"));
+
+        // When
+        messageBusiness.resolveTopSecret(validRequest);
+        messageBusiness.resolveTopSecret(validRequest);
+        messageBusiness.resolveTopSecret(List.of());
+
+        // Then
+        assertEquals(2, registry.get(PipelineMetrics.STAGE_TIMER).tag("stage", "location").timer().count());
+        assertEquals(1, registry.get(PipelineMetrics.STAGE_TIMER).tag("stage", "message").timer().count());
+        assertEquals(1.0, outcome("success"));
+        assertEquals(1.0, outcome("location_failure"));
+        assertEquals(1.0, outcome("bad_request"));
+        assertEquals(0.0, outcome("message_failure"));
+    }
+
+    @Test
+    @DisplayName("Should publish split store size and time split bookkeeping")
+    void splitCycle_Metrics_TracksStoreAndBookkeeping() {
+        // Given
+        when(locationProvider.locate(any(), anyList())).thenReturn(new Position(-58.31f, -69.55f));
+        messageBusiness.bindTo(registry);
+        messageBusiness.saveSatelliteSplit(report("kenobi", 100.0f, "este", "", "", "mensaje", ""));
+        messageBusiness.saveSatelliteSplit(report("skywalker", 115.5f, "", "es", "", "", "secreto"));
+        messageBusiness.saveSatelliteSplit(report("sato", 142.7f, "este", "", "un", "", ""));
+        double sizeBefore = registry.get("quasar.split.store.size").gauge().value();
+
+        // When
+        messageBusiness.resolveTopSecretSplit(false);
+
+        // Then
+        assertEquals(3.0, sizeBefore);
+        assertEquals(0.0, registry.get("quasar.split.store.size").gauge().value());
+        assertEquals(3.0, registry.get("quasar.split.saves").functionCounter().count());
+        assertEquals(3, registry.get(PipelineMetrics.STAGE_TIMER).tag("stage", "split.save").timer().count());
+        assertEquals(1, registry.get(PipelineMetrics.STAGE_TIMER).tag("stage", "split.clear").timer().count());
+        assertEquals(1.0, outcome("success"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SplitWindowStore.Storage.class)
+    @DisplayName("Should resolve the same split position and message whatever the storage and arrival order")
+    void resolveTopSecretSplit_AnyStorage_ResolvesExactPosition(SplitWindowStore.Storage storage) {
+        // Given - distances to (-100, 75.5); kenobi and skywalker disagree on the first word
+        try (SplitWindowStore store = new SplitWindowStore(60_000, 5_000, 0, SplitWindowStore.LatePolicy.REJECT,
+                storage)) {
+            MessageBusinessImpl business = new MessageBusinessImpl(new LocationProviderImpl(),
+                    new PipelineMetrics(new SimpleMeterRegistry()), store);
+            business.saveSatelliteSplit(report("sato", 600.5f, "", "", "un", "", ""));
+            business.saveSatelliteSplit(report("skywalker", 266.1f, "ese", "es", "", "", "secreto"));
+            business.saveSatelliteSplit(report("kenobi", 485.7f, "este", "", "", "mensaje", ""));
+
+            // When
+            Resolution resolution = business.resolveTopSecretSplit(false).orElseThrow();
+
+            // Then
+            assertEquals(-100.0f, resolution.position().x(), 0.1f);
+            assertEquals(75.5f, resolution.position().y(), 0.1f);
+            assertEquals("este es un mensaje secreto", resolution.message());
+        }
+    }
+
+    private double outcome(String outcome) {
+        return registry.get(PipelineMetrics.OUTCOME_COUNTER).tag("outcome", outcome).counter().count();
+    }
+
+    private static SatelliteReport report(String name, float distance, String... words) {
+        return new SatelliteReport(name, distance, words);
+    }
+
+    private static SatelliteReport timed(String name, long timestamp, String... words) {
+        return new SatelliteReport(name, 100.0f, words, timestamp);
     }
 }
@@ -0,0 +1,163 @@
+package com.quasar.fireoperation.api.business;
+
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OffHeapSplitReportStore class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("OffHeapSplitReportStore Tests")
+class OffHeapSplitReportStoreTest {
+
+    private final OffHeapSplitReportStore store = new OffHeapSplitReportStore();
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("Should give back the stored report, with missing and empty tokens")
+    void values_StoredReport_ReturnsEqualReport() {
+        // Given
+        SatelliteReport report = new SatelliteReport("Kenobi", 100.5f, new String[]{"este", "", null, "mensaje"},
+                1_700_000_000_000L);
+
+        // When
+        store.put("kenobi", report);
+        List<SatelliteReport> values = store.values();
+
+        // Then
+        assertEquals(List.of(report), values);
+        assertEquals("Kenobi", values.get(0).name());
+        assertEquals("", values.get(0).words()[2]);
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("Should replace the report of a key and reuse the freed slot")
+    void put_SameKeyRepeatedly_ReusesSlab() {
+        // Given
+        SatelliteReport last = null;
+        for (int length = 0; length < 7; length++) {
+            last = report("sato", length);
+            store.put("sato", last);
+        }
+        long reserved = store.reservedBytes();
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            last = report("sato", i % 7);
+            store.put("sato", last);
+        }
+
+        // Then
+        assertEquals(List.of(last), store.values());
+        assertEquals(reserved, store.reservedBytes());
+        assertEquals(0, reserved % OffHeapSplitReportStore.SLAB_BYTES);
+    }
+
+    @Test
+    @DisplayName("Should only remove a report while it is still the stored one")
+    void remove_ReplacedReport_KeepsNewerOne() {
+        // Given
+        SatelliteReport older = report("skywalker", 2);
+        SatelliteReport newer = new SatelliteReport("skywalker", 115.5f, new String[]{"", "es", "", "", "secreto"});
+        store.put("skywalker", older);
+        store.put("skywalker", newer);
+
+        // When
+        boolean removedOlder = store.remove("skywalker", older);
+        boolean removedUnknown = store.remove("kenobi", older);
+
+        // Then
+        assertFalse(removedOlder);
+        assertFalse(removedUnknown);
+        assertEquals(List.of(newer), store.values());
+        assertTrue(store.remove("skywalker", newer));
+        assertEquals(0, store.size());
+        assertTrue(store.values().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep the same reports as a map through growth and deletions")
+    void putAndRemove_RandomOperations_MatchesMap() {
+        // Given
+        SplittableRandom random = new SplittableRandom(42);
+        Map<String, SatelliteReport> expected = new HashMap<>();
+
+        // When
+        for (int i = 0; i < 200_000; i++) {
+            String key = "sat-" + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                SatelliteReport stored = expected.get(key);
+                boolean removed = stored != null && store.remove(key, stored);
+                assertEquals(stored != null, removed, key);
+                expected.remove(key);
+            } else {
+                SatelliteReport report = report(key, random.nextInt(40));
+                store.put(key, report);
+                expected.put(key, report);
+            }
+        }
+
+        // Then
+        assertEquals(expected.size(), store.size());
+        assertEquals(new HashSet<>(expected.values()), new HashSet<>(store.values()));
+    }
+
+    @Test
+    @DisplayName("Should give a record larger than a slab a slab of its own")
+    void put_LongMessage_ReservesDedicatedSlab() {
+        // Given
+        String[] words = new String[300_000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = "w" + (i % 100);
+        }
+        SatelliteReport report = new SatelliteReport("kenobi", 100.0f, words);
+
+        // When
+        store.put("kenobi", report);
+
+        // Then
+        assertEquals(2 * OffHeapSplitReportStore.SLAB_BYTES, store.reservedBytes());
+        assertEquals(List.of(report), store.values());
+    }
+
+    @Test
+    @DisplayName("Should release its memory when closed")
+    void close_StoredReports_ReleasesMemory() {
+        // Given
+        store.put("kenobi", report("kenobi", 5));
+
+        // When
+        store.close();
+
+        // Then
+        assertEquals(0, store.size());
+        assertEquals(0, store.reservedBytes());
+        assertThrows(IllegalStateException.class, store::values);
+    }
+
+    private static SatelliteReport report(String name, int length) {
+        String[] words = new String[length];
+        for (int i = 0; i < length; i++) {
+            words[i] = i % 3 == 0 ? "" : "palabra" + (i % 11);
+        }
+        return new SatelliteReport(name, 100.0f + length, words);
+    }
+}
@@ -0,0 +1,277 @@
+package com.quasar.fireoperation.api.business;
+
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.exception.InvalidInputException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SplitWindowStore class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("SplitWindowStore Tests")
+class SplitWindowStoreTest {
+
+    private static final long WINDOW = 60_000;
+    private static final long DELAY = 5_000;
+
+    private final SplitWindowStore store =
+            new SplitWindowStore(WINDOW, DELAY, 0, SplitWindowStore.LatePolicy.DROP, SplitWindowStore.Storage.HEAP);
+
+    @Test
+    @DisplayName("Should join untimed reports whatever their arrival, as the original store")
+    void pending_UntimedReports_ReturnsThemAll() {
+        // Given
+        SatelliteReport kenobi = untimed("kenobi");
+        store.save(kenobi);
+        store.save(untimed("skywalker"));
+        store.save(untimed("Sato"));
+        SatelliteReport newer = untimed("KENOBI");
+        store.save(newer);
+
+        // When
+        List<SatelliteReport> pending = store.pending();
+
+        // Then
+        assertEquals(3, pending.size());
+        assertTrue(pending.contains(newer));
+        store.remove(List.of(kenobi));
+        assertEquals(3, store.size());
+        store.remove(pending);
+        assertEquals(0, store.size());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SplitWindowStore.Storage.class)
+    @DisplayName("Should return the pending reports by satellite name, whatever the storage")
+    void pending_UntimedReports_SortedByName(SplitWindowStore.Storage storage) {
+        // Given
+        try (SplitWindowStore sorted = new SplitWindowStore(WINDOW, DELAY, 0, SplitWindowStore.LatePolicy.DROP,
+                storage)) {
+            sorted.save(untimed("sato"));
+            sorted.save(untimed("Skywalker"));
+            sorted.save(untimed("kenobi"));
+            sorted.save(untimed("yoda"));
+
+            // When
+            List<SatelliteReport> pending = sorted.pending();
+
+            // Then
+            assertEquals(List.of("kenobi", "sato", "Skywalker", "yoda"),
+                    pending.stream().map(SatelliteReport::name).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should join untimed reports kept off-heap as the heap store does")
+    void pending_UntimedReportsOffHeap_ReturnsThemAll() {
+        // Given
+        try (SplitWindowStore offHeap = new SplitWindowStore(WINDOW, DELAY, 0, SplitWindowStore.LatePolicy.DROP,
+                SplitWindowStore.Storage.OFF_HEAP)) {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            offHeap.bindTo(registry);
+            SatelliteReport kenobi = untimed("kenobi");
+            offHeap.save(kenobi);
+            offHeap.save(untimed("skywalker"));
+            offHeap.save(untimed("Sato"));
+            SatelliteReport newer = untimed("KENOBI");
+            offHeap.save(newer);
+
+            // When
+            List<SatelliteReport> pending = offHeap.pending();
+
+            // Then
+            assertEquals(3, pending.size());
+            assertTrue(pending.contains(newer));
+            assertFalse(pending.contains(kenobi));
+            double reserved = registry.get("quasar.split.store.reserved").gauge().value();
+            assertTrue(reserved >= OffHeapSplitReportStore.SLAB_BYTES);
+            assertEquals(0, reserved % OffHeapSplitReportStore.SLAB_BYTES);
+            offHeap.remove(List.of(kenobi));
+            assertEquals(3, offHeap.size());
+            offHeap.remove(pending);
+            assertEquals(0, offHeap.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should fire a window only once the watermark passes its end")
+    void pending_WindowClosedByWatermark_ReturnsItsReports() {
+        // Given - three reports of [0, 60000), arriving out of order
+        store.save(timed("kenobi", 30_000));
+        store.save(timed("skywalker", 10_000));
+        store.save(timed("sato", 59_000));
+
+        // When & Then - still open: the watermark is 59000 - 5000
+        assertEquals(54_000, store.watermark());
+        assertTrue(store.pending().isEmpty());
+
+        // When - a report at 65000 moves the watermark to 60000
+        store.save(timed("kenobi", 65_000));
+
+        // Then
+        List<SatelliteReport> pending = store.pending();
+        assertEquals(3, pending.size());
+        assertTrue(pending.stream().allMatch(report -> report.timestamp() < WINDOW));
+        assertEquals(4, store.size());
+    }
+
+    @Test
+    @DisplayName("Should never join reports of different windows")
+    void pending_ReportsSpreadOverWindows_ReturnsNothing() {
+        // Given
+        store.save(timed("kenobi", 10_000));
+        store.save(timed("skywalker", 70_000));
+        store.save(timed("sato", 130_000));
+
+        // When
+        store.save(timed("kenobi", 500_000));
+
+        // Then - every window closed with a single report and was evicted
+        assertTrue(store.pending().isEmpty());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("Should resolve the latest fired window and forget it once processed")
+    void remove_ReadyWindow_ClearsOnlyProcessedReports() {
+        // Given
+        store.save(timed("kenobi", 1_000));
+        store.save(timed("skywalker", 2_000));
+        store.save(timed("sato", 3_000));
+        store.save(timed("kenobi", 61_000));
+        store.save(timed("skywalker", 62_000));
+        store.save(timed("sato", 63_000));
+        store.save(timed("kenobi", 125_000));
+
+        // When
+        List<SatelliteReport> pending = store.pending();
+        store.remove(pending);
+
+        // Then - [60000, 120000) replaced [0, 60000), which was evicted unresolved
+        assertTrue(pending.stream().allMatch(report -> report.timestamp() >= WINDOW));
+        assertTrue(store.pending().isEmpty());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("Should drop or reject reports of evicted windows according to the policy")
+    void save_LateReport_AppliesPolicy() {
+        // Given
+        SplitWindowStore rejecting = new SplitWindowStore(WINDOW, DELAY, 0, SplitWindowStore.LatePolicy.REJECT,
+                SplitWindowStore.Storage.HEAP);
+        store.save(timed("kenobi", 100_000));
+        rejecting.save(timed("kenobi", 100_000));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        store.bindTo(registry);
+
+        // When
+        boolean saved = store.save(timed("sato", 50_000));
+
+        // Then
+        assertFalse(saved);
+        assertEquals(1, store.size());
+        assertEquals(1.0, registry.get("quasar.split.late").tag("policy", "drop").functionCounter().count());
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> rejecting.save(timed("sato", 50_000)));
+        assertTrue(exception.getMessage().startsWith("Reporte tardío de sato"));
+    }
+
+    @Test
+    @DisplayName("Should fire a window again with reports arriving within the allowed lateness")
+    void save_ReportWithinAllowedLateness_RefiresWindow() {
+        // Given
+        SplitWindowStore lenient = new SplitWindowStore(WINDOW, DELAY, 30_000, SplitWindowStore.LatePolicy.DROP,
+                SplitWindowStore.Storage.HEAP);
+        lenient.save(timed("kenobi", 1_000));
+        lenient.save(timed("skywalker", 2_000));
+        lenient.save(timed("kenobi", 70_000));
+        assertTrue(lenient.pending().isEmpty());
+
+        // When - the window [0, 60000) closed at watermark 65000 with two reports
+        boolean saved = lenient.save(timed("sato", 3_000));
+
+        // Then
+        assertTrue(saved);
+        assertEquals(3, lenient.pending().size());
+
+        // When - the watermark passes 60000 + 30000 and the window is evicted
+        lenient.save(timed("skywalker", 96_000));
+
+        // Then
+        assertFalse(lenient.save(timed("sato", 4_000)));
+    }
+
+    @Test
+    @DisplayName("Should keep the number of windows bounded by delay and lateness")
+    void save_ManyWindows_KeepsStateBounded() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        store.bindTo(registry);
+
+        // When
+        for (long instant = 0; instant < 100 * WINDOW; instant += WINDOW / 4) {
+            store.save(timed("kenobi", instant));
+            store.save(timed("skywalker", instant + 1));
+            store.save(timed("sato", instant + 2));
+        }
+
+        // Then
+        assertTrue(registry.get("quasar.split.windows").gauge().value() <= (DELAY / WINDOW) + 2);
+        assertTrue(store.size() <= 3 * SplitWindowStore.JOIN_SIZE);
+        assertEquals(99.0, registry.get("quasar.split.windows.fired").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid windows and negative instants")
+    void constructorAndSave_InvalidArguments_ThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SplitWindowStore(0, DELAY, 0, SplitWindowStore.LatePolicy.DROP,
+                        SplitWindowStore.Storage.HEAP));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SplitWindowStore(WINDOW, -1, 0, SplitWindowStore.LatePolicy.DROP,
+                        SplitWindowStore.Storage.HEAP));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SplitWindowStore(WINDOW, DELAY, -1, SplitWindowStore.LatePolicy.DROP,
+                        SplitWindowStore.Storage.HEAP));
+        assertThrows(IllegalArgumentException.class, () -> store.save(timed("kenobi", -1)));
+    }
+
+    @Test
+    @DisplayName("Should keep the last complete window and reject instants whose window cannot end")
+    void save_InstantNearLongMax_RejectsOnlyWindowsThatOverflow() {
+        // Given
+        long lastStart = Math.floorDiv(Long.MAX_VALUE, WINDOW) * WINDOW;
+        long instant = lastStart - WINDOW;
+
+        // When
+        boolean kenobi = store.save(timed("kenobi", instant));
+        boolean skywalker = store.save(timed("skywalker", instant + 1));
+        boolean sato = store.save(timed("sato", lastStart - 1));
+
+        // Then
+        assertTrue(kenobi && skywalker && sato);
+        assertEquals(3, store.size());
+        assertThrows(InvalidInputException.class, () -> store.save(timed("kenobi", lastStart)));
+        assertThrows(InvalidInputException.class, () -> store.save(timed("kenobi", Long.MAX_VALUE)));
+        assertEquals(3, store.size());
+    }
+
+    private static SatelliteReport untimed(String name) {
+        return new SatelliteReport(name, 100.0f, new String[]{name});
+    }
+
+    private static SatelliteReport timed(String name, long timestamp) {
+        return new SatelliteReport(name, 100.0f, new String[]{name}, timestamp);
+    }
+}
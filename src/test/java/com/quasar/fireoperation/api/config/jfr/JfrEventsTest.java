@@ -0,0 +1,124 @@
+package com.quasar.fireoperation.api.config.jfr;
+
+import com.quasar.fireoperation.api.business.MessageBusinessImpl;
+import com.quasar.fireoperation.api.business.SplitWindowStore;
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.exception.LocationException;
+import com.quasar.fireoperation.api.provider.LocationProviderImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the custom JFR events emitted by the solver and the business layer.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("JFR Events Tests")
+class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private LocationProviderImpl locationProvider;
+    private MessageBusinessImpl messageBusiness;
+
+    @BeforeEach
+    void setUp() {
+        locationProvider = new LocationProviderImpl();
+        messageBusiness = new MessageBusinessImpl(locationProvider, new PipelineMetrics(new SimpleMeterRegistry()),
+                SplitWindowStore.withDefaults());
+    }
+
+    @Test
+    @DisplayName("Should record trilateration inputs, iterations and outcome")
+    void locate_WhileRecording_EmitsTrilaterationEvents() throws Exception {
+        // When
+        List<RecordedEvent> events = record(TrilaterationEvent.NAME, () -> {
+            locationProvider.locate(100.0f, 115.5f, 142.7f);
+            assertThrows(LocationException.class, () -> locationProvider.locate(-1f, 115.5f, 142.7f));
+        });
+
+        // Then
+        assertEquals(2, events.size());
+        RecordedEvent solved = events.get(0);
+        assertTrue(solved.getBoolean("solved"));
+        assertEquals("closed-form", solved.getString("strategy"));
+        assertEquals(100.0f, solved.getFloat("kenobiDistance"));
+        assertEquals(142.7f, solved.getFloat("satoDistance"));
+        assertEquals(1, solved.getInt("iterations"));
+        assertNotEquals(0f, solved.getFloat("determinant"));
+        assertFalse(solved.getDuration().isNegative());
+        RecordedEvent failed = events.get(1);
+        assertFalse(failed.getBoolean("solved"));
+        assertEquals(0, failed.getInt("iterations"));
+        assertNotNull(failed.getString("failure"));
+    }
+
+    @Test
+    @DisplayName("Should record fragment and token counts of every merge")
+    void resolveTopSecret_WhileRecording_EmitsMergeEvent() throws Exception {
+        // When
+        List<RecordedEvent> events = record(MessageMergeEvent.NAME, () -> messageBusiness.resolveTopSecret(List.of(
+                new SatelliteReport("kenobi", 100.0f, new String[]{"este", "", "", "mensaje", ""}),
+                new SatelliteReport("skywalker", 115.5f, new String[]{"", "es", "", "", "secreto"}),
+                new SatelliteReport("sato", 142.7f, new String[]{"este", "", "un", "", ""}))));
+
+        // Then
+        assertEquals(1, events.size());
+        RecordedEvent merge = events.getFirst();
+        assertEquals(3, merge.getInt("fragments"));
+        assertEquals(5, merge.getInt("positions"));
+        assertEquals(5, merge.getInt("tokens"));
+        assertEquals("este es un mensaje secreto".length(), merge.getInt("messageLength"));
+    }
+
+    @Test
+    @DisplayName("Should record saves and the clear after a split resolution")
+    void splitCycle_WhileRecording_EmitsStateTransitions() throws Exception {
+        // When
+        List<RecordedEvent> events = record(SplitStateEvent.NAME, () -> {
+            messageBusiness.saveSatelliteSplit(new SatelliteReport("kenobi", 100.0f, new String[]{"este", ""}));
+            messageBusiness.saveSatelliteSplit(new SatelliteReport("skywalker", 115.5f, new String[]{"", "es"}));
+            messageBusiness.saveSatelliteSplit(new SatelliteReport("sato", 142.7f, new String[]{"este", ""}));
+            messageBusiness.resolveTopSecretSplit(false);
+        });
+
+        // Then
+        assertEquals(List.of("SAVED", "SAVED", "SAVED", "CLEARED"),
+                events.stream().map(event -> event.getString("transition")).toList());
+        assertEquals("sato", events.get(2).getString("satellite"));
+        assertEquals(3, events.get(2).getInt("stored"));
+        assertEquals(0, events.get(3).getInt("stored"));
+        assertEquals(3L, events.get(2).getLong("version"));
+        assertEquals(6L, events.get(3).getLong("version"));
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        Path file = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .toList();
+    }
+}
@@ -0,0 +1,97 @@
+package com.quasar.fireoperation.api.config.jfr;
+
+import com.quasar.fireoperation.api.provider.LocationProviderImpl;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JfrRecordingEndpoint class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("JfrRecordingEndpoint Tests")
+class JfrRecordingEndpointTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JfrRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new JfrRecordingEndpoint();
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.stop();
+    }
+
+    @Test
+    @DisplayName("Should start, stop and download a recording with the solver events")
+    void recordingLifecycle_StartStopDownload_ReturnsJfrFile() throws Exception {
+        // Given
+        WebEndpointResponse<JfrRecordingEndpoint.RecordingStatus> started = endpoint.start(null, 60L);
+        new LocationProviderImpl().locate(100.0f, 115.5f, 142.7f);
+
+        // When
+        WebEndpointResponse<JfrRecordingEndpoint.RecordingStatus> stopped = endpoint.stop();
+        WebEndpointResponse<Resource> download = endpoint.download();
+
+        // Then
+        assertEquals(200, started.getStatus());
+        assertEquals(RecordingState.RUNNING, started.getBody().state());
+        assertEquals("default", started.getBody().settings());
+        assertEquals(RecordingState.STOPPED, stopped.getBody().state());
+        assertEquals(200, download.getStatus());
+        Path file = tempDir.resolve("download.jfr");
+        try (InputStream in = download.getBody().getInputStream()) {
+            Files.copy(in, file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals(TrilaterationEvent.NAME)));
+    }
+
+    @Test
+    @DisplayName("Should delete the temporary dump once downloaded")
+    void download_StreamClosed_DeletesTemporaryFile() throws Exception {
+        // Given
+        endpoint.start(null, null);
+        Resource resource = endpoint.download().getBody();
+        Path dump = resource.getFile().toPath();
+
+        // When
+        try (InputStream in = resource.getInputStream()) {
+            in.readAllBytes();
+        }
+
+        // Then
+        assertFalse(Files.exists(dump));
+    }
+
+    @Test
+    @DisplayName("Should answer 404 when there is no recording and 400 for unknown settings")
+    void operations_NoRecordingOrUnknownSettings_ReturnErrorStatus() {
+        // When & Then
+        assertEquals(404, endpoint.download().getStatus());
+        assertEquals(404, endpoint.stop().getStatus());
+        assertEquals(400, endpoint.start("no-existe", null).getStatus());
+    }
+}
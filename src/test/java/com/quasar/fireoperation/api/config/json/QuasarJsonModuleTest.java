@@ -0,0 +1,169 @@
+package com.quasar.fireoperation.api.config.json;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
+import com.quasar.fireoperation.api.domain.general.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.oas.models.media.Schema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for QuasarJsonModule and its codecs.
+ * Output and parsed values are compared against default Jackson databinding.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("QuasarJsonModule Tests")
+class QuasarJsonModuleTest {
+
+    private static final String VALID_REQUEST = """
+            {"satellites":[
+              {"name":"kenobi","distance":100.0,"message":["este","","","mensaje",""]},
+              {"name":"skywalker","distance":115.5,"message":["","es","","","secreto"]},
+              {"name":"sato","distance":142,"message":["este","","un","",""]}
+            ]}""";
+
+    private SimpleMeterRegistry registry;
+    private ObjectMapper codecMapper;
+    private ObjectMapper defaultMapper;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        // Same unknown-property policy Spring Boot applies to its ObjectMapper
+        defaultMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        codecMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .registerModule(new QuasarJsonModule(new PipelineMetrics(registry)));
+    }
+
+    @Test
+    @DisplayName("Should serialize ResponseDTO exactly like default databinding")
+    void serialize_ResponseDTO_MatchesDefault() throws Exception {
+        // Given
+        List<ResponseDTO> responses = List.of(
+                new ResponseDTO(new PositionDTO(-58.31f, -69.55f), "este es un mensaje secreto"),
+                new ResponseDTO(new PositionDTO(0f, 1e-7f), "con \"comillas\" y ñ"),
+                new ResponseDTO(new PositionDTO(-100f, 75.5f), "con incertidumbre",
+                        new UncertaintyDTO(1.25, 0.5, -0.125, 3.1, 1.2, -35.5, 0.95, 20_000)),
+                new ResponseDTO(null, null));
+
+        for (ResponseDTO response : responses) {
+            // When
+            String json = codecMapper.writeValueAsString(response);
+
+            // Then
+            assertEquals(defaultMapper.writeValueAsString(response), json);
+        }
+    }
+
+    @Test
+    @DisplayName("Should deserialize TopSecretRequestDTO like default databinding")
+    void deserialize_TopSecretRequest_MatchesDefault() throws Exception {
+        // When
+        TopSecretRequestDTO request = codecMapper.readValue(VALID_REQUEST, TopSecretRequestDTO.class);
+
+        // Then
+        assertEquals(defaultMapper.readValue(VALID_REQUEST, TopSecretRequestDTO.class), request);
+        assertEquals(3, request.getSatellites().size());
+        assertEquals(142f, request.getSatellites().get(2).getDistance());
+    }
+
+    @Test
+    @DisplayName("Should record the binding time of every TopSecretRequestDTO read")
+    void deserialize_TopSecretRequest_RecordsBindingTimer() throws Exception {
+        // When
+        codecMapper.readValue(VALID_REQUEST, TopSecretRequestDTO.class);
+        codecMapper.readValue(VALID_REQUEST, TopSecretRequestDTO.class);
+
+        // Then
+        assertEquals(2, registry.get(PipelineMetrics.STAGE_TIMER).tag("stage", "json.binding").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should handle nulls, coercions and unknown properties like default databinding")
+    void deserialize_EdgeCases_MatchesDefault() throws Exception {
+        // Given
+        List<String> payloads = List.of(
+                "{}",
+                "{\"satellites\":null}",
+                "{\"satellites\":[]}",
+                "{\"satellites\":[null,{}]}",
+                "{\"satellites\":[{\"name\":null,\"distance\":null,\"message\":null}]}",
+                "{\"satellites\":[{\"name\":\"sato\",\"distance\":\"12.5\",\"message\":[null,\"a\",7]}]}",
+                "{\"satellites\":[{\"name\":\"sato\",\"timestamp\":1767225600000},{\"timestamp\":null},{\"timestamp\":\"12\"}]}",
+                "{\"extra\":{\"a\":[1,2]},\"satellites\":[{\"name\":\"kenobi\",\"unknown\":true}]}");
+
+        for (String payload : payloads) {
+            // When
+            TopSecretRequestDTO request = codecMapper.readValue(payload, TopSecretRequestDTO.class);
+
+            // Then
+            assertEquals(defaultMapper.readValue(payload, TopSecretRequestDTO.class), request, payload);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject unknown properties when the mapper is strict")
+    void deserialize_UnknownPropertyStrictMapper_Throws() {
+        // Given
+        ObjectMapper strict = new ObjectMapper().registerModule(new QuasarJsonModule(new PipelineMetrics(registry)));
+
+        // When & Then
+        assertThrows(UnrecognizedPropertyException.class,
+                () -> strict.readValue("{\"satellites\":[{\"nombre\":\"kenobi\"}]}", TopSecretRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should reject wrong token types")
+    void deserialize_WrongTokenTypes_Throws() {
+        assertThrows(MismatchedInputException.class,
+                () -> codecMapper.readValue("[]", TopSecretRequestDTO.class));
+        assertThrows(MismatchedInputException.class,
+                () -> codecMapper.readValue("{\"satellites\":{\"name\":\"kenobi\"}}", TopSecretRequestDTO.class));
+        assertThrows(MismatchedInputException.class,
+                () -> codecMapper.readValue("{\"satellites\":[{\"message\":\"este\"}]}", TopSecretRequestDTO.class));
+        assertThrows(MismatchedInputException.class,
+                () -> codecMapper.readValue("{\"satellites\":[{\"distance\":[1]}]}", TopSecretRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should write and read the properties declared in the OpenAPI schemas")
+    void codecs_PropertyNames_MatchOpenApiSchemas() throws Exception {
+        // Given
+        ResponseDTO response = new ResponseDTO(new PositionDTO(1f, 2f), "mensaje",
+                new UncertaintyDTO(1, 1, 0, 2.45, 2.45, 0, 0.95, 100));
+        JsonNode written = codecMapper.readTree(codecMapper.writeValueAsString(response));
+
+        // Then
+        assertEquals(schemaProperties(ResponseDTO.class), fieldNames(written));
+        assertEquals(schemaProperties(PositionDTO.class), fieldNames(written.get("position")));
+        assertEquals(schemaProperties(UncertaintyDTO.class), fieldNames(written.get("uncertainty")));
+        assertEquals(schemaProperties(TopSecretRequestDTO.class), Set.of(TopSecretRequestDTODeserializer.SATELLITES));
+        assertEquals(schemaProperties(SatelliteDTO.class), Set.of(SatelliteDTODeserializer.NAME,
+                SatelliteDTODeserializer.DISTANCE, SatelliteDTODeserializer.MESSAGE, SatelliteDTODeserializer.TIMESTAMP));
+    }
+
+    private static Set<String> schemaProperties(Class<?> type) {
+        Schema<?> schema = ModelConverters.getInstance().read(type).get(type.getSimpleName());
+        return new HashSet<>(schema.getProperties().keySet());
+    }
+
+    private static Set<String> fieldNames(JsonNode node) {
+        Set<String> names = new HashSet<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
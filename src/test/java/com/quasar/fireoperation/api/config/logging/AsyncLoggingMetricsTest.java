@@ -0,0 +1,57 @@
+package com.quasar.fireoperation.api.config.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AsyncLoggingMetrics class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("AsyncLoggingMetrics Tests")
+class AsyncLoggingMetricsTest {
+
+    @Test
+    @DisplayName("Should register queue and drop meters for async appenders on the root logger")
+    void bindTo_AsyncAppenderOnRoot_RegistersMeters() {
+        // Given
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        ListAppender<ILoggingEvent> delegate = new ListAppender<>();
+        delegate.setContext(context);
+        delegate.start();
+        BatchingAsyncAppender appender = new BatchingAsyncAppender();
+        appender.setContext(context);
+        appender.setName("ASYNC_METRICS_TEST");
+        appender.setQueueSize(16);
+        appender.addAppender(delegate);
+        appender.start();
+        root.addAppender(appender);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        try {
+            // When
+            new AsyncLoggingMetrics().bindTo(registry);
+
+            // Then
+            assertEquals(16.0, registry.get("quasar.logging.async.queue.capacity")
+                    .tag("appender", "ASYNC_METRICS_TEST").gauge().value());
+            assertNotNull(registry.get("quasar.logging.async.queue.depth").tag("appender", "ASYNC_METRICS_TEST").gauge());
+            assertEquals(0.0, registry.get("quasar.logging.async.dropped").tag("level", "debug").functionCounter().count());
+            assertEquals(0.0, registry.get("quasar.logging.async.dropped").tag("level", "other").functionCounter().count());
+        } finally {
+            root.detachAppender(appender);
+            appender.stop();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.quasar.fireoperation.api.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BatchingAsyncAppender class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("BatchingAsyncAppender Tests")
+class BatchingAsyncAppenderTest {
+
+    private LoggerContext context;
+    private BatchingAsyncAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        appender = new BatchingAsyncAppender();
+        appender.setContext(context);
+        appender.setName("ASYNC_TEST");
+    }
+
+    @AfterEach
+    void tearDown() {
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("Should deliver every event to the attached appender in order")
+    void doAppend_Events_DeliveredToDelegate() {
+        // Given
+        ListAppender<ILoggingEvent> delegate = startedListAppender();
+        appender.addAppender(delegate);
+        appender.start();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            appender.doAppend(event(Level.INFO, "evento " + i));
+        }
+        appender.stop();
+
+        // Then
+        assertEquals(100, delegate.list.size());
+        assertEquals("evento 0", delegate.list.getFirst().getFormattedMessage());
+        assertEquals("evento 99", delegate.list.getLast().getFormattedMessage());
+        assertEquals(0, appender.getDroppedDebug() + appender.getDroppedOther());
+    }
+
+    @Test
+    @DisplayName("Should not start without attached appenders")
+    void start_NoAppenders_DoesNotStart() {
+        // When
+        appender.start();
+
+        // Then
+        assertFalse(appender.isStarted());
+    }
+
+    @Test
+    @DisplayName("Should drop and count every event when queue is full with DROP_ALL")
+    void doAppend_FullQueueDropAll_CountsDrops() throws InterruptedException {
+        // Given
+        BlockingAppender delegate = new BlockingAppender();
+        appender.addAppender(delegate);
+        appender.setQueueSize(2);
+        appender.setOverflowPolicy(BatchingAsyncAppender.OverflowPolicy.DROP_ALL);
+        appender.start();
+        appender.doAppend(event(Level.INFO, "bloquea al escritor"));
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            appender.doAppend(event(i % 2 == 0 ? Level.DEBUG : Level.WARN, "evento " + i));
+        }
+
+        // Then
+        assertEquals(2, appender.getQueueDepth());
+        assertEquals(4, appender.getDroppedDebug());
+        assertEquals(4, appender.getDroppedOther());
+        delegate.release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should drop only DEBUG events when queue is full with DROP_DEBUG")
+    void doAppend_FullQueueDropDebug_DropsOnlyDebug() throws InterruptedException {
+        // Given
+        BlockingAppender delegate = new BlockingAppender();
+        appender.addAppender(delegate);
+        appender.setQueueSize(2);
+        appender.start();
+        appender.doAppend(event(Level.INFO, "bloquea al escritor"));
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+        appender.doAppend(event(Level.INFO, "llena la cola"));
+        appender.doAppend(event(Level.INFO, "llena la cola"));
+
+        // When
+        appender.doAppend(event(Level.DEBUG, "descartado"));
+        Thread producer = Thread.ofVirtual().start(() -> appender.doAppend(event(Level.ERROR, "espera hueco")));
+        producer.join(200);
+
+        // Then - the ERROR event waits for room instead of being dropped
+        assertEquals(BatchingAsyncAppender.OverflowPolicy.DROP_DEBUG, appender.getOverflowPolicy());
+        assertEquals(1, appender.getDroppedDebug());
+        assertTrue(producer.isAlive());
+        delegate.release.countDown();
+        producer.join(5000);
+        assertFalse(producer.isAlive());
+        assertEquals(0, appender.getDroppedOther());
+    }
+
+    private ListAppender<ILoggingEvent> startedListAppender() {
+        ListAppender<ILoggingEvent> delegate = new ListAppender<>();
+        delegate.setContext(context);
+        delegate.start();
+        return delegate;
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerContext(context);
+        event.setLoggerName("test");
+        event.setLevel(level);
+        event.setMessage(message);
+        event.setTimeStamp(System.currentTimeMillis());
+        return event;
+    }
+
+    /**
+     * Delegate appender that blocks the writer thread on the first event.
+     */
+    private class BlockingAppender extends AppenderBase<ILoggingEvent> {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingAppender() {
+            setContext(context);
+            start();
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            entered.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
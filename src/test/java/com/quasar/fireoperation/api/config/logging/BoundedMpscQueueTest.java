@@ -0,0 +1,86 @@
+package com.quasar.fireoperation.api.config.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoundedMpscQueue class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("BoundedMpscQueue Tests")
+class BoundedMpscQueueTest {
+
+    @Test
+    @DisplayName("Should round capacity up to a power of two with a minimum of two")
+    void constructor_Capacity_RoundsToPowerOfTwo() {
+        assertEquals(8, new BoundedMpscQueue<String>(5).capacity());
+        assertEquals(2, new BoundedMpscQueue<String>(1).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new BoundedMpscQueue<String>(0));
+    }
+
+    @Test
+    @DisplayName("Should keep FIFO order and reject offers when full")
+    void offerPoll_FullQueue_RejectsAndKeepsOrder() {
+        // Given
+        BoundedMpscQueue<Integer> queue = new BoundedMpscQueue<>(4);
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+
+        // Then
+        assertFalse(queue.offer(99));
+        assertEquals(4, queue.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, queue.poll());
+        }
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+        assertTrue(queue.offer(5));
+    }
+
+    @Test
+    @DisplayName("Should deliver every element once with concurrent producers")
+    void offer_ConcurrentProducers_DeliversAllElements() {
+        // Given
+        BoundedMpscQueue<Integer> queue = new BoundedMpscQueue<>(64);
+        int producers = 8;
+        int perProducer = 5_000;
+        Set<Integer> received = new HashSet<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!queue.offer(base + i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                });
+            }
+            while (received.size() < producers * perProducer) {
+                Integer value = queue.poll();
+                if (value != null) {
+                    assertTrue(received.add(value), "Duplicated element: " + value);
+                }
+            }
+        }
+
+        // Then
+        assertEquals(producers * perProducer, received.size());
+        assertNull(queue.poll());
+    }
+}
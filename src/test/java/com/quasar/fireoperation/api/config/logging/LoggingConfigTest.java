@@ -133,6 +133,20 @@ class LoggingConfigTest {
         verify(environment).getActiveProfiles();
     }
 
+    @Test
+    @DisplayName("Should report virtual thread request mode")
+    void onApplicationReady_VirtualThreadsEnabled_LogsCorrectly() {
+        // Given
+        when(environment.getProperty("spring.threads.virtual.enabled", "false")).thenReturn("true");
+        when(environment.getActiveProfiles()).thenReturn(new String[]{"dev", "virtual"});
+
+        // When
+        loggingConfig.onApplicationReady();
+
+        // Then
+        verify(environment).getProperty("spring.threads.virtual.enabled", "false");
+    }
+
     private void assertDoesNotThrow(Runnable executable) {
         try {
             executable.run();
@@ -0,0 +1,149 @@
+package com.quasar.fireoperation.api.config.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RequestEventLogger class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("RequestEventLogger Tests")
+class RequestEventLoggerTest {
+
+    @Test
+    @DisplayName("Should emit every event when sampling is disabled and under the rate limit")
+    void tryAcquire_NoSamplingUnderLimit_AlwaysEmits() {
+        // Given
+        RequestEventLogger eventLogger = new RequestEventLogger(1, 1000);
+
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            assertTrue(eventLogger.tryAcquire());
+        }
+        assertEquals(0, eventLogger.getSuppressed());
+    }
+
+    @Test
+    @DisplayName("Should emit one out of every N events when sampling")
+    void tryAcquire_SampleEveryFour_EmitsQuarter() {
+        // Given
+        RequestEventLogger eventLogger = new RequestEventLogger(4, 1000);
+
+        // When
+        int emitted = 0;
+        for (int i = 0; i < 40; i++) {
+            if (eventLogger.tryAcquire()) {
+                emitted++;
+            }
+        }
+
+        // Then
+        assertEquals(10, emitted);
+        assertEquals(30, eventLogger.getSuppressed());
+    }
+
+    @Test
+    @DisplayName("Should stop emitting once the per-second limit is reached")
+    void tryAcquire_OverRateLimit_SuppressesEvents() {
+        // Given
+        RequestEventLogger eventLogger = new RequestEventLogger(1, 5);
+
+        // When
+        int emitted = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (eventLogger.tryAcquire()) {
+                emitted++;
+            }
+        }
+
+        // Then - at most two windows can be touched during the loop
+        assertTrue(emitted >= 5 && emitted <= 10, "Emitted events: " + emitted);
+        assertEquals(1000 - emitted, eventLogger.getSuppressed());
+    }
+
+    @Test
+    @DisplayName("Should grant the per-second limit again in a new second, and none to an older one")
+    void tryAcquirePermit_NewSecond_ResetsCount() {
+        // Given
+        RequestEventLogger eventLogger = new RequestEventLogger(1, 3);
+        long second = System.nanoTime() / 1_000_000_000L + 10;
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            assertTrue(eventLogger.tryAcquirePermit(second));
+        }
+        assertFalse(eventLogger.tryAcquirePermit(second));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(eventLogger.tryAcquirePermit(second + 1));
+        }
+        assertFalse(eventLogger.tryAcquirePermit(second + 1));
+        assertFalse(eventLogger.tryAcquirePermit(second));
+    }
+
+    @Test
+    @DisplayName("Should never grant more than the per-second limit when threads cross a second together")
+    void tryAcquirePermit_ConcurrentSecondChange_NeverExceedsLimit() throws Exception {
+        // Given
+        int threads = 8;
+        int seconds = 200;
+        int maxPerSecond = 20;
+        RequestEventLogger eventLogger = new RequestEventLogger(1, maxPerSecond);
+        long first = System.nanoTime() / 1_000_000_000L + 10;
+        AtomicIntegerArray granted = new AtomicIntegerArray(seconds);
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int s = 0; s < seconds; s++) {
+                        barrier.await();
+                        for (int i = 0; i < maxPerSecond; i++) {
+                            if (eventLogger.tryAcquirePermit(first + s)) {
+                                granted.incrementAndGet(s);
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        for (int s = 0; s < seconds; s++) {
+            assertEquals(maxPerSecond, granted.get(s), "Permisos del segundo " + s);
+        }
+    }
+
+    @Test
+    @DisplayName("Should normalize invalid configuration values")
+    void constructor_InvalidValues_AreNormalized() {
+        // Given
+        RequestEventLogger eventLogger = new RequestEventLogger(0, -1);
+
+        // When & Then
+        assertFalse(eventLogger.tryAcquire());
+        assertDoesNotThrow(() -> eventLogger.positionResolved("/top-secret", 1f, 2f));
+        assertDoesNotThrow(() -> eventLogger.satelliteSaved("kenobi", 100f));
+    }
+}
@@ -0,0 +1,85 @@
+package com.quasar.fireoperation.api.config.metrics;
+
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.result.FailureReason;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PipelineMetrics class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("PipelineMetrics Tests")
+class PipelineMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private PipelineMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new PipelineMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("Should register every stage timer and outcome counter up front")
+    void constructor_RegistersAllMeters() {
+        // Then
+        assertEquals(5, registry.get(PipelineMetrics.STAGE_TIMER).timers().size());
+        assertEquals(5, registry.get(PipelineMetrics.OUTCOME_COUNTER).counters().size());
+    }
+
+    @Test
+    @DisplayName("Should record stage timings with nanosecond input")
+    void recordLocation_Nanos_RecordsTimings() {
+        // When
+        metrics.recordLocation(TimeUnit.MICROSECONDS.toNanos(3));
+        metrics.recordLocation(TimeUnit.MICROSECONDS.toNanos(5));
+
+        // Then
+        Timer timer = registry.get(PipelineMetrics.STAGE_TIMER).tag("stage", "location").timer();
+        assertEquals(2, timer.count());
+        assertEquals(8, timer.totalTime(TimeUnit.MICROSECONDS), 0.001);
+        assertEquals(5, timer.max(TimeUnit.MICROSECONDS), 0.001);
+    }
+
+    @Test
+    @DisplayName("Should map each result to its outcome counter and return it unchanged")
+    void recordOutcome_EachResult_IncrementsMatchingCounter() {
+        // Given
+        TopSecretResult success = TopSecretResult.success(new Resolution(new Position(1f, 2f), "hola"));
+
+        // When
+        TopSecretResult returned = metrics.recordOutcome(success);
+        metrics.recordOutcome(TopSecretResult.failure(FailureReason.INVALID_INPUT, "x"));
+        metrics.recordOutcome(TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, "x"));
+        metrics.recordOutcome(TopSecretResult.failure(FailureReason.MESSAGE_UNDETERMINED, "x"));
+        metrics.recordOutcome(TopSecretResult.partial(List.of(new Position(1f, 2f)), "x"));
+        metrics.recordBadRequest();
+
+        // Then
+        assertSame(success, returned);
+        assertEquals(1.0, outcome("success"));
+        assertEquals(2.0, outcome("bad_request"));
+        assertEquals(1.0, outcome("location_failure"));
+        assertEquals(1.0, outcome("message_failure"));
+        assertEquals(1.0, outcome("partial"));
+    }
+
+    private double outcome(String outcome) {
+        return registry.get(PipelineMetrics.OUTCOME_COUNTER).tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,87 @@
+package com.quasar.fireoperation.api.config.metrics;
+
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SolverMetrics class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("SolverMetrics Tests")
+class SolverMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private SolverMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new SolverMetrics(registry, 4);
+    }
+
+    @Test
+    @DisplayName("Should register the meters of every strategy up front")
+    void constructor_RegistersMetersPerStrategy() {
+        // Then
+        int strategies = SolverStrategy.values().length;
+        assertEquals(strategies, registry.get(SolverMetrics.SOLVE_COUNTER).functionCounters().size());
+        assertEquals(strategies, registry.get(SolverMetrics.SOLVE_TIMER).functionTimers().size());
+        assertEquals(strategies, registry.get(SolverMetrics.FAILURE_COUNTER).functionCounters().size());
+        assertEquals(strategies, registry.get(SolverMetrics.RESIDUAL_COUNTER).functionCounters().size());
+    }
+
+    @Test
+    @DisplayName("Should count every solve and sample one out of every sample-every per strategy")
+    void sample_CountsEverySolveAndSamplesPeriodically() {
+        // When
+        int sampled = 0;
+        for (int i = 0; i < 9; i++) {
+            if (metrics.sample(SolverStrategy.LEAST_SQUARES)) {
+                sampled++;
+            }
+        }
+        boolean firstRobust = metrics.sample(SolverStrategy.ROBUST);
+
+        // Then
+        assertEquals(3, sampled);
+        assertTrue(firstRobust);
+        assertEquals(9, registry.get(SolverMetrics.SOLVE_COUNTER).tag("strategy", "least-squares").functionCounter().count());
+        assertEquals(1, registry.get(SolverMetrics.SOLVE_COUNTER).tag("strategy", "robust").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should record latency and residual of a sample under the strategy that ran")
+    void recordSample_Strategy_RecordsOnlyItsMeters() {
+        // When
+        metrics.recordSample(SolverStrategy.ROBUST, TimeUnit.MICROSECONDS.toNanos(4), 0.5);
+
+        // Then
+        FunctionTimer robust = registry.get(SolverMetrics.SOLVE_TIMER).tag("strategy", "robust").functionTimer();
+        assertEquals(1, robust.count());
+        assertEquals(4, robust.totalTime(TimeUnit.MICROSECONDS), 0.001);
+        assertEquals(0.5, registry.get(SolverMetrics.RESIDUAL_COUNTER).tag("strategy", "robust").functionCounter().count());
+        assertEquals(0, registry.get(SolverMetrics.SOLVE_TIMER).tag("strategy", "closed-form").functionTimer().count());
+    }
+
+    @Test
+    @DisplayName("Should count failures under the strategy that failed")
+    void recordFailure_Strategy_IncrementsFailureCounter() {
+        // When
+        metrics.recordFailure(SolverStrategy.LEAST_SQUARES);
+
+        // Then
+        assertEquals(1, registry.get(SolverMetrics.FAILURE_COUNTER).tag("strategy", "least-squares").functionCounter().count());
+        assertEquals(0, registry.get(SolverMetrics.FAILURE_COUNTER).tag("strategy", "closed-form").functionCounter().count());
+    }
+}
@@ -0,0 +1,68 @@
+package com.quasar.fireoperation.api.config.swagger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DeferredSpringdocPostProcessor class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("DeferredSpringdocPostProcessor Tests")
+class DeferredSpringdocPostProcessorTest {
+
+    private DefaultListableBeanFactory beanFactory;
+    private MockEnvironment environment;
+    private DeferredSpringdocPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        beanFactory = new DefaultListableBeanFactory();
+        register("springDocConfiguration", "org.springdoc.core.configuration.SpringDocConfiguration");
+        register("openAPI", "io.swagger.v3.oas.models.OpenAPI");
+        register("messageBusinessImpl", "com.quasar.fireoperation.api.business.MessageBusinessImpl");
+        environment = new MockEnvironment();
+        postProcessor = new DeferredSpringdocPostProcessor();
+        postProcessor.setEnvironment(environment);
+    }
+
+    @Test
+    @DisplayName("Should mark only springdoc and Swagger beans as lazy when deferral is enabled")
+    void postProcessBeanFactory_DeferralEnabled_MarksSpringdocBeansLazy() {
+        // Given
+        environment.setProperty(DeferredSpringdocPostProcessor.DEFERRED_PROPERTY, "true");
+
+        // When
+        postProcessor.postProcessBeanFactory(beanFactory);
+
+        // Then
+        assertTrue(beanFactory.getBeanDefinition("springDocConfiguration").isLazyInit());
+        assertTrue(beanFactory.getBeanDefinition("openAPI").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("messageBusinessImpl").isLazyInit());
+    }
+
+    @Test
+    @DisplayName("Should leave every bean eager when deferral is not enabled")
+    void postProcessBeanFactory_DeferralDisabled_LeavesBeansEager() {
+        // When
+        postProcessor.postProcessBeanFactory(beanFactory);
+
+        // Then
+        assertFalse(beanFactory.getBeanDefinition("springDocConfiguration").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("openAPI").isLazyInit());
+    }
+
+    private void register(String name, String className) {
+        GenericBeanDefinition definition = new GenericBeanDefinition();
+        definition.setBeanClassName(className);
+        beanFactory.registerBeanDefinition(name, definition);
+    }
+}
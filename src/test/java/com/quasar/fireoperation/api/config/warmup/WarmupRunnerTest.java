@@ -0,0 +1,85 @@
+package com.quasar.fireoperation.api.config.warmup;
+
+import com.quasar.fireoperation.api.business.SplitWindowStore;
+import com.quasar.fireoperation.api.provider.LocationProviderImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WarmupRunner class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WarmupRunner Tests")
+class WarmupRunnerTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("Should refuse traffic during warm-up and accept it once compilation settles")
+    void onApplicationReady_Enabled_HoldsReadinessUntilFinished() {
+        // Given
+        WarmupRunner runner = runner(true, Duration.ofSeconds(30), Long.MAX_VALUE);
+
+        // When
+        runner.onApplicationReady();
+
+        // Then
+        assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC), publishedStates());
+    }
+
+    @Test
+    @DisplayName("Should accept traffic when the timeout expires before compilation settles")
+    void onApplicationReady_TimeoutExpired_AcceptsTraffic() {
+        // Given
+        WarmupRunner runner = runner(true, Duration.ZERO, 0);
+
+        // When
+        runner.onApplicationReady();
+
+        // Then
+        assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC), publishedStates());
+    }
+
+    @Test
+    @DisplayName("Should leave readiness untouched when warm-up is disabled")
+    void onApplicationReady_Disabled_DoesNothing() {
+        // Given
+        WarmupRunner runner = runner(false, Duration.ofSeconds(30), Long.MAX_VALUE);
+
+        // When
+        runner.onApplicationReady();
+
+        // Then
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private WarmupRunner runner(boolean enabled, Duration timeout, long settleCompileMillis) {
+        return new WarmupRunner(new LocationProviderImpl(), SplitWindowStore.Storage.HEAP, eventPublisher, enabled, timeout,
+                10, 2, settleCompileMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ReadinessState> publishedStates() {
+        ArgumentCaptor<AvailabilityChangeEvent<ReadinessState>> events = ArgumentCaptor.forClass(AvailabilityChangeEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        return events.getAllValues().stream().map(AvailabilityChangeEvent::getState).toList();
+    }
+}
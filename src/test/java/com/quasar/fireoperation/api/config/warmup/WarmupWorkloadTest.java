@@ -0,0 +1,82 @@
+package com.quasar.fireoperation.api.config.warmup;
+
+import com.quasar.fireoperation.api.business.SplitWindowStore;
+import com.quasar.fireoperation.api.provider.LocationProviderImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WarmupWorkload class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("WarmupWorkload Tests")
+class WarmupWorkloadTest {
+
+    private WarmupWorkload workload;
+
+    @BeforeEach
+    void setUp() {
+        workload = new WarmupWorkload(new LocationProviderImpl(), SplitWindowStore.Storage.HEAP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workload.close();
+    }
+
+    @Test
+    @DisplayName("Should resolve the complete synthetic requests through both paths")
+    void run_CompleteRequest_SerializesBothResponses() {
+        // When
+        int written = workload.run(0);
+
+        // Then
+        assertTrue(written > 0);
+    }
+
+    @Test
+    @DisplayName("Should exercise the failure path with the empty requests")
+    void run_EmptyRequest_ProducesNoResponse() {
+        // When
+        int written = workload.run(7);
+
+        // Then
+        assertEquals(0, written);
+    }
+
+    @Test
+    @DisplayName("Should cycle through the generated requests without errors")
+    void run_ManyOperations_CompletesWithoutErrors() {
+        // When & Then
+        assertDoesNotThrow(() -> {
+            for (int operation = 0; operation < 256; operation++) {
+                workload.run(operation);
+            }
+        });
+    }
+
+    @ParameterizedTest
+    @EnumSource(SplitWindowStore.Storage.class)
+    @DisplayName("Should warm up the split store of the configured storage")
+    void run_ConfiguredStorage_UsesThatStore(SplitWindowStore.Storage storage) {
+        // Given
+        try (WarmupWorkload configured = new WarmupWorkload(new LocationProviderImpl(), storage)) {
+
+            // When
+            int written = configured.run(0);
+
+            // Then
+            assertEquals(storage, configured.storage());
+            assertEquals(workload.run(0), written);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.quasar.fireoperation.api.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MessageFragment.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("MessageFragment Tests")
+class MessageFragmentTest {
+
+    @Test
+    @DisplayName("Should decode the same tokens it encoded, multibyte included")
+    void of_MultibyteTokens_RoundTrips() {
+        // Given
+        String[] words = {"este", "señal", "", "años", "€", "🚀", "fin"};
+
+        // When
+        MessageFragment fragment = MessageFragment.of(words);
+
+        // Then
+        assertArrayEquals(words, fragment.words());
+        assertEquals(words.length, fragment.size());
+        assertEquals(String.join("", words).getBytes(StandardCharsets.UTF_8).length, fragment.byteLength());
+    }
+
+    @Test
+    @DisplayName("Should encode a lone surrogate as String.getBytes does")
+    void of_LoneSurrogate_EncodesQuestionMark() {
+        // Given
+        String word = "a\uD83Db";
+
+        // When
+        MessageFragment fragment = MessageFragment.of(new String[]{word});
+
+        // Then
+        assertEquals(new String(word.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8), fragment.word(0));
+        assertEquals("a?b", fragment.word(0));
+    }
+
+    @Test
+    @DisplayName("Should store null and blank tokens as missing ones")
+    void of_NullAndBlankTokens_AreEmpty() {
+        // Given
+        MessageFragment withNull = MessageFragment.of(new String[]{"este", null, "mensaje"});
+        MessageFragment withBlank = MessageFragment.of(List.of("este", "  ", "mensaje"));
+        MessageFragment withEmpty = MessageFragment.of(new String[]{"este", "", "mensaje"});
+
+        // When & Then
+        assertFalse(withNull.has(1));
+        assertEquals("", withNull.word(1));
+        assertEquals(withEmpty, withNull);
+        assertEquals(withEmpty, withBlank);
+        assertEquals(withEmpty.hashCode(), withBlank.hashCode());
+        assertNotEquals(withEmpty, MessageFragment.of(new String[]{"este", "mensaje", ""}));
+        assertSame(MessageFragment.EMPTY, MessageFragment.of((String[]) null));
+    }
+
+    @Test
+    @DisplayName("Should copy only the bytes of the requested token")
+    void copyWord_ReceivedToken_CopiesItsBytes() {
+        // Given
+        MessageFragment fragment = MessageFragment.of(new String[]{"", "señal", "ok"});
+        byte[] target = new byte[16];
+
+        // When
+        int end = fragment.copyWord(2, target, fragment.copyWord(1, target, 0));
+
+        // Then
+        assertEquals("señalok", new String(target, 0, end, StandardCharsets.UTF_8));
+        assertFalse(fragment.has(0));
+        assertTrue(fragment.has(1));
+        assertFalse(fragment.has(3));
+    }
+
+    @Test
+    @DisplayName("Should reject ends that do not fit the bytes")
+    void wrap_InconsistentEnds_Throws() {
+        // Given
+        byte[] utf8 = "estees".getBytes(StandardCharsets.UTF_8);
+
+        // When & Then
+        assertEquals(Arrays.asList("este", "", "es"),
+                Arrays.asList(MessageFragment.wrap(utf8, new int[]{4, 4, 6}).words()));
+        assertThrows(IllegalArgumentException.class, () -> MessageFragment.wrap(utf8, new int[]{4, 3, 6}));
+        assertThrows(IllegalArgumentException.class, () -> MessageFragment.wrap(utf8, new int[]{4, 5}));
+    }
+}
@@ -0,0 +1,70 @@
+package com.quasar.fireoperation.api.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SatelliteReport.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("SatelliteReport Tests")
+class SatelliteReportTest {
+
+    @Test
+    @DisplayName("Should replace null words with an empty array")
+    void constructor_NullWords_EmptyArray() {
+        // When
+        SatelliteReport report = new SatelliteReport("kenobi", 100.0f, null);
+
+        // Then
+        assertNotNull(report.words());
+        assertEquals(0, report.words().length);
+    }
+
+    @Test
+    @DisplayName("Should compare words by content")
+    void equals_SameContent_AreEqual() {
+        // Given
+        SatelliteReport first = new SatelliteReport("kenobi", 100.0f, new String[]{"este", "", "mensaje"});
+        SatelliteReport second = new SatelliteReport("kenobi", 100.0f, new String[]{"este", "", "mensaje"});
+
+        // When & Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, new SatelliteReport("kenobi", 100.0f, new String[]{"este"}));
+        assertNotEquals(first, new SatelliteReport("sato", 100.0f, new String[]{"este", "", "mensaje"}));
+        assertNotEquals(first, new SatelliteReport("kenobi", 101.0f, new String[]{"este", "", "mensaje"}));
+    }
+
+    @Test
+    @DisplayName("Should print the words in toString")
+    void toString_ContainsWords() {
+        // Given
+        SatelliteReport report = new SatelliteReport("kenobi", 100.0f, new String[]{"este", "mensaje"});
+
+        // When & Then
+        assertEquals("SatelliteReport[name=kenobi, distance=100.0, words=[este, mensaje]]", report.toString());
+    }
+
+    @Test
+    @DisplayName("Should carry an optional timestamp that takes part in equality")
+    void timestamp_OptionalAndCompared() {
+        // Given
+        SatelliteReport untimed = new SatelliteReport("kenobi", 100.0f, new String[]{"este"});
+        SatelliteReport timed = new SatelliteReport("kenobi", 100.0f, new String[]{"este"}, 1_767_225_600_000L);
+
+        // When & Then
+        assertFalse(untimed.hasTimestamp());
+        assertEquals(SatelliteReport.NO_TIMESTAMP, untimed.timestamp());
+        assertTrue(timed.hasTimestamp());
+        assertNotEquals(untimed, timed);
+        assertEquals(timed, new SatelliteReport("kenobi", 100.0f, new String[]{"este"}, 1_767_225_600_000L));
+        assertEquals("SatelliteReport[name=kenobi, distance=100.0, words=[este], timestamp=1767225600000]",
+                timed.toString());
+    }
+}
@@ -0,0 +1,98 @@
+package com.quasar.fireoperation.api.domain.result;
+
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.exception.LocationException;
+import com.quasar.fireoperation.api.exception.MessageException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TopSecretResult.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("TopSecretResult Tests")
+class TopSecretResultTest {
+
+    @Test
+    @DisplayName("Should return the resolution of a success")
+    void orElseThrow_Success_ReturnsResolution() {
+        // Given
+        Resolution resolution = new Resolution(new Position(-58.31f, -69.55f), "este es un mensaje secreto");
+
+        // When
+        TopSecretResult result = TopSecretResult.success(resolution);
+
+        // Then
+        assertInstanceOf(TopSecretResult.Success.class, result);
+        assertSame(resolution, result.orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should throw LocationException for an undetermined location")
+    void orElseThrow_LocationUndetermined_ThrowsLocationException() {
+        // Given
+        TopSecretResult result = TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, "No se pudo determinar la posición.");
+
+        // When & Then
+        LocationException exception = assertThrows(LocationException.class, result::orElseThrow);
+        assertEquals("No se pudo determinar la posición.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw MessageException for an undetermined message")
+    void orElseThrow_MessageUndetermined_ThrowsMessageException() {
+        // Given
+        TopSecretResult result = TopSecretResult.failure(FailureReason.MESSAGE_UNDETERMINED, "No se pudo determinar el mensaje.");
+
+        // When & Then
+        MessageException exception = assertThrows(MessageException.class, result::orElseThrow);
+        assertEquals("No se pudo determinar el mensaje.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for invalid input")
+    void orElseThrow_InvalidInput_ThrowsIllegalArgumentException() {
+        // Given
+        TopSecretResult result = TopSecretResult.failure(FailureReason.INVALID_INPUT, "Se requieren distancias de 3 satélites.");
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, result::orElseThrow);
+        assertEquals("Se requieren distancias de 3 satélites.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should compare failures by value")
+    void failure_SameReasonAndMessage_AreEqual() {
+        // When
+        TopSecretResult first = TopSecretResult.failure(FailureReason.INVALID_INPUT, "x");
+        TopSecretResult second = TopSecretResult.failure(FailureReason.INVALID_INPUT, "x");
+
+        // Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    @DisplayName("Should carry the candidates of a partial fix and still throw LocationException")
+    void partial_Candidates_IsUndeterminedLocation() {
+        // Given
+        List<Position> candidates = List.of(new Position(-100f, 75.5f), new Position(-284.1f, 160.3f));
+
+        // When
+        TopSecretResult result = TopSecretResult.partial(candidates, "Información insuficiente de satélites.");
+
+        // Then
+        TopSecretResult.Partial partial = assertInstanceOf(TopSecretResult.Partial.class, result);
+        assertEquals(candidates, partial.candidates());
+        assertEquals("Información insuficiente de satélites.", partial.message());
+        assertThrows(LocationException.class, result::orElseThrow);
+    }
+}
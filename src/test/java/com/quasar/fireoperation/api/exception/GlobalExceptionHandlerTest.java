@@ -1,10 +1,17 @@
 package com.quasar.fireoperation.api.exception;
 
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -18,11 +25,13 @@ import static org.junit.jupiter.api.Assertions.*;
 @DisplayName("GlobalExceptionHandler Tests")
 class GlobalExceptionHandlerTest {
 
+    private SimpleMeterRegistry registry;
     private GlobalExceptionHandler exceptionHandler;
 
     @BeforeEach
     void setUp() {
-        exceptionHandler = new GlobalExceptionHandler();
+        registry = new SimpleMeterRegistry();
+        exceptionHandler = new GlobalExceptionHandler(new PipelineMetrics(registry));
     }
 
     @Test
@@ -122,4 +131,34 @@ class GlobalExceptionHandlerTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertEquals("Internal server error", response.getBody());
     }
+
+    @Test
+    @DisplayName("Should handle reactive ServerWebInputException and return 400")
+    void handleReactiveMalformedInput_ServerWebInputException_Returns400() {
+        // Given
+        ServerWebInputException exception = new ServerWebInputException("Failed to read HTTP message");
+
+        // When
+        ResponseEntity<String> response = exceptionHandler.handleReactiveMalformedInput(exception);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("JSON malformado en la solicitud", response.getBody());
+        assertEquals(1.0, registry.get(PipelineMetrics.OUTCOME_COUNTER).tag("outcome", "bad_request").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should handle reactive UnsupportedMediaTypeStatusException and return 415")
+    void handleReactiveUnsupportedMediaType_UnsupportedMediaType_Returns415() {
+        // Given
+        UnsupportedMediaTypeStatusException exception =
+                new UnsupportedMediaTypeStatusException(MediaType.TEXT_PLAIN, List.of(MediaType.APPLICATION_JSON));
+
+        // When
+        ResponseEntity<String> response = exceptionHandler.handleReactiveUnsupportedMediaType(exception);
+
+        // Then
+        assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, response.getStatusCode());
+        assertEquals("Tipo de contenido no soportado. Se requiere application/json", response.getBody());
+    }
 }
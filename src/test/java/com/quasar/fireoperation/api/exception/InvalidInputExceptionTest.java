@@ -0,0 +1,53 @@
+package com.quasar.fireoperation.api.exception;
+
+import com.quasar.fireoperation.api.domain.result.FailureReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InvalidInputException class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("InvalidInputException Tests")
+class InvalidInputExceptionTest {
+
+    @Test
+    @DisplayName("Should create exception with message")
+    void constructor_WithMessage_CreatesException() {
+        // Given
+        String message = "Satélite desconocido: yoda";
+
+        // When
+        InvalidInputException exception = new InvalidInputException(message);
+
+        // Then
+        assertEquals(message, exception.getMessage());
+        assertNull(exception.getCause());
+    }
+
+    @Test
+    @DisplayName("Should be an IllegalArgumentException, as the failures it replaces")
+    void exception_IsIllegalArgumentException() {
+        // When
+        RuntimeException exception = FailureReason.INVALID_INPUT.toException("Se requieren distancias de 3 satélites.");
+
+        // Then
+        assertInstanceOf(IllegalArgumentException.class, exception);
+        assertInstanceOf(InvalidInputException.class, exception);
+    }
+
+    @Test
+    @DisplayName("Should not capture a stack trace")
+    void exception_IsStackless() {
+        // When
+        InvalidInputException exception = new InvalidInputException("Test message");
+
+        // Then
+        assertEquals(0, exception.getStackTrace().length);
+    }
+}
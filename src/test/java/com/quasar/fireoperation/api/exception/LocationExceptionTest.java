@@ -62,4 +62,14 @@ class LocationExceptionTest {
         // Then
         assertInstanceOf(RuntimeException.class, exception);
     }
+
+    @Test
+    @DisplayName("Should not capture a stack trace")
+    void exception_IsStackless() {
+        // When
+        LocationException exception = new LocationException("Test message");
+
+        // Then
+        assertEquals(0, exception.getStackTrace().length);
+    }
 }
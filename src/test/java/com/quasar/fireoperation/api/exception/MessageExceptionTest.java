@@ -62,4 +62,14 @@ class MessageExceptionTest {
         // Then
         assertInstanceOf(RuntimeException.class, exception);
     }
+
+    @Test
+    @DisplayName("Should not capture a stack trace")
+    void exception_IsStackless() {
+        // When
+        MessageException exception = new MessageException("Test message");
+
+        // Then
+        assertEquals(0, exception.getStackTrace().length);
+    }
 }
@@ -2,6 +2,8 @@ package com.quasar.fireoperation.api.integration;
 
 import com.quasar.fireoperation.api.domain.general.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.provider.LocationProviderImpl;
 import com.quasar.fireoperation.api.rest.TopSecretSplitRest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +19,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -72,6 +76,28 @@ class QuasarFireOperationApiIntegrationTest {
                 .andExpect(jsonPath("$.message").value("este es un mensaje secreto"));
     }
 
+    @Test
+    @DisplayName("Should add the confidence ellipse of the position when asked")
+    void topSecretEndToEnd_UncertaintyRequested_ReturnsEllipse() throws Exception {
+        // Given
+        TopSecretRequestDTO request = new TopSecretRequestDTO(Arrays.asList(
+            new SatelliteDTO("kenobi", 100.0f, Arrays.asList("este", "", "", "mensaje", "")),
+            new SatelliteDTO("skywalker", 115.5f, Arrays.asList("", "es", "", "", "secreto")),
+            new SatelliteDTO("sato", 142.7f, Arrays.asList("este", "", "un", "", ""))
+        ));
+
+        // When & Then
+        mockMvc.perform(post("/top-secret").param("uncertainty", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("este es un mensaje secreto"))
+                .andExpect(jsonPath("$.uncertainty.sigmaX").isNumber())
+                .andExpect(jsonPath("$.uncertainty.semiMajor").isNumber())
+                .andExpect(jsonPath("$.uncertainty.confidence").value(0.95))
+                .andExpect(jsonPath("$.uncertainty.samples").isNumber());
+    }
+
     @Test
     @DisplayName("Should process complete TopSecretSplit workflow end-to-end")
     void topSecretSplitEndToEnd_ValidWorkflow_ReturnsSuccess() throws Exception {
@@ -108,17 +134,44 @@ class QuasarFireOperationApiIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.satelliteName").value("sato"));
 
-        // Step 4: Get final result
+        // Step 4: Get final result, the same position /top-secret gives for these distances
+        Position expected = new LocationProviderImpl().locate(100.0f, 115.5f, 142.7f);
         mockMvc.perform(get("/top-secret-split")
                 .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.position").exists())
-                .andExpect(jsonPath("$.position.x").isNumber())
-                .andExpect(jsonPath("$.position.y").isNumber())
+                .andExpect(jsonPath("$.position.x", closeTo(expected.x(), 0.01)))
+                .andExpect(jsonPath("$.position.y", closeTo(expected.y(), 0.01)))
                 .andExpect(jsonPath("$.message").value("este es un mensaje secreto"));
     }
 
+    @Test
+    @DisplayName("Should not answer 304 with the ETag of a split state a destructive GET already cleared")
+    void topSecretSplitEndToEnd_ETagAfterDestructiveGet_Returns404() throws Exception {
+        // Given
+        TopSecretSplitRest.SatelliteRequest request = new TopSecretSplitRest.SatelliteRequest();
+        request.setMessage(Arrays.asList("este", "es", "un", "mensaje", "secreto"));
+        for (String satellite : List.of("kenobi", "skywalker", "sato")) {
+            request.setDistance(satellite.equals("kenobi") ? 100.0f : satellite.equals("skywalker") ? 115.5f : 142.7f);
+            mockMvc.perform(post("/top-secret-split/" + satellite)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk());
+        }
+        String etag = mockMvc.perform(get("/top-secret-split"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/top-secret-split")
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/top-secret-split")
+                .header("If-None-Match", "*"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("Should return 404 when insufficient satellites for split processing")
     void topSecretSplitEndToEnd_InsufficientSatellites_Returns404() throws Exception {
@@ -144,6 +197,35 @@ class QuasarFireOperationApiIntegrationTest {
                 .andExpect(content().string("Información insuficiente de satélites."));
     }
 
+    @Test
+    @DisplayName("Should answer two split satellites with their candidate positions when partial is requested")
+    void topSecretSplitEndToEnd_TwoSatellitesPartial_ReturnsCandidates() throws Exception {
+        // Given - exact distances from kenobi and skywalker to (-100, 75.5)
+        TopSecretSplitRest.SatelliteRequest kenobi = new TopSecretSplitRest.SatelliteRequest();
+        kenobi.setDistance((float) Math.hypot(400, 275.5));
+        kenobi.setMessage(List.of("este", "", "", "mensaje", ""));
+        TopSecretSplitRest.SatelliteRequest skywalker = new TopSecretSplitRest.SatelliteRequest();
+        skywalker.setDistance((float) Math.hypot(200, 175.5));
+        skywalker.setMessage(List.of("", "es", "", "", "secreto"));
+
+        mockMvc.perform(post("/top-secret-split/kenobi")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(kenobi)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/top-secret-split/skywalker")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(skywalker)))
+                .andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(get("/top-secret-split").param("partial", "true").param("peek", "true")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.candidates.length()").value(2))
+                .andExpect(jsonPath("$.candidates[*].x", hasItem(closeTo(-100.0, 0.05))))
+                .andExpect(jsonPath("$.candidates[*].y", hasItem(closeTo(75.5, 0.05))));
+    }
+
     @Test
     @DisplayName("Should handle invalid trilateration configuration")
     void topSecretEndToEnd_InvalidConfiguration_Returns404() throws Exception {
@@ -205,4 +287,23 @@ class QuasarFireOperationApiIntegrationTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string("Se requieren distancias de 3 satélites."));
     }
+
+    @Test
+    @DisplayName("Should reject a fourth satellite that is not in the constellation")
+    void topSecretEndToEnd_UnknownFourthSatellite_Returns400() throws Exception {
+        // Given
+        TopSecretRequestDTO request = new TopSecretRequestDTO(Arrays.asList(
+            new SatelliteDTO("kenobi", 100.0f, List.of("este", "")),
+            new SatelliteDTO("skywalker", 115.5f, List.of("", "mensaje")),
+            new SatelliteDTO("sato", 142.7f, List.of("este", "")),
+            new SatelliteDTO("yoda", 90.0f, List.of("", "mensaje"))
+        ));
+
+        // When & Then
+        mockMvc.perform(post("/top-secret")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Satélite desconocido: yoda"));
+    }
 }
@@ -1,16 +1,34 @@
 package com.quasar.fireoperation.api.provider;
 
+import com.quasar.fireoperation.api.config.metrics.SolverMetrics;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.PositionUncertainty;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
 import com.quasar.fireoperation.api.exception.LocationException;
+import com.quasar.fireoperation.api.provider.constellation.Ephemeris;
+import com.quasar.fireoperation.api.provider.constellation.SatelliteRegistry;
+import com.quasar.fireoperation.api.provider.solver.ClosedFormSolver;
+import com.quasar.fireoperation.api.provider.solver.DoublePrecisionSolver;
+import com.quasar.fireoperation.api.provider.solver.LeastSquaresSolver;
+import com.quasar.fireoperation.api.provider.solver.RobustSolver;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import com.quasar.fireoperation.api.provider.solver.TrilaterationSolver;
+import com.quasar.fireoperation.api.provider.uncertainty.MonteCarloUncertainty;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -170,6 +188,312 @@ class LocationProviderImplTest {
         assertEquals(0.0f, result[1], 10.0f);
     }
 
+    @Test
+    @DisplayName("Should return the same position from the primitive entry point")
+    void locate_ValidDistances_MatchesGetLocation() {
+        // When
+        Position position = locationProvider.locate(100.0f, 115.5f, 142.7f);
+        float[] expected = locationProvider.getLocation(Arrays.asList(100.0f, 115.5f, 142.7f));
+
+        // Then
+        assertEquals(expected[0], position.x());
+        assertEquals(expected[1], position.y());
+    }
+
+    @Test
+    @DisplayName("Should throw LocationException for out-of-range primitive distances")
+    void locate_OutOfRangeDistance_ThrowsLocationException() {
+        // When & Then
+        LocationException exception = assertThrows(LocationException.class,
+            () -> locationProvider.locate(100.0f, 115.5f, 200000.0f));
+        assertEquals("Distancias fuera del rango válido para trilateración", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverStrategy.class)
+    @DisplayName("Should locate the emitter with every registered strategy")
+    void locate_EachStrategy_ReturnsEmitter(SolverStrategy strategy) {
+        // Given - exact distances to (-100, 75.5)
+        float d1 = (float) Math.hypot(-100 + 500, 75.5 + 200);
+        float d2 = (float) Math.hypot(-100 - 100, 75.5 + 100);
+        float d3 = (float) Math.hypot(-100 - 500, 75.5 - 100);
+
+        // When
+        Position position = locationProvider.locate(strategy, d1, d2, d3);
+
+        // Then
+        assertEquals(-100.0f, position.x(), 0.01f);
+        assertEquals(75.5f, position.y(), 0.01f);
+    }
+
+    @Test
+    @DisplayName("Should record each solve under the strategy that ran and use the default when none is given")
+    void locate_Strategies_RecordPerStrategyMeters() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LocationProviderImpl provider = new LocationProviderImpl(builtInSolvers(), SolverStrategy.DOUBLE_PRECISION,
+                new SolverMetrics(registry, 1), SatelliteRegistry.withStations(null));
+
+        // When
+        provider.locate(100.0f, 115.5f, 142.7f);
+        provider.locate(SolverStrategy.ROBUST, 100.0f, 115.5f, 142.7f);
+        assertThrows(LocationException.class, () -> provider.locate(SolverStrategy.CLOSED_FORM, 100.0f, 115.5f, 90_000f));
+
+        // Then
+        assertEquals(1, registry.get(SolverMetrics.SOLVE_TIMER).tag("strategy", "double-precision").functionTimer().count());
+        assertEquals(1, registry.get(SolverMetrics.SOLVE_TIMER).tag("strategy", "robust").functionTimer().count());
+        assertEquals(0, registry.get(SolverMetrics.SOLVE_TIMER).tag("strategy", "least-squares").functionTimer().count());
+        assertEquals(1, registry.get(SolverMetrics.SOLVE_COUNTER).tag("strategy", "closed-form").functionCounter().count());
+        assertEquals(0, registry.get(SolverMetrics.FAILURE_COUNTER).tag("strategy", "robust").functionCounter().count());
+        assertEquals(1, registry.get(SolverMetrics.FAILURE_COUNTER).tag("strategy", "closed-form").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject a registry with a missing or duplicated strategy")
+    void constructor_IncompleteRegistry_ThrowsIllegalStateException() {
+        // Given
+        SolverMetrics metrics = new SolverMetrics(new SimpleMeterRegistry(), 1);
+        SatelliteRegistry satellites = SatelliteRegistry.withStations(null);
+        List<TrilaterationSolver> missing = List.of(new ClosedFormSolver(), new LeastSquaresSolver(), new RobustSolver());
+        List<TrilaterationSolver> duplicated = List.of(new ClosedFormSolver(), new ClosedFormSolver(),
+                new LeastSquaresSolver(), new RobustSolver(), new DoublePrecisionSolver());
+
+        // When & Then
+        assertThrows(IllegalStateException.class,
+                () -> new LocationProviderImpl(missing, SolverStrategy.CLOSED_FORM, metrics, satellites));
+        assertThrows(IllegalStateException.class,
+                () -> new LocationProviderImpl(duplicated, SolverStrategy.CLOSED_FORM, metrics, satellites));
+    }
+
+    @Test
+    @DisplayName("Should solve more than three reports with the triple of best geometry")
+    void locate_MoreThanThreeReports_UsesBestTriple() {
+        // Given - exact distances to (-100, 75.5) except for the satellites outside the best triple
+        SatelliteRegistry satellites = SatelliteRegistry.withStations("yoda:0:400,endor:-480:-210,hoth:300:-600");
+        LocationProviderImpl provider = new LocationProviderImpl(builtInSolvers(), SolverStrategy.CLOSED_FORM,
+                new SolverMetrics(new SimpleMeterRegistry(), 1), satellites);
+        int triple = satellites.bestTriple((1 << satellites.size()) - 1);
+        int used = 1 << (triple & 0xFF) | 1 << (triple >> 8 & 0xFF) | 1 << (triple >> 16);
+        List<SatelliteReport> reports = new ArrayList<>();
+        for (int i = 0; i < satellites.size(); i++) {
+            float[] p = satellites.position(i);
+            float distance = (float) Math.hypot(-100 - p[0], 75.5 - p[1]);
+            float reported = (used >> i & 1) == 1 ? distance : distance + 50;
+            reports.add(new SatelliteReport(satellites.name(i).toUpperCase(), reported, new String[0]));
+        }
+
+        // When
+        Position position = provider.locate(null, reports);
+
+        // Then
+        assertEquals(-100.0f, position.x(), 0.01f);
+        assertEquals(75.5f, position.y(), 0.01f);
+    }
+
+    @Test
+    @DisplayName("Should reject reports of unknown or repeated satellites")
+    void locate_UnknownOrRepeatedSatellite_ThrowsIllegalArgumentException() {
+        // Given
+        List<SatelliteReport> unknown = List.of(report("kenobi", 100), report("skywalker", 115.5f),
+                report("sato", 142.7f), report("tatooine", 200));
+        List<SatelliteReport> repeated = List.of(report("kenobi", 100), report("skywalker", 115.5f),
+                report("sato", 142.7f), report("Kenobi", 100));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> locationProvider.locate(null, unknown));
+        assertEquals("Satélite desconocido: tatooine", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> locationProvider.locate(null, repeated));
+    }
+
+    @Test
+    @DisplayName("Should match three reports of kenobi, skywalker and sato by name, whatever their order")
+    void locate_ThreeFixedSatellitesInAnyOrder_MatchesPositional() {
+        // Given
+        Position positional = locationProvider.locate(null, 485.7f, 266.1f, 600.5f);
+        List<SatelliteReport> shuffled = List.of(report("SATO", 600.5f), report("kenobi", 485.7f),
+                report("Skywalker", 266.1f));
+
+        // When
+        Position byName = locationProvider.locate(null, shuffled);
+
+        // Then
+        assertEquals(positional, byName);
+        assertEquals(-100.0f, byName.x(), 0.1f);
+        assertEquals(75.5f, byName.y(), 0.1f);
+    }
+
+    @Test
+    @DisplayName("Should solve three reports naming a station with its registered position, and reject unknown names")
+    void locate_ThreeReportsWithStation_UsesRegistry() {
+        // Given - exact distances to (-100, 75.5) from kenobi, skywalker and yoda
+        LocationProviderImpl provider = new LocationProviderImpl(builtInSolvers(), SolverStrategy.CLOSED_FORM,
+                new SolverMetrics(new SimpleMeterRegistry(), 1), SatelliteRegistry.withStations("yoda:0:400"));
+        List<SatelliteReport> reports = List.of(report("kenobi", (float) Math.hypot(400, 275.5)),
+                report("skywalker", (float) Math.hypot(200, 175.5)), report("yoda", (float) Math.hypot(100, 324.5)));
+
+        // When
+        Position position = provider.locate(null, reports);
+
+        // Then
+        assertEquals(-100.0f, position.x(), 0.01f);
+        assertEquals(75.5f, position.y(), 0.01f);
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> provider.locate(null, List.of(report("kenobi", 100), report("skywalker", 115.5f),
+                        report("tatooine", 142.7f))));
+        assertEquals("Satélite desconocido: tatooine", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should fail when every triple of the reporting satellites is collinear")
+    void locate_CollinearReports_ThrowsLocationException() {
+        // Given
+        LocationProviderImpl provider = new LocationProviderImpl(builtInSolvers(), SolverStrategy.CLOSED_FORM,
+                new SolverMetrics(new SimpleMeterRegistry(), 1),
+                SatelliteRegistry.withStations("a:0:0,b:100:0,c:200:0,d:300:0"));
+        List<SatelliteReport> reports = List.of(report("a", 100), report("b", 100), report("c", 100), report("d", 100));
+
+        // When & Then
+        assertThrows(LocationException.class, () -> provider.locate(null, reports));
+    }
+
+    @Test
+    @DisplayName("Should place moving satellites at the instant of their report before solving")
+    void locate_TimestampedReports_UsesEphemerisPositions() {
+        // Given - kenobi and sato drift; at t = 1500 they sit halfway along their tables
+        Map<String, Ephemeris> ephemerides = Map.of(
+                "kenobi", new Ephemeris(1_000, 1_000, new float[]{-600, -400}, new float[]{-200, -200}),
+                "sato", new Ephemeris(1_000, 1_000, new float[]{500, 500}, new float[]{0, 200}));
+        LocationProviderImpl provider = new LocationProviderImpl(builtInSolvers(), SolverStrategy.CLOSED_FORM,
+                new SolverMetrics(new SimpleMeterRegistry(), 1), SatelliteRegistry.withStations(null, ephemerides));
+        List<SatelliteReport> reports = List.of(
+                new SatelliteReport("kenobi", (float) Math.hypot(-100 + 500, 75.5 + 200), new String[0], 1_500),
+                report("skywalker", (float) Math.hypot(-100 - 100, 75.5 + 100)),
+                new SatelliteReport("sato", (float) Math.hypot(-100 - 500, 75.5 - 100), new String[0], 1_500));
+
+        // When
+        Position position = provider.locate(null, reports);
+
+        // Then
+        assertEquals(-100.0f, position.x(), 0.01f);
+        assertEquals(75.5f, position.y(), 0.01f);
+    }
+
+    @Test
+    @DisplayName("Should narrow two reports down to the intersections of their circles")
+    void candidates_TwoReports_ReturnsBothIntersections() {
+        // Given - exact distances from kenobi and skywalker to (-100, 75.5)
+        List<SatelliteReport> reports = List.of(report("kenobi", (float) Math.hypot(400, 275.5)),
+                report("skywalker", (float) Math.hypot(200, 175.5)));
+
+        // When
+        List<Position> candidates = locationProvider.candidates(reports);
+
+        // Then - the emitter is one of them and sato's distance tells which
+        assertEquals(2, candidates.size());
+        Position emitter = candidates.stream()
+                .min(Comparator.comparingDouble(c -> Math.abs(Math.hypot(c.x() - 500, c.y() - 100) - Math.hypot(600, 24.5))))
+                .orElseThrow();
+        assertEquals(-100.0f, emitter.x(), 0.01f);
+        assertEquals(75.5f, emitter.y(), 0.01f);
+        for (Position candidate : candidates) {
+            assertEquals(reports.get(0).distance(), Math.hypot(candidate.x() + 500, candidate.y() + 200), 0.05);
+            assertEquals(reports.get(1).distance(), Math.hypot(candidate.x() - 100, candidate.y() + 100), 0.05);
+        }
+    }
+
+    @Test
+    @DisplayName("Should give a single candidate on the baseline when the circles do not meet")
+    void candidates_CirclesApart_ReturnsClosestPoint() {
+        // Given - kenobi and skywalker are 608 apart
+        List<SatelliteReport> reports = List.of(report("kenobi", 100), report("skywalker", 100));
+
+        // When
+        List<Position> candidates = locationProvider.candidates(reports);
+
+        // Then - halfway between the circles, on the line between the satellites
+        assertEquals(1, candidates.size());
+        assertEquals(-200.0f, candidates.get(0).x(), 0.01f);
+        assertEquals(-150.0f, candidates.get(0).y(), 0.01f);
+    }
+
+    @Test
+    @DisplayName("Should reject candidates for other than two distinct registered satellites")
+    void candidates_InvalidReports_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> locationProvider.candidates(List.of(report("kenobi", 100))));
+        assertThrows(IllegalArgumentException.class,
+                () -> locationProvider.candidates(List.of(report("kenobi", 100), report("tatooine", 100))));
+        assertThrows(IllegalArgumentException.class,
+                () -> locationProvider.candidates(List.of(report("kenobi", 100), report("KENOBI", 100))));
+        assertThrows(LocationException.class,
+                () -> locationProvider.candidates(List.of(report("kenobi", -1), report("sato", 100))));
+    }
+
+    @Test
+    @DisplayName("Should let a consistent third report choose the candidate the full solve gives")
+    void choose_ConsistentThirdReport_MatchesLocate() {
+        // Given - exact distances to (-100, 75.5)
+        List<SatelliteReport> reports = List.of(report("kenobi", (float) Math.hypot(400, 275.5)),
+                report("skywalker", (float) Math.hypot(200, 175.5)), report("sato", (float) Math.hypot(600, 24.5)));
+        List<Position> candidates = locationProvider.candidates(reports.subList(0, 2));
+
+        // When
+        Position chosen = locationProvider.choose(null, candidates, reports.get(2));
+
+        // Then
+        Position solved = locationProvider.locate(null, reports);
+        assertNotNull(chosen);
+        assertEquals(solved.x(), chosen.x(), 0.01f);
+        assertEquals(solved.y(), chosen.y(), 0.01f);
+    }
+
+    @Test
+    @DisplayName("Should leave noisy reports and other solvers to the full solve")
+    void choose_NoisyReportOrOtherSolver_ReturnsNull() {
+        // Given
+        List<Position> candidates = locationProvider.candidates(List.of(report("kenobi", (float) Math.hypot(400, 275.5)),
+                report("skywalker", (float) Math.hypot(200, 175.5))));
+        SatelliteReport sato = report("sato", (float) Math.hypot(600, 24.5));
+
+        // When & Then
+        assertNull(locationProvider.choose(null, candidates, report("sato", 700)));
+        assertNull(locationProvider.choose(SolverStrategy.ROBUST, candidates, sato));
+        assertNull(locationProvider.choose(null, candidates.subList(0, 1), sato));
+        assertNull(locationProvider.choose(null, candidates, report("tatooine", 100)));
+    }
+
+    @Test
+    @DisplayName("Should estimate the uncertainty on the satellites the solve uses, whatever the report order")
+    void uncertainty_ReportsInAnyOrder_SamplesSameGeometry() {
+        // Given
+        try (MonteCarloUncertainty estimator = new MonteCarloUncertainty(1.0, 20_000, 60_000, 2, 0.95)) {
+            LocationProviderImpl provider = new LocationProviderImpl(builtInSolvers(), SolverStrategy.CLOSED_FORM,
+                    new SolverMetrics(new SimpleMeterRegistry(), 1), SatelliteRegistry.withStations(null), estimator);
+
+            // When
+            PositionUncertainty positional = provider.uncertainty(100.0f, 115.5f, 142.7f);
+            PositionUncertainty byName = provider.uncertainty(List.of(report("sato", 142.7f),
+                    report("kenobi", 100.0f), report("skywalker", 115.5f)));
+
+            // Then
+            assertEquals(20_000, positional.samples());
+            assertEquals(positional.sigmaX(), byName.sigmaX(), 0.05 * positional.sigmaX());
+            assertEquals(positional.sigmaY(), byName.sigmaY(), 0.05 * positional.sigmaY());
+            assertThrows(LocationException.class, () -> provider.uncertainty(-1f, 115.5f, 142.7f));
+            assertThrows(IllegalArgumentException.class, () -> provider.uncertainty(List.of(report("kenobi", 100),
+                    report("skywalker", 100), report("tatooine", 100))));
+        }
+    }
+
+    private static SatelliteReport report(String name, float distance) {
+        return new SatelliteReport(name, distance, new String[0]);
+    }
+
+    private static List<TrilaterationSolver> builtInSolvers() {
+        return List.of(new ClosedFormSolver(), new LeastSquaresSolver(), new RobustSolver(), new DoublePrecisionSolver());
+    }
+
     /**
      * Helper method to safely get location, handling potential exceptions.
      * This addresses the SonarQube warning about lambda complexity.
@@ -0,0 +1,65 @@
+package com.quasar.fireoperation.api.provider.constellation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.StringReader;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EphemerisLoader class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("EphemerisLoader Tests")
+class EphemerisLoaderTest {
+
+    @Test
+    @DisplayName("Should read the evenly spaced samples of every satellite")
+    void load_ValidFile_ReturnsEphemerides() throws Exception {
+        // Given
+        String file = """
+                # satelite,instante_ms,x,y
+                Kenobi,1000,-500,-200
+                sato,1000,500,100
+
+                kenobi,3000,-480,-190
+                kenobi,5000,-460,-180
+                sato,1500,510,100
+                """;
+
+        // When
+        Map<String, Ephemeris> ephemerides = EphemerisLoader.load(new StringReader(file));
+
+        // Then
+        assertEquals(2, ephemerides.size());
+        Ephemeris kenobi = ephemerides.get("kenobi");
+        assertEquals(1000, kenobi.start());
+        assertEquals(2000, kenobi.step());
+        assertEquals(3, kenobi.size());
+        float[] position = new float[2];
+        kenobi.positionAt(4000, position);
+        assertArrayEquals(new float[]{-470, -185}, position);
+        assertEquals(500, ephemerides.get("sato").step());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "kenobi,1000,-500",
+            "kenobi,1000,-500,x\nkenobi,2000,1,1",
+            ",1000,1,1\n,2000,1,1",
+            "kenobi,1000,1,1",
+            "kenobi,1000,1,1\nkenobi,2000,1,1\nkenobi,3500,1,1",
+            "kenobi,2000,1,1\nkenobi,1000,1,1"})
+    @DisplayName("Should reject malformed, short, unordered or unevenly spaced tables")
+    void load_InvalidFile_ThrowsIllegalArgumentException(String file) {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> EphemerisLoader.load(new StringReader(file)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.quasar.fireoperation.api.provider.constellation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Ephemeris class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("Ephemeris Tests")
+class EphemerisTest {
+
+    private static final long START = 1_767_225_600_000L;
+
+    private final Ephemeris ephemeris = new Ephemeris(START, 60_000,
+            new float[]{-500, -400, -400}, new float[]{-200, -100, 100});
+
+    @Test
+    @DisplayName("Should return the samples at their instants")
+    void positionAt_SampleInstants_ReturnsSamples() {
+        // Given
+        float[] position = new float[2];
+
+        // When & Then
+        ephemeris.positionAt(START, position);
+        assertArrayEquals(new float[]{-500, -200}, position);
+        ephemeris.positionAt(START + 60_000, position);
+        assertArrayEquals(new float[]{-400, -100}, position);
+        ephemeris.positionAt(START + 120_000, position);
+        assertArrayEquals(new float[]{-400, 100}, position);
+    }
+
+    @Test
+    @DisplayName("Should interpolate linearly between samples")
+    void positionAt_BetweenSamples_Interpolates() {
+        // Given
+        float[] position = new float[2];
+
+        // When
+        ephemeris.positionAt(START + 15_000, position);
+
+        // Then
+        assertEquals(-475f, position[0], 1e-3f);
+        assertEquals(-175f, position[1], 1e-3f);
+
+        // When
+        ephemeris.positionAt(START + 90_000, position);
+
+        // Then
+        assertEquals(-400f, position[0], 1e-3f);
+        assertEquals(0f, position[1], 1e-3f);
+    }
+
+    @Test
+    @DisplayName("Should reject instants outside the sampled interval")
+    void positionAt_OutsideInterval_ThrowsIllegalArgumentException() {
+        // Given
+        float[] position = new float[2];
+
+        // When & Then
+        assertEquals(START + 120_000, ephemeris.end());
+        assertTrue(ephemeris.covers(START + 120_000));
+        assertFalse(ephemeris.covers(START - 1));
+        assertThrows(IllegalArgumentException.class, () -> ephemeris.positionAt(START - 1, position));
+        assertThrows(IllegalArgumentException.class, () -> ephemeris.positionAt(START + 120_001, position));
+    }
+
+    @Test
+    @DisplayName("Should reject tables without a positive step or two samples")
+    void constructor_InvalidTable_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Ephemeris(START, 0, new float[]{1, 2}, new float[]{1, 2}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Ephemeris(START, 1_000, new float[]{1}, new float[]{1}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Ephemeris(START, 1_000, new float[]{1, 2}, new float[]{1, 2, 3}));
+    }
+}
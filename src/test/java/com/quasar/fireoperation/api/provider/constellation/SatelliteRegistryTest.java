@@ -0,0 +1,172 @@
+package com.quasar.fireoperation.api.provider.constellation;
+
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SatelliteRegistry class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("SatelliteRegistry Tests")
+class SatelliteRegistryTest {
+
+    private static final String STATIONS = "yoda:0:400,endor:-480:-210,hoth:300:-600,bespin:900:300";
+
+    @Test
+    @DisplayName("Should register kenobi, skywalker and sato in that order by default")
+    void withStations_None_RegistersBuiltInSatellites() {
+        // When
+        SatelliteRegistry registry = SatelliteRegistry.withStations(null);
+
+        // Then
+        assertEquals(3, registry.size());
+        assertEquals(0, registry.indexOf("kenobi"));
+        assertEquals(1, registry.indexOf("SKYWALKER"));
+        assertEquals(2, registry.indexOf("Sato"));
+        assertEquals(-1, registry.indexOf("yoda"));
+        assertEquals(-1, registry.indexOf(null));
+        assertArrayEquals(new float[]{500, 100}, registry.position(2));
+        assertEquals(0 | 1 << 8 | 2 << 16, registry.bestTriple(0b111));
+        assertEquals(SatelliteRegistry.NO_TRIPLE, registry.bestTriple(0b011));
+    }
+
+    @Test
+    @DisplayName("Should append the configured stations after the built-in satellites")
+    void withStations_Configured_AppendsStations() {
+        // When
+        SatelliteRegistry registry = SatelliteRegistry.withStations(" yoda:0:400 , Endor:-480:-210");
+
+        // Then
+        assertEquals(5, registry.size());
+        assertEquals(3, registry.indexOf("yoda"));
+        assertEquals("endor", registry.name(4));
+        assertArrayEquals(new float[]{-480, -210}, registry.position(4));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"yoda", "yoda:1", "yoda:x:1", ":1:2", "kenobi:1:2", "yoda:1:2,YODA:3:4"})
+    @DisplayName("Should reject malformed or repeated stations")
+    void withStations_Invalid_ThrowsIllegalArgumentException(String stations) {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> SatelliteRegistry.withStations(stations));
+    }
+
+    @Test
+    @DisplayName("Should reject constellations larger than the subset table allows")
+    void constructor_TooManySatellites_ThrowsIllegalArgumentException() {
+        // Given
+        Map<String, float[]> positions = new LinkedHashMap<>();
+        for (int i = 0; i <= SatelliteRegistry.MAX_SATELLITES; i++) {
+            positions.put("s" + i, new float[]{i, i * i});
+        }
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new SatelliteRegistry(positions));
+    }
+
+    @Test
+    @DisplayName("Should precompute for every subset the triple a full search would choose")
+    void bestTriple_EverySubset_MatchesExhaustiveSearch() {
+        // Given
+        SatelliteRegistry registry = SatelliteRegistry.withStations(STATIONS);
+        int n = registry.size();
+
+        for (int mask = 0; mask < 1 << n; mask++) {
+            // When
+            int triple = registry.bestTriple(mask);
+
+            // Then
+            double expected = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    for (int k = j + 1; k < n; k++) {
+                        if ((mask >> i & mask >> j & mask >> k & 1) == 1) {
+                            expected = Math.min(expected, registry.gdop(i, j, k));
+                        }
+                    }
+                }
+            }
+            if (Double.isInfinite(expected)) {
+                assertEquals(SatelliteRegistry.NO_TRIPLE, triple, "mask " + mask);
+            } else {
+                int i = triple & 0xFF;
+                int j = triple >> 8 & 0xFF;
+                int k = triple >> 16;
+                assertTrue(i < j && j < k, "mask " + mask);
+                assertEquals(mask, mask | 1 << i | 1 << j | 1 << k, "mask " + mask);
+                assertEquals(expected, registry.gdop(i, j, k), "mask " + mask);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should score clustered satellites worse than spread ones, in any argument order")
+    void gdop_ClusteredSatellites_ScoresWorse() {
+        // Given - endor is 22 units from kenobi
+        SatelliteRegistry registry = SatelliteRegistry.withStations(STATIONS);
+        int kenobi = registry.indexOf("kenobi");
+        int endor = registry.indexOf("endor");
+        int sato = registry.indexOf("sato");
+        int yoda = registry.indexOf("yoda");
+        int hoth = registry.indexOf("hoth");
+
+        // When
+        double clustered = registry.gdop(kenobi, endor, sato);
+        double spread = registry.gdop(yoda, hoth, kenobi);
+
+        // Then
+        assertTrue(spread < clustered, spread + " >= " + clustered);
+        assertEquals(spread, registry.gdop(hoth, kenobi, yoda));
+    }
+
+    @Test
+    @DisplayName("Should never choose a triple of collinear satellites")
+    void bestTriple_CollinearSatellites_ReturnsNoTriple() {
+        // Given - a, b and c lie on y = 0
+        SatelliteRegistry registry = SatelliteRegistry.withStations("a:0:0,b:100:0,c:200:0");
+        int mask = 1 << registry.indexOf("a") | 1 << registry.indexOf("b") | 1 << registry.indexOf("c");
+
+        // When & Then
+        assertEquals(SatelliteRegistry.NO_TRIPLE, registry.bestTriple(mask));
+        assertTrue(Double.isInfinite(registry.gdop(3, 4, 5)));
+        assertNotEquals(SatelliteRegistry.NO_TRIPLE, registry.bestTriple(mask | 1));
+    }
+
+    @Test
+    @DisplayName("Should place moving satellites at the instant of the report and fixed ones at their nominal position")
+    void position_Timestamp_UsesEphemeris() {
+        // Given
+        Ephemeris kenobi = new Ephemeris(1_000, 1_000, new float[]{-500, -300}, new float[]{-200, -200});
+        SatelliteRegistry registry = SatelliteRegistry.withStations(null, Map.of("KENOBI", kenobi));
+
+        // When & Then
+        assertSame(kenobi, registry.ephemeris(0));
+        assertNull(registry.ephemeris(1));
+        assertArrayEquals(new float[]{-400, -200}, registry.position(0, 1_500));
+        assertArrayEquals(new float[]{-500, -200}, registry.position(0, SatelliteReport.NO_TIMESTAMP));
+        assertSame(registry.position(1), registry.position(1, 1_500));
+        assertThrows(IllegalArgumentException.class, () -> registry.position(0, 5_000));
+    }
+
+    @Test
+    @DisplayName("Should reject ephemerides of satellites that are not registered")
+    void withStations_EphemerisOfUnknownSatellite_ThrowsIllegalArgumentException() {
+        // Given
+        Ephemeris ephemeris = new Ephemeris(1_000, 1_000, new float[]{0, 1}, new float[]{0, 1});
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> SatelliteRegistry.withStations(null, Map.of("tatooine", ephemeris)));
+    }
+}
@@ -0,0 +1,47 @@
+package com.quasar.fireoperation.api.provider.solver;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SolverStrategy}.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("SolverStrategy Tests")
+class SolverStrategyTest {
+
+    @Test
+    @DisplayName("Should resolve every strategy from its identifier, ignoring case")
+    void of_KnownIdentifiers_ReturnsStrategy() {
+        // When & Then
+        for (SolverStrategy strategy : SolverStrategy.values()) {
+            assertEquals(strategy, SolverStrategy.of(strategy.id()));
+            assertEquals(strategy, SolverStrategy.of(strategy.id().toUpperCase()));
+        }
+        assertEquals(SolverStrategy.ROBUST, SolverStrategy.of(" robust "));
+    }
+
+    @Test
+    @DisplayName("Should return null when no identifier is given")
+    void of_MissingIdentifier_ReturnsNull() {
+        // When & Then
+        assertNull(SolverStrategy.of(null));
+        assertNull(SolverStrategy.of(" "));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown identifiers")
+    void of_UnknownIdentifier_ThrowsIllegalArgumentException() {
+        // When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> SolverStrategy.of("newton"));
+
+        // Then
+        assertEquals("Solver desconocido: newton", exception.getMessage());
+    }
+}
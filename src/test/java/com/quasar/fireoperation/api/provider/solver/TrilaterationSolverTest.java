@@ -0,0 +1,211 @@
+package com.quasar.fireoperation.api.provider.solver;
+
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.exception.LocationException;
+import com.quasar.fireoperation.api.utils.Constants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the built-in {@link TrilaterationSolver} strategies.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("TrilaterationSolver Tests")
+class TrilaterationSolverTest {
+
+    private static final float[] KENOBI = Constants.SATELLITE_POSITIONS.get("kenobi");
+    private static final float[] SKYWALKER = Constants.SATELLITE_POSITIONS.get("skywalker");
+    private static final float[] SATO = Constants.SATELLITE_POSITIONS.get("sato");
+    private static final SolverProgress IGNORED = (iterations, determinant) -> { };
+
+    static Stream<TrilaterationSolver> solvers() {
+        return Stream.of(new ClosedFormSolver(), new LeastSquaresSolver(), new RobustSolver(), new DoublePrecisionSolver());
+    }
+
+    @ParameterizedTest
+    @MethodSource("solvers")
+    @DisplayName("Should find the emitter when the distances are consistent")
+    void solve_ConsistentDistances_ReturnsEmitter(TrilaterationSolver solver) {
+        // Given
+        float[] distances = distancesTo(-100.0, 75.5);
+
+        // When
+        Position position = solve(solver, distances);
+
+        // Then
+        assertEquals(-100.0f, position.x(), 0.01f, solver.strategy().id());
+        assertEquals(75.5f, position.y(), 0.01f, solver.strategy().id());
+    }
+
+    @ParameterizedTest
+    @MethodSource("solvers")
+    @DisplayName("Should reject collinear satellites")
+    void solve_CollinearSatellites_ThrowsLocationException(TrilaterationSolver solver) {
+        // Given
+        float[] p1 = {0, 0};
+        float[] p2 = {100, 0};
+        float[] p3 = {200, 0};
+
+        // When & Then
+        assertThrows(LocationException.class, () -> solver.solve(p1, p2, p3, 50f, 60f, 150f, IGNORED));
+    }
+
+    @Test
+    @DisplayName("Should report one iteration for the closed forms and at least one for the iterative solvers")
+    void solve_ReportsIterations() {
+        // Given
+        float[] distances = {100.0f, 115.5f, 142.7f};
+        int[] iterations = new int[4];
+
+        // When
+        new ClosedFormSolver().solve(KENOBI, SKYWALKER, SATO, distances[0], distances[1], distances[2],
+                (count, determinant) -> iterations[0] = count);
+        new DoublePrecisionSolver().solve(KENOBI, SKYWALKER, SATO, distances[0], distances[1], distances[2],
+                (count, determinant) -> iterations[1] = count);
+        new LeastSquaresSolver().solve(KENOBI, SKYWALKER, SATO, distances[0], distances[1], distances[2],
+                (count, determinant) -> iterations[2] = count);
+        new RobustSolver().solve(KENOBI, SKYWALKER, SATO, distances[0], distances[1], distances[2],
+                (count, determinant) -> iterations[3] = count);
+
+        // Then
+        assertEquals(1, iterations[0]);
+        assertEquals(1, iterations[1]);
+        assertTrue(iterations[2] > 1 && iterations[2] <= GaussNewtonSolver.MAX_ITERATIONS);
+        assertTrue(iterations[3] > 1 && iterations[3] <= GaussNewtonSolver.MAX_ITERATIONS);
+    }
+
+    @Test
+    @DisplayName("Should return a point closer to the circles than the closed form when distances are noisy")
+    void leastSquares_NoisyDistances_ReducesResidual() {
+        // Given
+        float[] distances = distancesTo(200.0, 300.0);
+        distances[0] += 4.0f;
+        distances[1] -= 3.0f;
+        distances[2] += 2.0f;
+
+        // When
+        double closedForm = residual(solve(new ClosedFormSolver(), distances), distances);
+        double leastSquares = residual(solve(new LeastSquaresSolver(), distances), distances);
+
+        // Then
+        assertTrue(leastSquares < closedForm, leastSquares + " >= " + closedForm);
+    }
+
+    @Test
+    @DisplayName("Should reach the least-squares point with damped steps")
+    void robust_NoisyDistances_MatchesLeastSquares() {
+        // Given
+        float[] distances = distancesTo(200.0, 300.0);
+        distances[0] += 4.0f;
+        distances[1] -= 3.0f;
+        distances[2] += 2.0f;
+
+        // When
+        Position leastSquares = solve(new LeastSquaresSolver(), distances);
+        Position robust = solve(new RobustSolver(), distances);
+
+        // Then
+        assertEquals(leastSquares.x(), robust.x(), 0.01f);
+        assertEquals(leastSquares.y(), robust.y(), 0.01f);
+    }
+
+    @Test
+    @DisplayName("Should never return a point farther from the circles than its start")
+    void robust_IllConditionedGeometry_NeverIncreasesResidual() {
+        // Given - nearly collinear satellites and distances that cannot all hold
+        float[] p1 = {0, 0};
+        float[] p2 = {1000, 0};
+        float[] p3 = {2000, 5};
+        float[] distances = {900f, 300f, 1400f};
+
+        // When
+        Position start = new DoublePrecisionSolver().solve(p1, p2, p3, distances[0], distances[1], distances[2], IGNORED);
+        Position robust = new RobustSolver().solve(p1, p2, p3, distances[0], distances[1], distances[2], IGNORED);
+
+        // Then
+        assertTrue(residual(robust, distances, p1, p2, p3) <= residual(start, distances, p1, p2, p3));
+    }
+
+    @Test
+    @DisplayName("Should keep precision for distant emitters")
+    void doublePrecision_DistantEmitter_MoreAccurateThanFloat() {
+        // Given
+        float[] distances = distancesTo(-31_234.5, 42_876.25);
+
+        // When
+        double single = error(solve(new ClosedFormSolver(), distances), -31_234.5, 42_876.25);
+        double precise = error(solve(new DoublePrecisionSolver(), distances), -31_234.5, 42_876.25);
+
+        // Then
+        assertTrue(precise < single, precise + " >= " + single);
+    }
+
+    @Test
+    @DisplayName("Should solve every triple of a batch like the double-precision closed form")
+    void batchLinear_ManyTriples_MatchesDoublePrecision() {
+        // Given
+        BatchLinearSolver batch = new BatchLinearSolver(KENOBI, SKYWALKER, SATO);
+        double[][] emitters = {{-100.0, 75.5}, {200.0, 300.0}, {-31_234.5, 42_876.25}, {0, 0}};
+        double[] d1 = new double[emitters.length];
+        double[] d2 = new double[emitters.length];
+        double[] d3 = new double[emitters.length];
+        for (int i = 0; i < emitters.length; i++) {
+            float[] distances = distancesTo(emitters[i][0], emitters[i][1]);
+            d1[i] = distances[0];
+            d2[i] = distances[1];
+            d3[i] = distances[2];
+        }
+        double[] x = new double[emitters.length];
+        double[] y = new double[emitters.length];
+
+        // When
+        batch.solve(d1, d2, d3, x, y, emitters.length);
+
+        // Then
+        for (int i = 0; i < emitters.length; i++) {
+            Position expected = new DoublePrecisionSolver().solve(KENOBI, SKYWALKER, SATO,
+                    (float) d1[i], (float) d2[i], (float) d3[i], IGNORED);
+            assertEquals(expected.x(), x[i], Math.ulp(expected.x()) * 2, "x " + i);
+            assertEquals(expected.y(), y[i], Math.ulp(expected.y()) * 2, "y " + i);
+        }
+        assertThrows(LocationException.class,
+                () -> new BatchLinearSolver(new float[]{0, 0}, new float[]{100, 0}, new float[]{200, 0}));
+    }
+
+    private static Position solve(TrilaterationSolver solver, float[] distances) {
+        return solver.solve(KENOBI, SKYWALKER, SATO, distances[0], distances[1], distances[2], IGNORED);
+    }
+
+    private static float[] distancesTo(double x, double y) {
+        return new float[]{
+                (float) Math.hypot(x - KENOBI[0], y - KENOBI[1]),
+                (float) Math.hypot(x - SKYWALKER[0], y - SKYWALKER[1]),
+                (float) Math.hypot(x - SATO[0], y - SATO[1])};
+    }
+
+    private static double residual(Position position, float[] distances) {
+        return residual(position, distances, KENOBI, SKYWALKER, SATO);
+    }
+
+    private static double residual(Position position, float[] distances, float[]... satellites) {
+        double sum = 0;
+        for (int i = 0; i < 3; i++) {
+            double r = Math.hypot(position.x() - satellites[i][0], position.y() - satellites[i][1]) - distances[i];
+            sum += r * r;
+        }
+        return sum;
+    }
+
+    private static double error(Position position, double x, double y) {
+        return Math.hypot(position.x() - x, position.y() - y);
+    }
+}
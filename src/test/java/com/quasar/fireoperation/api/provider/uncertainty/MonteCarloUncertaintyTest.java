@@ -0,0 +1,137 @@
+package com.quasar.fireoperation.api.provider.uncertainty;
+
+import com.quasar.fireoperation.api.domain.model.PositionUncertainty;
+import com.quasar.fireoperation.api.exception.LocationException;
+import com.quasar.fireoperation.api.utils.Constants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MonteCarloUncertainty class.
+ * The sampled covariance is compared against the first-order propagation of the distance noise
+ * through the linear system.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("MonteCarloUncertainty Tests")
+class MonteCarloUncertaintyTest {
+
+    private static final float[] KENOBI = Constants.SATELLITE_POSITIONS.get("kenobi");
+    private static final float[] SKYWALKER = Constants.SATELLITE_POSITIONS.get("skywalker");
+    private static final float[] SATO = Constants.SATELLITE_POSITIONS.get("sato");
+    private static final float D1 = 100.0f;
+    private static final float D2 = 115.5f;
+    private static final float D3 = 142.7f;
+
+    private final MonteCarloUncertainty estimator = new MonteCarloUncertainty(2.0, 40_000, 60_000, 2, 0.95);
+
+    @AfterEach
+    void tearDown() {
+        estimator.close();
+    }
+
+    @Test
+    @DisplayName("Should sample the covariance the linearized noise propagation predicts")
+    void estimate_Samples_MatchesLinearizedCovariance() {
+        // Given
+        double[][] expected = linearizedCovariance(2.0);
+
+        // When
+        PositionUncertainty uncertainty = estimator.estimate(KENOBI, SKYWALKER, SATO, D1, D2, D3,
+                new SplittableRandom(42));
+
+        // Then
+        assertEquals(40_000, uncertainty.samples());
+        assertEquals(Math.sqrt(expected[0][0]), uncertainty.sigmaX(), 0.03 * Math.sqrt(expected[0][0]));
+        assertEquals(Math.sqrt(expected[1][1]), uncertainty.sigmaY(), 0.03 * Math.sqrt(expected[1][1]));
+        assertEquals(expected[0][1], uncertainty.covarianceXY(),
+                0.05 * Math.sqrt(expected[0][0] * expected[1][1]));
+        // Los semiejes al cuadrado suman la traza escalada por el cuantil chi-cuadrado
+        double scale2 = -2.0 * Math.log(0.05);
+        assertEquals(scale2 * (uncertainty.sigmaX() * uncertainty.sigmaX() + uncertainty.sigmaY() * uncertainty.sigmaY()),
+                uncertainty.semiMajor() * uncertainty.semiMajor() + uncertainty.semiMinor() * uncertainty.semiMinor(),
+                1e-6 * scale2 * expected[0][0]);
+        assertTrue(uncertainty.semiMajor() >= uncertainty.semiMinor());
+        assertTrue(uncertainty.orientation() > -90 && uncertainty.orientation() <= 90);
+        assertEquals(0.95, uncertainty.confidence());
+    }
+
+    @Test
+    @DisplayName("Should give the same estimate for the same seed whatever the number of workers")
+    void estimate_SameSeed_IndependentOfParallelism() {
+        // Given
+        try (MonteCarloUncertainty single = new MonteCarloUncertainty(2.0, 40_000, 60_000, 1, 0.95)) {
+            // When
+            PositionUncertainty parallel = estimator.estimate(KENOBI, SKYWALKER, SATO, D1, D2, D3,
+                    new SplittableRandom(7));
+            PositionUncertainty sequential = single.estimate(KENOBI, SKYWALKER, SATO, D1, D2, D3,
+                    new SplittableRandom(7));
+
+            // Then
+            assertEquals(sequential, parallel);
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop sampling at the latency target and estimate with the samples taken")
+    void estimate_BudgetExhausted_ReturnsFewerSamples() {
+        // Given
+        try (MonteCarloUncertainty bounded = new MonteCarloUncertainty(2.0, 50_000_000, 1, 2, 0.95)) {
+            // When
+            PositionUncertainty uncertainty = bounded.estimate(KENOBI, SKYWALKER, SATO, D1, D2, D3);
+
+            // Then
+            assertTrue(uncertainty.samples() >= MonteCarloUncertainty.BLOCK, "samples " + uncertainty.samples());
+            assertTrue(uncertainty.samples() < 50_000_000, "samples " + uncertainty.samples());
+            assertTrue(uncertainty.sigmaX() > 0 && uncertainty.sigmaY() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid settings and collinear satellites")
+    void constructorAndEstimate_InvalidArguments_Throw() {
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloUncertainty(0, 1000, 10, 1, 0.95));
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloUncertainty(1, 1, 10, 1, 0.95));
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloUncertainty(1, 1000, 0, 1, 0.95));
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloUncertainty(1, 1000, 10, 0, 0.95));
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloUncertainty(1, 1000, 10, 1, 1.0));
+        assertThrows(LocationException.class, () -> estimator.estimate(new float[]{0, 0}, new float[]{100, 0},
+                new float[]{200, 0}, 50f, 60f, 150f));
+    }
+
+    /**
+     * Covariance of the linear solution when every distance has independent noise of the given
+     * standard deviation, to first order: {@code sigma² M⁻¹ G Gᵀ M⁻ᵀ}.
+     */
+    private static double[][] linearizedCovariance(double sigma) {
+        double a = 2.0 * (SKYWALKER[0] - KENOBI[0]);
+        double b = 2.0 * (SKYWALKER[1] - KENOBI[1]);
+        double d = 2.0 * (SATO[0] - SKYWALKER[0]);
+        double e = 2.0 * (SATO[1] - SKYWALKER[1]);
+        double det = a * e - d * b;
+        double[][] inverse = {{e / det, -b / det}, {-d / det, a / det}};
+        double[][] g = {{2 * D1, -2 * D2, 0}, {0, 2 * D2, -2 * D3}};
+        double[][] jacobian = new double[2][3];
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < 3; j++) {
+                jacobian[i][j] = inverse[i][0] * g[0][j] + inverse[i][1] * g[1][j];
+            }
+        }
+        double[][] covariance = new double[2][2];
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < 2; j++) {
+                for (int k = 0; k < 3; k++) {
+                    covariance[i][j] += sigma * sigma * jacobian[i][k] * jacobian[j][k];
+                }
+            }
+        }
+        return covariance;
+    }
+}
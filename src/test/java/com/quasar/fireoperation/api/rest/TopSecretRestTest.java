@@ -1,15 +1,25 @@
 package com.quasar.fireoperation.api.rest;
 
 import com.quasar.fireoperation.api.business.MessageBusiness;
+import com.quasar.fireoperation.api.config.logging.RequestEventLogger;
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import com.quasar.fireoperation.api.domain.general.*;
-import com.quasar.fireoperation.api.exception.LocationException;
-import com.quasar.fireoperation.api.exception.MessageException;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.PositionUncertainty;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.result.FailureReason;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import com.quasar.fireoperation.api.rest.cache.TopSecretResponseCache;
+import com.quasar.fireoperation.api.utils.DomainMapperUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -18,7 +28,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -30,6 +40,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
  */
 @WebMvcTest(TopSecretRest.class)
+@Import({RequestEventLogger.class, TopSecretResponseCache.class, PipelineMetrics.class, SimpleMeterRegistry.class})
 @DisplayName("TopSecretRest Controller Tests")
 class TopSecretRestTest {
 
@@ -39,32 +50,33 @@ class TopSecretRestTest {
     @MockitoBean
     private MessageBusiness messageBusiness;
 
+    @Autowired
+    private TopSecretResponseCache responseCache;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private TopSecretRequestDTO validRequest;
-    private ResponseDTO expectedResponse;
+    private Resolution expectedResponse;
 
     @BeforeEach
     void setUp() {
+        responseCache.clear();
         validRequest = new TopSecretRequestDTO(Arrays.asList(
             new SatelliteDTO("kenobi", 100.0f, Arrays.asList("este", "", "", "mensaje", "")),
             new SatelliteDTO("skywalker", 115.5f, Arrays.asList("", "es", "", "", "secreto")),
             new SatelliteDTO("sato", 142.7f, Arrays.asList("este", "", "un", "", ""))
         ));
 
-        expectedResponse = new ResponseDTO(
-            new PositionDTO(-58.31f, -69.55f),
-            "este es un mensaje secreto"
-        );
+        expectedResponse = new Resolution(new Position(-58.31f, -69.55f), "este es un mensaje secreto");
     }
 
     @Test
     @DisplayName("Should return 200 and response when processing valid request")
     void postTopSecret_ValidRequest_Returns200() throws Exception {
         // Given
-        when(messageBusiness.processTopSecret(any(TopSecretRequestDTO.class)))
-            .thenReturn(expectedResponse);
+        when(messageBusiness.resolveTopSecret(anyList(), isNull(), eq(false)))
+            .thenReturn(TopSecretResult.success(expectedResponse));
 
         // When & Then
         mockMvc.perform(post("/top-secret")
@@ -78,11 +90,11 @@ class TopSecretRestTest {
     }
 
     @Test
-    @DisplayName("Should return 404 when LocationException is thrown")
-    void postTopSecret_LocationException_Returns404() throws Exception {
+    @DisplayName("Should return 404 when position cannot be determined")
+    void postTopSecret_LocationUndetermined_Returns404() throws Exception {
         // Given
-        when(messageBusiness.processTopSecret(any(TopSecretRequestDTO.class)))
-            .thenThrow(new LocationException("No se pudo determinar la posición."));
+        when(messageBusiness.resolveTopSecret(anyList(), isNull(), eq(false)))
+            .thenReturn(TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, "No se pudo determinar la posición."));
 
         // When & Then
         mockMvc.perform(post("/top-secret")
@@ -93,11 +105,11 @@ class TopSecretRestTest {
     }
 
     @Test
-    @DisplayName("Should return 404 when MessageException is thrown")
-    void postTopSecret_MessageException_Returns404() throws Exception {
+    @DisplayName("Should return 404 when message cannot be determined")
+    void postTopSecret_MessageUndetermined_Returns404() throws Exception {
         // Given
-        when(messageBusiness.processTopSecret(any(TopSecretRequestDTO.class)))
-            .thenThrow(new MessageException("No se pudo determinar el mensaje."));
+        when(messageBusiness.resolveTopSecret(anyList(), isNull(), eq(false)))
+            .thenReturn(TopSecretResult.failure(FailureReason.MESSAGE_UNDETERMINED, "No se pudo determinar el mensaje."));
 
         // When & Then
         mockMvc.perform(post("/top-secret")
@@ -111,7 +123,7 @@ class TopSecretRestTest {
     @DisplayName("Should return 500 when unexpected exception is thrown")
     void postTopSecret_UnexpectedException_Returns500() throws Exception {
         // Given
-        when(messageBusiness.processTopSecret(any(TopSecretRequestDTO.class)))
+        when(messageBusiness.resolveTopSecret(anyList(), isNull(), eq(false)))
             .thenThrow(new RuntimeException("Unexpected error"));
 
         // When & Then
@@ -147,13 +159,113 @@ class TopSecretRestTest {
     void postTopSecret_EmptySatellitesList_ProcessesRequest() throws Exception {
         // Given
         TopSecretRequestDTO emptyRequest = new TopSecretRequestDTO(List.of());
-        when(messageBusiness.processTopSecret(any(TopSecretRequestDTO.class)))
-            .thenThrow(new LocationException("Se requieren distancias de 3 satélites."));
+        when(messageBusiness.resolveTopSecret(anyList(), isNull(), eq(false)))
+            .thenReturn(TopSecretResult.failure(FailureReason.INVALID_INPUT, "Se requieren distancias de 3 satélites."));
 
         // When & Then
         mockMvc.perform(post("/top-secret")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(emptyRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Se requieren distancias de 3 satélites."));
+    }
+
+    @Test
+    @DisplayName("Should answer a repeated request from the response cache")
+    void postTopSecret_RepeatedRequest_ServedFromCache() throws Exception {
+        // Given
+        when(messageBusiness.resolveTopSecret(anyList(), isNull(), eq(false)))
+            .thenReturn(TopSecretResult.success(expectedResponse));
+        String body = objectMapper.writeValueAsString(validRequest);
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/top-secret")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(content().json(objectMapper.writeValueAsString(DomainMapperUtils.toResponse(expectedResponse)), true));
+        }
+
+        // Then
+        verify(messageBusiness, times(1)).resolveTopSecret(anyList(), isNull(), eq(false));
+    }
+
+    @Test
+    @DisplayName("Should not cache failed resolutions")
+    void postTopSecret_Failure_NotCached() throws Exception {
+        // Given
+        when(messageBusiness.resolveTopSecret(anyList(), isNull(), eq(false)))
+            .thenReturn(TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, "No se pudo determinar la posición."))
+            .thenReturn(TopSecretResult.success(expectedResponse));
+        String body = objectMapper.writeValueAsString(validRequest);
+
+        // When & Then
+        mockMvc.perform(post("/top-secret").contentType(MediaType.APPLICATION_JSON).content(body))
                 .andExpect(status().isNotFound());
+        mockMvc.perform(post("/top-secret").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("este es un mensaje secreto"));
+        verify(messageBusiness, times(2)).resolveTopSecret(anyList(), isNull(), eq(false));
+    }
+
+    @Test
+    @DisplayName("Should pass the requested solver to the business layer and cache per solver")
+    void postTopSecret_SolverParameter_UsesStrategy() throws Exception {
+        // Given
+        when(messageBusiness.resolveTopSecret(anyList(), any(), eq(false)))
+            .thenReturn(TopSecretResult.success(expectedResponse));
+        String body = objectMapper.writeValueAsString(validRequest);
+
+        // When
+        mockMvc.perform(post("/top-secret").param("solver", "robust").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/top-secret").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+
+        // Then
+        verify(messageBusiness).resolveTopSecret(anyList(), eq(SolverStrategy.ROBUST), eq(false));
+        verify(messageBusiness).resolveTopSecret(anyList(), isNull(), eq(false));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an unknown solver")
+    void postTopSecret_UnknownSolver_Returns400() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/top-secret").param("solver", "newton")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Solver desconocido: newton"));
+        verify(messageBusiness, never()).resolveTopSecret(anyList(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Should add the uncertainty when asked and never answer those requests from the cache")
+    void postTopSecret_UncertaintyParameter_BypassesCache() throws Exception {
+        // Given
+        Resolution withUncertainty = expectedResponse.withUncertainty(
+                new PositionUncertainty(1.5, 0.5, 0.25, 3.75, 1.2, 10.0, 0.95, 20_000));
+        when(messageBusiness.resolveTopSecret(anyList(), isNull(), eq(false)))
+            .thenReturn(TopSecretResult.success(expectedResponse));
+        when(messageBusiness.resolveTopSecret(anyList(), isNull(), eq(true)))
+            .thenReturn(TopSecretResult.success(withUncertainty));
+        String body = objectMapper.writeValueAsString(validRequest);
+
+        // When & Then
+        mockMvc.perform(post("/top-secret").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.uncertainty").doesNotExist());
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/top-secret").param("uncertainty", "true")
+                    .contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.position.x").value(-58.31f))
+                    .andExpect(jsonPath("$.uncertainty.sigmaX").value(1.5))
+                    .andExpect(jsonPath("$.uncertainty.semiMajor").value(3.75))
+                    .andExpect(jsonPath("$.uncertainty.samples").value(20_000));
+        }
+        verify(messageBusiness, times(2)).resolveTopSecret(anyList(), isNull(), eq(true));
     }
 }
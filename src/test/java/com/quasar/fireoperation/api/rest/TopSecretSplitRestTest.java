@@ -1,14 +1,23 @@
 package com.quasar.fireoperation.api.rest;
 
 import com.quasar.fireoperation.api.business.MessageBusiness;
+import com.quasar.fireoperation.api.config.logging.RequestEventLogger;
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import com.quasar.fireoperation.api.domain.general.*;
-import com.quasar.fireoperation.api.exception.LocationException;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.domain.result.FailureReason;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -29,6 +38,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
  */
 @WebMvcTest(TopSecretSplitRest.class)
+@Import({RequestEventLogger.class, PipelineMetrics.class, SimpleMeterRegistry.class})
 @DisplayName("TopSecretSplitRest Controller Tests")
 class TopSecretSplitRestTest {
 
@@ -42,7 +52,7 @@ class TopSecretSplitRestTest {
     private ObjectMapper objectMapper;
 
     private TopSecretSplitRest.SatelliteRequest validSatelliteRequest;
-    private ResponseDTO expectedResponse;
+    private Resolution expectedResponse;
 
     @BeforeEach
     void setUp() {
@@ -50,17 +60,14 @@ class TopSecretSplitRestTest {
         validSatelliteRequest.setDistance(100.0f);
         validSatelliteRequest.setMessage(Arrays.asList("este", "", "", "mensaje", ""));
 
-        expectedResponse = new ResponseDTO(
-            new PositionDTO(-58.31f, -69.55f),
-            "este es un mensaje secreto"
-        );
+        expectedResponse = new Resolution(new Position(-58.31f, -69.55f), "este es un mensaje secreto");
     }
 
     @Test
     @DisplayName("Should save satellite data and return confirmation")
     void postSatelliteSplit_ValidRequest_ReturnsConfirmation() throws Exception {
         // Given
-        doNothing().when(messageBusiness).saveSatelliteSplit(anyString(), anyFloat(), anyList());
+        doNothing().when(messageBusiness).saveSatelliteSplit(any(SatelliteReport.class));
 
         // When & Then
         mockMvc.perform(post("/top-secret-split/kenobi")
@@ -72,14 +79,14 @@ class TopSecretSplitRestTest {
                 .andExpect(jsonPath("$.satelliteName").value("kenobi"))
                 .andExpect(jsonPath("$.instructions").value("Los datos han sido almacenados. Envía información de los 3 satélites para obtener la ubicación."));
 
-        verify(messageBusiness).saveSatelliteSplit("kenobi", 100.0f, Arrays.asList("este", "", "", "mensaje", ""));
+        verify(messageBusiness).saveSatelliteSplit(new SatelliteReport("kenobi", 100.0f, new String[]{"este", "", "", "mensaje", ""}));
     }
 
     @Test
     @DisplayName("Should handle different satellite names")
     void postSatelliteSplit_DifferentSatellites_ReturnsCorrectConfirmation() throws Exception {
         // Given
-        doNothing().when(messageBusiness).saveSatelliteSplit(anyString(), anyFloat(), anyList());
+        doNothing().when(messageBusiness).saveSatelliteSplit(any(SatelliteReport.class));
 
         // When & Then for skywalker
         mockMvc.perform(post("/top-secret-split/skywalker")
@@ -101,7 +108,7 @@ class TopSecretSplitRestTest {
     void postSatelliteSplit_ServiceException_Returns500() throws Exception {
         // Given
         doThrow(new RuntimeException("Database error"))
-            .when(messageBusiness).saveSatelliteSplit(anyString(), anyFloat(), anyList());
+            .when(messageBusiness).saveSatelliteSplit(any(SatelliteReport.class));
 
         // When & Then
         mockMvc.perform(post("/top-secret-split/kenobi")
@@ -114,7 +121,7 @@ class TopSecretSplitRestTest {
     @DisplayName("Should process split data and return location")
     void getTopSecretSplit_ValidData_ReturnsResponse() throws Exception {
         // Given
-        when(messageBusiness.processTopSecretSplit()).thenReturn(expectedResponse);
+        when(messageBusiness.resolveTopSecretSplit(false, null)).thenReturn(TopSecretResult.success(expectedResponse));
 
         // When & Then
         mockMvc.perform(get("/top-secret-split")
@@ -125,15 +132,15 @@ class TopSecretSplitRestTest {
                 .andExpect(jsonPath("$.position.y").value(-69.55f))
                 .andExpect(jsonPath("$.message").value("este es un mensaje secreto"));
 
-        verify(messageBusiness).processTopSecretSplit();
+        verify(messageBusiness).resolveTopSecretSplit(false, null);
     }
 
     @Test
     @DisplayName("Should return 404 when insufficient satellite data")
     void getTopSecretSplit_InsufficientData_Returns404() throws Exception {
         // Given
-        when(messageBusiness.processTopSecretSplit())
-            .thenThrow(new LocationException("Información insuficiente de satélites."));
+        when(messageBusiness.resolveTopSecretSplit(false, null))
+            .thenReturn(TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, "Información insuficiente de satélites."));
 
         // When & Then
         mockMvc.perform(get("/top-secret-split")
@@ -142,6 +149,44 @@ class TopSecretSplitRestTest {
                 .andExpect(content().string("Información insuficiente de satélites."));
     }
 
+    @Test
+    @DisplayName("Should return the candidate positions of two satellites only when partial is requested")
+    void getTopSecretSplit_PartialFix_ReturnsCandidatesWhenRequested() throws Exception {
+        // Given
+        when(messageBusiness.getSplitVersion()).thenReturn(2L);
+        when(messageBusiness.resolveTopSecretSplit(false, null)).thenReturn(TopSecretResult.partial(
+                List.of(new Position(-100f, 75.5f), new Position(-284.1f, 160.3f)), "Información insuficiente de satélites."));
+
+        // When & Then
+        mockMvc.perform(get("/top-secret-split").param("partial", "true")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"split-2-partial\""))
+                .andExpect(jsonPath("$.candidates.length()").value(2))
+                .andExpect(jsonPath("$.candidates[0].x").value(-100f))
+                .andExpect(jsonPath("$.candidates[0].y").value(75.5f))
+                .andExpect(jsonPath("$.message").value("Información insuficiente de satélites."));
+        mockMvc.perform(get("/top-secret-split")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(content().string("Información insuficiente de satélites."));
+    }
+
+    @Test
+    @DisplayName("Should not answer 304 to a partial request with the ETag of a plain one")
+    void getTopSecretSplit_PlainETagOnPartialRequest_Processes() throws Exception {
+        // Given
+        when(messageBusiness.getSplitVersion()).thenReturn(2L);
+        when(messageBusiness.resolveTopSecretSplit(false, null)).thenReturn(TopSecretResult.partial(
+                List.of(new Position(-100f, 75.5f)), "Información insuficiente de satélites."));
+
+        // When & Then
+        mockMvc.perform(get("/top-secret-split").param("partial", "true")
+                .header("If-None-Match", "\"split-2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"split-2-partial\""));
+    }
+
     @Test
     @DisplayName("Should return 400 for malformed POST request")
     void postSatelliteSplit_MalformedRequest_Returns400() throws Exception {
@@ -160,7 +205,7 @@ class TopSecretSplitRestTest {
         emptyMessageRequest.setDistance(150.0f);
         emptyMessageRequest.setMessage(List.of());
 
-        doNothing().when(messageBusiness).saveSatelliteSplit(anyString(), anyFloat(), anyList());
+        doNothing().when(messageBusiness).saveSatelliteSplit(any(SatelliteReport.class));
 
         // When & Then
         mockMvc.perform(post("/top-secret-split/kenobi")
@@ -169,7 +214,7 @@ class TopSecretSplitRestTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.satelliteName").value("kenobi"));
 
-        verify(messageBusiness).saveSatelliteSplit("kenobi", 150.0f, List.of());
+        verify(messageBusiness).saveSatelliteSplit(new SatelliteReport("kenobi", 150.0f, new String[0]));
     }
 
     @Test
@@ -177,7 +222,7 @@ class TopSecretSplitRestTest {
     void postSatelliteSplit_ZeroDistance_SavesSuccessfully() throws Exception {
         // Given
         validSatelliteRequest.setDistance(0.0f);
-        doNothing().when(messageBusiness).saveSatelliteSplit(anyString(), anyFloat(), anyList());
+        doNothing().when(messageBusiness).saveSatelliteSplit(any(SatelliteReport.class));
 
         // When & Then
         mockMvc.perform(post("/top-secret-split/kenobi")
@@ -185,7 +230,7 @@ class TopSecretSplitRestTest {
                 .content(objectMapper.writeValueAsString(validSatelliteRequest)))
                 .andExpect(status().isOk());
 
-        verify(messageBusiness).saveSatelliteSplit("kenobi", 0.0f, Arrays.asList("este", "", "", "mensaje", ""));
+        verify(messageBusiness).saveSatelliteSplit(new SatelliteReport("kenobi", 0.0f, new String[]{"este", "", "", "mensaje", ""}));
     }
 
     @Test
@@ -193,7 +238,7 @@ class TopSecretSplitRestTest {
     void postSatelliteSplit_NegativeDistance_SavesSuccessfully() throws Exception {
         // Given
         validSatelliteRequest.setDistance(-100.0f);
-        doNothing().when(messageBusiness).saveSatelliteSplit(anyString(), anyFloat(), anyList());
+        doNothing().when(messageBusiness).saveSatelliteSplit(any(SatelliteReport.class));
 
         // When & Then
         mockMvc.perform(post("/top-secret-split/kenobi")
@@ -201,14 +246,14 @@ class TopSecretSplitRestTest {
                 .content(objectMapper.writeValueAsString(validSatelliteRequest)))
                 .andExpect(status().isOk());
 
-        verify(messageBusiness).saveSatelliteSplit("kenobi", -100.0f, Arrays.asList("este", "", "", "mensaje", ""));
+        verify(messageBusiness).saveSatelliteSplit(new SatelliteReport("kenobi", -100.0f, new String[]{"este", "", "", "mensaje", ""}));
     }
 
     @Test
     @DisplayName("Should handle special characters in satellite name")
     void postSatelliteSplit_SpecialCharacterSatelliteName_SavesSuccessfully() throws Exception {
         // Given
-        doNothing().when(messageBusiness).saveSatelliteSplit(anyString(), anyFloat(), anyList());
+        doNothing().when(messageBusiness).saveSatelliteSplit(any(SatelliteReport.class));
 
         // When & Then
         mockMvc.perform(post("/top-secret-split/test-satellite_123")
@@ -217,4 +262,95 @@ class TopSecretSplitRestTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.satelliteName").value("test-satellite_123"));
     }
+
+    @Test
+    @DisplayName("Should return ETag of split state version")
+    void getTopSecretSplit_ValidData_ReturnsETag() throws Exception {
+        // Given
+        when(messageBusiness.getSplitVersion()).thenReturn(5L);
+        when(messageBusiness.resolveTopSecretSplit(false, null)).thenReturn(TopSecretResult.success(expectedResponse));
+
+        // When & Then
+        mockMvc.perform(get("/top-secret-split"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"split-5\""));
+    }
+
+    @Test
+    @DisplayName("Should return 304 without processing when ETag matches")
+    void getTopSecretSplit_MatchingIfNoneMatch_Returns304() throws Exception {
+        // Given
+        when(messageBusiness.getSplitVersion()).thenReturn(5L);
+
+        // When & Then
+        mockMvc.perform(get("/top-secret-split")
+                .header("If-None-Match", "\"split-5\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"split-5\""))
+                .andExpect(content().string(""));
+
+        verify(messageBusiness, never()).resolveTopSecretSplit(anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("Should process when ETag is stale")
+    void getTopSecretSplit_StaleIfNoneMatch_Returns200() throws Exception {
+        // Given
+        when(messageBusiness.getSplitVersion()).thenReturn(6L);
+        when(messageBusiness.resolveTopSecretSplit(false, null)).thenReturn(TopSecretResult.success(expectedResponse));
+
+        // When & Then
+        mockMvc.perform(get("/top-secret-split")
+                .header("If-None-Match", "\"split-5\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"split-6\""));
+    }
+
+    @Test
+    @DisplayName("Should process a wildcard If-None-Match when there is nothing to resolve")
+    void getTopSecretSplit_WildcardWithoutState_Processes() throws Exception {
+        // Given
+        when(messageBusiness.getSplitVersion()).thenReturn(5L);
+        when(messageBusiness.hasSplitRepresentation(false)).thenReturn(false);
+        when(messageBusiness.resolveTopSecretSplit(false, null))
+                .thenReturn(TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, "Información insuficiente de satélites."));
+
+        // When & Then
+        mockMvc.perform(get("/top-secret-split")
+                .header("If-None-Match", "*"))
+                .andExpect(status().isNotFound());
+
+        verify(messageBusiness).resolveTopSecretSplit(false, null);
+    }
+
+    @Test
+    @DisplayName("Should peek split state without clearing it")
+    void getTopSecretSplit_PeekMode_UsesPeek() throws Exception {
+        // Given
+        when(messageBusiness.resolveTopSecretSplit(true, null)).thenReturn(TopSecretResult.success(expectedResponse));
+
+        // When & Then
+        mockMvc.perform(get("/top-secret-split").param("peek", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("este es un mensaje secreto"));
+
+        verify(messageBusiness).resolveTopSecretSplit(true, null);
+        verify(messageBusiness, never()).resolveTopSecretSplit(false, null);
+    }
+
+    @Test
+    @DisplayName("Should solve with the requested solver and tag the ETag with it")
+    void getTopSecretSplit_SolverParameter_UsesStrategyETag() throws Exception {
+        // Given
+        when(messageBusiness.getSplitVersion()).thenReturn(5L);
+        when(messageBusiness.resolveTopSecretSplit(false, SolverStrategy.LEAST_SQUARES))
+                .thenReturn(TopSecretResult.success(expectedResponse));
+
+        // When & Then
+        mockMvc.perform(get("/top-secret-split").param("solver", "least-squares")
+                .header("If-None-Match", "\"split-5\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"split-5-least-squares\""));
+        verify(messageBusiness).resolveTopSecretSplit(false, SolverStrategy.LEAST_SQUARES);
+    }
 }
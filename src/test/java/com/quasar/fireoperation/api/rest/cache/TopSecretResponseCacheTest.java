@@ -0,0 +1,182 @@
+package com.quasar.fireoperation.api.rest.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import com.quasar.fireoperation.api.utils.DomainMapperUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TopSecretResponseCache.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("TopSecretResponseCache Tests")
+class TopSecretResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Resolution resolution = new Resolution(new Position(-58.31f, -69.55f), "este es un mensaje secreto");
+
+    private TopSecretResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TopSecretResponseCache(objectMapper, 2);
+    }
+
+    @Test
+    @DisplayName("Should store the serialized body and return it on a hit")
+    void put_ThenGet_ReturnsSerializedBody() throws Exception {
+        // Given
+        TopSecretResponseCache.Key key = cache.keyOf(request(100.0f, "este"));
+
+        // When
+        cache.put(key, resolution);
+        TopSecretResponseCache.CachedResponse cached = cache.get(key);
+
+        // Then
+        assertNotNull(cached);
+        assertEquals(objectMapper.writeValueAsString(DomainMapperUtils.toResponse(resolution)), new String(cached.body(), StandardCharsets.UTF_8));
+        assertEquals(-58.31f, cached.x());
+        assertEquals(-69.55f, cached.y());
+    }
+
+    @Test
+    @DisplayName("Should ignore the case of satellite names and normalize blank words in the key")
+    void keyOf_EquivalentRequests_SameKey() {
+        // Given
+        List<SatelliteReport> first = List.of(
+                new SatelliteReport("kenobi", 1f, new String[]{"este", ""}),
+                new SatelliteReport("skywalker", 2f, new String[]{null, "es"}),
+                new SatelliteReport("sato", 3f, new String[0]));
+        List<SatelliteReport> second = List.of(
+                new SatelliteReport("KENOBI", 1f, new String[]{"este", " "}),
+                new SatelliteReport("Skywalker", 2f, new String[]{"", "es"}),
+                new SatelliteReport("sato", 3f, null));
+
+        // When & Then
+        assertEquals(cache.keyOf(first), cache.keyOf(second));
+        assertNotEquals(cache.keyOf(first), cache.keyOf(request(4f, "este")));
+    }
+
+    @Test
+    @DisplayName("Should keep requests that name other satellites, or the same ones in another order, apart")
+    void keyOf_DifferentNames_DifferentKeys() {
+        // Given
+        List<SatelliteReport> satellites = request(1f, "a");
+        List<SatelliteReport> reordered = List.of(satellites.get(1), satellites.get(0), satellites.get(2));
+        List<SatelliteReport> station = List.of(satellites.get(0), satellites.get(1),
+                new SatelliteReport("yoda", 142.7f, new String[]{""}));
+
+        // When & Then
+        assertNotEquals(cache.keyOf(satellites), cache.keyOf(reordered));
+        assertNotEquals(cache.keyOf(satellites), cache.keyOf(station));
+    }
+
+    @Test
+    @DisplayName("Should keep bodies of different solvers apart")
+    void keyOf_DifferentSolvers_DifferentKeys() {
+        // Given
+        List<SatelliteReport> satellites = request(1f, "a");
+
+        // When & Then
+        assertEquals(cache.keyOf(satellites), cache.keyOf(satellites, null));
+        assertNotEquals(cache.keyOf(satellites), cache.keyOf(satellites, SolverStrategy.ROBUST));
+        assertNotEquals(cache.keyOf(satellites, SolverStrategy.ROBUST), cache.keyOf(satellites, SolverStrategy.LEAST_SQUARES));
+    }
+
+    @Test
+    @DisplayName("Should not build keys for requests that cannot be cached")
+    void keyOf_UncacheableRequests_ReturnsNull() {
+        assertNull(cache.keyOf(List.of()));
+        assertNull(cache.keyOf(List.of(new SatelliteReport("kenobi", 1f, new String[]{"a"}))));
+        assertNull(new TopSecretResponseCache(objectMapper, 0).keyOf(request(1f, "a")));
+        assertNull(cache.keyOf(List.of(
+                new SatelliteReport("kenobi", 100f, new String[]{"a"}, 1_767_225_600_000L),
+                new SatelliteReport("skywalker", 115.5f, new String[]{""}),
+                new SatelliteReport("sato", 142.7f, new String[]{""}))));
+    }
+
+    @Test
+    @DisplayName("Should serialize without storing when there is no key")
+    void put_NullKey_SerializesWithoutStoring() {
+        // When
+        TopSecretResponseCache.CachedResponse cached = cache.put(null, resolution);
+
+        // Then
+        assertTrue(cached.body().length > 0);
+        assertEquals(0, cache.size());
+        assertNull(cache.get(null));
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest entry beyond the maximum size")
+    void put_BeyondMaxEntries_EvictsOldest() {
+        // Given
+        TopSecretResponseCache.Key first = cache.keyOf(request(1f, "a"));
+        TopSecretResponseCache.Key second = cache.keyOf(request(2f, "a"));
+        TopSecretResponseCache.Key third = cache.keyOf(request(3f, "a"));
+
+        // When
+        cache.put(first, resolution);
+        cache.put(second, resolution);
+        cache.put(third, resolution);
+
+        // Then
+        assertEquals(2, cache.size());
+        assertNull(cache.get(first));
+        assertNotNull(cache.get(second));
+        assertNotNull(cache.get(third));
+    }
+
+    @Test
+    @DisplayName("Should remove every entry on clear")
+    void clear_RemovesEntries() {
+        // Given
+        cache.put(cache.keyOf(request(1f, "a")), resolution);
+
+        // When
+        cache.clear();
+
+        // Then
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should publish size, hits and misses as metrics")
+    void bindTo_RegistersMeters() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        TopSecretResponseCache.Key key = cache.keyOf(request(1f, "a"));
+
+        // When
+        cache.get(key);
+        cache.put(key, resolution);
+        cache.get(key);
+
+        // Then
+        assertEquals(1.0, registry.get("quasar.cache.top-secret.size").gauge().value());
+        assertEquals(1.0, registry.get("quasar.cache.top-secret.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("quasar.cache.top-secret.requests").tag("result", "miss").functionCounter().count());
+    }
+
+    private static List<SatelliteReport> request(float firstDistance, String word) {
+        return List.of(
+                new SatelliteReport("kenobi", firstDistance, new String[]{word}),
+                new SatelliteReport("skywalker", 115.5f, new String[]{""}),
+                new SatelliteReport("sato", 142.7f, new String[]{""}));
+    }
+}
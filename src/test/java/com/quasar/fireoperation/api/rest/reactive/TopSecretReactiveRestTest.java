@@ -0,0 +1,168 @@
+package com.quasar.fireoperation.api.rest.reactive;
+
+import com.quasar.fireoperation.api.business.MessageBusiness;
+import com.quasar.fireoperation.api.config.logging.RequestEventLogger;
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.quasar.fireoperation.api.domain.general.*;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.PositionUncertainty;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.result.FailureReason;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import com.quasar.fireoperation.api.rest.cache.TopSecretResponseCache;
+import com.quasar.fireoperation.api.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TopSecretReactiveRest controller.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@WebFluxTest(TopSecretReactiveRest.class)
+@Import({GlobalExceptionHandler.class, RequestEventLogger.class, TopSecretResponseCache.class, PipelineMetrics.class, SimpleMeterRegistry.class})
+@DisplayName("TopSecretReactiveRest Controller Tests")
+class TopSecretReactiveRestTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private MessageBusiness messageBusiness;
+
+    @Autowired
+    private TopSecretResponseCache responseCache;
+
+    private TopSecretRequestDTO validRequest;
+
+    @BeforeEach
+    void setUp() {
+        responseCache.clear();
+        validRequest = new TopSecretRequestDTO(Arrays.asList(
+            new SatelliteDTO("kenobi", 100.0f, Arrays.asList("este", "", "", "mensaje", "")),
+            new SatelliteDTO("skywalker", 115.5f, Arrays.asList("", "es", "", "", "secreto")),
+            new SatelliteDTO("sato", 142.7f, Arrays.asList("este", "", "un", "", ""))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should return 200 and response when processing valid request")
+    void postTopSecret_ValidRequest_Returns200() {
+        // Given
+        when(messageBusiness.resolveTopSecret(anyList(), isNull(), eq(false)))
+            .thenReturn(TopSecretResult.success(new Resolution(new Position(-58.31f, -69.55f), "este es un mensaje secreto")));
+
+        // When & Then
+        webTestClient.post().uri("/top-secret")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(validRequest)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.position.x").isEqualTo(-58.31)
+                .jsonPath("$.position.y").isEqualTo(-69.55)
+                .jsonPath("$.message").isEqualTo("este es un mensaje secreto");
+    }
+
+    @Test
+    @DisplayName("Should return 404 when message cannot be determined")
+    void postTopSecret_MessageUndetermined_Returns404() {
+        // Given
+        when(messageBusiness.resolveTopSecret(anyList(), isNull(), eq(false)))
+            .thenReturn(TopSecretResult.failure(FailureReason.MESSAGE_UNDETERMINED, "No se pudo determinar el mensaje."));
+
+        // When & Then
+        webTestClient.post().uri("/top-secret")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(validRequest)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(String.class).isEqualTo("No se pudo determinar el mensaje.");
+    }
+
+    @Test
+    @DisplayName("Should return 400 for malformed JSON")
+    void postTopSecret_MalformedJson_Returns400() {
+        // When & Then
+        webTestClient.post().uri("/top-secret")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"satellites\": [")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(String.class).isEqualTo("JSON malformado en la solicitud");
+    }
+
+    @Test
+    @DisplayName("Should return 415 for unsupported media type")
+    void postTopSecret_UnsupportedMediaType_Returns415() {
+        // When & Then
+        webTestClient.post().uri("/top-secret")
+                .contentType(MediaType.TEXT_PLAIN)
+                .bodyValue("texto")
+                .exchange()
+                .expectStatus().isEqualTo(415);
+    }
+
+    @Test
+    @DisplayName("Should answer a repeated request from the response cache")
+    void postTopSecret_RepeatedRequest_ServedFromCache() {
+        // Given
+        when(messageBusiness.resolveTopSecret(anyList(), isNull(), eq(false)))
+            .thenReturn(TopSecretResult.success(new Resolution(new Position(-58.31f, -69.55f), "este es un mensaje secreto")));
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            webTestClient.post().uri("/top-secret")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(validRequest)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                    .expectBody()
+                    .jsonPath("$.message").isEqualTo("este es un mensaje secreto");
+        }
+
+        // Then
+        verify(messageBusiness, times(1)).resolveTopSecret(anyList(), isNull(), eq(false));
+    }
+
+    @Test
+    @DisplayName("Should add the uncertainty when asked, resolving every such request")
+    void postTopSecret_UncertaintyParameter_BypassesCache() {
+        // Given
+        Resolution resolution = new Resolution(new Position(-58.31f, -69.55f), "este es un mensaje secreto",
+                new PositionUncertainty(1.5, 0.5, 0.25, 3.75, 1.2, 10.0, 0.95, 20_000));
+        when(messageBusiness.resolveTopSecret(anyList(), isNull(), eq(true)))
+            .thenReturn(TopSecretResult.success(resolution));
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            webTestClient.post().uri(uri -> uri.path("/top-secret").queryParam("uncertainty", "true").build())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(validRequest)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.uncertainty.sigmaY").isEqualTo(0.5)
+                    .jsonPath("$.uncertainty.orientation").isEqualTo(10.0);
+        }
+
+        // Then
+        verify(messageBusiness, times(2)).resolveTopSecret(anyList(), isNull(), eq(true));
+    }
+}
@@ -0,0 +1,111 @@
+package com.quasar.fireoperation.api.rest.reactive;
+
+import com.quasar.fireoperation.api.business.MessageBusiness;
+import com.quasar.fireoperation.api.config.logging.RequestEventLogger;
+import com.quasar.fireoperation.api.config.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.quasar.fireoperation.api.domain.general.*;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import com.quasar.fireoperation.api.domain.result.FailureReason;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import com.quasar.fireoperation.api.exception.GlobalExceptionHandler;
+import com.quasar.fireoperation.api.rest.TopSecretSplitRest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Arrays;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TopSecretSplitReactiveRest controller.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@WebFluxTest(TopSecretSplitReactiveRest.class)
+@Import({GlobalExceptionHandler.class, RequestEventLogger.class, PipelineMetrics.class, SimpleMeterRegistry.class})
+@DisplayName("TopSecretSplitReactiveRest Controller Tests")
+class TopSecretSplitReactiveRestTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private MessageBusiness messageBusiness;
+
+    @Test
+    @DisplayName("Should save satellite data and return confirmation")
+    void postSatelliteSplit_ValidRequest_ReturnsConfirmation() {
+        // Given
+        TopSecretSplitRest.SatelliteRequest request = new TopSecretSplitRest.SatelliteRequest();
+        request.setDistance(100.0f);
+        request.setMessage(Arrays.asList("este", "", "", "mensaje", ""));
+
+        // When & Then
+        webTestClient.post().uri("/top-secret-split/kenobi")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.satelliteName").isEqualTo("kenobi")
+                .jsonPath("$.message").isEqualTo("Información del satélite kenobi guardada exitosamente");
+
+        verify(messageBusiness).saveSatelliteSplit(new SatelliteReport("kenobi", 100.0f, new String[]{"este", "", "", "mensaje", ""}));
+    }
+
+    @Test
+    @DisplayName("Should process split data and return location")
+    void getTopSecretSplit_ValidData_ReturnsResponse() {
+        // Given
+        when(messageBusiness.resolveTopSecretSplit(false, null))
+            .thenReturn(TopSecretResult.success(new Resolution(new Position(-58.31f, -69.55f), "este es un mensaje secreto")));
+
+        // When & Then
+        webTestClient.get().uri("/top-secret-split")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("este es un mensaje secreto");
+    }
+
+    @Test
+    @DisplayName("Should return 404 when insufficient satellite data")
+    void getTopSecretSplit_InsufficientData_Returns404() {
+        // Given
+        when(messageBusiness.resolveTopSecretSplit(false, null))
+            .thenReturn(TopSecretResult.failure(FailureReason.LOCATION_UNDETERMINED, "Información insuficiente de satélites."));
+
+        // When & Then
+        webTestClient.get().uri("/top-secret-split")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(String.class).isEqualTo("Información insuficiente de satélites.");
+    }
+
+    @Test
+    @DisplayName("Should return 304 without processing when ETag matches")
+    void getTopSecretSplit_MatchingIfNoneMatch_Returns304() {
+        // Given
+        when(messageBusiness.getSplitVersion()).thenReturn(2L);
+
+        // When & Then
+        webTestClient.get().uri("/top-secret-split")
+                .header("If-None-Match", "\"split-2\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", "\"split-2\"");
+
+        verify(messageBusiness, never()).resolveTopSecretSplit(false, null);
+    }
+}
@@ -0,0 +1,90 @@
+package com.quasar.fireoperation.api.utils;
+
+import com.quasar.fireoperation.api.domain.general.ResponseDTO;
+import com.quasar.fireoperation.api.domain.general.SatelliteDTO;
+import com.quasar.fireoperation.api.domain.general.TopSecretRequestDTO;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.model.Resolution;
+import com.quasar.fireoperation.api.domain.model.SatelliteReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DomainMapperUtils.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("DomainMapperUtils Tests")
+class DomainMapperUtilsTest {
+
+    @Test
+    @DisplayName("Should convert every satellite keeping the order")
+    void toReports_ValidRequest_ReturnsReports() {
+        // Given
+        TopSecretRequestDTO request = new TopSecretRequestDTO(Arrays.asList(
+                new SatelliteDTO("kenobi", 100.0f, Arrays.asList("este", "", "mensaje")),
+                new SatelliteDTO("skywalker", 115.5f, null)));
+
+        // When
+        List<SatelliteReport> reports = DomainMapperUtils.toReports(request);
+
+        // Then
+        assertEquals(List.of(
+                new SatelliteReport("kenobi", 100.0f, new String[]{"este", "", "mensaje"}),
+                new SatelliteReport("skywalker", 115.5f, new String[0])), reports);
+        assertThrows(UnsupportedOperationException.class, () -> reports.add(reports.get(0)));
+    }
+
+    @Test
+    @DisplayName("Should return an empty list when there are no satellites")
+    void toReports_NullSatellites_ReturnsEmptyList() {
+        assertTrue(DomainMapperUtils.toReports(new TopSecretRequestDTO(null)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject null satellite entries")
+    void toReports_NullSatellite_ThrowsIllegalArgumentException() {
+        // Given
+        TopSecretRequestDTO request = new TopSecretRequestDTO(Arrays.asList(
+                new SatelliteDTO("kenobi", 100.0f, List.of("este")), null));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> DomainMapperUtils.toReports(request));
+        assertEquals("Datos de satélite incompletos.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should convert a resolution into the response DTO")
+    void toResponse_Resolution_ReturnsResponseDTO() {
+        // When
+        ResponseDTO response = DomainMapperUtils.toResponse(
+                new Resolution(new Position(-58.31f, -69.55f), "este es un mensaje secreto"));
+
+        // Then
+        assertEquals(-58.31f, response.getPosition().getX());
+        assertEquals(-69.55f, response.getPosition().getY());
+        assertEquals("este es un mensaje secreto", response.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should not allow instantiation")
+    void constructor_ThrowsUnsupportedOperationException() throws Exception {
+        // Given
+        Constructor<DomainMapperUtils> constructor = DomainMapperUtils.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+
+        // When & Then
+        InvocationTargetException exception = assertThrows(InvocationTargetException.class, constructor::newInstance);
+        assertInstanceOf(UnsupportedOperationException.class, exception.getCause());
+    }
+}
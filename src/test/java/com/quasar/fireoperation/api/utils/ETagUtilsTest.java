@@ -0,0 +1,84 @@
+package com.quasar.fireoperation.api.utils;
+
+import com.quasar.fireoperation.api.provider.solver.SolverStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ETagUtils utility class.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("ETagUtils Tests")
+class ETagUtilsTest {
+
+    @Test
+    @DisplayName("Should build quoted split ETag from version")
+    void splitETag_Version_ReturnsQuotedTag() {
+        assertEquals("\"split-7\"", ETagUtils.splitETag(7));
+    }
+
+    @Test
+    @DisplayName("Should add the requested solver to the split ETag")
+    void splitETag_Solver_ReturnsSolverSpecificTag() {
+        assertEquals("\"split-7-robust\"", ETagUtils.splitETag(7, SolverStrategy.ROBUST));
+        assertEquals(ETagUtils.splitETag(7), ETagUtils.splitETag(7, null));
+        assertFalse(ETagUtils.matches(ETagUtils.splitETag(7), ETagUtils.splitETag(7, SolverStrategy.ROBUST), true));
+    }
+
+    @Test
+    @DisplayName("Should tag partial requests apart from plain ones")
+    void splitETag_Partial_ReturnsPartialTag() {
+        assertEquals("\"split-7-partial\"", ETagUtils.splitETag(7, null, true));
+        assertEquals("\"split-7-robust-partial\"", ETagUtils.splitETag(7, SolverStrategy.ROBUST, true));
+        assertEquals(ETagUtils.splitETag(7, SolverStrategy.ROBUST), ETagUtils.splitETag(7, SolverStrategy.ROBUST, false));
+        assertFalse(ETagUtils.matches(ETagUtils.splitETag(7), ETagUtils.splitETag(7, null, true), true));
+    }
+
+    @Test
+    @DisplayName("Should match identical, weak, listed and wildcard tags")
+    void matches_MatchingHeaders_ReturnsTrue() {
+        String etag = ETagUtils.splitETag(3);
+
+        assertTrue(ETagUtils.matches("\"split-3\"", etag, true));
+        assertTrue(ETagUtils.matches("W/\"split-3\"", etag, true));
+        assertTrue(ETagUtils.matches("\"split-1\", \"split-3\"", etag, true));
+        assertTrue(ETagUtils.matches("*", etag, true));
+    }
+
+    @Test
+    @DisplayName("Should not match missing or different tags")
+    void matches_NonMatchingHeaders_ReturnsFalse() {
+        String etag = ETagUtils.splitETag(3);
+
+        assertFalse(ETagUtils.matches(null, etag, true));
+        assertFalse(ETagUtils.matches(" ", etag, true));
+        assertFalse(ETagUtils.matches("\"split-2\"", etag, true));
+    }
+
+    @Test
+    @DisplayName("Should not match the wildcard when there is no current representation")
+    void matches_WildcardWithoutRepresentation_ReturnsFalse() {
+        String etag = ETagUtils.splitETag(3);
+
+        assertFalse(ETagUtils.matches("*", etag, false));
+        assertTrue(ETagUtils.matches("\"split-3\"", etag, false));
+    }
+
+    @Test
+    @DisplayName("Should not allow instantiation of utility class")
+    void constructor_ThrowsUnsupportedOperationException() throws NoSuchMethodException {
+        Constructor<ETagUtils> constructor = ETagUtils.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+
+        InvocationTargetException exception = assertThrows(InvocationTargetException.class, constructor::newInstance);
+        assertInstanceOf(UnsupportedOperationException.class, exception.getCause());
+    }
+}
@@ -0,0 +1,101 @@
+package com.quasar.fireoperation.api.utils;
+
+import com.quasar.fireoperation.api.domain.general.PartialFixDTO;
+import com.quasar.fireoperation.api.domain.general.PositionDTO;
+import com.quasar.fireoperation.api.domain.model.Position;
+import com.quasar.fireoperation.api.domain.result.FailureReason;
+import com.quasar.fireoperation.api.domain.result.TopSecretResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ResultResponseUtils.
+ *
+ * @version 1.0
+ * @since 2025
+ * @author Emmanuel Arenilla (emmanueldevtest01@gmail.com)
+ */
+@DisplayName("ResultResponseUtils Tests")
+class ResultResponseUtilsTest {
+
+    @Test
+    @DisplayName("Should map invalid input to 400")
+    void statusOf_InvalidInput_ReturnsBadRequest() {
+        assertEquals(HttpStatus.BAD_REQUEST, ResultResponseUtils.statusOf(FailureReason.INVALID_INPUT));
+    }
+
+    @Test
+    @DisplayName("Should map undetermined location and message to 404")
+    void statusOf_Undetermined_ReturnsNotFound() {
+        assertEquals(HttpStatus.NOT_FOUND, ResultResponseUtils.statusOf(FailureReason.LOCATION_UNDETERMINED));
+        assertEquals(HttpStatus.NOT_FOUND, ResultResponseUtils.statusOf(FailureReason.MESSAGE_UNDETERMINED));
+    }
+
+    @Test
+    @DisplayName("Should use the failure message as body")
+    void failureResponse_Failure_ReturnsMessageBody() {
+        // Given
+        TopSecretResult.Failure failure = new TopSecretResult.Failure(
+                FailureReason.LOCATION_UNDETERMINED, "Información insuficiente de satélites.");
+
+        // When
+        ResponseEntity<String> response = ResultResponseUtils.failureResponse(failure);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("Información insuficiente de satélites.", response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should answer a partial fix with 200, the candidates and the ETag")
+    void partialResponse_PartialFix_ReturnsCandidates() {
+        // Given
+        TopSecretResult.Partial partial = (TopSecretResult.Partial) TopSecretResult.partial(
+                List.of(new Position(-100f, 75.5f), new Position(-284.1f, 160.3f)), "Información insuficiente de satélites.");
+
+        // When
+        ResponseEntity<PartialFixDTO> response = ResultResponseUtils.partialResponse(partial, "\"split-2\"");
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"split-2\"", response.getHeaders().getETag());
+        assertEquals(List.of(new PositionDTO(-100f, 75.5f), new PositionDTO(-284.1f, 160.3f)),
+                response.getBody().getCandidates());
+        assertEquals("Información insuficiente de satélites.", response.getBody().getMessage());
+    }
+
+    @Test
+    @DisplayName("Should answer a partial fix nobody asked for like an undetermined location")
+    void failureResponse_PartialFix_Returns404() {
+        // Given
+        TopSecretResult.Partial partial = (TopSecretResult.Partial) TopSecretResult.partial(
+                List.of(new Position(-100f, 75.5f)), "Información insuficiente de satélites.");
+
+        // When
+        ResponseEntity<String> response = ResultResponseUtils.failureResponse(partial);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("Información insuficiente de satélites.", response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should not allow instantiation")
+    void constructor_ThrowsUnsupportedOperationException() throws Exception {
+        // Given
+        Constructor<ResultResponseUtils> constructor = ResultResponseUtils.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+
+        // When & Then
+        InvocationTargetException exception = assertThrows(InvocationTargetException.class, constructor::newInstance);
+        assertInstanceOf(UnsupportedOperationException.class, exception.getCause());
+    }
+}